@@ -1,16 +1,29 @@
 package com.export.dashboard;
 
 import org.springframework.boot.SpringApplication;
+import org.springframework.boot.WebApplicationType;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 
+import java.util.Arrays;
+
 @SpringBootApplication
 @EnableCaching
 @EnableJpaAuditing
 public class ExportDashboardApplication {
 
     public static void main(String[] args) {
-        SpringApplication.run(ExportDashboardApplication.class, args);
+        SpringApplication application = new SpringApplication(ExportDashboardApplication.class);
+
+        // CSV 백필 모드: 웹 서버 없이 적재 후 종료
+        // cli 프로필로 스키마 생성/초기 데이터 적재와 주기 작업을 끔 (application.yml)
+        if (Arrays.stream(args).anyMatch(arg -> arg.startsWith("--export.ingestion.csv.file="))) {
+            application.setWebApplicationType(WebApplicationType.NONE);
+            application.setAdditionalProfiles("cli");
+            System.exit(SpringApplication.exit(application.run(args)));
+        }
+
+        application.run(args);
     }
 }
\ No newline at end of file
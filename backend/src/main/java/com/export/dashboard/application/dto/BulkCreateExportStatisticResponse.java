@@ -0,0 +1,43 @@
+package com.export.dashboard.application.dto;
+
+import java.util.List;
+
+/**
+ * 수출 통계 대량 생성 응답 DTO
+ * 요청 행 순서대로 처리 결과를 담음
+ */
+public record BulkCreateExportStatisticResponse(
+    Integer totalRows,
+    Integer createdRows,
+    Integer rejectedRows,
+    Long elapsedMillis,
+    List<RowResult> results
+) {
+
+    /**
+     * 행별 처리 결과
+     */
+    public record RowResult(
+        Integer index,
+        RowStatus status,
+        Long id,
+        String message
+    ) {
+        public static RowResult created(int index, Long id) {
+            return new RowResult(index, RowStatus.CREATED, id, null);
+        }
+
+        public static RowResult rejected(int index, RowStatus status, String message) {
+            return new RowResult(index, status, null, message);
+        }
+    }
+
+    /**
+     * 행 처리 상태
+     */
+    public enum RowStatus {
+        CREATED,
+        DUPLICATE,
+        INVALID
+    }
+}
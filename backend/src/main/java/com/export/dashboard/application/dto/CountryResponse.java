@@ -1,6 +1,7 @@
 package com.export.dashboard.application.dto;
 
 import com.export.dashboard.domain.model.Country;
+import com.export.dashboard.domain.repository.ExportStatisticViewRepository.CountryView;
 
 /**
  * 국가 정보 응답 DTO
@@ -25,4 +26,16 @@ public record CountryResponse(
             country.isActive()
         );
     }
-}
\ No newline at end of file
+
+    public static CountryResponse from(CountryView country) {
+        return new CountryResponse(
+            country.id(),
+            country.countryCode(),
+            country.nameKo(),
+            country.nameEn(),
+            country.region(),
+            country.continent(),
+            country.active()
+        );
+    }
+}
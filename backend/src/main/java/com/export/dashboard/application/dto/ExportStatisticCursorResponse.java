@@ -0,0 +1,37 @@
+package com.export.dashboard.application.dto;
+
+import com.export.dashboard.domain.model.ExportStatisticCursor;
+import com.export.dashboard.domain.repository.ExportStatisticViewRepository.ExportStatisticView;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+
+/**
+ * 키셋 페이징 수출 통계 응답 DTO
+ * 다음 페이지는 nextCursor 로 요청하며, 전체 건수는 요청 시에만 통계 기반 추정치로 제공
+ */
+public record ExportStatisticCursorResponse(
+    List<ExportStatisticResponse> content,
+    Integer size,
+    Boolean hasNext,
+    String nextCursor,
+    Long approximateTotal
+) {
+    public static ExportStatisticCursorResponse of(Slice<ExportStatisticView> slice, Long approximateTotal) {
+        List<ExportStatisticView> views = slice.getContent();
+
+        String nextCursor = null;
+        if (slice.hasNext()) {
+            ExportStatisticView last = views.get(views.size() - 1);
+            nextCursor = ExportStatisticCursor.of(last.year(), last.month(), last.exportValueUsd(), last.id()).encode();
+        }
+
+        return new ExportStatisticCursorResponse(
+            views.stream().map(ExportStatisticResponse::from).toList(),
+            views.size(),
+            slice.hasNext(),
+            nextCursor,
+            approximateTotal
+        );
+    }
+}
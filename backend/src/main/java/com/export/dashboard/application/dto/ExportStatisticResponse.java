@@ -1,6 +1,7 @@
 package com.export.dashboard.application.dto;
 
 import com.export.dashboard.domain.model.ExportStatistic;
+import com.export.dashboard.domain.repository.ExportStatisticViewRepository.ExportStatisticView;
 
 import java.math.BigDecimal;
 
@@ -37,4 +38,21 @@ public record ExportStatisticResponse(
             statistic.getMarketShare() != null ? statistic.getMarketShare().value() : null
         );
     }
-}
\ No newline at end of file
+
+    public static ExportStatisticResponse from(ExportStatisticView view) {
+        return new ExportStatisticResponse(
+            view.id(),
+            CountryResponse.from(view.country()),
+            ProductCategoryResponse.from(view.productCategory()),
+            view.year(),
+            view.month(),
+            view.exportValueUsd(),
+            view.currency(),
+            view.exportWeightKg(),
+            view.exportQuantity(),
+            view.quantityUnit(),
+            view.growthRateYoy(),
+            view.marketShare()
+        );
+    }
+}
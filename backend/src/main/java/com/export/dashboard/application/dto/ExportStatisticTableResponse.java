@@ -0,0 +1,108 @@
+package com.export.dashboard.application.dto;
+
+import com.export.dashboard.domain.repository.ExportStatisticViewRepository.CountryView;
+import com.export.dashboard.domain.repository.ExportStatisticViewRepository.ExportStatisticView;
+import com.export.dashboard.domain.repository.ExportStatisticViewRepository.ProductCategoryView;
+import org.springframework.data.domain.Page;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 정규화된 수출 통계 목록 응답 DTO
+ * 국가/상품 정보는 사전으로 한 번만 보내고 각 행은 ID 로 참조
+ */
+public record ExportStatisticTableResponse(
+    List<CountryResponse> countries,
+    List<ProductCategoryResponse> productCategories,
+    List<Row> rows
+) {
+    public static ExportStatisticTableResponse from(List<ExportStatisticView> views) {
+        // 처음 등장한 순서대로 사전 구성
+        Map<Long, CountryResponse> countries = new LinkedHashMap<>();
+        Map<Long, ProductCategoryResponse> productCategories = new LinkedHashMap<>();
+
+        List<Row> rows = views.stream()
+            .map(view -> {
+                CountryView country = view.country();
+                ProductCategoryView productCategory = view.productCategory();
+                countries.computeIfAbsent(country.id(), id -> CountryResponse.from(country));
+                productCategories.computeIfAbsent(productCategory.id(), id -> ProductCategoryResponse.from(productCategory));
+                return Row.from(view);
+            })
+            .toList();
+
+        return new ExportStatisticTableResponse(
+            List.copyOf(countries.values()),
+            List.copyOf(productCategories.values()),
+            rows
+        );
+    }
+
+    /**
+     * 수출 통계 행 (국가/상품은 사전의 ID 로 참조)
+     */
+    public record Row(
+        long id,
+        long countryId,
+        long productCategoryId,
+        int year,
+        int month,
+        BigDecimal exportValueUsd,
+        String currency,
+        BigDecimal exportWeightKg,
+        BigDecimal exportQuantity,
+        String quantityUnit,
+        BigDecimal growthRateYoy,
+        BigDecimal marketShare
+    ) {
+        public static Row from(ExportStatisticView view) {
+            return new Row(
+                view.id(),
+                view.country().id(),
+                view.productCategory().id(),
+                view.year(),
+                view.month(),
+                view.exportValueUsd(),
+                view.currency(),
+                view.exportWeightKg(),
+                view.exportQuantity(),
+                view.quantityUnit(),
+                view.growthRateYoy(),
+                view.marketShare()
+            );
+        }
+    }
+
+    /**
+     * 페이징된 정규화 목록 (페이지 정보는 기존 페이징 응답과 같은 필드명 사용)
+     */
+    public record Paged(
+        List<CountryResponse> countries,
+        List<ProductCategoryResponse> productCategories,
+        List<Row> content,
+        long totalElements,
+        int totalPages,
+        int size,
+        int number,
+        boolean first,
+        boolean last
+    ) {
+        public static Paged from(Page<ExportStatisticView> page) {
+            ExportStatisticTableResponse table = ExportStatisticTableResponse.from(page.getContent());
+            return new Paged(
+                table.countries(),
+                table.productCategories(),
+                table.rows(),
+                page.getTotalElements(),
+                page.getTotalPages(),
+                page.getSize(),
+                page.getNumber(),
+                page.isFirst(),
+                page.isLast()
+            );
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.export.dashboard.application.dto;
+
+import com.export.dashboard.domain.model.Percentage;
+import com.export.dashboard.domain.repository.ExportStatisticRepository.CountryExportTotal;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * 지역/대륙별 수출 집계 응답 DTO
+ * 그룹 합계와 전체 대비 비중, 국가별 합계와 그룹 내 비중
+ */
+public record GeographicExportResponse(
+    String name,
+    String continent,
+    BigDecimal totalExportValue,
+    BigDecimal share,
+    Integer countryCount,
+    Integer exportingCountryCount,
+    List<CountryExportShareResponse> countries
+) {
+    public static GeographicExportResponse of(String name, String continent,
+                                              List<CountryExportTotal> countries, BigDecimal grandTotal) {
+        BigDecimal total = countries.stream()
+            .map(country -> country.totalValue().amount())
+            .reduce(BigDecimal.ZERO, BigDecimal::add);
+
+        return new GeographicExportResponse(
+            name,
+            continent,
+            total,
+            Percentage.calculate(total, grandTotal).value(),
+            countries.size(),
+            (int) countries.stream().filter(country -> country.recordCount() > 0).count(),
+            countries.stream()
+                .map(country -> CountryExportShareResponse.of(country, total))
+                .toList()
+        );
+    }
+
+    /**
+     * 국가별 수출 합계
+     */
+    public record CountryExportShareResponse(
+        String countryCode,
+        String nameKo,
+        String nameEn,
+        String region,
+        BigDecimal totalValue,
+        BigDecimal share,
+        Long recordCount
+    ) {
+        public static CountryExportShareResponse of(CountryExportTotal country, BigDecimal groupTotal) {
+            return new CountryExportShareResponse(
+                country.countryCode().value(),
+                country.countryNameKo(),
+                country.countryNameEn(),
+                country.region(),
+                country.totalValue().amount(),
+                Percentage.calculate(country.totalValue().amount(), groupTotal).value(),
+                country.recordCount()
+            );
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.export.dashboard.application.dto;
+
+import com.export.dashboard.domain.model.ExportPeriod;
+import com.export.dashboard.domain.model.Money;
+import com.export.dashboard.domain.model.Percentage;
+import com.export.dashboard.domain.repository.ExportStatisticRepository.HsNodeExportTotal;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * HS 계층 드릴다운 응답 DTO
+ * 선택한 노드(미지정 시 전체)의 기간 합계와 바로 아래 레벨 노드별 합계
+ */
+public record HsDrillDownResponse(
+    String hsCode,
+    Integer hsLevel,
+    String nameKo,
+    String nameEn,
+    Integer startYear,
+    Integer startMonth,
+    Integer endYear,
+    Integer endMonth,
+    BigDecimal totalExportValue,
+    String currency,
+    Long recordCount,
+    List<HsNodeResponse> children
+) {
+    public static HsDrillDownResponse of(HsNodeExportTotal node, ExportPeriod startPeriod, ExportPeriod endPeriod,
+                                         List<HsNodeExportTotal> children) {
+        Money total = node.totalValue();
+        return new HsDrillDownResponse(
+            node.hsCode() != null ? node.hsCode().value() : null,
+            node.hsCode() != null ? node.hsCode().level() : null,
+            node.nameKo(),
+            node.nameEn(),
+            startPeriod.year(),
+            startPeriod.month(),
+            endPeriod.year(),
+            endPeriod.month(),
+            total.amount(),
+            total.currency().getCurrencyCode(),
+            node.recordCount(),
+            children.stream()
+                .map(child -> HsNodeResponse.of(child, total))
+                .toList()
+        );
+    }
+
+    /**
+     * 하위 노드별 수출 합계
+     */
+    public record HsNodeResponse(
+        String hsCode,
+        Integer hsLevel,
+        String nameKo,
+        String nameEn,
+        BigDecimal totalValue,
+        BigDecimal share,
+        Long recordCount
+    ) {
+        public static HsNodeResponse of(HsNodeExportTotal node, Money parentTotal) {
+            return new HsNodeResponse(
+                node.hsCode().value(),
+                node.hsCode().level(),
+                node.nameKo(),
+                node.nameEn(),
+                node.totalValue().amount(),
+                Percentage.calculate(node.totalValue().amount(), parentTotal.amount()).value(),
+                node.recordCount()
+            );
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.export.dashboard.application.dto;
 
 import com.export.dashboard.domain.model.ProductCategory;
+import com.export.dashboard.domain.repository.ExportStatisticViewRepository.ProductCategoryView;
 
 /**
  * 상품 카테고리 정보 응답 DTO
@@ -27,4 +28,17 @@ public record ProductCategoryResponse(
             productCategory.isActive()
         );
     }
-}
\ No newline at end of file
+
+    public static ProductCategoryResponse from(ProductCategoryView productCategory) {
+        return new ProductCategoryResponse(
+            productCategory.id(),
+            productCategory.hsCode(),
+            productCategory.hsLevel(),
+            productCategory.nameKo(),
+            productCategory.nameEn(),
+            productCategory.parentHsCode(),
+            null,
+            productCategory.active()
+        );
+    }
+}
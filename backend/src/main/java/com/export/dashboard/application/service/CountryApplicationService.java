@@ -2,14 +2,25 @@ package com.export.dashboard.application.service;
 
 import com.export.dashboard.application.dto.CountryResponse;
 import com.export.dashboard.application.dto.CreateCountryRequest;
+import com.export.dashboard.application.dto.GeographicExportResponse;
 import com.export.dashboard.domain.exception.CountryNotFoundException;
 import com.export.dashboard.domain.model.Country;
 import com.export.dashboard.domain.model.CountryCode;
+import com.export.dashboard.domain.model.ExportPeriod;
 import com.export.dashboard.domain.repository.CountryRepository;
+import com.export.dashboard.domain.repository.ExportStatisticRepository;
+import com.export.dashboard.domain.repository.ExportStatisticRepository.CountryExportTotal;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * 국가 관리 애플리케이션 서비스
@@ -20,9 +31,12 @@ import java.util.List;
 public class CountryApplicationService {
 
     private final CountryRepository countryRepository;
+    private final ExportStatisticRepository exportStatisticRepository;
 
-    public CountryApplicationService(CountryRepository countryRepository) {
+    public CountryApplicationService(CountryRepository countryRepository,
+                                     ExportStatisticRepository exportStatisticRepository) {
         this.countryRepository = countryRepository;
+        this.exportStatisticRepository = exportStatisticRepository;
     }
 
     /**
@@ -102,6 +116,59 @@ public class CountryApplicationService {
             .toList();
     }
 
+    /**
+     * 지역별 수출 집계 조회 (국가별 내역 포함, 수출액 내림차순)
+     * 년도를 생략하면 가장 최근 년도
+     */
+    public List<GeographicExportResponse> getRegionExports(Integer year, Integer startMonth, Integer endMonth) {
+        return groupCountryExports(year, startMonth, endMonth, CountryExportTotal::region, true);
+    }
+
+    /**
+     * 대륙별 수출 집계 조회 (국가별 내역 포함, 수출액 내림차순)
+     * 년도를 생략하면 가장 최근 년도
+     */
+    public List<GeographicExportResponse> getContinentExports(Integer year, Integer startMonth, Integer endMonth) {
+        return groupCountryExports(year, startMonth, endMonth, CountryExportTotal::continent, false);
+    }
+
+    /**
+     * 국가/월 집계 테이블의 국가별 합계를 지역 또는 대륙으로 묶음
+     * 지역/대륙이 지정되지 않은 국가는 제외
+     */
+    private List<GeographicExportResponse> groupCountryExports(Integer year, Integer startMonth, Integer endMonth,
+                                                               Function<CountryExportTotal, String> classifier,
+                                                               boolean withContinent) {
+        int targetYear = year != null ? year : exportStatisticRepository.findAllYears().stream()
+            .max(Integer::compareTo)
+            .orElse(LocalDate.now().getYear());
+        ExportPeriod startPeriod = ExportPeriod.of(targetYear, startMonth);
+        ExportPeriod endPeriod = ExportPeriod.of(targetYear, endMonth);
+        if (startPeriod.isAfter(endPeriod)) {
+            throw new IllegalArgumentException("시작 월은 종료 월보다 클 수 없습니다.");
+        }
+
+        List<CountryExportTotal> totals = exportStatisticRepository.getCountryExportTotals(startPeriod, endPeriod);
+        BigDecimal grandTotal = totals.stream()
+            .map(total -> total.totalValue().amount())
+            .reduce(BigDecimal.ZERO, BigDecimal::add);
+
+        // 국가별 합계가 수출액 내림차순이므로 그룹 내 순서도 유지됨
+        Map<String, List<CountryExportTotal>> groups = totals.stream()
+            .filter(total -> classifier.apply(total) != null)
+            .collect(Collectors.groupingBy(classifier, LinkedHashMap::new, Collectors.toList()));
+
+        return groups.entrySet().stream()
+            .map(group -> GeographicExportResponse.of(
+                group.getKey(),
+                withContinent ? group.getValue().get(0).continent() : null,
+                group.getValue(),
+                grandTotal))
+            .sorted(Comparator.comparing(GeographicExportResponse::totalExportValue).reversed()
+                .thenComparing(GeographicExportResponse::name))
+            .toList();
+    }
+
     /**
      * 국가 정보 업데이트
      */
@@ -6,10 +6,15 @@ import com.export.dashboard.domain.exception.ExportStatisticNotFoundException;
 import com.export.dashboard.domain.exception.ProductCategoryNotFoundException;
 import com.export.dashboard.domain.model.*;
 import com.export.dashboard.domain.repository.CountryRepository;
+import com.export.dashboard.domain.repository.ExportRollupRepository;
 import com.export.dashboard.domain.repository.ExportStatisticRepository;
+import com.export.dashboard.domain.repository.ExportStatisticViewRepository;
 import com.export.dashboard.domain.repository.ProductCategoryRepository;
 import com.export.dashboard.domain.service.ExportAnalyticsDomainService;
 import com.export.dashboard.domain.service.ExportStatisticDomainService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -28,7 +33,14 @@ import java.util.List;
 @Transactional(readOnly = true)
 public class ExportStatisticApplicationService {
 
+    private static final Logger logger = LoggerFactory.getLogger(ExportStatisticApplicationService.class);
+
+    // 키셋 페이징 한 번에 반환할 최대 행 수
+    private static final int MAX_CURSOR_PAGE_SIZE = 1000;
+
     private final ExportStatisticRepository exportStatisticRepository;
+    private final ExportStatisticViewRepository exportStatisticViewRepository;
+    private final ExportRollupRepository exportRollupRepository;
     private final CountryRepository countryRepository;
     private final ProductCategoryRepository productCategoryRepository;
     private final ExportStatisticDomainService exportStatisticDomainService;
@@ -36,11 +48,15 @@ public class ExportStatisticApplicationService {
 
     public ExportStatisticApplicationService(
             ExportStatisticRepository exportStatisticRepository,
+            ExportStatisticViewRepository exportStatisticViewRepository,
+            ExportRollupRepository exportRollupRepository,
             CountryRepository countryRepository,
             ProductCategoryRepository productCategoryRepository,
             ExportStatisticDomainService exportStatisticDomainService,
             ExportAnalyticsDomainService exportAnalyticsDomainService) {
         this.exportStatisticRepository = exportStatisticRepository;
+        this.exportStatisticViewRepository = exportStatisticViewRepository;
+        this.exportRollupRepository = exportRollupRepository;
         this.countryRepository = countryRepository;
         this.productCategoryRepository = productCategoryRepository;
         this.exportStatisticDomainService = exportStatisticDomainService;
@@ -81,8 +97,9 @@ public class ExportStatisticApplicationService {
         exportStatisticDomainService.calculateAndUpdateGrowthRate(statistic);
         exportStatisticDomainService.calculateAndUpdateMarketShare(statistic);
 
-        // 저장
+        // 저장 및 집계 테이블 반영
         ExportStatistic savedStatistic = exportStatisticRepository.save(statistic);
+        exportRollupRepository.add(savedStatistic);
 
         return ExportStatisticResponse.from(savedStatistic);
     }
@@ -100,9 +117,9 @@ public class ExportStatisticApplicationService {
     /**
      * 년도별 수출 통계 조회
      */
-    @Cacheable(value = "export-statistics", key = "#year")
+    @Cacheable(value = "export-statistics", key = "#year", sync = true)
     public List<ExportStatisticResponse> getExportStatisticsByYear(Integer year) {
-        return exportStatisticRepository.findByYear(year)
+        return exportStatisticViewRepository.findByYear(year)
             .stream()
             .map(ExportStatisticResponse::from)
             .toList();
@@ -111,12 +128,13 @@ public class ExportStatisticApplicationService {
     /**
      * 국가와 년도별 수출 통계 조회
      */
-    @Cacheable(value = "export-statistics", key = "#countryId + '_' + #year")
+    @Cacheable(value = "export-statistics", key = "'country_' + #countryId + '_' + #year", sync = true)
     public List<ExportStatisticResponse> getExportStatisticsByCountryAndYear(Long countryId, Integer year) {
-        Country country = countryRepository.findById(countryId)
-            .orElseThrow(() -> CountryNotFoundException.withId(countryId));
+        if (countryRepository.findById(countryId).isEmpty()) {
+            throw CountryNotFoundException.withId(countryId);
+        }
 
-        return exportStatisticRepository.findByCountryAndYear(country, year)
+        return exportStatisticViewRepository.findByCountryAndYear(countryId, year)
             .stream()
             .map(ExportStatisticResponse::from)
             .toList();
@@ -125,12 +143,13 @@ public class ExportStatisticApplicationService {
     /**
      * 상품과 년도별 수출 통계 조회
      */
-    @Cacheable(value = "export-statistics", key = "#productCategoryId + '_' + #year")
+    @Cacheable(value = "export-statistics", key = "'product_' + #productCategoryId + '_' + #year", sync = true)
     public List<ExportStatisticResponse> getExportStatisticsByProductAndYear(Long productCategoryId, Integer year) {
-        ProductCategory productCategory = productCategoryRepository.findById(productCategoryId)
-            .orElseThrow(() -> ProductCategoryNotFoundException.withId(productCategoryId));
+        if (productCategoryRepository.findById(productCategoryId).isEmpty()) {
+            throw ProductCategoryNotFoundException.withId(productCategoryId);
+        }
 
-        return exportStatisticRepository.findByProductCategoryAndYear(productCategory, year)
+        return exportStatisticViewRepository.findByProductCategoryAndYear(productCategoryId, year)
             .stream()
             .map(ExportStatisticResponse::from)
             .toList();
@@ -140,14 +159,43 @@ public class ExportStatisticApplicationService {
      * 페이징된 수출 통계 조회
      */
     public Page<ExportStatisticResponse> getExportStatistics(Pageable pageable) {
-        return exportStatisticRepository.findAll(pageable)
+        return exportStatisticViewRepository.findAll(pageable)
             .map(ExportStatisticResponse::from);
     }
 
+    /**
+     * 키셋 페이징 수출 통계 조회
+     * 커서가 없으면 첫 페이지, 전체 건수는 includeTotal 일 때만 추정치로 제공
+     */
+    public ExportStatisticCursorResponse getExportStatisticsAfter(String cursor, int size, boolean includeTotal) {
+        ExportStatisticCursor after = cursor == null || cursor.isBlank() ? null : ExportStatisticCursor.decode(cursor);
+        int limit = Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+
+        return ExportStatisticCursorResponse.of(
+            exportStatisticViewRepository.findAfter(after, limit),
+            includeTotal ? exportStatisticViewRepository.estimateCount() : null
+        );
+    }
+
+    /**
+     * 년도별 수출 통계 조회 (국가/상품 사전 + ID 참조 행)
+     */
+    @Cacheable(value = "export-statistics", key = "'table_' + #year", sync = true)
+    public ExportStatisticTableResponse getExportStatisticTableByYear(Integer year) {
+        return ExportStatisticTableResponse.from(exportStatisticViewRepository.findByYear(year));
+    }
+
+    /**
+     * 페이징된 수출 통계 조회 (국가/상품 사전 + ID 참조 행)
+     */
+    public ExportStatisticTableResponse.Paged getExportStatisticTable(Pageable pageable) {
+        return ExportStatisticTableResponse.Paged.from(exportStatisticViewRepository.findAll(pageable));
+    }
+
     /**
      * 대시보드 요약 정보 생성
      */
-    @Cacheable(value = "dashboard-summary", key = "#year")
+    @Cacheable(value = "dashboard-summary", key = "#year", sync = true)
     public DashboardSummaryResponse getDashboardSummary(Integer year) {
         ExportAnalyticsDomainService.DashboardSummary summary =
             exportAnalyticsDomainService.generateDashboardSummary(year);
@@ -158,7 +206,7 @@ public class ExportStatisticApplicationService {
     /**
      * 수출 다양성 지수 조회
      */
-    @Cacheable(value = "export-analytics", key = "'diversity_' + #year")
+    @Cacheable(value = "export-analytics", key = "'diversity_' + #year", sync = true)
     public BigDecimal getExportDiversityIndex(Integer year) {
         return exportAnalyticsDomainService.calculateExportDiversityIndex(year);
     }
@@ -166,7 +214,7 @@ public class ExportStatisticApplicationService {
     /**
      * 지역별 수출 집중도 분석
      */
-    @Cacheable(value = "export-analytics", key = "'concentration_' + #year")
+    @Cacheable(value = "export-analytics", key = "'concentration_' + #year", sync = true)
     public RegionalConcentrationResponse getRegionalConcentration(Integer year) {
         ExportAnalyticsDomainService.RegionalConcentration concentration =
             exportAnalyticsDomainService.analyzeRegionalConcentration(year);
@@ -177,7 +225,7 @@ public class ExportStatisticApplicationService {
     /**
      * 계절성 분석
      */
-    @Cacheable(value = "export-analytics", key = "'seasonality_' + #year")
+    @Cacheable(value = "export-analytics", key = "'seasonality_' + #year", sync = true)
     public SeasonalityAnalysisResponse getSeasonalityAnalysis(Integer year) {
         ExportAnalyticsDomainService.SeasonalityAnalysis analysis =
             exportAnalyticsDomainService.analyzeSeasonality(year);
@@ -188,7 +236,7 @@ public class ExportStatisticApplicationService {
     /**
      * 성장 추세 분석
      */
-    @Cacheable(value = "export-analytics", key = "'growth_' + #startYear + '_' + #endYear")
+    @Cacheable(value = "export-trends", key = "'growth_' + #startYear + '_' + #endYear", sync = true)
     public GrowthTrendAnalysisResponse getGrowthTrendAnalysis(Integer startYear, Integer endYear) {
         ExportAnalyticsDomainService.GrowthTrendAnalysis analysis =
             exportAnalyticsDomainService.analyzeGrowthTrend(startYear, endYear);
@@ -196,10 +244,58 @@ public class ExportStatisticApplicationService {
         return GrowthTrendAnalysisResponse.from(analysis);
     }
 
+    /**
+     * 기간별 월별 수출 트렌드 조회
+     * 년도는 ExportPeriod 범위(1900-2100)로 검증하여 큐브 조회가 범위 밖 년도를 순회하지 않도록 함
+     */
+    @Cacheable(value = "export-trends", key = "'monthly_trend_' + #startYear + '_' + #endYear", sync = true)
+    public List<DashboardSummaryResponse.MonthlyTrendResponse> getMonthlyExportTrend(Integer startYear, Integer endYear) {
+        ExportPeriod startPeriod = ExportPeriod.of(startYear, 1);
+        ExportPeriod endPeriod = ExportPeriod.of(endYear, 12);
+        if (startPeriod.year() > endPeriod.year()) {
+            throw new IllegalArgumentException("시작 년도는 종료 년도보다 클 수 없습니다.");
+        }
+
+        return exportStatisticRepository.getMonthlyExportTrend(startYear, endYear).stream()
+            .map(DashboardSummaryResponse.MonthlyTrendResponse::from)
+            .toList();
+    }
+
+    /**
+     * HS 계층 드릴다운 조회
+     * 선택한 노드(미지정 시 전체)의 기간 합계와 바로 아래 레벨 노드별 합계를 HS 계층 집계 테이블에서 조회
+     */
+    public HsDrillDownResponse getHsDrillDown(String hsCode, ExportPeriod startPeriod, ExportPeriod endPeriod) {
+        if (startPeriod.isAfter(endPeriod)) {
+            throw new IllegalArgumentException("시작 기간은 종료 기간보다 늦을 수 없습니다.");
+        }
+
+        HsCode node = hsCode == null || hsCode.isBlank() ? null : HsCode.of(hsCode.trim(), hsCode.trim().length() / 2);
+        String nodeCode = node != null ? node.value() : null;
+
+        List<ExportStatisticRepository.HsNodeExportTotal> children =
+            exportStatisticRepository.getHsChildExportTotals(nodeCode, startPeriod, endPeriod);
+
+        ExportStatisticRepository.HsNodeExportTotal total;
+        if (node == null) {
+            total = new ExportStatisticRepository.HsNodeExportTotal(null, null, null,
+                children.stream()
+                    .map(ExportStatisticRepository.HsNodeExportTotal::totalValue)
+                    .reduce(Money.usd(BigDecimal.ZERO), Money::add),
+                children.stream().mapToLong(ExportStatisticRepository.HsNodeExportTotal::recordCount).sum());
+        } else {
+            total = exportStatisticRepository.getHsNodeExportTotal(nodeCode, startPeriod, endPeriod)
+                .orElseGet(() -> new ExportStatisticRepository.HsNodeExportTotal(
+                    node, null, null, Money.usd(BigDecimal.ZERO), 0L));
+        }
+
+        return HsDrillDownResponse.of(total, startPeriod, endPeriod, children);
+    }
+
     /**
      * 사용 가능한 년도 목록 조회
      */
-    @Cacheable(value = "available-years")
+    @Cacheable(value = "available-years", sync = true)
     public List<Integer> getAvailableYears() {
         return exportStatisticRepository.findAllYears();
     }
@@ -213,6 +309,7 @@ public class ExportStatisticApplicationService {
             .orElseThrow(() -> ExportStatisticNotFoundException.withId(id));
 
         // 수출 금액 업데이트
+        Money previousValue = statistic.getExportValue();
         statistic.updateExportValue(Money.usd(request.exportValueUsd()));
 
         // 중량 정보 업데이트
@@ -230,6 +327,7 @@ public class ExportStatisticApplicationService {
         exportStatisticDomainService.calculateAndUpdateMarketShare(statistic);
 
         ExportStatistic savedStatistic = exportStatisticRepository.save(statistic);
+        exportRollupRepository.replace(savedStatistic, previousValue);
 
         return ExportStatisticResponse.from(savedStatistic);
     }
@@ -242,13 +340,29 @@ public class ExportStatisticApplicationService {
         ExportStatistic statistic = exportStatisticRepository.findById(id)
             .orElseThrow(() -> ExportStatisticNotFoundException.withId(id));
 
+        statistic.markDeleted();
         exportStatisticRepository.delete(statistic);
+        exportRollupRepository.remove(statistic);
+    }
+
+    /**
+     * 성장률/시장점유율 일괄 재계산 (year 가 null 이면 전체 년도)
+     */
+    @Transactional
+    @CacheEvict(value = "export-statistics", allEntries = true)
+    public MetricsRecalculationResponse recalculateGrowthRatesAndMarketShares(Integer year) {
+        ExportStatisticDomainService.MetricsRecalculation recalculation =
+            exportStatisticDomainService.recalculateGrowthRatesAndMarketShares(year);
+
+        logger.info("Recalculated growth rates and market shares for {}: {} rows in {} ms",
+            year != null ? year : "all years", recalculation.updatedRows(), recalculation.elapsed().toMillis());
+        return MetricsRecalculationResponse.from(year, recalculation);
     }
 
     /**
      * 국가별 수출 성과 분석
      */
-    @Cacheable(value = "export-analytics", key = "'country_performance_' + #countryId + '_' + #year")
+    @Cacheable(value = "export-analytics", key = "'country_performance_' + #countryId + '_' + #year", sync = true)
     public CountryPerformanceResponse getCountryPerformance(Long countryId, Integer year) {
         Country country = countryRepository.findById(countryId)
             .orElseThrow(() -> CountryNotFoundException.withId(countryId));
@@ -262,7 +376,7 @@ public class ExportStatisticApplicationService {
     /**
      * 상품별 수출 성과 분석
      */
-    @Cacheable(value = "export-analytics", key = "'product_performance_' + #productCategoryId + '_' + #year")
+    @Cacheable(value = "export-analytics", key = "'product_performance_' + #productCategoryId + '_' + #year", sync = true)
     public ProductPerformanceResponse getProductPerformance(Long productCategoryId, Integer year) {
         ProductCategory productCategory = productCategoryRepository.findById(productCategoryId)
             .orElseThrow(() -> ProductCategoryNotFoundException.withId(productCategoryId));
@@ -326,6 +440,21 @@ public class ExportStatisticApplicationService {
         }
     }
 
+    public record MetricsRecalculationResponse(
+        Integer year,
+        Integer updatedRows,
+        Long elapsedMillis
+    ) {
+        public static MetricsRecalculationResponse from(
+                Integer year, ExportStatisticDomainService.MetricsRecalculation recalculation) {
+            return new MetricsRecalculationResponse(
+                year,
+                recalculation.updatedRows(),
+                recalculation.elapsed().toMillis()
+            );
+        }
+    }
+
     public record CountryPerformanceResponse(
         String countryCode,
         Integer year,
@@ -0,0 +1,209 @@
+package com.export.dashboard.application.service;
+
+import com.export.dashboard.application.dto.BulkCreateExportStatisticResponse;
+import com.export.dashboard.application.dto.BulkCreateExportStatisticResponse.RowResult;
+import com.export.dashboard.application.dto.BulkCreateExportStatisticResponse.RowStatus;
+import com.export.dashboard.application.dto.CreateExportStatisticRequest;
+import com.export.dashboard.domain.exception.DomainException;
+import com.export.dashboard.domain.model.*;
+import com.export.dashboard.domain.repository.CountryRepository;
+import com.export.dashboard.domain.repository.ExportRollupRepository;
+import com.export.dashboard.domain.repository.ExportStatisticRepository;
+import com.export.dashboard.domain.repository.ExportStatisticRepository.StatisticKey;
+import com.export.dashboard.domain.repository.ProductCategoryRepository;
+import com.export.dashboard.domain.service.ExportStatisticDomainService;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 수출 통계 대량 적재 애플리케이션 서비스
+ * 참조 데이터는 메모리 사전으로 해석하고, 중복은 한 번의 키 조회로 검사한 뒤
+ * 유효한 행만 JDBC 배치로 저장하고 집계 테이블과 성장률/점유율을 일괄 반영
+ */
+@Service
+public class ExportStatisticBulkService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExportStatisticBulkService.class);
+
+    private final ExportStatisticRepository exportStatisticRepository;
+    private final ExportRollupRepository exportRollupRepository;
+    private final CountryRepository countryRepository;
+    private final ProductCategoryRepository productCategoryRepository;
+    private final ExportStatisticDomainService exportStatisticDomainService;
+    private final Validator validator;
+    private final int maxRows;
+
+    public ExportStatisticBulkService(
+            ExportStatisticRepository exportStatisticRepository,
+            ExportRollupRepository exportRollupRepository,
+            CountryRepository countryRepository,
+            ProductCategoryRepository productCategoryRepository,
+            ExportStatisticDomainService exportStatisticDomainService,
+            Validator validator,
+            @Value("${export.ingestion.bulk.max-rows:10000}") int maxRows) {
+        this.exportStatisticRepository = exportStatisticRepository;
+        this.exportRollupRepository = exportRollupRepository;
+        this.countryRepository = countryRepository;
+        this.productCategoryRepository = productCategoryRepository;
+        this.exportStatisticDomainService = exportStatisticDomainService;
+        this.validator = validator;
+        this.maxRows = maxRows;
+    }
+
+    /**
+     * 수출 통계 대량 생성
+     * 검증 실패/중복 행은 건너뛰고 나머지 행만 저장하며, 행별 처리 결과를 요청 순서대로 반환
+     */
+    @Transactional
+    @CacheEvict(value = {"export-statistics", "dashboard-summary", "export-analytics", "available-years"}, allEntries = true)
+    public BulkCreateExportStatisticResponse createExportStatistics(List<CreateExportStatisticRequest> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new IllegalArgumentException("적재할 수출 통계가 없습니다.");
+        }
+        if (requests.size() > maxRows) {
+            throw new IllegalArgumentException(
+                String.format("한 번에 적재할 수 있는 최대 행 수(%d)를 초과했습니다: %d", maxRows, requests.size()));
+        }
+
+        long startedAt = System.nanoTime();
+        ReferenceDataDictionary dictionary = ReferenceDataDictionary.load(countryRepository, productCategoryRepository);
+        Set<StatisticKey> existingKeys = findExistingKeys(requests);
+
+        RowResult[] results = new RowResult[requests.size()];
+        List<ExportStatistic> statistics = new ArrayList<>();
+        List<Integer> statisticIndexes = new ArrayList<>();
+        Set<StatisticKey> seenKeys = new HashSet<>();
+
+        for (int index = 0; index < requests.size(); index++) {
+            CreateExportStatisticRequest request = requests.get(index);
+
+            String violation = validate(request);
+            if (violation != null) {
+                results[index] = RowResult.rejected(index, RowStatus.INVALID, violation);
+                continue;
+            }
+
+            Optional<Country> country = dictionary.findCountry(request.countryId());
+            Optional<ProductCategory> productCategory = dictionary.findProductCategory(request.productCategoryId());
+            if (country.isEmpty() || productCategory.isEmpty()) {
+                results[index] = RowResult.rejected(index, RowStatus.INVALID, country.isEmpty()
+                    ? "국가를 찾을 수 없습니다. ID: " + request.countryId()
+                    : "상품 카테고리를 찾을 수 없습니다. ID: " + request.productCategoryId());
+                continue;
+            }
+
+            StatisticKey key = toKey(request);
+            if (existingKeys.contains(key) || !seenKeys.add(key)) {
+                results[index] = RowResult.rejected(index, RowStatus.DUPLICATE,
+                    String.format("동일한 국가, 상품, 기간(%s)의 수출 통계가 이미 존재합니다.", key.period()));
+                continue;
+            }
+
+            try {
+                statistics.add(toStatistic(request, country.get(), productCategory.get()));
+                statisticIndexes.add(index);
+            } catch (DomainException e) {
+                seenKeys.remove(key);
+                results[index] = RowResult.rejected(index, RowStatus.INVALID, e.getMessage());
+            }
+        }
+
+        if (!statistics.isEmpty()) {
+            List<ExportStatistic> saved = exportStatisticRepository.saveAll(statistics);
+            for (int i = 0; i < saved.size(); i++) {
+                results[statisticIndexes.get(i)] = RowResult.created(statisticIndexes.get(i), saved.get(i).getId());
+            }
+
+            exportRollupRepository.addAll(saved);
+
+            // 적재 년도와 그 다음 년도(전년 대비 성장률 영향)의 성장률/점유율 재계산
+            IntSummaryStatistics years = saved.stream()
+                .mapToInt(statistic -> statistic.getPeriod().year())
+                .summaryStatistics();
+            exportStatisticDomainService.recalculateGrowthRatesAndMarketShares(years.getMin(), years.getMax() + 1);
+        }
+
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+        logger.info("Bulk export statistics load: {} of {} rows created in {} ms",
+            statistics.size(), requests.size(), elapsed.toMillis());
+
+        return new BulkCreateExportStatisticResponse(
+            requests.size(),
+            statistics.size(),
+            requests.size() - statistics.size(),
+            elapsed.toMillis(),
+            Arrays.asList(results)
+        );
+    }
+
+    private Set<StatisticKey> findExistingKeys(List<CreateExportStatisticRequest> requests) {
+        List<CreateExportStatisticRequest> keyed = requests.stream()
+            .filter(request -> request != null && request.countryId() != null && request.productCategoryId() != null
+                && request.year() != null)
+            .toList();
+        if (keyed.isEmpty()) {
+            return Set.of();
+        }
+
+        IntSummaryStatistics years = keyed.stream().mapToInt(CreateExportStatisticRequest::year).summaryStatistics();
+        return exportStatisticRepository.findExistingKeys(
+            keyed.stream().map(CreateExportStatisticRequest::countryId).collect(Collectors.toSet()),
+            keyed.stream().map(CreateExportStatisticRequest::productCategoryId).collect(Collectors.toSet()),
+            years.getMin(),
+            years.getMax()
+        );
+    }
+
+    private String validate(CreateExportStatisticRequest request) {
+        if (request == null) {
+            return "빈 행입니다.";
+        }
+
+        Set<ConstraintViolation<CreateExportStatisticRequest>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+            .map(ConstraintViolation::getMessage)
+            .sorted()
+            .collect(Collectors.joining(", "));
+    }
+
+    private StatisticKey toKey(CreateExportStatisticRequest request) {
+        return new StatisticKey(
+            request.countryId(),
+            request.productCategoryId(),
+            ExportPeriod.of(request.year(), request.month())
+        );
+    }
+
+    private ExportStatistic toStatistic(CreateExportStatisticRequest request,
+                                        Country country, ProductCategory productCategory) {
+        ExportStatistic statistic = ExportStatistic.create(
+            country,
+            productCategory,
+            ExportPeriod.of(request.year(), request.month()),
+            Money.usd(request.exportValueUsd())
+        );
+
+        if (request.exportWeightKg() != null) {
+            statistic.updateWeight(request.exportWeightKg());
+        }
+
+        if (request.exportQuantity() != null) {
+            statistic.updateQuantity(request.exportQuantity(), request.quantityUnit());
+        }
+
+        return statistic;
+    }
+}
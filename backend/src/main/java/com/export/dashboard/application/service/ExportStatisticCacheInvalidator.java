@@ -0,0 +1,175 @@
+package com.export.dashboard.application.service;
+
+import com.export.dashboard.domain.event.ExportStatisticCreated;
+import com.export.dashboard.domain.event.ExportStatisticData;
+import com.export.dashboard.domain.event.ExportStatisticDeleted;
+import com.export.dashboard.domain.event.ExportStatisticUpdated;
+import com.export.dashboard.domain.event.ExportStatisticsReloaded;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 수출 통계 도메인 이벤트 기반 캐시 무효화
+ * 이벤트는 변경 트랜잭션이 커밋된 뒤 아웃박스 디스패처가 요청 경로 밖에서 전달하며,
+ * 변경된 통계의 년도/국가/상품에 해당하는 키만 삭제하여 다른 년도 캐시는 유지
+ * (한 트랜잭션에서 전달된 이벤트는 키를 모아 커밋 이후 중복 없이 한 번씩만 삭제)
+ */
+@Component
+public class ExportStatisticCacheInvalidator {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExportStatisticCacheInvalidator.class);
+
+    static final String EXPORT_STATISTICS = "export-statistics";
+    static final String DASHBOARD_SUMMARY = "dashboard-summary";
+    static final String EXPORT_ANALYTICS = "export-analytics";
+    static final String EXPORT_TRENDS = "export-trends";
+    static final String AVAILABLE_YEARS = "available-years";
+
+    private static final List<String> ALL_CACHES =
+        List.of(EXPORT_STATISTICS, DASHBOARD_SUMMARY, EXPORT_ANALYTICS, EXPORT_TRENDS, AVAILABLE_YEARS);
+
+    private final CacheManager cacheManager;
+
+    public ExportStatisticCacheInvalidator(CacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    @EventListener
+    public void on(ExportStatisticCreated event) {
+        invalidate(event.data());
+    }
+
+    @EventListener
+    public void on(ExportStatisticUpdated event) {
+        invalidate(event.data());
+    }
+
+    @EventListener
+    public void on(ExportStatisticDeleted event) {
+        invalidate(event.data());
+    }
+
+    /**
+     * 대량 적재는 영향 범위의 키를 모두 알 수 없으므로 관련 캐시 전체 삭제
+     */
+    @EventListener
+    public void on(ExportStatisticsReloaded event) {
+        Set<Eviction> evictions = new LinkedHashSet<>();
+        ALL_CACHES.forEach(cacheName -> evictions.add(Eviction.clear(cacheName)));
+        schedule(evictions);
+    }
+
+    private void invalidate(ExportStatisticData data) {
+        int year = data.period().year();
+        Set<Eviction> evictions = new LinkedHashSet<>();
+
+        evictions.add(Eviction.key(EXPORT_STATISTICS, year));
+        evictions.add(Eviction.key(EXPORT_STATISTICS, "table_" + year));
+        // 국가와 상품 ID 가 같을 수 있으므로 키 접두사로 구분
+        evictions.add(Eviction.key(EXPORT_STATISTICS, "country_" + data.countryId() + "_" + year));
+        evictions.add(Eviction.key(EXPORT_STATISTICS, "product_" + data.productCategoryId() + "_" + year));
+
+        evictions.add(Eviction.key(EXPORT_ANALYTICS, "diversity_" + year));
+        evictions.add(Eviction.key(EXPORT_ANALYTICS, "concentration_" + year));
+        evictions.add(Eviction.key(EXPORT_ANALYTICS, "seasonality_" + year));
+
+        // 대시보드 요약과 성과 분석은 전년 대비 값을 포함하므로 다음 년도도 함께 삭제
+        for (int affectedYear = year; affectedYear <= year + 1; affectedYear++) {
+            evictions.add(Eviction.key(DASHBOARD_SUMMARY, affectedYear));
+            evictions.add(Eviction.key(EXPORT_ANALYTICS,
+                "country_performance_" + data.countryId() + "_" + affectedYear));
+            evictions.add(Eviction.key(EXPORT_ANALYTICS,
+                "product_performance_" + data.productCategoryId() + "_" + affectedYear));
+        }
+
+        // 년도 구간 키는 개별로 찾을 수 없으므로 구간 캐시만 통째로 삭제
+        evictions.add(Eviction.clear(EXPORT_TRENDS));
+        evictions.add(Eviction.key(AVAILABLE_YEARS, SimpleKey.EMPTY));
+
+        schedule(evictions);
+    }
+
+    private void schedule(Set<Eviction> evictions) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evictions.forEach(this::apply);
+            return;
+        }
+
+        PendingEvictions pending = (PendingEvictions) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingEvictions();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        pending.evictions.addAll(evictions);
+    }
+
+    private void apply(Eviction eviction) {
+        Cache cache = cacheManager.getCache(eviction.cacheName());
+        if (cache == null) {
+            return;
+        }
+
+        try {
+            if (eviction.key() == null) {
+                cache.clear();
+            } else {
+                cache.evict(eviction.key());
+            }
+        } catch (RuntimeException e) {
+            // 캐시 장애로 커밋된 변경이 실패로 보이지 않도록 함 (남은 항목은 TTL 만료로 정리)
+            logger.warn("Failed to invalidate cache {} ({}): {}", eviction.cacheName(), eviction.key(), e.getMessage());
+        }
+    }
+
+    /**
+     * 트랜잭션 동안 모은 무효화 대상 (커밋 후 삭제, 롤백 시 버림)
+     */
+    private final class PendingEvictions implements TransactionSynchronization {
+
+        private final Set<Eviction> evictions = new LinkedHashSet<>();
+
+        @Override
+        public void afterCommit() {
+            // 캐시 전체 삭제가 있으면 같은 캐시의 개별 키 삭제는 생략
+            Set<String> cleared = new LinkedHashSet<>();
+            evictions.stream()
+                .filter(eviction -> eviction.key() == null)
+                .forEach(eviction -> cleared.add(eviction.cacheName()));
+
+            evictions.stream()
+                .filter(eviction -> eviction.key() == null || !cleared.contains(eviction.cacheName()))
+                .forEach(ExportStatisticCacheInvalidator.this::apply);
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(ExportStatisticCacheInvalidator.this);
+        }
+    }
+
+    /**
+     * 캐시 이름과 삭제할 키 (키가 null 이면 캐시 전체 삭제)
+     */
+    private record Eviction(String cacheName, Object key) {
+
+        static Eviction key(String cacheName, Object key) {
+            return new Eviction(cacheName, key);
+        }
+
+        static Eviction clear(String cacheName) {
+            return new Eviction(cacheName, null);
+        }
+    }
+}
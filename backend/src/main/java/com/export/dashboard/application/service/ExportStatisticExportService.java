@@ -0,0 +1,163 @@
+package com.export.dashboard.application.service;
+
+import com.export.dashboard.application.dto.ExportStatisticResponse;
+import com.export.dashboard.domain.repository.ExportStatisticViewRepository;
+import com.export.dashboard.domain.repository.ExportStatisticViewRepository.ExportStatisticFilter;
+import com.export.dashboard.domain.repository.ExportStatisticViewRepository.ExportStatisticView;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+/**
+ * 수출 통계 파일 내보내기 서비스
+ * 조회 결과를 모으지 않고 DB 커서에서 읽는 즉시 CSV/JSON 으로 출력 스트림에 기록하여
+ * 결과 크기와 무관하게 메모리 사용량이 일정하고 첫 바이트가 조회 완료 전에 전송됨
+ */
+@Service
+public class ExportStatisticExportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExportStatisticExportService.class);
+
+    // 엑셀에서 한글이 깨지지 않도록 CSV 앞에 붙이는 UTF-8 BOM
+    private static final String UTF8_BOM = "\uFEFF";
+
+    private static final String CSV_HEADER =
+        "country_code,hs_code,year,month,export_value_usd,export_weight_kg,export_quantity,quantity_unit," +
+        "currency,country_name_ko,country_name_en,category_name_ko,category_name_en,growth_rate_yoy,market_share";
+
+    private final ExportStatisticViewRepository exportStatisticViewRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+
+    public ExportStatisticExportService(ExportStatisticViewRepository exportStatisticViewRepository,
+                                        ObjectMapper objectMapper,
+                                        PlatformTransactionManager transactionManager) {
+        this.exportStatisticViewRepository = exportStatisticViewRepository;
+        this.objectMapper = objectMapper;
+        // 응답 스트리밍은 요청 스레드 밖에서 실행되므로 커서 조회용 트랜잭션을 직접 염
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+    }
+
+    /**
+     * CSV 로 내보내기 (앞 8개 컬럼은 CSV 적재 형식과 같은 순서)
+     */
+    public long writeCsv(ExportStatisticFilter filter, OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        writer.write(UTF8_BOM);
+        writer.write(CSV_HEADER);
+        writer.write('\n');
+
+        long rows = stream(filter, view -> writeCsvRow(writer, view));
+
+        writer.flush();
+        logger.info("Exported {} export statistics as CSV ({})", rows, filter);
+        return rows;
+    }
+
+    /**
+     * JSON 배열로 내보내기 (각 요소는 목록 조회 응답과 같은 형식)
+     */
+    public long writeJson(ExportStatisticFilter filter, OutputStream outputStream) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream);
+        generator.writeStartArray();
+
+        long rows = stream(filter, view -> {
+            try {
+                generator.writeObject(ExportStatisticResponse.from(view));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+
+        generator.writeEndArray();
+        generator.flush();
+        logger.info("Exported {} export statistics as JSON ({})", rows, filter);
+        return rows;
+    }
+
+    private long stream(ExportStatisticFilter filter, Consumer<ExportStatisticView> rowWriter) throws IOException {
+        try {
+            Long rows = readOnlyTransactionTemplate.execute(status -> {
+                long[] count = {0};
+                exportStatisticViewRepository.forEach(filter, view -> {
+                    rowWriter.accept(view);
+                    count[0]++;
+                });
+                return count[0];
+            });
+            return rows == null ? 0 : rows;
+        } catch (UncheckedIOException e) {
+            // 클라이언트 연결 종료 등 출력 실패는 조회를 중단하고 원래 예외로 전달
+            throw e.getCause();
+        }
+    }
+
+    private static void writeCsvRow(Writer writer, ExportStatisticView view) {
+        try {
+            writer.write(csv(view.country().countryCode()));
+            writer.write(',');
+            writer.write(csv(view.productCategory().hsCode()));
+            writer.write(',');
+            writer.write(String.valueOf(view.year()));
+            writer.write(',');
+            writer.write(String.valueOf(view.month()));
+            writer.write(',');
+            writer.write(csv(view.exportValueUsd()));
+            writer.write(',');
+            writer.write(csv(view.exportWeightKg()));
+            writer.write(',');
+            writer.write(csv(view.exportQuantity()));
+            writer.write(',');
+            writer.write(csv(view.quantityUnit()));
+            writer.write(',');
+            writer.write(csv(view.currency()));
+            writer.write(',');
+            writer.write(csv(view.country().nameKo()));
+            writer.write(',');
+            writer.write(csv(view.country().nameEn()));
+            writer.write(',');
+            writer.write(csv(view.productCategory().nameKo()));
+            writer.write(',');
+            writer.write(csv(view.productCategory().nameEn()));
+            writer.write(',');
+            writer.write(csv(view.growthRateYoy()));
+            writer.write(',');
+            writer.write(csv(view.marketShare()));
+            writer.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String csv(BigDecimal value) {
+        return value == null ? "" : value.toPlainString();
+    }
+
+    /**
+     * RFC 4180 필드 인용 (구분자/따옴표/줄바꿈이 있는 경우에만)
+     */
+    private static String csv(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
@@ -0,0 +1,26 @@
+package com.export.dashboard.application.service;
+
+import com.export.dashboard.domain.event.ExportThresholdExceeded;
+import com.export.dashboard.domain.event.ThresholdData;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 수출 임계값 초과 알림
+ * 아웃박스 디스패처가 커밋된 임계값 초과 이벤트를 요청 경로 밖에서 전달
+ */
+@Component
+public class ExportThresholdAlertListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExportThresholdAlertListener.class);
+
+    @EventListener
+    public void on(ExportThresholdExceeded event) {
+        ThresholdData data = event.data();
+        logger.warn("Export threshold exceeded [{}] {} {}/{} {}: {} > {}",
+            data.alertLevel(), data.thresholdType(), data.countryCode(), data.hsCode(), data.period(),
+            data.currentValue(), data.thresholdValue());
+    }
+}
@@ -0,0 +1,57 @@
+package com.export.dashboard.application.service;
+
+import com.export.dashboard.domain.model.Country;
+import com.export.dashboard.domain.model.ProductCategory;
+import com.export.dashboard.domain.repository.CountryRepository;
+import com.export.dashboard.domain.repository.ProductCategoryRepository;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 대량 적재용 참조 데이터 사전
+ * 국가/상품 카테고리를 한 번에 읽어 id 및 코드로 메모리에서 조회하여 행마다 조회하지 않도록 함
+ */
+public final class ReferenceDataDictionary {
+
+    private final Map<Long, Country> countriesById = new HashMap<>();
+    private final Map<String, Country> countriesByCode = new HashMap<>();
+    private final Map<Long, ProductCategory> productCategoriesById = new HashMap<>();
+    private final Map<String, ProductCategory> productCategoriesByHsCode = new HashMap<>();
+
+    private ReferenceDataDictionary() {
+    }
+
+    public static ReferenceDataDictionary load(CountryRepository countryRepository,
+                                               ProductCategoryRepository productCategoryRepository) {
+        ReferenceDataDictionary dictionary = new ReferenceDataDictionary();
+
+        countryRepository.findAll().forEach(country -> {
+            dictionary.countriesById.put(country.getId(), country);
+            dictionary.countriesByCode.put(country.getCountryCode().value(), country);
+        });
+        productCategoryRepository.findAll().forEach(productCategory -> {
+            dictionary.productCategoriesById.put(productCategory.getId(), productCategory);
+            dictionary.productCategoriesByHsCode.put(productCategory.getHsCode().value(), productCategory);
+        });
+
+        return dictionary;
+    }
+
+    public Optional<Country> findCountry(Long id) {
+        return Optional.ofNullable(countriesById.get(id));
+    }
+
+    public Optional<Country> findCountryByCode(String countryCode) {
+        return Optional.ofNullable(countriesByCode.get(countryCode));
+    }
+
+    public Optional<ProductCategory> findProductCategory(Long id) {
+        return Optional.ofNullable(productCategoriesById.get(id));
+    }
+
+    public Optional<ProductCategory> findProductCategoryByHsCode(String hsCode) {
+        return Optional.ofNullable(productCategoriesByHsCode.get(hsCode));
+    }
+}
@@ -0,0 +1,54 @@
+package com.export.dashboard.config;
+
+import com.export.dashboard.infrastructure.customs.CircuitBreaker;
+import com.export.dashboard.infrastructure.customs.CustomsApiClient;
+import com.export.dashboard.infrastructure.customs.CustomsTradeFetcher;
+import com.export.dashboard.infrastructure.customs.ExponentialBackoff;
+import com.export.dashboard.infrastructure.customs.TokenBucketRateLimiter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 관세청 API 동기화 설정
+ * 호출 제한기와 서킷 브레이커는 모든 동시 요청이 공유하도록 단일 인스턴스로 등록
+ */
+@Configuration
+public class CustomsSyncConfig {
+
+    @Bean
+    public TokenBucketRateLimiter customsRateLimiter(
+            @Value("${export.customs.api.rate-limit.permits-per-second:10}") double permitsPerSecond,
+            @Value("${export.customs.api.rate-limit.burst:10}") int burst) {
+        return new TokenBucketRateLimiter(permitsPerSecond, burst);
+    }
+
+    @Bean
+    public CircuitBreaker customsCircuitBreaker(
+            @Value("${export.customs.api.circuit-breaker.failure-rate-threshold:50}") int failureRateThreshold,
+            @Value("${export.customs.api.circuit-breaker.window-size:20}") int windowSize,
+            @Value("${export.customs.api.circuit-breaker.minimum-calls:10}") int minimumCalls,
+            @Value("${export.customs.api.circuit-breaker.open-duration:PT30S}") Duration openDuration) {
+        return new CircuitBreaker(failureRateThreshold, windowSize, minimumCalls, openDuration);
+    }
+
+    @Bean
+    public ExponentialBackoff customsBackoff(
+            @Value("${export.customs.api.retry.initial-delay:PT1S}") Duration initialDelay,
+            @Value("${export.customs.api.retry.max-delay:PT8S}") Duration maxDelay,
+            @Value("${export.customs.api.retry.max-attempts:5}") int maxAttempts) {
+        return new ExponentialBackoff(initialDelay, maxDelay, maxAttempts);
+    }
+
+    @Bean
+    public CustomsTradeFetcher customsTradeFetcher(CustomsApiClient customsApiClient,
+                                                   TokenBucketRateLimiter customsRateLimiter,
+                                                   CircuitBreaker customsCircuitBreaker,
+                                                   ExponentialBackoff customsBackoff,
+                                                   @Value("${export.customs.sync.concurrency:16}") int concurrency) {
+        return new CustomsTradeFetcher(customsApiClient, customsRateLimiter, customsCircuitBreaker,
+            customsBackoff, concurrency);
+    }
+}
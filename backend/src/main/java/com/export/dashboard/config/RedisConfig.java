@@ -1,17 +1,39 @@
 package com.export.dashboard.config;
 
+import com.export.dashboard.infrastructure.cache.CacheInvalidationBus;
+import com.export.dashboard.infrastructure.cache.CacheRefreshAhead;
+import com.export.dashboard.infrastructure.cache.CacheRefreshInvoker;
+import com.export.dashboard.infrastructure.cache.LocalCacheStore;
+import com.export.dashboard.infrastructure.cache.PastYearTtlFunction;
+import com.export.dashboard.infrastructure.cache.RedisLoadLock;
+import com.export.dashboard.infrastructure.cache.SerializedSizeWeigher;
+import com.export.dashboard.infrastructure.cache.SingleFlightCacheManager;
+import com.export.dashboard.infrastructure.cache.TwoLevelCacheManager;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.cache.RedisCacheWriter;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.time.Duration;
 import java.util.HashMap;
@@ -54,21 +76,122 @@ public class RedisConfig {
         return template;
     }
 
+    /**
+     * L1(프로세스 내) + L2(Redis) 캐시
+     * L1 을 끄면 Redis 캐시만 사용하며, 단일 적재를 켜면 L2 미스는 키별로 한 번만 계산
+     * 갱신을 켜면(단일 적재 필요) 대시보드 캐시는 soft TTL 이 지난 값을 반환하면서 백그라운드에서 갱신
+     */
     @Bean
-    public CacheManager cacheManager(RedisConnectionFactory connectionFactory) {
+    public CacheManager cacheManager(RedisConnectionFactory connectionFactory,
+                                     LocalCacheStore localCacheStore,
+                                     CacheInvalidationBus cacheInvalidationBus,
+                                     @Value("${export.cache.local.enabled:true}") boolean localCacheEnabled,
+                                     @Value("${export.cache.past-year-ttl:PT12H}") Duration pastYearTtl,
+                                     @Value("${export.cache.single-flight.enabled:true}") boolean singleFlightEnabled,
+                                     @Value("${export.cache.single-flight.lock-ttl:PT30S}") Duration lockTtl,
+                                     @Value("${export.cache.single-flight.wait-timeout:PT10S}") Duration waitTimeout,
+                                     @Value("${export.cache.single-flight.poll-interval:50ms}") Duration pollInterval,
+                                     @Value("${export.cache.refresh.enabled:true}") boolean refreshEnabled,
+                                     CacheRefreshAhead cacheRefreshAhead,
+                                     CacheRefreshInvoker cacheRefreshInvoker) {
+        // L1 을 켜면 L2 직렬화 크기를 기록하는 직렬화기로 감싸 L1 항목 크기로 재사용
+        SerializedSizeWeigher weigher = localCacheEnabled
+                ? new SerializedSizeWeigher(new GenericJackson2JsonRedisSerializer()) : null;
+        RedisSerializer<Object> serializer = weigher != null ? weigher : new GenericJackson2JsonRedisSerializer();
+        // 백그라운드 갱신은 단일 적재 캐시의 get(key, loader) 경로에서만 동작
+        CacheRefreshAhead refreshAhead = refreshEnabled && singleFlightEnabled ? cacheRefreshAhead : null;
+        CacheManager remoteCacheManager = redisCacheManager(connectionFactory, serializer, pastYearTtl, refreshAhead);
+        if (singleFlightEnabled) {
+            RedisLoadLock loadLock = new RedisLoadLock(
+                    new StringRedisTemplate(connectionFactory), "export-dashboard:cache-load-lock:", lockTtl);
+            remoteCacheManager = new SingleFlightCacheManager(
+                    remoteCacheManager, loadLock, waitTimeout, pollInterval, refreshAhead, cacheRefreshInvoker);
+        }
+        if (!localCacheEnabled) {
+            return remoteCacheManager;
+        }
+
+        // L1 항목 크기는 L2 에서 방금 읽거나 쓴 직렬화 크기로 추정
+        return new TwoLevelCacheManager(remoteCacheManager, localCacheStore, cacheInvalidationBus, weigher);
+    }
+
+    @Bean
+    public CacheRefreshAhead cacheRefreshAhead(
+            RedisConnectionFactory connectionFactory,
+            @Value("${export.cache.refresh.stale-grace:PT1H}") Duration staleGrace,
+            @Value("${export.cache.refresh.refresh-ahead:PT2M}") Duration refreshAhead,
+            @Value("${export.cache.refresh.threads:2}") int threads,
+            @Value("${export.cache.refresh.queue-capacity:100}") int queueCapacity) {
+        return new CacheRefreshAhead(new StringRedisTemplate(connectionFactory),
+                staleGrace, refreshAhead, threads, queueCapacity);
+    }
+
+    /**
+     * 백그라운드 갱신 시 서비스 프록시를 읽기 전용 트랜잭션 안에서 다시 호출
+     */
+    @Bean
+    public CacheRefreshInvoker cacheRefreshInvoker(PlatformTransactionManager transactionManager) {
+        return new CacheRefreshInvoker(transactionManager);
+    }
+
+    /**
+     * @Cacheable 호출(프록시, 메서드, 인자)을 기록하여 백그라운드 갱신이 다시 호출할 수 있도록 함
+     * 캐시 advice 보다 바깥에서 실행되도록 가장 높은 우선순위로 등록
+     */
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    public static Advisor cacheRefreshInvocationAdvisor() {
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(
+                new AnnotationMatchingPointcut(null, Cacheable.class, true),
+                CacheRefreshInvoker.recordingInterceptor());
+        advisor.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return advisor;
+    }
+
+    @Bean
+    public LocalCacheStore localCacheStore(
+            @Value("${export.cache.local.max-weight-bytes:67108864}") long maxWeightBytes,
+            @Value("${export.cache.local.ttl:PT1M}") Duration ttl) {
+        return new LocalCacheStore(maxWeightBytes, ttl);
+    }
+
+    @Bean
+    public CacheInvalidationBus cacheInvalidationBus(
+            RedisConnectionFactory connectionFactory,
+            LocalCacheStore localCacheStore,
+            @Value("${export.cache.local.invalidation-channel:export-dashboard:cache-invalidation}") String channel) {
+        return new CacheInvalidationBus(new StringRedisTemplate(connectionFactory), channel, localCacheStore);
+    }
+
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                           CacheInvalidationBus cacheInvalidationBus) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(cacheInvalidationBus, new ChannelTopic(cacheInvalidationBus.getChannel()));
+        return container;
+    }
+
+    private RedisCacheManager redisCacheManager(RedisConnectionFactory connectionFactory,
+                                                RedisSerializer<Object> serializer,
+                                                Duration pastYearTtl,
+                                                CacheRefreshAhead refreshAhead) {
         RedisCacheConfiguration defaultCacheConfiguration = RedisCacheConfiguration.defaultCacheConfig()
                 .entryTtl(Duration.ofMinutes(10)) // 기본 TTL 10분
                 .serializeKeysWith(org.springframework.data.redis.serializer.RedisSerializationContext.SerializationPair
                         .fromSerializer(new StringRedisSerializer()))
                 .serializeValuesWith(org.springframework.data.redis.serializer.RedisSerializationContext.SerializationPair
-                        .fromSerializer(new GenericJackson2JsonRedisSerializer()));
+                        .fromSerializer(serializer));
 
         // 캐시별 개별 설정
         Map<String, RedisCacheConfiguration> cacheConfigurations = new HashMap<>();
 
+        // 년도별 통계/분석 캐시는 지난 년도 키만 past-year-ttl 동안 유지
+        // (데이터 변경 시 ExportStatisticCacheInvalidator 가 영향받는 키를 삭제)
         // 대시보드 요약 데이터는 30분 캐시
-        cacheConfigurations.put("dashboard-summary",
-                defaultCacheConfiguration.entryTtl(Duration.ofMinutes(30)));
+        // (갱신을 켜면 아래 년도별 캐시는 soft TTL 이후 stale-grace 동안 이전 값을 보관하며 백그라운드에서 갱신)
+        cacheConfigurations.put("dashboard-summary", defaultCacheConfiguration.entryTtl(withStaleGrace(
+                "dashboard-summary", new PastYearTtlFunction(Duration.ofMinutes(30), pastYearTtl), refreshAhead)));
 
         // 국가/제품 마스터 데이터는 1시간 캐시
         cacheConfigurations.put("countries",
@@ -87,11 +210,17 @@ public class RedisConfig {
                 defaultCacheConfiguration.entryTtl(Duration.ofDays(1)));
 
         // 수출 통계는 15분 캐시
-        cacheConfigurations.put("export-statistics",
-                defaultCacheConfiguration.entryTtl(Duration.ofMinutes(15)));
+        cacheConfigurations.put("export-statistics", defaultCacheConfiguration.entryTtl(withStaleGrace(
+                "export-statistics", new PastYearTtlFunction(Duration.ofMinutes(15), pastYearTtl), refreshAhead)));
         cacheConfigurations.put("yearly-trend",
                 defaultCacheConfiguration.entryTtl(Duration.ofMinutes(15)));
 
+        // 수출 분석은 10분 캐시, 년도 구간 트렌드는 종료 년도 기준
+        cacheConfigurations.put("export-analytics", defaultCacheConfiguration.entryTtl(withStaleGrace(
+                "export-analytics", new PastYearTtlFunction(Duration.ofMinutes(10), pastYearTtl), refreshAhead)));
+        cacheConfigurations.put("export-trends", defaultCacheConfiguration.entryTtl(withStaleGrace(
+                "export-trends", new PastYearTtlFunction(Duration.ofMinutes(10), pastYearTtl), refreshAhead)));
+
         // 지역/대륙별 필터링 데이터는 1시간 캐시
         cacheConfigurations.put("countries-by-region",
                 defaultCacheConfiguration.entryTtl(Duration.ofHours(1)));
@@ -102,9 +231,18 @@ public class RedisConfig {
         cacheConfigurations.put("product-categories-by-parent",
                 defaultCacheConfiguration.entryTtl(Duration.ofHours(1)));
 
-        return RedisCacheManager.builder(connectionFactory)
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(connectionFactory)
                 .cacheDefaults(defaultCacheConfiguration)
                 .withInitialCacheConfigurations(cacheConfigurations)
                 .build();
+        // 빈으로 등록하지 않으므로 캐시별 설정을 직접 초기화
+        redisCacheManager.afterPropertiesSet();
+        return redisCacheManager;
+    }
+
+    private static RedisCacheWriter.TtlFunction withStaleGrace(String cacheName,
+                                                               RedisCacheWriter.TtlFunction softTtl,
+                                                               CacheRefreshAhead refreshAhead) {
+        return refreshAhead == null ? softTtl : refreshAhead.withStaleGrace(cacheName, softTtl);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,15 @@
+package com.export.dashboard.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 주기 작업(아웃박스 전달/정리, 관세청 동기화) 설정
+ * CSV 백필처럼 한 번 실행하고 종료하는 cli 프로필에서는 비활성
+ */
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = "export.scheduling.enabled", havingValue = "true", matchIfMissing = true)
+public class SchedulingConfig {
+}
@@ -54,6 +54,10 @@ public interface DomainEvent {
             return eventType.cast(
                 new ExportStatisticUpdated(eventId, occurredOn, aggregateId, (ExportStatisticData) eventData)
             );
+        } else if ("ExportStatisticDeleted".equals(typeName)) {
+            return eventType.cast(
+                new ExportStatisticDeleted(eventId, occurredOn, aggregateId, (ExportStatisticData) eventData)
+            );
         } else if ("CountryActivated".equals(typeName)) {
             return eventType.cast(
                 new CountryActivated(eventId, occurredOn, aggregateId, (CountryData) eventData)
@@ -10,8 +10,10 @@ import java.math.BigDecimal;
  * Java 21 Record를 활용한 불변 이벤트 페이로드
  */
 public record ExportStatisticData(
+    Long countryId,
     String countryCode,
     String countryName,
+    Long productCategoryId,
     String hsCode,
     String productName,
     ExportPeriod period,
@@ -0,0 +1,43 @@
+package com.export.dashboard.domain.event;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * 수출 통계 일괄 적재 이벤트
+ * 엔티티를 거치지 않는 대량 적재(관세청 동기화, CSV 적재)로 fromYear-toYear 년도의 데이터가 바뀌었음을 알림
+ */
+public record ExportStatisticsReloaded(
+    UUID eventId,
+    Instant occurredOn,
+    String aggregateId,
+    Integer fromYear,
+    Integer toYear
+) implements DomainEvent {
+
+    public static final String AGGREGATE_ID = "export-statistics";
+
+    public ExportStatisticsReloaded {
+        if (eventId == null) {
+            throw new IllegalArgumentException("이벤트 ID는 필수입니다");
+        }
+        if (occurredOn == null) {
+            throw new IllegalArgumentException("발생 시간은 필수입니다");
+        }
+        if (aggregateId == null || aggregateId.trim().isEmpty()) {
+            throw new IllegalArgumentException("집계 ID는 필수입니다");
+        }
+        if (fromYear == null || toYear == null || fromYear > toYear) {
+            throw new IllegalArgumentException("적재 년도 구간이 올바르지 않습니다");
+        }
+    }
+
+    public static ExportStatisticsReloaded of(int fromYear, int toYear) {
+        return new ExportStatisticsReloaded(UUID.randomUUID(), Instant.now(), AGGREGATE_ID, fromYear, toYear);
+    }
+
+    @Override
+    public String eventType() {
+        return "ExportStatisticsReloaded";
+    }
+}
@@ -136,6 +136,13 @@ public class Country extends AggregateRoot {
         return Boolean.TRUE.equals(active);
     }
 
+    /**
+     * 관세청 전 세계 합계(WLD) 국가 여부 (국가별 집계, 점유율, 국가 목록에서 제외)
+     */
+    public boolean isWorldTotal() {
+        return countryCode.isWorld();
+    }
+
     public boolean belongsToRegion(String targetRegion) {
         return region != null && region.equalsIgnoreCase(targetRegion);
     }
@@ -8,6 +8,12 @@ import com.export.dashboard.domain.exception.InvalidValueObjectException;
  */
 public record CountryCode(String value) {
 
+    /**
+     * 관세청 품목별 수출입실적의 전 세계 합계를 저장하는 국가 코드
+     * 같은 기간/상품의 국가별 실적을 중복 집계하므로 국가별 집계에서 제외
+     */
+    public static final String WORLD = "WLD";
+
     private static final String COUNTRY_CODE_PATTERN = "^[A-Z]{3}$";
 
     public CountryCode {
@@ -34,6 +40,10 @@ public record CountryCode(String value) {
         return new CountryCode(code);
     }
 
+    public boolean isWorld() {
+        return WORLD.equals(value);
+    }
+
     @Override
     public String toString() {
         return value;
@@ -44,6 +44,18 @@ public record ExportPeriod(Integer year, Integer month) {
         return new ExportPeriod(now.getYear(), now.getMonthValue());
     }
 
+    /**
+     * 년월을 year * 100 + month 형태의 정수 키로 변환 (예: 2024-03 -> 202403)
+     * 키의 대소 비교가 기간의 선후 비교와 같음
+     */
+    public static ExportPeriod fromKey(int periodKey) {
+        return new ExportPeriod(periodKey / 100, periodKey % 100);
+    }
+
+    public int toKey() {
+        return year * 100 + month;
+    }
+
     public YearMonth toYearMonth() {
         return YearMonth.of(year, month);
     }
@@ -2,6 +2,7 @@ package com.export.dashboard.domain.model;
 
 import com.export.dashboard.domain.exception.InvalidValueObjectException;
 import com.export.dashboard.domain.event.ExportStatisticCreated;
+import com.export.dashboard.domain.event.ExportStatisticDeleted;
 import com.export.dashboard.domain.event.ExportStatisticUpdated;
 import com.export.dashboard.domain.event.ExportStatisticData;
 import com.export.dashboard.domain.event.ExportThresholdExceeded;
@@ -19,11 +20,19 @@ import java.util.UUID;
  * 특정 국가와 상품의 수출 데이터를 관리하고 비즈니스 로직을 캡슐화
  */
 @Entity
-@Table(name = "export_statistics")
+@Table(
+    name = "export_statistics",
+    uniqueConstraints = @UniqueConstraint(
+        name = "uk_export_stats",
+        columnNames = {"country_id", "product_category_id", "year", "month"}
+    )
+)
 public class ExportStatistic extends AggregateRoot {
 
+    // 풀링 시퀀스: 한 번의 nextval 로 50개 id 를 할당받아 JDBC 배치 insert 가 가능하도록 함
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "export_statistics_seq")
+    @SequenceGenerator(name = "export_statistics_seq", sequenceName = "export_statistics_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -149,6 +158,18 @@ public class ExportStatistic extends AggregateRoot {
         this.marketShare = Percentage.calculate(exportValue.amount(), totalMarketValue.amount());
     }
 
+    /**
+     * 삭제 표시 (삭제 이벤트 등록, 실제 삭제는 Repository 에서 수행)
+     */
+    public void markDeleted() {
+        registerEvent(new ExportStatisticDeleted(
+            UUID.randomUUID(),
+            Instant.now(),
+            getAggregateId(),
+            createEventData(null)
+        ));
+    }
+
     public Money calculateValuePerKg() {
         if (exportWeightKg == null || exportWeightKg.compareTo(BigDecimal.ZERO) == 0) {
             throw new InvalidValueObjectException("중량 정보가 없어 단위 가격을 계산할 수 없습니다.");
@@ -326,8 +347,10 @@ public class ExportStatistic extends AggregateRoot {
 
     private ExportStatisticData createEventData(BigDecimal previousValue) {
         return new ExportStatisticData(
+            country.getId(),
             country.getCountryCode().value(),
             country.getNameKo(),
+            productCategory.getId(),
             productCategory.getHsCode().value(),
             productCategory.getNameKo(),
             period,
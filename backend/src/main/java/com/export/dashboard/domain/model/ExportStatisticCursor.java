@@ -0,0 +1,62 @@
+package com.export.dashboard.domain.model;
+
+import com.export.dashboard.domain.exception.InvalidValueObjectException;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 수출 통계 키셋 페이징 커서를 나타내는 Value Object
+ * (년, 월, 수출액, ID) 순서에서 마지막으로 읽은 행의 위치
+ */
+public record ExportStatisticCursor(int year, int month, BigDecimal exportValueUsd, long id) {
+
+    private static final String SEPARATOR = ":";
+
+    public ExportStatisticCursor {
+        if (month < 1 || month > 12) {
+            throw new InvalidValueObjectException("커서의 월은 1-12 사이여야 합니다. 입력값: " + month);
+        }
+        if (exportValueUsd == null) {
+            throw new InvalidValueObjectException("커서의 수출액은 필수입니다.");
+        }
+    }
+
+    public static ExportStatisticCursor of(int year, int month, BigDecimal exportValueUsd, long id) {
+        return new ExportStatisticCursor(year, month, exportValueUsd, id);
+    }
+
+    /**
+     * 클라이언트에 전달하는 불투명 토큰으로부터 커서 복원
+     */
+    public static ExportStatisticCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            throw new InvalidValueObjectException("커서 토큰은 필수입니다.");
+        }
+
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = decoded.split(SEPARATOR, -1);
+            if (parts.length != 4) {
+                throw new InvalidValueObjectException("올바르지 않은 커서 토큰입니다. 입력값: " + token);
+            }
+            return new ExportStatisticCursor(
+                Integer.parseInt(parts[0]),
+                Integer.parseInt(parts[1]),
+                new BigDecimal(parts[2]),
+                Long.parseLong(parts[3])
+            );
+        } catch (IllegalArgumentException e) {
+            throw new InvalidValueObjectException("올바르지 않은 커서 토큰입니다. 입력값: " + token, e);
+        }
+    }
+
+    /**
+     * 불투명 토큰으로 인코딩 (URL 에 그대로 사용할 수 있는 Base64)
+     */
+    public String encode() {
+        String raw = year + SEPARATOR + month + SEPARATOR + exportValueUsd.toPlainString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -53,14 +53,31 @@ public record RegionalExportComparison(
         // 국가별 성과 계산
         var countryPerformances = statisticsByCountry.entrySet().stream()
             .map(entry -> calculateCountryPerformance(entry.getKey(), entry.getValue()))
+            .toList();
+
+        var totalProductCount = statistics.stream()
+            .map(ExportStatistic::getProductCategory)
+            .distinct()
+            .count();
+
+        return of(region, period, countryPerformances, (int) totalProductCount);
+    }
+
+    /**
+     * 미리 집계된 국가별 성과로부터 비교 분석 생성
+     */
+    public static RegionalExportComparison of(String region, ExportPeriod period,
+                                              List<CountryPerformance> countryPerformances,
+                                              int totalProductCount) {
+        var sortedPerformances = countryPerformances.stream()
             .sorted((p1, p2) -> p2.totalExportValue().amount()
                 .compareTo(p1.totalExportValue().amount()))
             .toList();
 
         // 지역 요약 계산
-        var summary = calculateRegionalSummary(countryPerformances, statistics);
+        var summary = calculateRegionalSummary(sortedPerformances, totalProductCount);
 
-        return new RegionalExportComparison(region, period, countryPerformances, summary);
+        return new RegionalExportComparison(region, period, sortedPerformances, summary);
     }
 
     /**
@@ -114,26 +131,20 @@ public record RegionalExportComparison(
             .distinct()
             .count();
 
-        var averageGrowthRate = statistics.stream()
+        var growthRateSum = statistics.stream()
             .map(ExportStatistic::getGrowthRateYoy)
             .filter(rate -> rate != null && !rate.isZero())
             .map(Percentage::value)
-            .reduce(BigDecimal.ZERO, BigDecimal::add)
-            .divide(BigDecimal.valueOf(statistics.size()), 2, RoundingMode.HALF_UP);
+            .reduce(BigDecimal.ZERO, BigDecimal::add);
 
-        return new CountryPerformance(
-            country,
-            totalValue,
-            (int) productCount,
-            Percentage.of(averageGrowthRate)
-        );
+        return CountryPerformance.fromTotals(country, totalValue, productCount, growthRateSum, statistics.size());
     }
 
     /**
      * 지역 요약 계산
      */
     private static RegionalSummary calculateRegionalSummary(List<CountryPerformance> performances,
-                                                          List<ExportStatistic> allStatistics) {
+                                                          int totalProductCount) {
         if (performances.isEmpty()) {
             return RegionalSummary.empty();
         }
@@ -144,11 +155,6 @@ public record RegionalExportComparison(
 
         var countryCount = performances.size();
 
-        var totalProductCount = allStatistics.stream()
-            .map(ExportStatistic::getProductCategory)
-            .distinct()
-            .count();
-
         var averageGrowthRate = performances.stream()
             .map(CountryPerformance::averageGrowthRate)
             .map(Percentage::value)
@@ -158,7 +164,7 @@ public record RegionalExportComparison(
         return new RegionalSummary(
             totalValue,
             countryCount,
-            (int) totalProductCount,
+            totalProductCount,
             Percentage.of(averageGrowthRate)
         );
     }
@@ -187,6 +193,24 @@ public record RegionalExportComparison(
             }
         }
 
+        /**
+         * 국가별 합계로부터 성과 생성
+         * 평균 성장률은 0 이 아닌 성장률 합계를 전체 행 수로 나눈 값
+         */
+        public static CountryPerformance fromTotals(Country country, Money totalExportValue, long productCount,
+                                                    BigDecimal growthRateSum, long recordCount) {
+            var averageGrowthRate = recordCount == 0
+                ? BigDecimal.ZERO
+                : growthRateSum.divide(BigDecimal.valueOf(recordCount), 2, RoundingMode.HALF_UP);
+
+            return new CountryPerformance(
+                country,
+                totalExportValue,
+                (int) productCount,
+                Percentage.of(averageGrowthRate)
+            );
+        }
+
         public boolean isTopPerformer(Money regionTotal) {
             if (regionTotal.isZero()) {
                 return false;
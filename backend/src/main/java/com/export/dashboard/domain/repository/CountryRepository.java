@@ -27,7 +27,7 @@ public interface CountryRepository {
     Optional<Country> findByCountryCode(CountryCode countryCode);
 
     /**
-     * 활성화된 모든 국가 조회
+     * 활성화된 모든 국가 조회 (관세청 전 세계 합계 WLD 국가 제외, 지역/대륙별 조회도 동일)
      */
     List<Country> findAllActive();
 
@@ -0,0 +1,43 @@
+package com.export.dashboard.domain.repository;
+
+import com.export.dashboard.domain.model.ExportStatistic;
+import com.export.dashboard.domain.model.Money;
+
+import java.util.Collection;
+
+/**
+ * 수출 통계 집계(rollup) 테이블의 도메인 리포지토리 인터페이스
+ * 년/월, 년/국가, 년/상품, 국가/월, HS 계층 접두사/월 합계를 수출 통계 변경과 같은 트랜잭션에서 증분 갱신
+ */
+public interface ExportRollupRepository {
+
+    /**
+     * 신규 수출 통계를 집계에 반영
+     */
+    void add(ExportStatistic exportStatistic);
+
+    /**
+     * 신규 수출 통계 일괄 반영 (키별로 합산한 뒤 배치로 갱신)
+     */
+    void addAll(Collection<ExportStatistic> exportStatistics);
+
+    /**
+     * 수출 금액 변경분을 집계에 반영
+     */
+    void replace(ExportStatistic exportStatistic, Money previousValue);
+
+    /**
+     * 삭제된 수출 통계를 집계에서 제외
+     */
+    void remove(ExportStatistic exportStatistic);
+
+    /**
+     * export_statistics 전체로부터 집계 재구성
+     */
+    void rebuildAll();
+
+    /**
+     * 지정 년도 구간(양 끝 포함)의 집계만 export_statistics 로부터 재구성
+     */
+    void rebuildYears(int fromYear, int toYear);
+}
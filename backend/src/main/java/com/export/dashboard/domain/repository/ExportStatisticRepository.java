@@ -5,8 +5,12 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 
 /**
  * ExportStatistic Aggregate의 도메인 리포지토리 인터페이스
@@ -18,6 +22,11 @@ public interface ExportStatisticRepository {
      */
     ExportStatistic save(ExportStatistic exportStatistic);
 
+    /**
+     * 수출 통계 일괄 저장 (JDBC 배치 insert)
+     */
+    List<ExportStatistic> saveAll(List<ExportStatistic> exportStatistics);
+
     /**
      * ID로 수출 통계 조회
      */
@@ -48,11 +57,33 @@ public interface ExportStatisticRepository {
      */
     List<ExportStatistic> findByCountryAndProductInPeriods(Country country, ProductCategory productCategory, List<ExportPeriod> periods);
 
+    /**
+     * 여러 국가/상품 조합의 여러 기간 수출 통계 일괄 조회
+     * 요청한 조합별로 기간 오름차순 목록을 반환 (데이터가 없는 조합은 빈 목록)
+     */
+    Map<SeriesKey, List<ExportStatistic>> findSeriesInPeriods(Collection<SeriesKey> seriesKeys, List<ExportPeriod> periods);
+
+    /**
+     * 국가/상품/년도 범위 내 이미 존재하는 수출 통계 키 조회 (중복 검사용, 엔티티를 읽지 않음)
+     */
+    Set<StatisticKey> findExistingKeys(Collection<Long> countryIds, Collection<Long> productCategoryIds,
+                                       Integer fromYear, Integer toYear);
+
     /**
      * 특정 지역과 기간의 수출 통계 조회
      */
     List<ExportStatistic> findByRegionAndPeriod(String region, ExportPeriod period);
 
+    /**
+     * 특정 지역과 기간의 국가별 수출 집계 (수출 통계 엔티티를 읽지 않고 국가만 로딩)
+     */
+    List<CountryPeriodAggregate> aggregateByRegionAndPeriod(String region, ExportPeriod period);
+
+    /**
+     * 특정 지역과 기간의 수출 상품 수
+     */
+    long countDistinctProductsByRegionAndPeriod(String region, ExportPeriod period);
+
     /**
      * 년도별 수출 통계 조회
      */
@@ -103,16 +134,61 @@ public interface ExportStatisticRepository {
      */
     List<ProductExportSummary> getTopExportProductsByYear(Integer year, int limit);
 
+    /**
+     * 년도별 국가 수출액 전체 분포 순회 (수출액 내림차순)
+     * 전체 목록을 메모리에 올리지 않고 한 건씩 전달
+     */
+    void forEachCountryExportValueByYear(Integer year, Consumer<Money> action);
+
+    /**
+     * 년도별 상품 수출액 전체 분포 순회 (수출액 내림차순)
+     * 전체 목록을 메모리에 올리지 않고 한 건씩 전달
+     */
+    void forEachProductExportValueByYear(Integer year, Consumer<Money> action);
+
     /**
      * 월별 수출 트렌드 조회
      */
     List<MonthlyExportTrend> getMonthlyExportTrend(Integer year);
 
     /**
-     * 년도별 수출 트렌드 조회
+     * 기간별 월별 수출 트렌드 조회 (년/월 오름차순)
+     */
+    List<MonthlyExportTrend> getMonthlyExportTrend(Integer startYear, Integer endYear);
+
+    /**
+     * 년도별 수출 트렌드 조회 (전년 대비 성장률 포함)
      */
     List<YearlyExportTrend> getYearlyExportTrend(Integer startYear, Integer endYear);
 
+    /**
+     * 활성 국가별 기간 내 수출 합계 조회 (국가/월 집계 테이블, 실적이 없는 국가는 0)
+     */
+    List<CountryExportTotal> getCountryExportTotals(ExportPeriod startPeriod, ExportPeriod endPeriod);
+
+    /**
+     * HS 노드 하위 전체(자신 포함)의 기간 내 수출 합계 조회
+     * @return 기간 내 수출 실적이 없으면 empty
+     */
+    Optional<HsNodeExportTotal> getHsNodeExportTotal(String hsCode, ExportPeriod startPeriod, ExportPeriod endPeriod);
+
+    /**
+     * HS 노드 바로 아래 레벨 노드별 기간 내 수출 합계 조회 (수출액 내림차순)
+     * hsCode 가 null 이면 챕터별 합계
+     */
+    List<HsNodeExportTotal> getHsChildExportTotals(String hsCode, ExportPeriod startPeriod, ExportPeriod endPeriod);
+
+    /**
+     * 대시보드 집계 일괄 조회 (총액, 전년 총액, 고유 국가/상품 수, 상위 국가/상품, 월별 트렌드)
+     */
+    DashboardAggregate getDashboardAggregate(Integer year, int topLimit);
+
+    /**
+     * 기간 내 전체 수출 통계의 전년 동월 대비 성장률과 년도 내 시장 점유율 일괄 재계산
+     * @return 값이 변경된 행 수
+     */
+    int recalculateGrowthRatesAndMarketShares(Integer fromYear, Integer toYear);
+
     /**
      * 사용 가능한 모든 년도 조회
      */
@@ -123,6 +199,23 @@ public interface ExportStatisticRepository {
      */
     void delete(ExportStatistic exportStatistic);
 
+    /**
+     * 국가/상품 시계열 식별자
+     */
+    record SeriesKey(
+        Long countryId,
+        Long productCategoryId
+    ) {}
+
+    /**
+     * 수출 통계 자연키 (국가, 상품, 기간)
+     */
+    record StatisticKey(
+        Long countryId,
+        Long productCategoryId,
+        ExportPeriod period
+    ) {}
+
     /**
      * 국가별 수출 요약 정보
      */
@@ -151,6 +244,56 @@ public interface ExportStatisticRepository {
         Money totalValue
     ) {}
 
+    /**
+     * 지역 내 국가별 기간 수출 집계
+     * growthRateSum 은 0 이 아닌 전년 대비 성장률의 합계
+     */
+    record CountryPeriodAggregate(
+        Country country,
+        Money totalValue,
+        long productCount,
+        BigDecimal growthRateSum,
+        long recordCount
+    ) {}
+
+    /**
+     * 국가별 기간 수출 합계 (지역/대륙 정보 포함)
+     */
+    record CountryExportTotal(
+        CountryCode countryCode,
+        String countryNameKo,
+        String countryNameEn,
+        String region,
+        String continent,
+        Money totalValue,
+        Long recordCount
+    ) {}
+
+    /**
+     * HS 계층 노드별 수출 합계
+     * 상품 카테고리로 등록되지 않은 중간 레벨 노드는 이름이 null
+     */
+    record HsNodeExportTotal(
+        HsCode hsCode,
+        String nameKo,
+        String nameEn,
+        Money totalValue,
+        Long recordCount
+    ) {}
+
+    /**
+     * 대시보드 집계 결과
+     */
+    record DashboardAggregate(
+        Money totalExportValue,
+        Money previousYearExportValue,
+        Long countryCount,
+        Long productCount,
+        List<CountryExportSummary> topCountries,
+        List<ProductExportSummary> topProducts,
+        List<MonthlyExportTrend> monthlyTrends
+    ) {}
+
     /**
      * 년도별 수출 트렌드
      */
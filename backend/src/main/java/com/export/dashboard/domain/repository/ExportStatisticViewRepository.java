@@ -0,0 +1,115 @@
+package com.export.dashboard.domain.repository;
+
+import com.export.dashboard.domain.model.ExportPeriod;
+import com.export.dashboard.domain.model.ExportStatisticCursor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 수출 통계 목록 조회용 읽기 모델 리포지토리 인터페이스
+ * 국가/상품 참조 정보를 조인한 한 번의 조회로 영속성 컨텍스트에 올라가지 않는 뷰를 반환
+ */
+public interface ExportStatisticViewRepository {
+
+    /**
+     * 년도별 수출 통계 조회 (월 오름차순, 수출액 내림차순)
+     */
+    List<ExportStatisticView> findByYear(Integer year);
+
+    /**
+     * 국가와 년도별 수출 통계 조회 (월 오름차순, 수출액 내림차순)
+     */
+    List<ExportStatisticView> findByCountryAndYear(Long countryId, Integer year);
+
+    /**
+     * 상품과 년도별 수출 통계 조회 (월 오름차순, 수출액 내림차순)
+     */
+    List<ExportStatisticView> findByProductCategoryAndYear(Long productCategoryId, Integer year);
+
+    /**
+     * 페이징된 수출 통계 조회 (정렬 미지정 시 ID 순)
+     */
+    Page<ExportStatisticView> findAll(Pageable pageable);
+
+    /**
+     * 키셋 페이징 조회 ((년, 월, 수출액, ID) 오름차순, 커서가 null 이면 처음부터)
+     * 전체 건수를 세지 않고 다음 행 존재 여부만 확인
+     */
+    Slice<ExportStatisticView> findAfter(ExportStatisticCursor cursor, int limit);
+
+    /**
+     * 통계 정보 기반의 대략적인 전체 건수
+     */
+    long estimateCount();
+
+    /**
+     * 조건에 맞는 수출 통계를 (년, 월, 수출액, ID) 순서로 한 행씩 전달
+     * 결과 전체를 메모리에 올리지 않으며, 커서 방식으로 읽으려면 트랜잭션 안에서 호출해야 함
+     */
+    void forEach(ExportStatisticFilter filter, Consumer<ExportStatisticView> action);
+
+    /**
+     * 수출 통계 내보내기 조건 (null 인 항목은 조건에서 제외)
+     */
+    record ExportStatisticFilter(
+        Long countryId,
+        Long productCategoryId,
+        ExportPeriod startPeriod,
+        ExportPeriod endPeriod
+    ) {
+        public ExportStatisticFilter {
+            if (startPeriod != null && endPeriod != null && startPeriod.isAfter(endPeriod)) {
+                throw new IllegalArgumentException("시작 기간은 종료 기간보다 늦을 수 없습니다.");
+            }
+        }
+    }
+
+    /**
+     * 수출 통계 목록 행
+     */
+    record ExportStatisticView(
+        Long id,
+        CountryView country,
+        ProductCategoryView productCategory,
+        Integer year,
+        Integer month,
+        BigDecimal exportValueUsd,
+        String currency,
+        BigDecimal exportWeightKg,
+        BigDecimal exportQuantity,
+        String quantityUnit,
+        BigDecimal growthRateYoy,
+        BigDecimal marketShare
+    ) {}
+
+    /**
+     * 국가 참조 정보
+     */
+    record CountryView(
+        Long id,
+        String countryCode,
+        String nameKo,
+        String nameEn,
+        String region,
+        String continent,
+        boolean active
+    ) {}
+
+    /**
+     * 상품 카테고리 참조 정보 (목록 조회에서는 LOB 인 상품 설명을 읽지 않음)
+     */
+    record ProductCategoryView(
+        Long id,
+        String hsCode,
+        Integer hsLevel,
+        String nameKo,
+        String nameEn,
+        String parentHsCode,
+        boolean active
+    ) {}
+}
@@ -5,7 +5,10 @@ import com.export.dashboard.domain.repository.ExportStatisticRepository;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.stream.IntStream;
 
@@ -102,11 +105,7 @@ public class ExportAnalysisService {
         validatePositive(monthsBack, "분석 기간은 양수여야 합니다");
         validateActiveEntities(country, product);
 
-        var currentDate = LocalDate.now();
-        var periods = IntStream.range(0, monthsBack)
-            .mapToObj(i -> currentDate.minusMonths(i))
-            .map(date -> ExportPeriod.of(date.getYear(), date.getMonthValue()))
-            .toList();
+        var periods = recentPeriods(monthsBack);
 
         var statistics = exportStatisticRepository.findByCountryAndProductInPeriods(
             country, product, periods);
@@ -114,6 +113,23 @@ public class ExportAnalysisService {
         return ExportTrend.analyze(statistics, periods);
     }
 
+    /**
+     * 여러 국가/상품 조합의 수출 트렌드 일괄 분석
+     * 조합 수와 관계없이 한 번의 조회로 모든 시계열을 가져옴
+     */
+    public Map<ExportStatisticRepository.SeriesKey, ExportTrend> analyzeExportTrends(
+            Collection<ExportStatisticRepository.SeriesKey> seriesKeys, int monthsBack) {
+        validateNotNull(seriesKeys, "분석 대상은 필수입니다");
+        validatePositive(monthsBack, "분석 기간은 양수여야 합니다");
+
+        var periods = recentPeriods(monthsBack);
+        var series = exportStatisticRepository.findSeriesInPeriods(seriesKeys, periods);
+
+        Map<ExportStatisticRepository.SeriesKey, ExportTrend> trends = new LinkedHashMap<>();
+        series.forEach((key, statistics) -> trends.put(key, ExportTrend.analyze(statistics, periods)));
+        return trends;
+    }
+
     /**
      * 지역별 수출 성과 비교
      * Sealed Class와 Pattern Matching을 활용한 지역 분석
@@ -122,12 +138,35 @@ public class ExportAnalysisService {
         validateNotNull(region, "지역은 필수입니다");
         validateNotNull(period, "기간은 필수입니다");
 
-        var regionalStatistics = exportStatisticRepository.findByRegionAndPeriod(region, period);
+        // 국가별 합계만 집계하여 조회 (지역 내 수출 통계 엔티티를 모두 읽지 않음)
+        var countryPerformances = exportStatisticRepository.aggregateByRegionAndPeriod(region, period).stream()
+            .map(aggregate -> RegionalExportComparison.CountryPerformance.fromTotals(
+                aggregate.country(),
+                aggregate.totalValue(),
+                aggregate.productCount(),
+                aggregate.growthRateSum(),
+                aggregate.recordCount()
+            ))
+            .toList();
+
+        if (countryPerformances.isEmpty()) {
+            return RegionalExportComparison.create(region, period, List.of());
+        }
 
-        return RegionalExportComparison.create(region, period, regionalStatistics);
+        var totalProductCount = exportStatisticRepository.countDistinctProductsByRegionAndPeriod(region, period);
+
+        return RegionalExportComparison.of(region, period, countryPerformances, (int) totalProductCount);
     }
 
     // Private helper methods
+    private List<ExportPeriod> recentPeriods(int monthsBack) {
+        var currentDate = LocalDate.now();
+        return IntStream.range(0, monthsBack)
+            .mapToObj(i -> currentDate.minusMonths(i))
+            .map(date -> ExportPeriod.of(date.getYear(), date.getMonthValue()))
+            .toList();
+    }
+
     private Percentage calculateGrowthRateInternal(Money current, Money previous) {
         if (previous.isZero()) {
             return current.isZero() ? Percentage.zero() : Percentage.of(new BigDecimal("100"));
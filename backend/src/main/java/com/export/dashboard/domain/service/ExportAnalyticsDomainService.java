@@ -2,6 +2,8 @@ package com.export.dashboard.domain.service;
 
 import com.export.dashboard.domain.model.*;
 import com.export.dashboard.domain.repository.ExportStatisticRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
@@ -17,16 +19,33 @@ import java.util.stream.Collectors;
 @Service
 public class ExportAnalyticsDomainService {
 
+    private static final int DASHBOARD_TOP_LIMIT = 10;
+
     private final ExportStatisticRepository exportStatisticRepository;
+    private final boolean singleStatementDashboard;
 
     public ExportAnalyticsDomainService(ExportStatisticRepository exportStatisticRepository) {
+        this(exportStatisticRepository, false);
+    }
+
+    @Autowired
+    public ExportAnalyticsDomainService(
+            ExportStatisticRepository exportStatisticRepository,
+            @Value("${export.analytics.dashboard.single-statement:false}") boolean singleStatementDashboard) {
         this.exportStatisticRepository = exportStatisticRepository;
+        this.singleStatementDashboard = singleStatementDashboard;
     }
 
     /**
      * 종합 대시보드 요약 정보 생성
+     * single-statement 모드에서는 모든 집계를 한 번의 조회로 가져옴
      */
     public DashboardSummary generateDashboardSummary(Integer year) {
+        if (singleStatementDashboard) {
+            return toDashboardSummary(year,
+                exportStatisticRepository.getDashboardAggregate(year, DASHBOARD_TOP_LIMIT));
+        }
+
         // 총 수출액
         Money totalExportValue = exportStatisticRepository.getTotalExportValueByYear(year);
 
@@ -44,11 +63,11 @@ public class ExportAnalyticsDomainService {
 
         // 상위 수출 국가
         List<ExportStatisticRepository.CountryExportSummary> topCountries =
-            exportStatisticRepository.getTopExportCountriesByYear(year, 10);
+            exportStatisticRepository.getTopExportCountriesByYear(year, DASHBOARD_TOP_LIMIT);
 
         // 상위 수출 상품
         List<ExportStatisticRepository.ProductExportSummary> topProducts =
-            exportStatisticRepository.getTopExportProductsByYear(year, 10);
+            exportStatisticRepository.getTopExportProductsByYear(year, DASHBOARD_TOP_LIMIT);
 
         // 월별 트렌드
         List<ExportStatisticRepository.MonthlyExportTrend> monthlyTrends =
@@ -66,6 +85,26 @@ public class ExportAnalyticsDomainService {
         );
     }
 
+    private DashboardSummary toDashboardSummary(Integer year, ExportStatisticRepository.DashboardAggregate aggregate) {
+        Money totalExportValue = aggregate.totalExportValue();
+        Money previousYearValue = aggregate.previousYearExportValue();
+        Percentage yearOverYearGrowth = Percentage.calculate(
+            totalExportValue.amount().subtract(previousYearValue.amount()),
+            previousYearValue.amount()
+        );
+
+        return new DashboardSummary(
+            year,
+            totalExportValue,
+            yearOverYearGrowth,
+            aggregate.countryCount().intValue(),
+            aggregate.productCount().intValue(),
+            aggregate.topCountries(),
+            aggregate.topProducts(),
+            aggregate.monthlyTrends()
+        );
+    }
+
     /**
      * 수출 다양성 지수 계산 (Herfindahl-Hirschman Index 변형)
      */
@@ -76,52 +115,49 @@ public class ExportAnalyticsDomainService {
             return BigDecimal.ZERO;
         }
 
-        List<ExportStatisticRepository.ProductExportSummary> productSummaries =
-            exportStatisticRepository.getTopExportProductsByYear(year, Integer.MAX_VALUE);
-
-        BigDecimal hhi = productSummaries.stream()
-            .map(summary -> {
-                BigDecimal share = summary.totalValue().amount()
-                    .divide(totalValue.amount(), 4, RoundingMode.HALF_UP);
-                return share.multiply(share);
-            })
-            .reduce(BigDecimal.ZERO, BigDecimal::add);
+        // 상품별 점유율 제곱합을 스트리밍으로 누적 (전체 상품 목록을 보관하지 않음)
+        BigDecimal[] hhi = {BigDecimal.ZERO};
+        exportStatisticRepository.forEachProductExportValueByYear(year, productValue -> {
+            BigDecimal share = productValue.amount()
+                .divide(totalValue.amount(), 4, RoundingMode.HALF_UP);
+            hhi[0] = hhi[0].add(share.multiply(share));
+        });
 
         // 정규화된 다양성 지수 (1 - HHI)
-        return BigDecimal.ONE.subtract(hhi);
+        return BigDecimal.ONE.subtract(hhi[0]);
     }
 
     /**
      * 지역별 수출 집중도 분석
      */
     public RegionalConcentration analyzeRegionalConcentration(Integer year) {
-        List<ExportStatisticRepository.CountryExportSummary> countrySummaries =
-            exportStatisticRepository.getTopExportCountriesByYear(year, Integer.MAX_VALUE);
-
         Money totalValue = exportStatisticRepository.getTotalExportValueByYear(year);
 
-        // 상위 5개국 집중도
-        Money top5Value = countrySummaries.stream()
-            .limit(5)
-            .map(ExportStatisticRepository.CountryExportSummary::totalValue)
-            .reduce(Money.zero(totalValue.currency()), Money::add);
+        // 수출액 내림차순 스트림에서 상위 5/10개국 합계와 국가 수만 누적
+        BigDecimal[] topValues = {BigDecimal.ZERO, BigDecimal.ZERO};
+        int[] countryCount = {0};
+        exportStatisticRepository.forEachCountryExportValueByYear(year, countryValue -> {
+            if (countryCount[0] < 5) {
+                topValues[0] = topValues[0].add(countryValue.amount());
+            }
+            if (countryCount[0] < 10) {
+                topValues[1] = topValues[1].add(countryValue.amount());
+            }
+            countryCount[0]++;
+        });
 
-        Percentage top5Concentration = Percentage.calculate(top5Value.amount(), totalValue.amount());
+        // 상위 5개국 집중도
+        Percentage top5Concentration = Percentage.calculate(topValues[0], totalValue.amount());
 
         // 상위 10개국 집중도
-        Money top10Value = countrySummaries.stream()
-            .limit(10)
-            .map(ExportStatisticRepository.CountryExportSummary::totalValue)
-            .reduce(Money.zero(totalValue.currency()), Money::add);
-
-        Percentage top10Concentration = Percentage.calculate(top10Value.amount(), totalValue.amount());
+        Percentage top10Concentration = Percentage.calculate(topValues[1], totalValue.amount());
 
         return new RegionalConcentration(
             year,
             totalValue,
             top5Concentration,
             top10Concentration,
-            countrySummaries.size()
+            countryCount[0]
         );
     }
 
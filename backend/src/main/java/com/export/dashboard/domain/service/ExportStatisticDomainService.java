@@ -6,6 +6,7 @@ import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.time.Duration;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,6 +17,10 @@ import java.util.Optional;
 @Service
 public class ExportStatisticDomainService {
 
+    // ExportPeriod 가 허용하는 년도 범위
+    private static final int MIN_YEAR = 1900;
+    private static final int MAX_YEAR = 2100;
+
     private final ExportStatisticRepository exportStatisticRepository;
 
     public ExportStatisticDomainService(ExportStatisticRepository exportStatisticRepository) {
@@ -166,6 +171,36 @@ public class ExportStatisticDomainService {
         statistics.forEach(this::calculateAndUpdateMarketShare);
     }
 
+    /**
+     * 성장률/시장점유율 일괄 재계산
+     * year 가 null 이면 전체 년도를 대상으로 함
+     */
+    public MetricsRecalculation recalculateGrowthRatesAndMarketShares(Integer year) {
+        return year != null
+            ? recalculateGrowthRatesAndMarketShares(year, year)
+            : recalculateGrowthRatesAndMarketShares(MIN_YEAR, MAX_YEAR);
+    }
+
+    /**
+     * 년도 범위의 성장률/시장점유율 일괄 재계산
+     */
+    public MetricsRecalculation recalculateGrowthRatesAndMarketShares(Integer fromYear, Integer toYear) {
+        long startedAt = System.nanoTime();
+        int updatedRows = exportStatisticRepository.recalculateGrowthRatesAndMarketShares(fromYear, toYear);
+
+        return new MetricsRecalculation(fromYear, toYear, updatedRows, Duration.ofNanos(System.nanoTime() - startedAt));
+    }
+
+    /**
+     * 성장률/시장점유율 일괄 재계산 결과
+     */
+    public record MetricsRecalculation(
+        Integer fromYear,
+        Integer toYear,
+        Integer updatedRows,
+        Duration elapsed
+    ) {}
+
     /**
      * 국가별 수출 성과 분석 결과
      */
@@ -0,0 +1,339 @@
+package com.export.dashboard.infrastructure.analytics;
+
+import com.export.dashboard.domain.model.*;
+import com.export.dashboard.domain.repository.ExportStatisticRepository.CountryExportSummary;
+import com.export.dashboard.domain.repository.ExportStatisticRepository.MonthlyExportTrend;
+import com.export.dashboard.domain.repository.ExportStatisticRepository.ProductExportSummary;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * 수출 통계 인메모리 컬럼형 큐브
+ * 국가/상품을 사전(dictionary) 인코딩하고 금액을 원시 배열로 보관하여
+ * 대시보드 집계를 DB 조회 없이 계산하는 불변 스냅샷
+ */
+public final class ExportCube {
+
+    private static final int AMOUNT_SCALE = 2;
+
+    // 국가 사전
+    private final String[] countryCodes;
+    private final String[] countryNames;
+
+    // 상품 사전
+    private final String[] hsCodes;
+    private final int[] hsLevels;
+    private final String[] productNames;
+
+    // 년도 인덱스: years[i] 의 행은 [yearOffsets[i], yearOffsets[i + 1]) 구간
+    private final int[] years;
+    private final int[] yearOffsets;
+
+    // 팩트 컬럼 (년도순 정렬)
+    private final int[] countryIds;
+    private final int[] productIds;
+    private final byte[] months;
+    private final long[] amountCents;
+
+    private final Instant builtAt;
+
+    private ExportCube(Builder builder, int[] years, int[] yearOffsets, int[] countryIds,
+                       int[] productIds, byte[] months, long[] amountCents) {
+        this.countryCodes = builder.countryCodes.toArray(String[]::new);
+        this.countryNames = builder.countryNames.toArray(String[]::new);
+        this.hsCodes = builder.hsCodes.toArray(String[]::new);
+        this.hsLevels = builder.hsLevels.stream().mapToInt(Integer::intValue).toArray();
+        this.productNames = builder.productNames.toArray(String[]::new);
+        this.years = years;
+        this.yearOffsets = yearOffsets;
+        this.countryIds = countryIds;
+        this.productIds = productIds;
+        this.months = months;
+        this.amountCents = amountCents;
+        this.builtAt = Instant.now();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * 년도별 총 수출액
+     */
+    public Money totalExportValue(int year) {
+        return toMoney(totalCents(year));
+    }
+
+    /**
+     * 년도별 수출 국가 수
+     */
+    public long countDistinctCountries(int year) {
+        return countDistinct(year, countryIds, countryCodes.length);
+    }
+
+    /**
+     * 년도별 수출 상품 수
+     */
+    public long countDistinctProducts(int year) {
+        return countDistinct(year, productIds, hsCodes.length);
+    }
+
+    /**
+     * 상위 수출 국가 (수출액 내림차순)
+     */
+    public List<CountryExportSummary> topCountries(int year, int limit) {
+        long[] totals = sumBy(year, countryIds, countryCodes.length);
+        BigDecimal yearTotal = toAmount(totalCents(year));
+
+        return rank(totals, presentIn(year, countryIds, countryCodes.length), limit).stream()
+            .map(id -> new CountryExportSummary(
+                CountryCode.from(countryCodes[id]),
+                countryNames[id],
+                toMoney(totals[id]),
+                Percentage.calculate(toAmount(totals[id]), yearTotal)
+            ))
+            .toList();
+    }
+
+    /**
+     * 상위 수출 상품 (수출액 내림차순)
+     */
+    public List<ProductExportSummary> topProducts(int year, int limit) {
+        long[] totals = sumBy(year, productIds, hsCodes.length);
+        BigDecimal yearTotal = toAmount(totalCents(year));
+
+        return rank(totals, presentIn(year, productIds, hsCodes.length), limit).stream()
+            .map(id -> new ProductExportSummary(
+                HsCode.from(hsCodes[id], hsLevels[id]),
+                productNames[id],
+                toMoney(totals[id]),
+                Percentage.calculate(toAmount(totals[id]), yearTotal)
+            ))
+            .toList();
+    }
+
+    /**
+     * 국가별 수출액 전체 분포 순회 (수출액 내림차순)
+     */
+    public void forEachCountryTotal(int year, Consumer<Money> action) {
+        long[] totals = sumBy(year, countryIds, countryCodes.length);
+        rank(totals, presentIn(year, countryIds, countryCodes.length), Integer.MAX_VALUE)
+            .forEach(id -> action.accept(toMoney(totals[id])));
+    }
+
+    /**
+     * 상품별 수출액 전체 분포 순회 (수출액 내림차순)
+     */
+    public void forEachProductTotal(int year, Consumer<Money> action) {
+        long[] totals = sumBy(year, productIds, hsCodes.length);
+        rank(totals, presentIn(year, productIds, hsCodes.length), Integer.MAX_VALUE)
+            .forEach(id -> action.accept(toMoney(totals[id])));
+    }
+
+    /**
+     * 월별 수출 트렌드 (데이터가 있는 월만, 월 오름차순)
+     */
+    public List<MonthlyExportTrend> monthlyTrend(int year) {
+        int yearIndex = Arrays.binarySearch(years, year);
+        if (yearIndex < 0) {
+            return List.of();
+        }
+
+        long[] monthTotals = new long[13];
+        boolean[] present = new boolean[13];
+        for (int row = yearOffsets[yearIndex]; row < yearOffsets[yearIndex + 1]; row++) {
+            monthTotals[months[row]] += amountCents[row];
+            present[months[row]] = true;
+        }
+
+        List<MonthlyExportTrend> trends = new ArrayList<>();
+        for (int month = 1; month <= 12; month++) {
+            if (present[month]) {
+                trends.add(new MonthlyExportTrend(ExportPeriod.of(year, month), toMoney(monthTotals[month])));
+            }
+        }
+        return trends;
+    }
+
+    public int rowCount() {
+        return amountCents.length;
+    }
+
+    public Instant builtAt() {
+        return builtAt;
+    }
+
+    // Private helper methods
+    private long totalCents(int year) {
+        int yearIndex = Arrays.binarySearch(years, year);
+        if (yearIndex < 0) {
+            return 0L;
+        }
+
+        long total = 0L;
+        for (int row = yearOffsets[yearIndex]; row < yearOffsets[yearIndex + 1]; row++) {
+            total += amountCents[row];
+        }
+        return total;
+    }
+
+    private long[] sumBy(int year, int[] dimension, int cardinality) {
+        long[] totals = new long[cardinality];
+        int yearIndex = Arrays.binarySearch(years, year);
+        if (yearIndex < 0) {
+            return totals;
+        }
+
+        for (int row = yearOffsets[yearIndex]; row < yearOffsets[yearIndex + 1]; row++) {
+            totals[dimension[row]] += amountCents[row];
+        }
+        return totals;
+    }
+
+    private long countDistinct(int year, int[] dimension, int cardinality) {
+        return presentIn(year, dimension, cardinality).cardinality();
+    }
+
+    private BitSet presentIn(int year, int[] dimension, int cardinality) {
+        BitSet present = new BitSet(cardinality);
+        int yearIndex = Arrays.binarySearch(years, year);
+        if (yearIndex < 0) {
+            return present;
+        }
+
+        for (int row = yearOffsets[yearIndex]; row < yearOffsets[yearIndex + 1]; row++) {
+            present.set(dimension[row]);
+        }
+        return present;
+    }
+
+    private List<Integer> rank(long[] totals, BitSet present, int limit) {
+        // 해당 년도에 등장한 사전 항목만 순위 대상 (동액은 사전 순서 유지)
+        Comparator<Integer> descending = Comparator.<Integer>comparingLong(id -> totals[id]).reversed()
+            .thenComparingInt(id -> id);
+
+        if (limit <= 0) {
+            return List.of();
+        }
+        if (limit >= present.cardinality()) {
+            return present.stream().boxed().sorted(descending).toList();
+        }
+
+        // 상위 N 만 필요한 경우 크기 N 의 힙으로 선별하여 전체 정렬을 피함
+        PriorityQueue<Integer> heap = new PriorityQueue<>(limit + 1, descending.reversed());
+        present.stream().forEach(id -> {
+            heap.offer(id);
+            if (heap.size() > limit) {
+                heap.poll();
+            }
+        });
+
+        List<Integer> ranked = new ArrayList<>(heap);
+        ranked.sort(descending);
+        return ranked;
+    }
+
+    private static Money toMoney(long cents) {
+        return Money.usd(toAmount(cents));
+    }
+
+    private static BigDecimal toAmount(long cents) {
+        return BigDecimal.valueOf(cents, AMOUNT_SCALE);
+    }
+
+    /**
+     * 행 단위로 큐브를 구성하는 빌더
+     * 사전 인코딩을 수행하고 build 시 년도 기준으로 팩트 컬럼을 재배치
+     */
+    public static final class Builder {
+
+        private final Map<String, Integer> countryDictionary = new HashMap<>();
+        private final List<String> countryCodes = new ArrayList<>();
+        private final List<String> countryNames = new ArrayList<>();
+
+        private final Map<String, Integer> productDictionary = new HashMap<>();
+        private final List<String> hsCodes = new ArrayList<>();
+        private final List<Integer> hsLevels = new ArrayList<>();
+        private final List<String> productNames = new ArrayList<>();
+
+        private int size;
+        private int[] countryIds = new int[1024];
+        private int[] productIds = new int[1024];
+        private int[] rowYears = new int[1024];
+        private byte[] rowMonths = new byte[1024];
+        private long[] rowCents = new long[1024];
+
+        private Builder() {
+        }
+
+        public Builder add(String countryCode, String countryName,
+                           String hsCode, int hsLevel, String productName,
+                           int year, int month, BigDecimal exportValueUsd) {
+            ensureCapacity(size + 1);
+
+            countryIds[size] = countryDictionary.computeIfAbsent(countryCode, code -> {
+                countryCodes.add(code);
+                countryNames.add(countryName);
+                return countryCodes.size() - 1;
+            });
+            productIds[size] = productDictionary.computeIfAbsent(hsCode, code -> {
+                hsCodes.add(code);
+                hsLevels.add(hsLevel);
+                productNames.add(productName);
+                return hsCodes.size() - 1;
+            });
+            rowYears[size] = year;
+            rowMonths[size] = (byte) month;
+            rowCents[size] = exportValueUsd.setScale(AMOUNT_SCALE, RoundingMode.HALF_UP)
+                .unscaledValue()
+                .longValueExact();
+            size++;
+            return this;
+        }
+
+        public ExportCube build() {
+            int[] distinctYears = Arrays.stream(rowYears, 0, size).distinct().sorted().toArray();
+
+            // 년도별 counting sort 로 팩트 컬럼을 연속 구간에 배치
+            int[] offsets = new int[distinctYears.length + 1];
+            for (int row = 0; row < size; row++) {
+                offsets[Arrays.binarySearch(distinctYears, rowYears[row]) + 1]++;
+            }
+            for (int i = 1; i < offsets.length; i++) {
+                offsets[i] += offsets[i - 1];
+            }
+
+            int[] cursor = Arrays.copyOf(offsets, distinctYears.length);
+            int[] sortedCountries = new int[size];
+            int[] sortedProducts = new int[size];
+            byte[] sortedMonths = new byte[size];
+            long[] sortedCents = new long[size];
+            for (int row = 0; row < size; row++) {
+                int target = cursor[Arrays.binarySearch(distinctYears, rowYears[row])]++;
+                sortedCountries[target] = countryIds[row];
+                sortedProducts[target] = productIds[row];
+                sortedMonths[target] = rowMonths[row];
+                sortedCents[target] = rowCents[row];
+            }
+
+            return new ExportCube(this, distinctYears, offsets,
+                sortedCountries, sortedProducts, sortedMonths, sortedCents);
+        }
+
+        private void ensureCapacity(int required) {
+            if (required <= countryIds.length) {
+                return;
+            }
+            int capacity = Math.max(required, countryIds.length * 2);
+            countryIds = Arrays.copyOf(countryIds, capacity);
+            productIds = Arrays.copyOf(productIds, capacity);
+            rowYears = Arrays.copyOf(rowYears, capacity);
+            rowMonths = Arrays.copyOf(rowMonths, capacity);
+            rowCents = Arrays.copyOf(rowCents, capacity);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.export.dashboard.infrastructure.analytics;
+
+import com.export.dashboard.infrastructure.cache.CacheInvalidationBus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+
+import static com.export.dashboard.infrastructure.persistence.WorldTotalSql.WORLD_COUNTRY_IDS;
+
+/**
+ * 수출 통계 큐브 제공자
+ * export_statistics 전체(전 세계 합계 WLD 행 제외)를 한 번의 조회로 읽어 큐브를 만들고,
+ * 데이터 변경 커밋 이후(모든 노드) 또는 최대 보관 시간이 지나면 다음 조회 시 재구성
+ * 적재 조회는 읽기 전용 트랜잭션 안에서 fetch size 단위로 스트리밍 (PgJDBC 는 트랜잭션 밖에서 결과 전체를 버퍼링)
+ */
+@Component
+public class ExportCubeProvider {
+
+    private static final Logger logger = LoggerFactory.getLogger(ExportCubeProvider.class);
+
+    // 노드 간 무효화 전파 이름
+    private static final String INVALIDATION_NAME = "export-cube";
+
+    private static final int LOAD_FETCH_SIZE = 10_000;
+
+    private static final String LOAD_SQL =
+        "SELECT c.country_code, c.country_name_en, p.hs_code, p.hs_level, p.category_name_en, " +
+        "       e.year, e.month, e.export_value_usd " +
+        "FROM export_statistics e " +
+        "JOIN countries c ON c.id = e.country_id " +
+        "JOIN product_categories p ON p.id = e.product_category_id " +
+        "WHERE e.country_id NOT IN " + WORLD_COUNTRY_IDS;
+
+    private final JdbcTemplate streamingJdbcTemplate;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+    private final NodeLocalSnapshot<ExportCube> snapshot;
+
+    public ExportCubeProvider(JdbcTemplate jdbcTemplate,
+                              PlatformTransactionManager transactionManager,
+                              CacheInvalidationBus cacheInvalidationBus,
+                              @Value("${export.analytics.cube.max-age:PT1H}") Duration maxAge) {
+        this.streamingJdbcTemplate = new JdbcTemplate(jdbcTemplate.getDataSource());
+        this.streamingJdbcTemplate.setFetchSize(LOAD_FETCH_SIZE);
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        this.snapshot = new NodeLocalSnapshot<>(INVALIDATION_NAME, this::load, maxAge, cacheInvalidationBus);
+    }
+
+    /**
+     * 현재 큐브 조회 (필요 시 재구성)
+     */
+    public ExportCube current() {
+        return snapshot.current();
+    }
+
+    /**
+     * 모든 노드의 큐브 무효화
+     * 트랜잭션 내에서 호출되면 커밋 이후에 무효화하여 롤백된 변경이 반영되지 않도록 함
+     */
+    public void invalidate() {
+        snapshot.invalidate();
+    }
+
+    private ExportCube load() {
+        long startedAt = System.nanoTime();
+        ExportCube.Builder builder = ExportCube.builder();
+
+        readOnlyTransactionTemplate.executeWithoutResult(status ->
+            streamingJdbcTemplate.query(LOAD_SQL, rs -> {
+                builder.add(
+                    rs.getString(1),
+                    rs.getString(2),
+                    rs.getString(3),
+                    rs.getInt(4),
+                    rs.getString(5),
+                    rs.getInt(6),
+                    rs.getInt(7),
+                    rs.getBigDecimal(8)
+                );
+            }));
+
+        ExportCube loaded = builder.build();
+        logger.info("Export cube loaded: {} rows in {} ms",
+            loaded.rowCount(), Duration.ofNanos(System.nanoTime() - startedAt).toMillis());
+        return loaded;
+    }
+}
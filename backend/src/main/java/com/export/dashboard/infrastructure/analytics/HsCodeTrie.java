@@ -0,0 +1,229 @@
+package com.export.dashboard.infrastructure.analytics;
+
+import com.export.dashboard.domain.model.HsCode;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * HS 코드 접두사 트라이
+ * 등록된 상품 카테고리의 HS 코드를 숫자 단위 노드로 저장하여
+ * 접두사 포함 여부, 하위 분류, 상위 분류 조회를 HS 코드 자릿수에 비례하는 시간에 처리
+ *
+ * 빌드 이후 변경되지 않으며, 카테고리 변경 시 새 트라이를 만들어 교체
+ */
+public final class HsCodeTrie {
+
+    private static final int RADIX = 10;
+
+    private final Node root;
+    private final int size;
+    private final Instant builtAt;
+
+    private HsCodeTrie(Node root, int size) {
+        this.root = root;
+        this.size = size;
+        this.builtAt = Instant.now();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public Instant builtAt() {
+        return builtAt;
+    }
+
+    /**
+     * 등록된 HS 코드 여부
+     */
+    public boolean contains(String hsCode) {
+        Node node = find(hsCode);
+        return node != null && node.entry != null;
+    }
+
+    public Optional<Entry> get(String hsCode) {
+        Node node = find(hsCode);
+        return node == null ? Optional.empty() : Optional.ofNullable(node.entry);
+    }
+
+    /**
+     * 등록된 HS 코드(자신 포함) 아래에 속하는지 여부
+     * 예: 8542 가 등록되어 있으면 85423190 은 포함
+     */
+    public boolean isCovered(String hsCode) {
+        return findClosest(hsCode).isPresent();
+    }
+
+    /**
+     * 자신 또는 가장 가까운 등록된 상위 HS 코드 (최장 접두사 일치)
+     */
+    public Optional<Entry> findClosest(String hsCode) {
+        Node node = root;
+        Entry closest = null;
+        for (int i = 0; i < hsCode.length() && node != null; i++) {
+            node = node.child(hsCode.charAt(i));
+            if (node != null && node.entry != null) {
+                closest = node.entry;
+            }
+        }
+        return Optional.ofNullable(closest);
+    }
+
+    /**
+     * 등록된 상위 HS 코드 목록 (챕터부터 가까운 순, 자신 제외)
+     */
+    public List<Entry> ancestors(String hsCode) {
+        List<Entry> ancestors = new ArrayList<>();
+        Node node = root;
+        for (int i = 0; i < hsCode.length() - 1 && node != null; i++) {
+            node = node.child(hsCode.charAt(i));
+            if (node != null && node.entry != null) {
+                ancestors.add(node.entry);
+            }
+        }
+        return ancestors;
+    }
+
+    /**
+     * 바로 아래 등록된 하위 HS 코드 목록 (HS 코드 순)
+     * 중간 레벨이 등록되지 않은 경우 각 경로에서 가장 가까운 등록된 코드를 하위로 봄
+     */
+    public List<Entry> children(String hsCode) {
+        Node node = find(hsCode);
+        List<Entry> children = new ArrayList<>();
+        if (node == null) {
+            return children;
+        }
+        collect(node, children, true);
+        return children;
+    }
+
+    /**
+     * 접두사로 시작하는 모든 등록된 HS 코드 (HS 코드 순, 접두사 자신 포함)
+     */
+    public List<Entry> withPrefix(String prefix) {
+        Node node = find(prefix);
+        List<Entry> entries = new ArrayList<>();
+        if (node == null) {
+            return entries;
+        }
+        if (node.entry != null) {
+            entries.add(node.entry);
+        }
+        collect(node, entries, false);
+        return entries;
+    }
+
+    private Node find(String hsCode) {
+        Node node = root;
+        for (int i = 0; i < hsCode.length() && node != null; i++) {
+            node = node.child(hsCode.charAt(i));
+        }
+        return node;
+    }
+
+    /**
+     * node 하위의 등록된 코드를 깊이 우선(HS 코드 순)으로 수집
+     * nearestOnly 이면 등록된 코드를 만난 경로는 더 내려가지 않음
+     */
+    private static void collect(Node start, List<Entry> entries, boolean nearestOnly) {
+        Deque<Node> stack = new ArrayDeque<>();
+        start.pushChildren(stack);
+        while (!stack.isEmpty()) {
+            Node node = stack.pop();
+            if (node.entry != null) {
+                entries.add(node.entry);
+                if (nearestOnly) {
+                    continue;
+                }
+            }
+            node.pushChildren(stack);
+        }
+    }
+
+    /**
+     * 트라이에 저장되는 상품 카테고리 정보
+     */
+    public record Entry(
+        Long productCategoryId,
+        HsCode hsCode,
+        String nameKo,
+        String nameEn
+    ) {
+    }
+
+    private static final class Node {
+
+        private Node[] children;
+        private Entry entry;
+
+        Node child(char digit) {
+            int index = digit - '0';
+            if (children == null || index < 0 || index >= RADIX) {
+                return null;
+            }
+            return children[index];
+        }
+
+        Node childOrCreate(char digit) {
+            if (children == null) {
+                children = new Node[RADIX];
+            }
+            int index = digit - '0';
+            if (children[index] == null) {
+                children[index] = new Node();
+            }
+            return children[index];
+        }
+
+        // 작은 숫자가 먼저 꺼내지도록 역순으로 push
+        void pushChildren(Deque<Node> stack) {
+            if (children == null) {
+                return;
+            }
+            for (int i = RADIX - 1; i >= 0; i--) {
+                if (children[i] != null) {
+                    stack.push(children[i]);
+                }
+            }
+        }
+    }
+
+    /**
+     * 트라이 빌더
+     */
+    public static final class Builder {
+
+        private final Node root = new Node();
+        private int size;
+
+        private Builder() {
+        }
+
+        public Builder add(Long productCategoryId, HsCode hsCode, String nameKo, String nameEn) {
+            String value = hsCode.value();
+            Node node = root;
+            for (int i = 0; i < value.length(); i++) {
+                node = node.childOrCreate(value.charAt(i));
+            }
+            if (node.entry == null) {
+                size++;
+            }
+            node.entry = new Entry(productCategoryId, hsCode, nameKo, nameEn);
+            return this;
+        }
+
+        public HsCodeTrie build() {
+            return new HsCodeTrie(root, size);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.export.dashboard.infrastructure.analytics;
+
+import com.export.dashboard.domain.model.HsCode;
+import com.export.dashboard.infrastructure.cache.CacheInvalidationBus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * HS 코드 트라이 제공자
+ * 활성 상품 카테고리를 한 번의 조회로 읽어 트라이를 만들고,
+ * 카테고리 변경 커밋 이후(모든 노드) 또는 최대 보관 시간이 지나면 다음 조회 시 새 트라이로 참조를 통째로 교체
+ */
+@Component
+public class HsCodeTrieProvider {
+
+    private static final Logger logger = LoggerFactory.getLogger(HsCodeTrieProvider.class);
+
+    // 노드 간 무효화 전파 이름
+    private static final String INVALIDATION_NAME = "hs-code-trie";
+
+    private static final String LOAD_SQL =
+        "SELECT id, hs_code, hs_level, category_name_ko, category_name_en " +
+        "FROM product_categories " +
+        "WHERE is_active = true";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NodeLocalSnapshot<HsCodeTrie> snapshot;
+
+    public HsCodeTrieProvider(JdbcTemplate jdbcTemplate,
+                              CacheInvalidationBus cacheInvalidationBus,
+                              @Value("${export.analytics.hs-trie.max-age:PT1H}") Duration maxAge) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.snapshot = new NodeLocalSnapshot<>(INVALIDATION_NAME, this::load, maxAge, cacheInvalidationBus);
+    }
+
+    /**
+     * 현재 트라이 조회 (필요 시 재구성)
+     */
+    public HsCodeTrie current() {
+        return snapshot.current();
+    }
+
+    /**
+     * 모든 노드의 트라이 무효화
+     * 트랜잭션 내에서 호출되면 커밋 이후에 무효화하여 롤백된 변경이 반영되지 않도록 함
+     */
+    public void invalidate() {
+        snapshot.invalidate();
+    }
+
+    private HsCodeTrie load() {
+        long startedAt = System.nanoTime();
+        HsCodeTrie.Builder builder = HsCodeTrie.builder();
+
+        jdbcTemplate.query(LOAD_SQL, rs -> {
+            builder.add(
+                rs.getLong(1),
+                HsCode.of(rs.getString(2), rs.getInt(3)),
+                rs.getString(4),
+                rs.getString(5)
+            );
+        });
+
+        HsCodeTrie loaded = builder.build();
+        logger.info("HS code trie loaded: {} codes in {} ms",
+            loaded.size(), Duration.ofNanos(System.nanoTime() - startedAt).toMillis());
+        return loaded;
+    }
+}
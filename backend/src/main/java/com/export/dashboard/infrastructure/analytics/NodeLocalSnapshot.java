@@ -0,0 +1,160 @@
+package com.export.dashboard.infrastructure.analytics;
+
+import com.export.dashboard.infrastructure.cache.CacheInvalidationBus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 노드마다 메모리에 보관하는 DB 파생 스냅샷 (큐브, 트라이)
+ * 무효화는 커밋 이후 무효화 세대를 올리고 CacheInvalidationBus 로 다른 노드에도 전파하며,
+ * 적재가 성공한 경우에만 적재 시작 시점의 세대를 기록하므로
+ * 적재가 실패하거나 적재 중 무효화가 도착하면 다음 조회에서 다시 적재
+ * (전파 메시지를 놓친 노드는 maxAge 가 지나면 다시 적재)
+ *
+ * 다시 적재하는 동안 다른 조회는 이전 스냅샷을 그대로 반환하고, 스냅샷이 아직 없을 때만 적재를 기다림
+ * 적재가 실패하면 retryBackoff 동안 다시 적재하지 않음 (이전 스냅샷이 없으면 바로 실패)
+ */
+final class NodeLocalSnapshot<T> {
+
+    private static final Logger logger = LoggerFactory.getLogger(NodeLocalSnapshot.class);
+
+    private static final Duration DEFAULT_RETRY_BACKOFF = Duration.ofSeconds(10);
+
+    private final String name;
+    private final Supplier<T> loader;
+    private final Duration maxAge;
+    private final Duration retryBackoff;
+    private final CacheInvalidationBus invalidationBus;
+    private final AtomicLong generation = new AtomicLong();
+    private final ReentrantLock loadLock = new ReentrantLock();
+
+    private volatile Loaded<T> loaded;
+    private volatile Failure failure;
+
+    /**
+     * @param name 다른 노드와 무효화를 주고받는 이름 (캐시 이름과 겹치지 않아야 함)
+     */
+    NodeLocalSnapshot(String name, Supplier<T> loader, Duration maxAge, CacheInvalidationBus invalidationBus) {
+        this(name, loader, maxAge, DEFAULT_RETRY_BACKOFF, invalidationBus);
+    }
+
+    NodeLocalSnapshot(String name, Supplier<T> loader, Duration maxAge, Duration retryBackoff,
+                      CacheInvalidationBus invalidationBus) {
+        this.name = name;
+        this.loader = loader;
+        this.maxAge = maxAge;
+        this.retryBackoff = retryBackoff;
+        this.invalidationBus = invalidationBus;
+        invalidationBus.subscribeClear(name, this::markStale);
+    }
+
+    /**
+     * 현재 스냅샷 조회 (무효화되었거나 maxAge 가 지났으면 다시 적재)
+     * 이전 스냅샷이 있으면 한 스레드만 다시 적재하고 나머지 스레드는 이전 스냅샷을 바로 반환
+     */
+    T current() {
+        Loaded<T> snapshot = loaded;
+        if (isFresh(snapshot)) {
+            return snapshot.value();
+        }
+        if (snapshot == null) {
+            return loadFirst();
+        }
+
+        if (!isBackingOff(failure) && loadLock.tryLock()) {
+            try {
+                if (!isFresh(loaded)) {
+                    load();
+                }
+            } catch (RuntimeException e) {
+                logger.warn("Reloading {} failed, serving the previous snapshot for at least {}", name, retryBackoff, e);
+            } finally {
+                loadLock.unlock();
+            }
+        }
+        return loaded.value();
+    }
+
+    /**
+     * 스냅샷이 없을 때는 적재를 기다림 (동시에 기다리던 스레드는 직전 실패를 재시도하지 않고 전달받음)
+     */
+    private T loadFirst() {
+        loadLock.lock();
+        try {
+            Loaded<T> snapshot = loaded;
+            if (snapshot != null) {
+                return snapshot.value();
+            }
+            Failure lastFailure = failure;
+            if (isBackingOff(lastFailure)) {
+                throw new IllegalStateException(name + " 적재 실패 후 재시도 대기 중", lastFailure.cause());
+            }
+            return load().value();
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    private Loaded<T> load() {
+        long loadingGeneration = generation.get();
+        try {
+            Loaded<T> snapshot = new Loaded<>(loader.get(), loadingGeneration, Instant.now());
+            loaded = snapshot;
+            failure = null;
+            return snapshot;
+        } catch (RuntimeException e) {
+            failure = new Failure(e, Instant.now());
+            throw e;
+        }
+    }
+
+    /**
+     * 모든 노드의 스냅샷 무효화
+     * 트랜잭션 내에서 호출되면 커밋 이후에 무효화하여 롤백된 변경이 반영되지 않도록 함
+     */
+    void invalidate() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidateEverywhere();
+                }
+            });
+        } else {
+            invalidateEverywhere();
+        }
+    }
+
+    private void invalidateEverywhere() {
+        markStale();
+        invalidationBus.publishClear(name);
+    }
+
+    private void markStale() {
+        generation.incrementAndGet();
+    }
+
+    private boolean isFresh(Loaded<T> snapshot) {
+        return snapshot != null
+            && snapshot.generation() == generation.get()
+            && snapshot.loadedAt().plus(maxAge).isAfter(Instant.now());
+    }
+
+    private boolean isBackingOff(Failure lastFailure) {
+        return lastFailure != null && lastFailure.failedAt().plus(retryBackoff).isAfter(Instant.now());
+    }
+
+    private record Loaded<T>(T value, long generation, Instant loadedAt) {
+    }
+
+    private record Failure(RuntimeException cause, Instant failedAt) {
+    }
+}
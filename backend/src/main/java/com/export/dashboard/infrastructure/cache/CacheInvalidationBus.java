@@ -0,0 +1,91 @@
+package com.export.dashboard.infrastructure.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Redis pub/sub 기반 L1 캐시 무효화 전파
+ * 한 노드에서 캐시를 갱신/삭제하면 다른 노드의 L1 항목을 지워 다음 조회가 Redis(L2)에서 다시 읽도록 함
+ * 메시지 형식: 발신 노드 ID, 캐시 이름, 키(전체 삭제면 생략)를 줄바꿈으로 구분
+ *
+ * 캐시 밖의 노드 로컬 자료(큐브, 트라이 등)도 이름을 등록하면 전체 무효화를 함께 전파받음
+ */
+public class CacheInvalidationBus implements MessageListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(CacheInvalidationBus.class);
+
+    private static final String SEPARATOR = "\n";
+
+    private final StringRedisTemplate redisTemplate;
+    private final String channel;
+    private final LocalCacheStore localCacheStore;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<String, Runnable> clearListeners = new ConcurrentHashMap<>();
+
+    public CacheInvalidationBus(StringRedisTemplate redisTemplate, String channel, LocalCacheStore localCacheStore) {
+        this.redisTemplate = redisTemplate;
+        this.channel = channel;
+        this.localCacheStore = localCacheStore;
+    }
+
+    public String getChannel() {
+        return channel;
+    }
+
+    /**
+     * 다른 노드에 키 무효화 전파
+     */
+    public void publishEvict(String cacheName, String key) {
+        publish(nodeId + SEPARATOR + cacheName + SEPARATOR + key);
+    }
+
+    /**
+     * 다른 노드에 캐시 전체 무효화 전파
+     */
+    public void publishClear(String cacheName) {
+        publish(nodeId + SEPARATOR + cacheName);
+    }
+
+    /**
+     * 다른 노드에서 publishClear(name) 을 보내면 이 노드에서 listener 실행
+     */
+    public void subscribeClear(String name, Runnable listener) {
+        clearListeners.put(name, listener);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split(SEPARATOR, 3);
+        if (parts.length < 2 || parts[0].equals(nodeId)) {
+            // 자신이 보낸 메시지는 이미 로컬에 반영됨
+            return;
+        }
+
+        if (parts.length == 2) {
+            localCacheStore.clear(parts[1]);
+            Runnable listener = clearListeners.get(parts[1]);
+            if (listener != null) {
+                listener.run();
+            }
+        } else {
+            localCacheStore.evict(parts[1], parts[2]);
+        }
+    }
+
+    private void publish(String message) {
+        try {
+            redisTemplate.convertAndSend(channel, message);
+        } catch (RuntimeException e) {
+            // 전파 실패 시 다른 노드의 L1 은 TTL 만료까지 이전 값을 유지
+            logger.warn("Failed to publish cache invalidation on {}: {}", channel, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.export.dashboard.infrastructure.cache;
+
+import org.springframework.data.redis.cache.RedisCacheWriter;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 캐시 stale-while-revalidate / refresh-ahead 정책
+ * Redis 에는 캐시별 TTL(soft TTL)에 stale-grace 를 더한 시간 동안 보관하고,
+ * 조회 시 남은 TTL 이 stale-grace + refresh-ahead 이하이면(soft TTL 이 지났거나 곧 지남)
+ * 현재 값을 바로 반환하면서 제한된 스레드 풀에서 값을 다시 계산
+ * (자주 조회되는 키는 soft TTL 전에 갱신되어 조회 요청이 재계산을 기다리지 않음)
+ * withStaleGrace 로 등록한 캐시만 갱신 대상
+ */
+public class CacheRefreshAhead {
+
+    private final StringRedisTemplate redisTemplate;
+    private final Duration staleGrace;
+    private final long refreshThresholdMillis;
+    private final Executor executor;
+    private final Set<String> cacheNames = ConcurrentHashMap.newKeySet();
+
+    public CacheRefreshAhead(StringRedisTemplate redisTemplate, Duration staleGrace, Duration refreshAhead,
+                             int threads, int queueCapacity) {
+        this(redisTemplate, staleGrace, refreshAhead, boundedExecutor(threads, queueCapacity));
+    }
+
+    CacheRefreshAhead(StringRedisTemplate redisTemplate, Duration staleGrace, Duration refreshAhead, Executor executor) {
+        if (staleGrace.isNegative() || refreshAhead.isNegative()) {
+            throw new IllegalArgumentException("캐시 갱신 구간은 0 이상이어야 합니다.");
+        }
+        this.redisTemplate = redisTemplate;
+        this.staleGrace = staleGrace;
+        this.refreshThresholdMillis = staleGrace.plus(refreshAhead).toMillis();
+        this.executor = executor;
+    }
+
+    /**
+     * 캐시를 갱신 대상으로 등록하고 soft TTL 에 stale-grace 를 더한 Redis 보관 TTL 반환
+     */
+    public RedisCacheWriter.TtlFunction withStaleGrace(String cacheName, RedisCacheWriter.TtlFunction softTtl) {
+        cacheNames.add(cacheName);
+        return (key, value) -> softTtl.getTimeToLive(key, value).plus(staleGrace);
+    }
+
+    /**
+     * soft TTL 이 지났거나 refresh-ahead 구간에 들어와 갱신이 필요한지 여부
+     * (RedisCache 의 키 형식 "캐시이름::키" 의 남은 TTL 로 판단)
+     */
+    public boolean needsRefresh(String cacheName, String key) {
+        if (!cacheNames.contains(cacheName)) {
+            return false;
+        }
+        Long remainingMillis = redisTemplate.getExpire(cacheName + "::" + key, TimeUnit.MILLISECONDS);
+        return remainingMillis != null && remainingMillis >= 0 && remainingMillis <= refreshThresholdMillis;
+    }
+
+    /**
+     * 갱신 작업 제출
+     * @return 대기열이 가득 차 제출하지 못하면 false (값은 보관 TTL 까지 계속 제공)
+     */
+    public boolean submit(Runnable refresh) {
+        try {
+            executor.execute(refresh);
+            return true;
+        } catch (RejectedExecutionException e) {
+            return false;
+        }
+    }
+
+    public void shutdown() {
+        if (executor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    private static ThreadPoolExecutor boundedExecutor(int threads, int queueCapacity) {
+        if (threads < 1 || queueCapacity < 1) {
+            throw new IllegalArgumentException("캐시 갱신 스레드 수와 대기열 크기는 1 이상이어야 합니다.");
+        }
+        AtomicInteger sequence = new AtomicInteger();
+        return new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            runnable -> {
+                Thread thread = new Thread(runnable, "cache-refresh-" + sequence.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.AbortPolicy());
+    }
+}
@@ -0,0 +1,101 @@
+package com.export.dashboard.infrastructure.cache;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.aop.ProxyMethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.reflect.Method;
+
+/**
+ * 백그라운드 캐시 갱신 재호출기
+ * 요청 스레드의 @Cacheable 호출(서비스 프록시, 메서드, 인자)을 기록해 두었다가, 갱신 시
+ * 요청의 호출 체인(@Cacheable(sync = true) 의 valueLoader)을 다른 스레드에서 재사용하지 않고
+ * 서비스 프록시를 읽기 전용 트랜잭션 안에서 다시 호출
+ *
+ * 재호출 동안에는 갱신 중인 캐시/키만 저장된 값을 건너뛰고 계산하여 저장 (다른 캐시/키는 그대로 캐시 사용)
+ */
+public class CacheRefreshInvoker {
+
+    private static final ThreadLocal<CachedInvocation> CURRENT = new ThreadLocal<>();
+    private static final ThreadLocal<RefreshTarget> REFRESHING = new ThreadLocal<>();
+
+    private final TransactionTemplate readOnlyTransaction;
+
+    public CacheRefreshInvoker(PlatformTransactionManager transactionManager) {
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * @Cacheable 메서드 호출을 기록하는 advice (캐시 advice 보다 바깥에서 실행되어야 함)
+     */
+    public static MethodInterceptor recordingInterceptor() {
+        return invocation -> {
+            CachedInvocation previous = CURRENT.get();
+            CURRENT.set(new CachedInvocation(((ProxyMethodInvocation) invocation).getProxy(),
+                invocation.getMethod(), invocation.getArguments().clone()));
+            try {
+                return invocation.proceed();
+            } finally {
+                restore(CURRENT, previous);
+            }
+        };
+    }
+
+    /**
+     * 현재 스레드에서 진행 중인 @Cacheable 호출로 지정 캐시/키를 다시 계산하는 갱신 작업
+     * @return 기록된 호출이 없으면(프록시를 거치지 않은 get(key, loader)) null
+     */
+    public Runnable recomputation(String cacheName, Object key) {
+        CachedInvocation invocation = CURRENT.get();
+        if (invocation == null) {
+            return null;
+        }
+        return () -> refreshing(cacheName, key,
+            () -> readOnlyTransaction.executeWithoutResult(status -> invocation.invoke()));
+    }
+
+    /**
+     * 현재 스레드가 지정 캐시/키를 갱신하기 위해 재호출 중인지 여부 (캐시는 저장된 값을 반환하지 않고 계산)
+     */
+    public static boolean isRefreshing(String cacheName, Object key) {
+        RefreshTarget target = REFRESHING.get();
+        return target != null && target.cacheName().equals(cacheName) && target.key().equals(key);
+    }
+
+    static void refreshing(String cacheName, Object key, Runnable call) {
+        RefreshTarget previous = REFRESHING.get();
+        REFRESHING.set(new RefreshTarget(cacheName, key));
+        try {
+            call.run();
+        } finally {
+            restore(REFRESHING, previous);
+        }
+    }
+
+    private static <T> void restore(ThreadLocal<T> holder, T previous) {
+        if (previous == null) {
+            holder.remove();
+        } else {
+            holder.set(previous);
+        }
+    }
+
+    private record CachedInvocation(Object proxy, Method method, Object[] args) {
+
+        void invoke() {
+            try {
+                AopUtils.invokeJoinpointUsingReflection(proxy, method, args);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException("캐시 갱신 재호출 실패: " + method, e);
+            }
+        }
+    }
+
+    private record RefreshTarget(String cacheName, Object key) {
+    }
+}
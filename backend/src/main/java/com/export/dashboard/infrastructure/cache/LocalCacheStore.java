@@ -0,0 +1,159 @@
+package com.export.dashboard.infrastructure.cache;
+
+import org.springframework.cache.Cache.ValueWrapper;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * 프로세스 내 L1 캐시 저장소
+ * 모든 캐시 이름이 하나의 용량(바이트 추정치 합계)을 공유하며,
+ * 용량을 넘으면 가장 오래 사용되지 않은 항목부터 제거하고 TTL 이 지난 항목은 조회 시 버림
+ * (TTL 은 무효화 메시지를 놓친 경우 다른 노드와 어긋난 상태가 유지되는 최대 시간)
+ *
+ * 조회는 잠금 없이 ConcurrentHashMap 에서 읽고 항목의 마지막 사용 시각만 기록하며,
+ * 제거 순서는 용량을 넘은 저장 시점에 마지막 사용 시각으로 정하는 근사 LRU
+ * (한 번 넘으면 용량의 90% 까지 비워 저장마다 정렬하지 않도록 함)
+ */
+public final class LocalCacheStore {
+
+    private static final double EVICTION_TARGET_RATIO = 0.9;
+
+    private final long maxWeight;
+    private final long evictionTargetWeight;
+    private final long ttlNanos;
+    private final LongSupplier nanoClock;
+
+    private final ConcurrentHashMap<EntryKey, Entry> entries = new ConcurrentHashMap<>(256);
+    private final AtomicLong totalWeight = new AtomicLong();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+
+    public LocalCacheStore(long maxWeight, Duration ttl) {
+        this(maxWeight, ttl, System::nanoTime);
+    }
+
+    LocalCacheStore(long maxWeight, Duration ttl, LongSupplier nanoClock) {
+        if (maxWeight <= 0 || ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("L1 캐시 용량과 TTL 은 양수여야 합니다.");
+        }
+        this.maxWeight = maxWeight;
+        this.evictionTargetWeight = (long) (maxWeight * EVICTION_TARGET_RATIO);
+        this.ttlNanos = ttl.toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * 항목 조회 (없거나 만료되었으면 null)
+     */
+    public ValueWrapper get(String cacheName, String key) {
+        EntryKey entryKey = new EntryKey(cacheName, key);
+        Entry entry = entries.get(entryKey);
+        if (entry == null) {
+            return null;
+        }
+        long now = nanoClock.getAsLong();
+        if (now - entry.storedAtNanos >= ttlNanos) {
+            remove(entryKey, entry);
+            return null;
+        }
+        entry.lastAccessNanos = now;
+        return entry.value;
+    }
+
+    /**
+     * 항목 저장 (용량의 절반을 넘는 항목은 다른 항목을 모두 밀어내지 않도록 저장하지 않음)
+     */
+    public void put(String cacheName, String key, ValueWrapper value, long weight) {
+        EntryKey entryKey = new EntryKey(cacheName, key);
+        if (weight > maxWeight / 2) {
+            evict(cacheName, key);
+            return;
+        }
+
+        Entry previous = entries.put(entryKey, new Entry(value, weight, nanoClock.getAsLong()));
+        long total = totalWeight.addAndGet(previous == null ? weight : weight - previous.weight);
+        if (total > maxWeight) {
+            evictLeastRecentlyUsed();
+        }
+    }
+
+    public void evict(String cacheName, String key) {
+        Entry removed = entries.remove(new EntryKey(cacheName, key));
+        if (removed != null) {
+            totalWeight.addAndGet(-removed.weight);
+        }
+    }
+
+    public void clear(String cacheName) {
+        entries.forEach((entryKey, entry) -> {
+            if (entryKey.cacheName().equals(cacheName)) {
+                remove(entryKey, entry);
+            }
+        });
+    }
+
+    public void clearAll() {
+        entries.forEach(this::remove);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public long weight() {
+        return totalWeight.get();
+    }
+
+    private void evictLeastRecentlyUsed() {
+        evictionLock.lock();
+        try {
+            if (totalWeight.get() <= maxWeight) {
+                return; // 다른 저장 스레드가 이미 비움
+            }
+            // 정렬 중에 조회가 사용 시각을 바꾸지 않도록 시각을 먼저 복사
+            List<EvictionCandidate> candidates = new ArrayList<>(entries.size());
+            entries.forEach((entryKey, entry) ->
+                candidates.add(new EvictionCandidate(entryKey, entry, entry.lastAccessNanos)));
+            candidates.sort(Comparator.comparingLong(EvictionCandidate::lastAccessNanos));
+            for (EvictionCandidate candidate : candidates) {
+                if (totalWeight.get() <= evictionTargetWeight) {
+                    break;
+                }
+                remove(candidate.entryKey(), candidate.entry());
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private void remove(EntryKey entryKey, Entry entry) {
+        if (entries.remove(entryKey, entry)) {
+            totalWeight.addAndGet(-entry.weight);
+        }
+    }
+
+    private record EntryKey(String cacheName, String key) {}
+
+    private record EvictionCandidate(EntryKey entryKey, Entry entry, long lastAccessNanos) {}
+
+    private static final class Entry {
+
+        private final ValueWrapper value;
+        private final long weight;
+        private final long storedAtNanos;
+        private volatile long lastAccessNanos;
+
+        private Entry(ValueWrapper value, long weight, long storedAtNanos) {
+            this.value = value;
+            this.weight = weight;
+            this.storedAtNanos = storedAtNanos;
+            this.lastAccessNanos = storedAtNanos;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.export.dashboard.infrastructure.cache;
+
+import org.springframework.data.redis.cache.RedisCacheWriter;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Year;
+
+/**
+ * 지난 년도 캐시 항목에 긴 TTL 을 적용하는 TTL 함수
+ * 키의 마지막 '_' 뒤 4자리 숫자(또는 정수 키 자체)를 년도로 보고, 올해 이전이면 긴 TTL 을 사용
+ * (지난 년도 데이터는 변경 시 도메인 이벤트로 해당 키가 삭제되므로 오래 유지해도 됨)
+ */
+public class PastYearTtlFunction implements RedisCacheWriter.TtlFunction {
+
+    private final Duration currentTtl;
+    private final Duration pastYearTtl;
+    private final Clock clock;
+
+    public PastYearTtlFunction(Duration currentTtl, Duration pastYearTtl) {
+        this(currentTtl, pastYearTtl, Clock.systemDefaultZone());
+    }
+
+    PastYearTtlFunction(Duration currentTtl, Duration pastYearTtl, Clock clock) {
+        this.currentTtl = currentTtl;
+        this.pastYearTtl = pastYearTtl;
+        this.clock = clock;
+    }
+
+    @Override
+    public Duration getTimeToLive(Object key, Object value) {
+        Integer year = yearOf(key);
+        if (year != null && year < Year.now(clock).getValue()) {
+            return pastYearTtl;
+        }
+        return currentTtl;
+    }
+
+    static Integer yearOf(Object key) {
+        if (key instanceof Integer year) {
+            return year;
+        }
+
+        String text = String.valueOf(key);
+        String last = text.substring(text.lastIndexOf('_') + 1);
+        if (last.length() != 4) {
+            return null;
+        }
+        for (int i = 0; i < last.length(); i++) {
+            if (!Character.isDigit(last.charAt(i))) {
+                return null;
+            }
+        }
+        return Integer.parseInt(last);
+    }
+}
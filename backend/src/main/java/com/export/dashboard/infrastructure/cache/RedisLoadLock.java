@@ -0,0 +1,53 @@
+package com.export.dashboard.infrastructure.cache;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 캐시 적재용 Redis 잠금
+ * 여러 노드에서 같은 키가 동시에 비었을 때 한 노드만 값을 계산하도록 SET NX PX 로 잠금을 얻음
+ * (계산 노드가 종료되어도 TTL 이 지나면 잠금이 풀림)
+ */
+public class RedisLoadLock {
+
+    // 자신이 얻은 잠금만 해제 (TTL 만료 후 다른 노드가 얻은 잠금은 유지)
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+        Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final String keyPrefix;
+    private final Duration ttl;
+
+    public RedisLoadLock(StringRedisTemplate redisTemplate, String keyPrefix, Duration ttl) {
+        if (ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("캐시 적재 잠금 TTL 은 양수여야 합니다.");
+        }
+        this.redisTemplate = redisTemplate;
+        this.keyPrefix = keyPrefix;
+        this.ttl = ttl;
+    }
+
+    /**
+     * 잠금 시도 (대기하지 않음)
+     */
+    public boolean tryAcquire(String cacheName, String key, String token) {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(lockKey(cacheName, key), token, ttl));
+    }
+
+    public boolean isLocked(String cacheName, String key) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(lockKey(cacheName, key)));
+    }
+
+    public void release(String cacheName, String key, String token) {
+        redisTemplate.execute(RELEASE_SCRIPT, List.of(lockKey(cacheName, key)), token);
+    }
+
+    private String lockKey(String cacheName, String key) {
+        return keyPrefix + cacheName + "::" + key;
+    }
+}
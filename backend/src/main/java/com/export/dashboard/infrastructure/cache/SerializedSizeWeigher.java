@@ -0,0 +1,65 @@
+package com.export.dashboard.infrastructure.cache;
+
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.util.function.ToLongFunction;
+
+/**
+ * L1 항목 크기 추정기
+ * Redis 값 직렬화기를 감싸 현재 스레드에서 마지막으로 (역)직렬화한 값과 바이트 길이를 기록해 두고,
+ * L2 에서 읽거나 L2 에 쓴 직후 L1 에 채우는 값은 그 길이를 그대로 크기로 사용
+ * (L1 을 채울 때마다 값을 다시 JSON 으로 직렬화하지 않음)
+ */
+public final class SerializedSizeWeigher implements RedisSerializer<Object>, ToLongFunction<Object> {
+
+    private static final ThreadLocal<Serialized> LAST = new ThreadLocal<>();
+
+    private final RedisSerializer<Object> delegate;
+
+    public SerializedSizeWeigher(RedisSerializer<Object> delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        byte[] bytes = delegate.serialize(value);
+        record(value, bytes);
+        return bytes;
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        Object value = delegate.deserialize(bytes);
+        record(value, bytes);
+        return value;
+    }
+
+    /**
+     * 같은 값(동일 객체)의 기록된 바이트 길이, 기록이 없으면 직렬화하여 계산
+     */
+    @Override
+    public long applyAsLong(Object value) {
+        if (value == null) {
+            return 1;
+        }
+        Serialized last = LAST.get();
+        LAST.remove();
+        if (last != null && last.value() == value) {
+            return last.length();
+        }
+        byte[] bytes = delegate.serialize(value);
+        return bytes == null ? 1 : bytes.length;
+    }
+
+    private static void record(Object value, byte[] bytes) {
+        if (value == null || bytes == null) {
+            LAST.remove();
+        } else {
+            LAST.set(new Serialized(value, bytes.length));
+        }
+    }
+
+    private record Serialized(Object value, int length) {
+    }
+}
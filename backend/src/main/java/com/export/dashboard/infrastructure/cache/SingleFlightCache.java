@@ -0,0 +1,278 @@
+package com.export.dashboard.infrastructure.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * 캐시 미스 적재를 키별로 한 번만 수행하는 캐시 (@Cacheable(sync = true) 의 get(key, loader) 경로)
+ * 같은 노드의 동시 미스는 진행 중인 한 번의 계산 결과를 기다리고,
+ * 다른 노드와는 Redis 잠금으로 한 노드만 계산하며 나머지는 캐시에 값이 채워질 때까지 대기
+ *
+ * 잠금 대기가 wait-timeout 을 넘거나 Redis 잠금을 사용할 수 없으면 직접 계산 (요청은 실패시키지 않음)
+ * (RedisCache.get(key, loader) 는 캐시 전체를 하나의 모니터로 직렬화하므로 사용하지 않음)
+ *
+ * CacheRefreshAhead 를 지정하면 soft TTL 이 지났거나 곧 지나는 값은 그대로 반환하고
+ * 백그라운드에서 노드 간 한 번만 다시 계산 (잠금을 얻지 못한 노드는 갱신을 건너뜀)
+ * 갱신은 요청의 valueLoader 가 아니라 CacheRefreshInvoker 로 서비스 프록시를 다시 호출하여 계산
+ */
+public class SingleFlightCache implements Cache {
+
+    private static final Logger logger = LoggerFactory.getLogger(SingleFlightCache.class);
+
+    private final Cache delegate;
+    private final RedisLoadLock loadLock;
+    private final long waitTimeoutNanos;
+    private final long pollIntervalMillis;
+    private final CacheRefreshAhead refreshAhead;
+    private final CacheRefreshInvoker refreshInvoker;
+    private final ConcurrentMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    // 이 노드에서 갱신이 예약/진행 중인 키
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+
+    public SingleFlightCache(Cache delegate, RedisLoadLock loadLock, Duration waitTimeout, Duration pollInterval) {
+        this(delegate, loadLock, waitTimeout, pollInterval, null, null);
+    }
+
+    /**
+     * @param refreshInvoker refreshAhead 를 지정하면 필수
+     */
+    public SingleFlightCache(Cache delegate, RedisLoadLock loadLock, Duration waitTimeout, Duration pollInterval,
+                             CacheRefreshAhead refreshAhead, CacheRefreshInvoker refreshInvoker) {
+        if (refreshAhead != null && refreshInvoker == null) {
+            throw new IllegalArgumentException("캐시 갱신에는 재호출기가 필요합니다.");
+        }
+        this.delegate = delegate;
+        this.loadLock = loadLock;
+        this.waitTimeoutNanos = waitTimeout.toNanos();
+        this.pollIntervalMillis = Math.max(1, pollInterval.toMillis());
+        this.refreshAhead = refreshAhead;
+        this.refreshInvoker = refreshInvoker;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        return delegate.get(key);
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        return delegate.get(key, type);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        if (CacheRefreshInvoker.isRefreshing(getName(), key)) {
+            // 백그라운드 갱신의 재호출: 저장된 값을 반환하지 않고 계산하여 저장 (잠금은 갱신 작업이 보유)
+            return (T) load(key, valueLoader);
+        }
+
+        String flightKey = String.valueOf(key);
+        ValueWrapper cached = delegate.get(key);
+        if (cached != null) {
+            if (refreshAhead != null) {
+                scheduleRefreshIfDue(key, flightKey);
+            }
+            return (T) cached.get();
+        }
+
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(flightKey, flight);
+        if (existing != null) {
+            return (T) await(key, valueLoader, existing);
+        }
+
+        try {
+            flight.complete(loadOnce(key, flightKey, valueLoader));
+        } catch (RuntimeException e) {
+            flight.completeExceptionally(e);
+        } finally {
+            inFlight.remove(flightKey, flight);
+        }
+        return (T) await(key, valueLoader, flight);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        delegate.put(key, value);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        return delegate.putIfAbsent(key, value);
+    }
+
+    @Override
+    public void evict(Object key) {
+        delegate.evict(key);
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+    }
+
+    /**
+     * 노드 간 잠금을 얻은 경우에만 계산하고, 다른 노드가 계산 중이면 값이 채워질 때까지 대기
+     */
+    private Object loadOnce(Object key, String flightKey, Callable<?> valueLoader) {
+        String token = UUID.randomUUID().toString();
+        long deadline = System.nanoTime() + waitTimeoutNanos;
+
+        while (true) {
+            Boolean acquired = tryAcquire(flightKey, token);
+            if (acquired == null) {
+                return load(key, valueLoader);
+            }
+            if (acquired) {
+                try {
+                    // 잠금을 기다리는 사이 다른 노드가 채웠을 수 있음
+                    ValueWrapper cached = delegate.get(key);
+                    return cached != null ? cached.get() : load(key, valueLoader);
+                } finally {
+                    release(flightKey, token);
+                }
+            }
+
+            // 다른 노드가 계산 중: 값이 채워지거나 잠금이 풀릴 때까지 대기
+            do {
+                if (System.nanoTime() >= deadline) {
+                    logger.warn("Timed out waiting for cache load of {}::{}, loading locally", getName(), flightKey);
+                    return load(key, valueLoader);
+                }
+                sleep(key, valueLoader);
+
+                ValueWrapper cached = delegate.get(key);
+                if (cached != null) {
+                    return cached.get();
+                }
+            } while (isLocked(flightKey));
+            // 잠금이 풀렸는데 값이 없으면(계산 실패) 다시 잠금 시도
+        }
+    }
+
+    /**
+     * soft TTL 이 지났거나 곧 지나는 값이면 백그라운드 갱신 예약
+     * (서비스 프록시를 거친 @Cacheable 호출만 다시 계산할 수 있으므로 기록된 호출이 없으면 갱신하지 않음)
+     */
+    private void scheduleRefreshIfDue(Object key, String flightKey) {
+        if (!refreshing.add(flightKey)) {
+            return;
+        }
+
+        boolean scheduled = false;
+        try {
+            if (refreshAhead.needsRefresh(getName(), flightKey)) {
+                Runnable recomputation = refreshInvoker.recomputation(getName(), key);
+                scheduled = recomputation != null && refreshAhead.submit(() -> refresh(flightKey, recomputation));
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Failed to check cache refresh for {}::{}: {}", getName(), flightKey, e.getMessage());
+        } finally {
+            if (!scheduled) {
+                refreshing.remove(flightKey);
+            }
+        }
+    }
+
+    /**
+     * 노드 간 잠금을 얻은 경우에만 다시 계산하여 덮어씀 (실패하면 기존 값을 보관 TTL 까지 계속 제공)
+     */
+    private void refresh(String flightKey, Runnable recomputation) {
+        String token = UUID.randomUUID().toString();
+        try {
+            if (!Boolean.TRUE.equals(tryAcquire(flightKey, token))) {
+                return;
+            }
+            try {
+                recomputation.run();
+            } finally {
+                release(flightKey, token);
+            }
+        } catch (Exception e) {
+            logger.warn("Background cache refresh failed for {}::{}: {}", getName(), flightKey, e.getMessage());
+        } finally {
+            refreshing.remove(flightKey);
+        }
+    }
+
+    private Object load(Object key, Callable<?> valueLoader) {
+        Object value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+        delegate.put(key, value);
+        return value;
+    }
+
+    private Object await(Object key, Callable<?> valueLoader, CompletableFuture<Object> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new ValueRetrievalException(key, valueLoader, e.getCause());
+        }
+    }
+
+    /**
+     * @return 잠금 획득 여부, Redis 를 사용할 수 없으면 null
+     */
+    private Boolean tryAcquire(String flightKey, String token) {
+        try {
+            return loadLock.tryAcquire(getName(), flightKey, token);
+        } catch (RuntimeException e) {
+            logger.warn("Cache load lock unavailable for {}::{}: {}", getName(), flightKey, e.getMessage());
+            return null;
+        }
+    }
+
+    private boolean isLocked(String flightKey) {
+        try {
+            return loadLock.isLocked(getName(), flightKey);
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+
+    private void release(String flightKey, String token) {
+        try {
+            loadLock.release(getName(), flightKey, token);
+        } catch (RuntimeException e) {
+            // 해제하지 못한 잠금은 TTL 이 지나면 풀림
+            logger.warn("Failed to release cache load lock for {}::{}: {}", getName(), flightKey, e.getMessage());
+        }
+    }
+
+    private void sleep(Object key, Callable<?> valueLoader) {
+        try {
+            Thread.sleep(pollIntervalMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+    }
+}
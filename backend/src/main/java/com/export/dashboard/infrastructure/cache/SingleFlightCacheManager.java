@@ -0,0 +1,59 @@
+package com.export.dashboard.infrastructure.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 대상 CacheManager 의 각 캐시를 SingleFlightCache 로 감싸는 CacheManager
+ * 캐시 이름/TTL 설정은 대상 CacheManager 를 그대로 따름
+ */
+public class SingleFlightCacheManager implements CacheManager {
+
+    private final CacheManager delegate;
+    private final RedisLoadLock loadLock;
+    private final Duration waitTimeout;
+    private final Duration pollInterval;
+    private final CacheRefreshAhead refreshAhead;
+    private final CacheRefreshInvoker refreshInvoker;
+    private final Map<String, Cache> caches = new ConcurrentHashMap<>();
+
+    /**
+     * @param refreshAhead null 이면 stale-while-revalidate / refresh-ahead 를 사용하지 않음
+     * @param refreshInvoker 갱신 시 서비스 프록시 재호출 (refreshAhead 를 지정하면 필수)
+     */
+    public SingleFlightCacheManager(CacheManager delegate, RedisLoadLock loadLock,
+                                    Duration waitTimeout, Duration pollInterval,
+                                    CacheRefreshAhead refreshAhead, CacheRefreshInvoker refreshInvoker) {
+        this.delegate = delegate;
+        this.loadLock = loadLock;
+        this.waitTimeout = waitTimeout;
+        this.pollInterval = pollInterval;
+        this.refreshAhead = refreshAhead;
+        this.refreshInvoker = refreshInvoker;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        Cache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+
+        Cache target = delegate.getCache(name);
+        if (target == null) {
+            return null;
+        }
+        return caches.computeIfAbsent(name,
+            key -> new SingleFlightCache(target, loadLock, waitTimeout, pollInterval, refreshAhead, refreshInvoker));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return delegate.getCacheNames();
+    }
+}
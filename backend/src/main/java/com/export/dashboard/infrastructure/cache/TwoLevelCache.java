@@ -0,0 +1,113 @@
+package com.export.dashboard.infrastructure.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.util.concurrent.Callable;
+import java.util.function.ToLongFunction;
+
+/**
+ * 프로세스 내 L1 과 Redis L2 를 묶은 캐시
+ * 조회는 L1 → L2 순서로 하고 L2 에서 읽은 값은 L1 에 채우며,
+ * 갱신/삭제는 L2 에 먼저 반영한 뒤 로컬 L1 을 맞추고 다른 노드의 L1 무효화를 전파
+ * (키는 RedisCache 와 같이 문자열로 변환하여 구분)
+ */
+public class TwoLevelCache implements Cache {
+
+    private final Cache redisCache;
+    private final LocalCacheStore localCacheStore;
+    private final CacheInvalidationBus invalidationBus;
+    private final ToLongFunction<Object> weigher;
+
+    public TwoLevelCache(Cache redisCache, LocalCacheStore localCacheStore,
+                         CacheInvalidationBus invalidationBus, ToLongFunction<Object> weigher) {
+        this.redisCache = redisCache;
+        this.localCacheStore = localCacheStore;
+        this.invalidationBus = invalidationBus;
+        this.weigher = weigher;
+    }
+
+    @Override
+    public String getName() {
+        return redisCache.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return redisCache.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        String localKey = localKey(key);
+        ValueWrapper local = localCacheStore.get(getName(), localKey);
+        if (local != null) {
+            return local;
+        }
+
+        ValueWrapper remote = redisCache.get(key);
+        if (remote != null) {
+            storeLocally(localKey, remote.get());
+        }
+        return remote;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException(
+                "캐시 값의 타입이 맞지 않습니다: " + type.getName() + " (" + value.getClass().getName() + ")");
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        String localKey = localKey(key);
+        // 백그라운드 갱신의 재호출은 L1 의 이전 값을 반환하지 않고 L2 에서 다시 계산한 값으로 L1 도 교체
+        ValueWrapper local = CacheRefreshInvoker.isRefreshing(getName(), key)
+            ? null : localCacheStore.get(getName(), localKey);
+        if (local != null) {
+            return (T) local.get();
+        }
+
+        T value = redisCache.get(key, valueLoader);
+        storeLocally(localKey, value);
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        String localKey = localKey(key);
+        redisCache.put(key, value);
+        storeLocally(localKey, value);
+        invalidationBus.publishEvict(getName(), localKey);
+    }
+
+    @Override
+    public void evict(Object key) {
+        String localKey = localKey(key);
+        redisCache.evict(key);
+        localCacheStore.evict(getName(), localKey);
+        invalidationBus.publishEvict(getName(), localKey);
+    }
+
+    @Override
+    public void clear() {
+        redisCache.clear();
+        localCacheStore.clear(getName());
+        invalidationBus.publishClear(getName());
+    }
+
+    private void storeLocally(String localKey, Object value) {
+        localCacheStore.put(getName(), localKey, new SimpleValueWrapper(value), weigher.applyAsLong(value));
+    }
+
+    private static String localKey(Object key) {
+        return String.valueOf(key);
+    }
+}
@@ -0,0 +1,50 @@
+package com.export.dashboard.infrastructure.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.ToLongFunction;
+
+/**
+ * Redis CacheManager 의 각 캐시 앞에 공유 L1 을 두는 CacheManager
+ * 캐시 이름/TTL 설정은 Redis CacheManager 를 그대로 따름
+ */
+public class TwoLevelCacheManager implements CacheManager {
+
+    private final CacheManager redisCacheManager;
+    private final LocalCacheStore localCacheStore;
+    private final CacheInvalidationBus invalidationBus;
+    private final ToLongFunction<Object> weigher;
+    private final Map<String, Cache> caches = new ConcurrentHashMap<>();
+
+    public TwoLevelCacheManager(CacheManager redisCacheManager, LocalCacheStore localCacheStore,
+                                CacheInvalidationBus invalidationBus, ToLongFunction<Object> weigher) {
+        this.redisCacheManager = redisCacheManager;
+        this.localCacheStore = localCacheStore;
+        this.invalidationBus = invalidationBus;
+        this.weigher = weigher;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        Cache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+
+        Cache redisCache = redisCacheManager.getCache(name);
+        if (redisCache == null) {
+            return null;
+        }
+        return caches.computeIfAbsent(name,
+            key -> new TwoLevelCache(redisCache, localCacheStore, invalidationBus, weigher));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return redisCacheManager.getCacheNames();
+    }
+}
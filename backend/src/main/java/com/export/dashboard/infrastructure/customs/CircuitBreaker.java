@@ -0,0 +1,124 @@
+package com.export.dashboard.infrastructure.customs;
+
+import java.time.Duration;
+
+/**
+ * 실패율 기반 서킷 브레이커
+ * 최근 windowSize 번의 호출 중 실패율이 임계값 이상이면 openDuration 동안 호출을 차단하고,
+ * 이후 한 번의 시험 호출(HALF_OPEN) 결과로 닫거나 다시 엶
+ */
+public final class CircuitBreaker {
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final int failureRateThreshold;
+    private final int minimumCalls;
+    private final long openDurationNanos;
+    private final boolean[] outcomes;
+
+    private State state = State.CLOSED;
+    private int next;
+    private int calls;
+    private int failures;
+    private long openedAtNanos;
+    private boolean probeInFlight;
+
+    public CircuitBreaker(int failureRateThreshold, int windowSize, int minimumCalls, Duration openDuration) {
+        if (failureRateThreshold < 1 || failureRateThreshold > 100) {
+            throw new IllegalArgumentException("실패율 임계값은 1~100 사이여야 합니다.");
+        }
+        if (windowSize < 1 || minimumCalls < 1 || minimumCalls > windowSize) {
+            throw new IllegalArgumentException("최소 호출 수는 1 이상, 윈도우 크기 이하여야 합니다.");
+        }
+        this.failureRateThreshold = failureRateThreshold;
+        this.minimumCalls = minimumCalls;
+        this.openDurationNanos = openDuration.toNanos();
+        this.outcomes = new boolean[windowSize];
+    }
+
+    /**
+     * 호출 허가 획득
+     * 열린 상태이거나 HALF_OPEN 시험 호출이 진행 중이면 CircuitBreakerOpenException 발생
+     */
+    public synchronized void acquirePermission() {
+        if (state == State.OPEN) {
+            if (System.nanoTime() - openedAtNanos < openDurationNanos) {
+                throw new CircuitBreakerOpenException("관세청 API 서킷이 열려 있어 호출을 건너뜁니다.");
+            }
+            state = State.HALF_OPEN;
+            probeInFlight = false;
+        }
+        if (state == State.HALF_OPEN) {
+            if (probeInFlight) {
+                throw new CircuitBreakerOpenException("관세청 API 서킷 시험 호출이 진행 중입니다.");
+            }
+            probeInFlight = true;
+        }
+    }
+
+    /**
+     * 결과를 기록하지 못하고 끝난 호출의 허가 반납 (중단, 예상하지 못한 예외)
+     * HALF_OPEN 시험 호출이었다면 다음 호출이 다시 시험할 수 있도록 함
+     */
+    public synchronized void releasePermission() {
+        if (state == State.HALF_OPEN) {
+            probeInFlight = false;
+        }
+    }
+
+    public synchronized void onSuccess() {
+        if (state == State.HALF_OPEN) {
+            close();
+            return;
+        }
+        record(false);
+    }
+
+    public synchronized void onFailure() {
+        if (state == State.HALF_OPEN) {
+            open();
+            return;
+        }
+        record(true);
+        if (calls >= minimumCalls && failures * 100 >= failureRateThreshold * calls) {
+            open();
+        }
+    }
+
+    public synchronized State state() {
+        return state;
+    }
+
+    private void record(boolean failure) {
+        if (calls == outcomes.length) {
+            if (outcomes[next]) {
+                failures--;
+            }
+        } else {
+            calls++;
+        }
+        outcomes[next] = failure;
+        if (failure) {
+            failures++;
+        }
+        next = (next + 1) % outcomes.length;
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAtNanos = System.nanoTime();
+        probeInFlight = false;
+    }
+
+    private void close() {
+        state = State.CLOSED;
+        next = 0;
+        calls = 0;
+        failures = 0;
+        probeInFlight = false;
+    }
+}
@@ -0,0 +1,11 @@
+package com.export.dashboard.infrastructure.customs;
+
+/**
+ * 서킷 브레이커가 열려 호출이 차단된 경우의 예외
+ */
+public class CircuitBreakerOpenException extends RuntimeException {
+
+    public CircuitBreakerOpenException(String message) {
+        super(message);
+    }
+}
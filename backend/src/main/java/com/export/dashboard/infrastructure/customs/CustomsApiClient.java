@@ -0,0 +1,294 @@
+package com.export.dashboard.infrastructure.customs;
+
+import com.export.dashboard.domain.model.ExportPeriod;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 관세청 품목별 수출입실적 API 클라이언트
+ * 한 번의 호출로 HS 코드 하나의 기간(최대 1년) 월별 실적을 조회
+ *
+ * 응답은 StAX 로 순차 파싱하여 수출 필드만 남기고, 확정된 과거 구간의 원본 응답은
+ * CustomsResponseCache 에 저장해 재동기화 시 API 호출 없이 재생
+ */
+@Component
+public class CustomsApiClient {
+
+    private static final Logger logger = LoggerFactory.getLogger(CustomsApiClient.class);
+
+    private static final DateTimeFormatter YEAR_MONTH = DateTimeFormatter.ofPattern("yyyyMM");
+    private static final String SUCCESS_CODE = "00";
+    // 공공데이터포털 서비스 요청 한도 초과
+    private static final String LIMIT_EXCEEDED_CODE = "22";
+
+    // item 의 수입/무역수지 필드(impDlr, impWgt, balPayments 등)는 읽지 않고 건너뜀
+    private static final Set<String> ITEM_FIELDS = Set.of("year", "hsCode", "expDlr", "expWgt");
+
+    private static final XMLInputFactory XML_INPUT_FACTORY = createXmlInputFactory();
+
+    private final HttpClient httpClient;
+    private final CustomsResponseCache responseCache;
+    private final String baseUrl;
+    private final String serviceKey;
+    private final Duration requestTimeout;
+    private final boolean replayOnly;
+
+    public CustomsApiClient(CustomsResponseCache responseCache,
+                            @Value("${export.customs.api.base-url}") String baseUrl,
+                            @Value("${export.customs.api.service-key:}") String serviceKey,
+                            @Value("${export.customs.api.connect-timeout:PT5S}") Duration connectTimeout,
+                            @Value("${export.customs.api.request-timeout:PT30S}") Duration requestTimeout,
+                            @Value("${export.customs.cache.replay-only:false}") boolean replayOnly) {
+        if (replayOnly && !responseCache.isEnabled()) {
+            throw new IllegalArgumentException("캐시 재생 전용 모드는 캐시 디렉터리 설정이 필요합니다.");
+        }
+        this.httpClient = HttpClient.newBuilder()
+            .connectTimeout(connectTimeout)
+            .build();
+        this.responseCache = responseCache;
+        this.baseUrl = baseUrl;
+        this.serviceKey = serviceKey;
+        this.requestTimeout = requestTimeout;
+        this.replayOnly = replayOnly;
+    }
+
+    /**
+     * 캐시에 저장된 응답으로 조회 (API 호출 없음)
+     * 저장된 응답이 없거나 손상된 경우 empty
+     */
+    public Optional<List<CustomsTradeItem>> fetchCached(String hsCode, YearMonth from, YearMonth to) {
+        Optional<InputStream> cached = responseCache.open(hsCode, from, to);
+        if (cached.isEmpty()) {
+            return Optional.empty();
+        }
+        try (InputStream body = cached.get()) {
+            return Optional.of(parse(body, hsCode, from, to));
+        } catch (IOException | CustomsApiException e) {
+            logger.warn("Customs cache entry invalid, evicting {} {}~{}: {}", hsCode, from, to, e.getMessage());
+            responseCache.evict(hsCode, from, to);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * HS 코드의 기간별 수출 실적 조회
+     * 합계 행(year 가 년월 형식이 아닌 행)은 제외
+     */
+    public List<CustomsTradeItem> fetch(String hsCode, YearMonth from, YearMonth to) {
+        if (replayOnly) {
+            throw new CustomsApiException("캐시 재생 전용 모드에서 캐시에 없는 요청입니다: " + describe(hsCode, from, to), false);
+        }
+
+        URI uri = URI.create(baseUrl
+            + "?serviceKey=" + URLEncoder.encode(serviceKey, StandardCharsets.UTF_8)
+            + "&strtYymm=" + from.format(YEAR_MONTH)
+            + "&endYymm=" + to.format(YEAR_MONTH)
+            + "&hsSgn=" + URLEncoder.encode(hsCode, StandardCharsets.UTF_8));
+        HttpRequest request = HttpRequest.newBuilder(uri)
+            .timeout(requestTimeout)
+            .header("Accept", "application/xml")
+            .GET()
+            .build();
+
+        HttpResponse<InputStream> response;
+        try {
+            response = httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+        } catch (IOException e) {
+            throw new CustomsApiException("관세청 API 호출 실패: " + describe(hsCode, from, to), true, e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CustomsApiException("관세청 API 호출이 중단되었습니다: " + describe(hsCode, from, to), false, e);
+        }
+
+        try (InputStream body = response.body()) {
+            int status = response.statusCode();
+            if (status == 429 || status >= 500) {
+                throw new CustomsApiException("관세청 API 일시 오류 (HTTP " + status + "): " + describe(hsCode, from, to), true);
+            }
+            if (status >= 400) {
+                throw new CustomsApiException("관세청 API 요청 오류 (HTTP " + status + "): " + describe(hsCode, from, to), false);
+            }
+            if (!responseCache.isCacheable(to)) {
+                return parse(body, hsCode, from, to);
+            }
+            return parseAndCache(body, hsCode, from, to);
+        } catch (IOException e) {
+            throw new CustomsApiException("관세청 API 응답 수신 실패: " + describe(hsCode, from, to), true, e);
+        }
+    }
+
+    /**
+     * 응답을 임시 파일로 내려받은 뒤 파싱하고, 정상 응답이면 캐시에 등록
+     */
+    private List<CustomsTradeItem> parseAndCache(InputStream body, String hsCode, YearMonth from, YearMonth to)
+            throws IOException {
+        CustomsResponseCache.PendingEntry entry = responseCache.download(body);
+        List<CustomsTradeItem> items;
+        try (InputStream downloaded = responseCache.read(entry)) {
+            items = parse(downloaded, hsCode, from, to);
+        } catch (IOException | RuntimeException e) {
+            responseCache.discard(entry);
+            throw e;
+        }
+
+        try {
+            responseCache.commit(hsCode, from, to, entry);
+        } catch (UncheckedIOException e) {
+            // 캐시 저장 실패는 조회 결과에 영향을 주지 않음
+            logger.warn(e.getMessage(), e.getCause());
+        }
+        return items;
+    }
+
+    /**
+     * 응답 XML 순차 파싱
+     * item 요소는 읽는 즉시 수출 필드만 추출하므로 응답 전체나 원본 항목 목록을 메모리에 두지 않음
+     */
+    private List<CustomsTradeItem> parse(InputStream body, String hsCode, YearMonth from, YearMonth to) {
+        List<CustomsTradeItem> items = new ArrayList<>();
+        String resultCode = null;
+        String resultMessage = null;
+
+        XMLStreamReader reader = null;
+        try {
+            reader = XML_INPUT_FACTORY.createXMLStreamReader(body);
+            while (reader.hasNext()) {
+                if (reader.next() != XMLStreamConstants.START_ELEMENT) {
+                    continue;
+                }
+                switch (reader.getLocalName()) {
+                    case "item" -> {
+                        CustomsTradeItem item = toItem(readItem(reader), hsCode, from, to);
+                        if (item != null) {
+                            items.add(item);
+                        }
+                    }
+                    case "resultCode", "returnReasonCode" -> {
+                        if (resultCode == null) {
+                            resultCode = reader.getElementText().trim();
+                        }
+                    }
+                    case "resultMsg", "returnAuthMsg" -> {
+                        if (resultMessage == null) {
+                            resultMessage = reader.getElementText().trim();
+                        }
+                    }
+                    default -> {
+                    }
+                }
+            }
+        } catch (XMLStreamException e) {
+            throw new CustomsApiException("관세청 API 응답 형식 오류: " + describe(hsCode, from, to), false, e);
+        } finally {
+            close(reader);
+        }
+
+        if (resultCode != null && !SUCCESS_CODE.equals(resultCode)) {
+            throw new CustomsApiException(
+                "관세청 API 오류 응답 (" + resultCode + " " + resultMessage + "): " + describe(hsCode, from, to),
+                LIMIT_EXCEEDED_CODE.equals(resultCode));
+        }
+        return items;
+    }
+
+    /**
+     * item 요소에서 사용하는 필드만 읽고 item 종료 태그에서 멈춤
+     */
+    private static Map<String, String> readItem(XMLStreamReader reader) throws XMLStreamException {
+        Map<String, String> fields = new HashMap<>();
+        int depth = 1;
+        while (depth > 0 && reader.hasNext()) {
+            int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                String name = reader.getLocalName();
+                if (ITEM_FIELDS.contains(name)) {
+                    fields.put(name, reader.getElementText().trim());
+                } else {
+                    depth++;
+                }
+            } else if (event == XMLStreamConstants.END_ELEMENT) {
+                depth--;
+            }
+        }
+        return fields;
+    }
+
+    private static CustomsTradeItem toItem(Map<String, String> fields, String hsCode, YearMonth from, YearMonth to) {
+        // 기간은 yyyyMM 또는 yyyy.MM 형식, 그 외(년도 합계 "총계" 등)는 합계 행
+        String period = fields.get("year");
+        if (period != null) {
+            period = period.replace(".", "");
+        }
+        String itemHsCode = fields.get("hsCode");
+        if (period == null || !period.matches("\\d{6}") || itemHsCode == null || !itemHsCode.matches("\\d{2,10}")) {
+            return null;
+        }
+
+        try {
+            return new CustomsTradeItem(
+                itemHsCode,
+                ExportPeriod.of(Integer.parseInt(period.substring(0, 4)), Integer.parseInt(period.substring(4))),
+                decimal(fields.get("expDlr")),
+                decimal(fields.get("expWgt"))
+            );
+        } catch (RuntimeException e) {
+            throw new CustomsApiException("관세청 API 응답 항목 오류 (" + itemHsCode + " " + period + "): "
+                + describe(hsCode, from, to), false, e);
+        }
+    }
+
+    private static XMLInputFactory createXmlInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
+
+    private static void close(XMLStreamReader reader) {
+        if (reader == null) {
+            return;
+        }
+        try {
+            reader.close();
+        } catch (XMLStreamException e) {
+            logger.debug("Failed to close customs response reader", e);
+        }
+    }
+
+    private static BigDecimal decimal(String text) {
+        if (text == null || text.isEmpty()) {
+            return BigDecimal.ZERO;
+        }
+        return new BigDecimal(text.replace(",", ""));
+    }
+
+    private static String describe(String hsCode, YearMonth from, YearMonth to) {
+        return hsCode + " " + from + "~" + to;
+    }
+}
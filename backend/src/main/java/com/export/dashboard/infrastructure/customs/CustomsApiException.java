@@ -0,0 +1,24 @@
+package com.export.dashboard.infrastructure.customs;
+
+/**
+ * 관세청 API 호출 예외
+ * retryable 이 true 이면 일시적 오류(네트워크, 5xx, 429, 호출 한도 초과)로 재시도 대상
+ */
+public class CustomsApiException extends RuntimeException {
+
+    private final boolean retryable;
+
+    public CustomsApiException(String message, boolean retryable) {
+        super(message);
+        this.retryable = retryable;
+    }
+
+    public CustomsApiException(String message, boolean retryable, Throwable cause) {
+        super(message, cause);
+        this.retryable = retryable;
+    }
+
+    public boolean isRetryable() {
+        return retryable;
+    }
+}
@@ -0,0 +1,354 @@
+package com.export.dashboard.infrastructure.customs;
+
+import com.export.dashboard.domain.event.ExportStatisticsReloaded;
+import com.export.dashboard.domain.model.CountryCode;
+import com.export.dashboard.domain.repository.CountryRepository;
+import com.export.dashboard.domain.service.ExportStatisticDomainService;
+import com.export.dashboard.infrastructure.analytics.HsCodeTrie;
+import com.export.dashboard.infrastructure.analytics.HsCodeTrieProvider;
+import com.export.dashboard.infrastructure.customs.CustomsTradeFetcher.FetchFailure;
+import com.export.dashboard.infrastructure.customs.CustomsTradeFetcher.FetchReport;
+import com.export.dashboard.infrastructure.customs.CustomsTradeFetcher.FetchRequest;
+import com.export.dashboard.infrastructure.outbox.DomainEventOutbox;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiFunction;
+
+/**
+ * 관세청 월간 수출 실적 동기화 작업
+ * 등록된 HS 코드(선택 시 지정 챕터만)의 실적을 병렬로 수집하여 chunkSize 행씩 WLD(전체) 국가로 UPSERT 한 뒤,
+ * 영향 년도의 파생 컬럼을 재계산
+ * (WLD 행은 집계 테이블과 큐브에 포함되지 않으므로 집계 재구성과 큐브 재적재는 하지 않음)
+ *
+ * 정기 실행은 HS 코드별 체크포인트 다음 달부터 직전 월까지 누락된 구간만 요청하며,
+ * 체크포인트는 청크 UPSERT 와 같은 트랜잭션에서 전진하므로 중단된 실행은 다음 실행에서 이어서 진행
+ *
+ * 여러 인스턴스에서 동시에 실행되면 HS 챕터 파티션을 PostgreSQL advisory lock 으로 나누어 처리
+ */
+@Component
+public class CustomsDataSyncJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(CustomsDataSyncJob.class);
+
+    private final CustomsTradeFetcher customsTradeFetcher;
+    private final CustomsExportStatisticWriter customsExportStatisticWriter;
+    private final CustomsSyncCheckpointStore customsSyncCheckpointStore;
+    private final CustomsPartitionLock customsPartitionLock;
+    private final HsCodeTrieProvider hsCodeTrieProvider;
+    private final CountryRepository countryRepository;
+    private final ExportStatisticDomainService exportStatisticDomainService;
+    private final TransactionTemplate transactionTemplate;
+    private final DomainEventOutbox domainEventOutbox;
+    private final Set<String> hsChapters;
+    private final int lookbackMonths;
+    private final int chunkSize;
+
+    // 한 노드에서 스케줄 실행과 수동 실행이 겹치지 않도록 함
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public CustomsDataSyncJob(CustomsTradeFetcher customsTradeFetcher,
+                              CustomsExportStatisticWriter customsExportStatisticWriter,
+                              CustomsSyncCheckpointStore customsSyncCheckpointStore,
+                              CustomsPartitionLock customsPartitionLock,
+                              HsCodeTrieProvider hsCodeTrieProvider,
+                              CountryRepository countryRepository,
+                              ExportStatisticDomainService exportStatisticDomainService,
+                              TransactionTemplate transactionTemplate,
+                              DomainEventOutbox domainEventOutbox,
+                              @Value("${export.customs.sync.hs-chapters:}") Set<String> hsChapters,
+                              @Value("${export.customs.sync.lookback-months:12}") int lookbackMonths,
+                              @Value("${export.customs.sync.chunk-size:500}") int chunkSize) {
+        if (lookbackMonths < 1 || chunkSize < 1) {
+            throw new IllegalArgumentException("조회 개월 수와 청크 크기는 1 이상이어야 합니다.");
+        }
+        this.customsTradeFetcher = customsTradeFetcher;
+        this.customsExportStatisticWriter = customsExportStatisticWriter;
+        this.customsSyncCheckpointStore = customsSyncCheckpointStore;
+        this.customsPartitionLock = customsPartitionLock;
+        this.hsCodeTrieProvider = hsCodeTrieProvider;
+        this.countryRepository = countryRepository;
+        this.exportStatisticDomainService = exportStatisticDomainService;
+        this.transactionTemplate = transactionTemplate;
+        this.domainEventOutbox = domainEventOutbox;
+        this.hsChapters = hsChapters;
+        this.lookbackMonths = lookbackMonths;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * 정기 실행: 체크포인트 이후 직전 월까지 누락된 구간 동기화
+     * cron 이 "-" 이면 비활성
+     */
+    @Scheduled(cron = "${export.customs.sync.cron:-}")
+    public void runScheduled() {
+        syncMissing(YearMonth.now().minusMonths(1));
+    }
+
+    /**
+     * 누락 구간 동기화
+     * 체크포인트가 없는 HS 코드는 to 이전 lookbackMonths 개월부터 적재
+     */
+    public SyncResult syncMissing(YearMonth to) {
+        YearMonth initialFrom = to.minusMonths(lookbackMonths - 1L);
+        return runExclusively((hsCodes, checkpoints) -> {
+            Map<String, YearMonth> fromByHsCode = new LinkedHashMap<>();
+            for (String hsCode : hsCodes) {
+                YearMonth checkpoint = checkpoints.get(hsCode);
+                fromByHsCode.put(hsCode, checkpoint == null ? initialFrom : checkpoint.plusMonths(1));
+            }
+            return CustomsTradeFetcher.plan(fromByHsCode, to);
+        });
+    }
+
+    /**
+     * 지정 기간 전체 재동기화 (체크포인트와 관계없이 요청, 연속 구간이면 체크포인트 전진)
+     * 파티션 점유가 끝난 뒤 다른 인스턴스가 같은 파티션을 다시 처리할 수 있으므로 한 인스턴스에서만 실행
+     */
+    public SyncResult sync(YearMonth from, YearMonth to) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("시작 년월은 종료 년월보다 늦을 수 없습니다.");
+        }
+        return runExclusively((hsCodes, checkpoints) -> CustomsTradeFetcher.plan(hsCodes, from, to));
+    }
+
+    private SyncResult runExclusively(BiFunction<List<String>, Map<String, YearMonth>, List<FetchRequest>> planner) {
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("관세청 데이터 동기화가 이미 실행 중입니다.");
+        }
+        try {
+            if (!countryRepository.existsByCountryCode(CountryCode.of(CountryCode.WORLD))) {
+                throw new IllegalStateException("관세청 데이터를 저장할 WLD(전체) 국가가 등록되어 있지 않습니다.");
+            }
+            return doSync(planner);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * HS 챕터 파티션 단위 동기화
+     * 인스턴스마다 임의의 챕터부터 순회하며 advisory lock 을 얻은 파티션만 처리하므로,
+     * 여러 인스턴스가 동시에 실행되면 파티션을 나누어 처리하고 같은 파티션을 동시에 처리하지 않음
+     * 파티션은 점유 시점의 체크포인트로 계획하므로 다른 인스턴스가 이미 끝낸 파티션은 요청 없이 지나감
+     */
+    private SyncResult doSync(BiFunction<List<String>, Map<String, YearMonth>, List<FetchRequest>> planner) {
+        long startedAt = System.nanoTime();
+        Map<String, List<String>> partitions = partitionsByChapter();
+        int hsCodeCount = partitions.values().stream().mapToInt(List::size).sum();
+        logger.info("Customs sync started: {} HS codes in {} chapter partitions", hsCodeCount, partitions.size());
+
+        List<String> chapters = new ArrayList<>(partitions.keySet());
+        if (!chapters.isEmpty()) {
+            Collections.rotate(chapters, ThreadLocalRandom.current().nextInt(chapters.size()));
+        }
+
+        List<ChunkedWriter> writers = new ArrayList<>();
+        List<FetchReport> reports = new ArrayList<>();
+        List<String> failedPartitions = new ArrayList<>();
+        for (String chapter : chapters) {
+            Optional<CustomsPartitionLock.Claim> claim = customsPartitionLock.tryClaim(chapter);
+            if (claim.isEmpty()) {
+                logger.debug("Customs partition {} is claimed by another instance, skipping", chapter);
+                continue;
+            }
+            try (CustomsPartitionLock.Claim ignored = claim.get()) {
+                Map<String, YearMonth> checkpoints = customsSyncCheckpointStore.findAll();
+                List<FetchRequest> requests = planner.apply(partitions.get(chapter), checkpoints);
+                ChunkedWriter writer = new ChunkedWriter(requests, checkpoints);
+                writers.add(writer);
+                reports.add(customsTradeFetcher.fetchAll(requests, writer::add));
+                writer.flush();
+            } catch (RuntimeException e) {
+                // 나머지 파티션은 계속 처리하고, 실패한 파티션은 저장된 체크포인트 이후부터 다음 실행에서 재시도
+                logger.error("Customs partition {} failed: {}", chapter, e.getMessage(), e);
+                failedPartitions.add(chapter);
+            }
+        }
+
+        int written = writers.stream().mapToInt(writer -> writer.written).sum();
+        if (written > 0) {
+            int minYear = writers.stream().mapToInt(writer -> writer.minYear).min().orElseThrow();
+            int maxYear = writers.stream().mapToInt(writer -> writer.maxYear).max().orElseThrow();
+            // 동기화 년도와 그 다음 년도(전년 대비 성장률 영향)의 성장률/점유율 재계산, 인스턴스 간 직렬화
+            transactionTemplate.executeWithoutResult(status -> {
+                customsPartitionLock.lockRecalculation();
+                exportStatisticDomainService.recalculateGrowthRatesAndMarketShares(minYear, maxYear + 1);
+                // 같은 트랜잭션에서 아웃박스에 저장하여 커밋 이후 통계/분석 캐시 무효화
+                domainEventOutbox.append(ExportStatisticsReloaded.of(minYear, maxYear + 1));
+            });
+        }
+
+        List<FetchFailure> failures = new ArrayList<>();
+        reports.forEach(report -> failures.addAll(report.failures()));
+        SyncResult result = new SyncResult(
+            hsCodeCount,
+            partitions.size(),
+            writers.size(),
+            failedPartitions,
+            reports.stream().mapToInt(FetchReport::requests).sum(),
+            reports.stream().mapToInt(FetchReport::cachedRequests).sum(),
+            reports.stream().mapToInt(FetchReport::items).sum(),
+            written,
+            writers.stream().mapToInt(writer -> writer.advancedCheckpoints).sum(),
+            failures,
+            Duration.ofNanos(System.nanoTime() - startedAt)
+        );
+        if (result.failures().isEmpty() && result.failedPartitions().isEmpty()) {
+            logger.info("Customs sync finished: {}/{} partitions claimed, {} requests ({} from cache), {} items, "
+                    + "{} rows written, {} checkpoints advanced in {} ms",
+                result.claimedPartitions(), result.partitions(), result.requests(), result.cachedRequests(),
+                result.fetchedItems(), result.writtenRows(), result.advancedCheckpoints(), result.elapsed().toMillis());
+        } else {
+            logger.warn("Customs sync finished with {} failed requests and failed partitions {}: "
+                    + "{}/{} partitions claimed, {} requests, {} items, {} rows written, "
+                    + "{} checkpoints advanced in {} ms",
+                result.failures().size(), result.failedPartitions(), result.claimedPartitions(), result.partitions(),
+                result.requests(), result.fetchedItems(), result.writtenRows(), result.advancedCheckpoints(),
+                result.elapsed().toMillis());
+        }
+        return result;
+    }
+
+    /**
+     * 대상 HS 코드를 2자리 챕터별로 분할
+     */
+    private Map<String, List<String>> partitionsByChapter() {
+        Map<String, List<String>> partitions = new TreeMap<>();
+        for (HsCodeTrie.Entry entry : hsCodeTrieProvider.current().withPrefix("")) {
+            String chapter = entry.hsCode().getChapter().value();
+            if (hsChapters.isEmpty() || hsChapters.contains(chapter)) {
+                partitions.computeIfAbsent(chapter, key -> new ArrayList<>()).add(entry.hsCode().value());
+            }
+        }
+        return partitions;
+    }
+
+    /**
+     * 수집 결과를 chunkSize 행 단위로 모아 저장하고 체크포인트를 전진 (수집기 호출 스레드에서만 사용)
+     * HS 코드별로 앞 구간부터 빠짐없이 저장된 요청까지만 체크포인트에 반영하여,
+     * 실패하거나 아직 저장되지 않은 구간이 있으면 그 이후 구간은 다음 실행에서 다시 요청
+     */
+    private final class ChunkedWriter {
+
+        private final List<CustomsTradeItem> buffer = new ArrayList<>(chunkSize);
+        private final List<FetchRequest> bufferedRequests = new ArrayList<>();
+        private final Map<String, Deque<FetchRequest>> pendingByHsCode = new HashMap<>();
+        private final Set<FetchRequest> durable = new HashSet<>();
+        private final Map<String, YearMonth> checkpoints;
+        private final HsCodeTrie hsCodeTrie = hsCodeTrieProvider.current();
+        private int written;
+        private int advancedCheckpoints;
+        private int minYear = Integer.MAX_VALUE;
+        private int maxYear = Integer.MIN_VALUE;
+
+        ChunkedWriter(List<FetchRequest> requests, Map<String, YearMonth> checkpoints) {
+            // plan 은 HS 코드별 구간을 시간 순으로 생성
+            for (FetchRequest request : requests) {
+                pendingByHsCode.computeIfAbsent(request.hsCode(), key -> new ArrayDeque<>()).add(request);
+            }
+            this.checkpoints = new HashMap<>(checkpoints);
+        }
+
+        void add(FetchRequest request, List<CustomsTradeItem> items) {
+            bufferedRequests.add(request);
+            for (CustomsTradeItem item : items) {
+                // 등록되지 않은 세부 HS 코드는 저장 대상이 아니므로 DB 로 보내지 않음
+                if (!hsCodeTrie.contains(item.hsCode())) {
+                    continue;
+                }
+                buffer.add(item);
+                minYear = Math.min(minYear, item.period().year());
+                maxYear = Math.max(maxYear, item.period().year());
+            }
+            if (buffer.size() >= chunkSize || bufferedRequests.size() >= chunkSize) {
+                flush();
+            }
+        }
+
+        void flush() {
+            if (bufferedRequests.isEmpty()) {
+                return;
+            }
+            Map<String, YearMonth> advanced = advance();
+            Integer chunkWritten = transactionTemplate.execute(status -> {
+                int rows = buffer.isEmpty() ? 0 : customsExportStatisticWriter.write(buffer);
+                customsSyncCheckpointStore.advance(advanced);
+                return rows;
+            });
+            written += chunkWritten == null ? 0 : chunkWritten;
+            advancedCheckpoints += advanced.size();
+            checkpoints.putAll(advanced);
+            buffer.clear();
+            bufferedRequests.clear();
+        }
+
+        /**
+         * 버퍼의 요청이 저장되었을 때 HS 코드별로 전진할 체크포인트 계산
+         */
+        private Map<String, YearMonth> advance() {
+            durable.addAll(bufferedRequests);
+            Map<String, YearMonth> advanced = new HashMap<>();
+            for (FetchRequest request : bufferedRequests) {
+                String hsCode = request.hsCode();
+                Deque<FetchRequest> pending = pendingByHsCode.get(hsCode);
+                YearMonth checkpoint = advanced.getOrDefault(hsCode, checkpoints.get(hsCode));
+                YearMonth reached = checkpoint;
+                while (!pending.isEmpty() && durable.remove(pending.peekFirst())) {
+                    FetchRequest window = pending.pollFirst();
+                    // 체크포인트와 이어지지 않는 구간은 사이에 누락이 있으므로 반영하지 않음
+                    boolean contiguous = reached == null || !window.from().isAfter(reached.plusMonths(1));
+                    if (contiguous && (reached == null || window.to().isAfter(reached))) {
+                        reached = window.to();
+                    }
+                }
+                if (reached != null && !reached.equals(checkpoint)) {
+                    advanced.put(hsCode, reached);
+                }
+            }
+            return advanced;
+        }
+    }
+
+    /**
+     * 동기화 결과
+     * partitions: 대상 챕터 파티션 수, claimedPartitions: 이 인스턴스가 점유해 처리한 파티션 수
+     * cachedRequests: API 호출 없이 디스크 캐시에서 재생한 요청 수
+     * writtenRows: 삽입 또는 값이 변경된 행 (미등록 HS 코드와 변경 없는 행 제외)
+     * advancedCheckpoints: 체크포인트가 전진한 횟수 (HS 코드별 청크 단위)
+     */
+    public record SyncResult(
+        int hsCodes,
+        int partitions,
+        int claimedPartitions,
+        List<String> failedPartitions,
+        int requests,
+        int cachedRequests,
+        int fetchedItems,
+        int writtenRows,
+        int advancedCheckpoints,
+        List<FetchFailure> failures,
+        Duration elapsed
+    ) {
+    }
+}
@@ -0,0 +1,89 @@
+package com.export.dashboard.infrastructure.customs;
+
+import com.export.dashboard.domain.model.CountryCode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.util.List;
+
+/**
+ * 관세청 수출 실적 저장기
+ * 국가 구분이 없는 관세청 데이터를 WLD(전체) 국가로 export_statistics 에 저장하며 (국가별 집계에서는 제외),
+ * chunkSize 행씩 배열 파라미터(unnest) 한 문장으로 UPSERT 하여 행 단위 왕복을 없앰
+ */
+@Component
+public class CustomsExportStatisticWriter {
+
+    // 등록되지 않은 HS 코드는 product_categories 조인에서 제외되고,
+    // 기존 값과 같은 행은 갱신하지 않아 version 이 불필요하게 증가하지 않음
+    private static final String UPSERT_SQL =
+        "INSERT INTO export_statistics (id, country_id, product_category_id, year, month, " +
+        "    export_value_usd, currency, export_weight_kg, growth_rate_yoy, market_share, version) " +
+        "SELECT nextval('export_statistics_seq'), w.id, p.id, i.year, i.month, " +
+        "       i.export_value_usd, 'USD', i.export_weight_kg, 0, 0, 0 " +
+        "FROM ( " +
+        "    SELECT DISTINCT ON (hs_code, year, month) hs_code, year, month, export_value_usd, export_weight_kg " +
+        "    FROM unnest(?::text[], ?::int[], ?::int[], ?::numeric[], ?::numeric[]) WITH ORDINALITY " +
+        "         AS t(hs_code, year, month, export_value_usd, export_weight_kg, ord) " +
+        "    ORDER BY hs_code, year, month, ord DESC " +
+        ") i " +
+        "JOIN product_categories p ON p.hs_code = i.hs_code " +
+        "JOIN countries w ON w.country_code = '" + CountryCode.WORLD + "' " +
+        "ON CONFLICT ON CONSTRAINT uk_export_stats DO UPDATE SET " +
+        "    export_value_usd = EXCLUDED.export_value_usd, " +
+        "    export_weight_kg = EXCLUDED.export_weight_kg, " +
+        "    version = COALESCE(export_statistics.version, 0) + 1 " +
+        "WHERE export_statistics.export_value_usd IS DISTINCT FROM EXCLUDED.export_value_usd " +
+        "   OR export_statistics.export_weight_kg IS DISTINCT FROM EXCLUDED.export_weight_kg";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final int chunkSize;
+
+    public CustomsExportStatisticWriter(JdbcTemplate jdbcTemplate,
+                                        @Value("${export.customs.sync.chunk-size:500}") int chunkSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * 수출 실적 UPSERT
+     * @return 삽입 또는 변경된 행 수
+     */
+    public int write(List<CustomsTradeItem> items) {
+        int written = 0;
+        for (int start = 0; start < items.size(); start += chunkSize) {
+            written += writeChunk(items.subList(start, Math.min(items.size(), start + chunkSize)));
+        }
+        return written;
+    }
+
+    private int writeChunk(List<CustomsTradeItem> chunk) {
+        int size = chunk.size();
+        String[] hsCodes = new String[size];
+        Integer[] years = new Integer[size];
+        Integer[] months = new Integer[size];
+        BigDecimal[] values = new BigDecimal[size];
+        BigDecimal[] weights = new BigDecimal[size];
+        for (int i = 0; i < size; i++) {
+            CustomsTradeItem item = chunk.get(i);
+            hsCodes[i] = item.hsCode();
+            years[i] = item.period().year();
+            months[i] = item.period().month();
+            values[i] = item.exportValueUsd();
+            weights[i] = item.exportWeightKg();
+        }
+
+        return jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(UPSERT_SQL);
+            statement.setArray(1, connection.createArrayOf("text", hsCodes));
+            statement.setArray(2, connection.createArrayOf("int4", years));
+            statement.setArray(3, connection.createArrayOf("int4", months));
+            statement.setArray(4, connection.createArrayOf("numeric", values));
+            statement.setArray(5, connection.createArrayOf("numeric", weights));
+            return statement;
+        });
+    }
+}
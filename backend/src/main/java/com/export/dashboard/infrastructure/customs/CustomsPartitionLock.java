@@ -0,0 +1,140 @@
+package com.export.dashboard.infrastructure.customs;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Optional;
+
+/**
+ * PostgreSQL advisory lock 기반 관세청 동기화 작업 분할 잠금
+ * 여러 백엔드 인스턴스가 HS 챕터(2자리) 파티션을 세션 잠금으로 나누어 가지며,
+ * 잠금은 점유한 커넥션에 묶여 있어 처리 중 인스턴스가 종료되면 DB 가 자동으로 해제
+ *
+ * 잠금 키: (LOCK_NAMESPACE, 챕터 번호), 파생 컬럼 재계산은 존재하지 않는 챕터 00 을 사용
+ */
+@Component
+public class CustomsPartitionLock {
+
+    private static final Logger logger = LoggerFactory.getLogger(CustomsPartitionLock.class);
+
+    // 관세청 품목별 수출입실적 API 서비스 ID
+    private static final int LOCK_NAMESPACE = 1220000;
+    private static final int RECALCULATION_KEY = 0;
+
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+
+    public CustomsPartitionLock(DataSource dataSource, JdbcTemplate jdbcTemplate) {
+        this.dataSource = dataSource;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * 챕터 파티션 점유 시도 (대기하지 않음)
+     * @return 다른 인스턴스가 점유 중이면 empty
+     */
+    public Optional<Claim> tryClaim(String chapter) {
+        int key = chapterKey(chapter);
+        Connection connection = null;
+        try {
+            connection = dataSource.getConnection();
+            // 풀 커넥션이 트랜잭션 없이 잠금만 유지하도록 자동 커밋 유지
+            connection.setAutoCommit(true);
+            if (!tryLock(connection, key)) {
+                connection.close();
+                return Optional.empty();
+            }
+            return Optional.of(new Claim(chapter, key, connection));
+        } catch (SQLException e) {
+            closeQuietly(connection);
+            throw new IllegalStateException("관세청 동기화 파티션 잠금 실패: 챕터 " + chapter, e);
+        }
+    }
+
+    /**
+     * 현재 트랜잭션 종료까지 파생 컬럼/집계 재계산을 다른 인스턴스와 직렬화
+     */
+    public void lockRecalculation() {
+        jdbcTemplate.query("SELECT pg_advisory_xact_lock(?, ?)", rs -> { }, LOCK_NAMESPACE, RECALCULATION_KEY);
+    }
+
+    private static boolean tryLock(Connection connection, int key) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT pg_try_advisory_lock(?, ?)")) {
+            statement.setInt(1, LOCK_NAMESPACE);
+            statement.setInt(2, key);
+            try (ResultSet rs = statement.executeQuery()) {
+                return rs.next() && rs.getBoolean(1);
+            }
+        }
+    }
+
+    private static int chapterKey(String chapter) {
+        if (chapter == null || !chapter.matches("\\d{2}") || "00".equals(chapter)) {
+            throw new IllegalArgumentException("HS 챕터는 01~99 의 2자리 숫자여야 합니다: " + chapter);
+        }
+        return Integer.parseInt(chapter);
+    }
+
+    private static void closeQuietly(Connection connection) {
+        if (connection == null) {
+            return;
+        }
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            logger.warn("Failed to close customs partition lock connection: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 점유한 파티션 (close 시 잠금 해제 후 커넥션 반환)
+     */
+    public static final class Claim implements AutoCloseable {
+
+        private final String chapter;
+        private final int key;
+        private final Connection connection;
+
+        private Claim(String chapter, int key, Connection connection) {
+            this.chapter = chapter;
+            this.key = key;
+            this.connection = connection;
+        }
+
+        public String chapter() {
+            return chapter;
+        }
+
+        @Override
+        public void close() {
+            try (PreparedStatement statement = connection.prepareStatement("SELECT pg_advisory_unlock(?, ?)")) {
+                statement.setInt(1, LOCK_NAMESPACE);
+                statement.setInt(2, key);
+                statement.execute();
+            } catch (SQLException e) {
+                // 해제에 실패해도 커넥션을 닫으면 세션 잠금은 함께 해제되도록 물리 커넥션을 폐기
+                logger.warn("Failed to release customs partition lock for chapter {}: {}", chapter, e.getMessage());
+                abort();
+                return;
+            }
+            closeQuietly(connection);
+        }
+
+        private void abort() {
+            try {
+                connection.abort(Runnable::run);
+            } catch (SQLException e) {
+                logger.warn("Failed to abort customs partition lock connection: {}", e.getMessage());
+            } finally {
+                closeQuietly(connection);
+            }
+        }
+    }
+}
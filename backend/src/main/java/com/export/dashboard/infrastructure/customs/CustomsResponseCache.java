@@ -0,0 +1,204 @@
+package com.export.dashboard.infrastructure.customs;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 관세청 API 원본 응답 디스크 캐시
+ * 확정된 과거 월 구간의 응답을 gzip 으로 압축해 내용 해시(SHA-256)로 저장하고,
+ * (hsSgn, strtYymm, endYymm) 키는 해시를 가리키는 참조 파일로 관리하여 같은 응답은 한 번만 저장
+ *
+ * 디렉터리 구조
+ *   objects/ab/abcdef...xml.gz    원본 응답 (내용 해시)
+ *   refs/{hsSgn}/{strtYymm}-{endYymm}  응답 해시
+ *
+ * 디렉터리가 비어 있으면 비활성
+ */
+@Component
+public class CustomsResponseCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(CustomsResponseCache.class);
+
+    private static final DateTimeFormatter YEAR_MONTH = DateTimeFormatter.ofPattern("yyyyMM");
+    private static final String OBJECT_SUFFIX = ".xml.gz";
+
+    private final Path directory;
+    private final int immutableAfterMonths;
+
+    public CustomsResponseCache(@Value("${export.customs.cache.directory:}") String directory,
+                                @Value("${export.customs.cache.immutable-after-months:3}") int immutableAfterMonths) {
+        if (immutableAfterMonths < 0) {
+            throw new IllegalArgumentException("확정 기준 개월 수는 0 이상이어야 합니다.");
+        }
+        this.directory = directory == null || directory.isBlank() ? null : Path.of(directory);
+        this.immutableAfterMonths = immutableAfterMonths;
+    }
+
+    public boolean isEnabled() {
+        return directory != null;
+    }
+
+    /**
+     * 응답 저장 대상 여부
+     * 관세청은 최근 월 실적을 잠정치로 공개 후 수정하므로, 종료 년월이 확정 기준 이전인 구간만 저장
+     */
+    public boolean isCacheable(YearMonth to) {
+        return isEnabled() && to.isBefore(YearMonth.now().minusMonths(immutableAfterMonths - 1L));
+    }
+
+    /**
+     * 저장된 원본 응답 조회
+     * @return 압축 해제된 응답 스트림 (호출자가 닫아야 함)
+     */
+    public Optional<InputStream> open(String hsCode, YearMonth from, YearMonth to) {
+        if (!isEnabled()) {
+            return Optional.empty();
+        }
+        Path ref = refPath(hsCode, from, to);
+        if (!Files.exists(ref)) {
+            return Optional.empty();
+        }
+        try {
+            Path object = objectPath(Files.readString(ref, StandardCharsets.US_ASCII).trim());
+            return Optional.of(new GZIPInputStream(Files.newInputStream(object)));
+        } catch (IOException | IllegalArgumentException e) {
+            logger.warn("Customs cache entry unreadable, evicting {}: {}", ref, e.getMessage());
+            evict(hsCode, from, to);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 응답 본문을 임시 파일로 압축 저장하며 내용 해시 계산
+     * 본문은 버퍼 단위로만 복사되어 크기에 관계없이 메모리 사용량이 일정
+     */
+    public PendingEntry download(InputStream body) throws IOException {
+        Path tmpDirectory = Files.createDirectories(directory.resolve("tmp"));
+        Path tmp = Files.createTempFile(tmpDirectory, "response-", OBJECT_SUFFIX);
+        try {
+            DigestInputStream digestInput = new DigestInputStream(body, sha256());
+            try (OutputStream output = new GZIPOutputStream(Files.newOutputStream(tmp))) {
+                digestInput.transferTo(output);
+            }
+            return new PendingEntry(tmp, HexFormat.of().formatHex(digestInput.getMessageDigest().digest()));
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(tmp);
+            throw e;
+        }
+    }
+
+    /**
+     * 임시 파일의 압축 해제 스트림
+     */
+    public InputStream read(PendingEntry entry) throws IOException {
+        return new GZIPInputStream(Files.newInputStream(entry.file()));
+    }
+
+    /**
+     * 정상 응답으로 확인된 임시 파일을 캐시에 등록
+     * 같은 내용의 응답이 이미 있으면 임시 파일을 버리고 참조만 추가
+     */
+    public void commit(String hsCode, YearMonth from, YearMonth to, PendingEntry entry) {
+        try {
+            Path object = objectPath(entry.sha256());
+            if (Files.exists(object)) {
+                Files.deleteIfExists(entry.file());
+            } else {
+                Files.createDirectories(object.getParent());
+                moveAtomically(entry.file(), object);
+            }
+
+            Path ref = refPath(hsCode, from, to);
+            Files.createDirectories(ref.getParent());
+            Path tmpRef = Files.createTempFile(ref.getParent(), ".ref-", null);
+            Files.writeString(tmpRef, entry.sha256(), StandardCharsets.US_ASCII);
+            moveAtomically(tmpRef, ref);
+        } catch (IOException e) {
+            discard(entry);
+            throw new UncheckedIOException("관세청 응답 캐시 저장 실패: " + hsCode + " " + from + "~" + to, e);
+        }
+    }
+
+    public void discard(PendingEntry entry) {
+        try {
+            Files.deleteIfExists(entry.file());
+        } catch (IOException e) {
+            logger.warn("Failed to delete customs cache temp file {}: {}", entry.file(), e.getMessage());
+        }
+    }
+
+    /**
+     * 참조 삭제 (원본 객체는 다른 키가 참조할 수 있으므로 유지)
+     */
+    public void evict(String hsCode, YearMonth from, YearMonth to) {
+        if (!isEnabled()) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(refPath(hsCode, from, to));
+        } catch (IOException e) {
+            logger.warn("Failed to evict customs cache entry {} {}~{}: {}", hsCode, from, to, e.getMessage());
+        }
+    }
+
+    private Path refPath(String hsCode, YearMonth from, YearMonth to) {
+        if (!hsCode.matches("\\d{2,10}")) {
+            throw new IllegalArgumentException("HS 코드 형식이 올바르지 않습니다: " + hsCode);
+        }
+        return directory.resolve("refs").resolve(hsCode)
+            .resolve(from.format(YEAR_MONTH) + "-" + to.format(YEAR_MONTH));
+    }
+
+    private Path objectPath(String sha256) {
+        if (!sha256.matches("[0-9a-f]{64}")) {
+            throw new IllegalArgumentException("캐시 참조 해시 형식이 올바르지 않습니다: " + sha256);
+        }
+        return directory.resolve("objects").resolve(sha256.substring(0, 2)).resolve(sha256 + OBJECT_SUFFIX);
+    }
+
+    private static void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        } catch (FileAlreadyExistsException e) {
+            Files.deleteIfExists(source);
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 캐시 등록 전 임시 응답 파일
+     */
+    public record PendingEntry(Path file, String sha256) {
+    }
+}
@@ -0,0 +1,63 @@
+package com.export.dashboard.infrastructure.customs;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 관세청 동기화 체크포인트 저장소
+ * HS 코드별로 export_statistics 에 빠짐없이 저장된 마지막 년월을 관리
+ */
+@Component
+public class CustomsSyncCheckpointStore {
+
+    private static final String SELECT_ALL_SQL =
+        "SELECT hs_code, last_synced_year, last_synced_month FROM customs_sync_checkpoints";
+
+    // 체크포인트는 앞으로만 이동 (동시 실행이나 과거 구간 재동기화로 되돌아가지 않음)
+    private static final String ADVANCE_SQL =
+        "INSERT INTO customs_sync_checkpoints (hs_code, last_synced_year, last_synced_month, updated_at) " +
+        "VALUES (?, ?, ?, CURRENT_TIMESTAMP) " +
+        "ON CONFLICT (hs_code) DO UPDATE SET " +
+        "    last_synced_year = EXCLUDED.last_synced_year, " +
+        "    last_synced_month = EXCLUDED.last_synced_month, " +
+        "    updated_at = EXCLUDED.updated_at " +
+        "WHERE (customs_sync_checkpoints.last_synced_year, customs_sync_checkpoints.last_synced_month) " +
+        "    < (EXCLUDED.last_synced_year, EXCLUDED.last_synced_month)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public CustomsSyncCheckpointStore(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * HS 코드별 마지막 동기화 년월
+     */
+    public Map<String, YearMonth> findAll() {
+        Map<String, YearMonth> checkpoints = new HashMap<>();
+        jdbcTemplate.query(SELECT_ALL_SQL, rs -> {
+            checkpoints.put(rs.getString("hs_code"),
+                YearMonth.of(rs.getInt("last_synced_year"), rs.getInt("last_synced_month")));
+        });
+        return checkpoints;
+    }
+
+    /**
+     * 체크포인트 전진 (현재 값보다 이후인 경우에만 갱신)
+     */
+    public void advance(Map<String, YearMonth> checkpoints) {
+        if (checkpoints.isEmpty()) {
+            return;
+        }
+        List<Object[]> args = new ArrayList<>(checkpoints.size());
+        checkpoints.forEach((hsCode, period) ->
+            args.add(new Object[]{hsCode, period.getYear(), period.getMonthValue()}));
+        jdbcTemplate.batchUpdate(ADVANCE_SQL, args);
+    }
+}
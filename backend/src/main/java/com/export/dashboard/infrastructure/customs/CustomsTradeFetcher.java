@@ -0,0 +1,222 @@
+package com.export.dashboard.infrastructure.customs;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+
+/**
+ * 관세청 API 병렬 수집기
+ * (HS 코드, 최대 1년 구간) 단위 요청을 고정 크기 스레드 풀에서 동시에 실행하되
+ * 모든 요청이 하나의 토큰 버킷과 서킷 브레이커를 공유하여 API 호출 제한을 지키고,
+ * 일시적 오류는 지터를 적용한 지수 백오프로 재시도
+ * 디스크 캐시에 저장된 요청은 호출 제한과 서킷 브레이커를 거치지 않고 바로 재생
+ *
+ * 수집 결과는 완료되는 순서대로 호출 스레드에서 consumer 에 전달하여 저장을 단일 스레드로 유지
+ */
+public class CustomsTradeFetcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(CustomsTradeFetcher.class);
+
+    // 관세청 API 한 번의 요청으로 조회 가능한 최대 개월 수
+    static final int MAX_MONTHS_PER_REQUEST = 12;
+
+    private final CustomsApiClient customsApiClient;
+    private final TokenBucketRateLimiter rateLimiter;
+    private final CircuitBreaker circuitBreaker;
+    private final ExponentialBackoff backoff;
+    private final int concurrency;
+
+    public CustomsTradeFetcher(CustomsApiClient customsApiClient,
+                               TokenBucketRateLimiter rateLimiter,
+                               CircuitBreaker circuitBreaker,
+                               ExponentialBackoff backoff,
+                               int concurrency) {
+        if (concurrency < 1) {
+            throw new IllegalArgumentException("동시 요청 수는 1 이상이어야 합니다.");
+        }
+        this.customsApiClient = customsApiClient;
+        this.rateLimiter = rateLimiter;
+        this.circuitBreaker = circuitBreaker;
+        this.backoff = backoff;
+        this.concurrency = concurrency;
+    }
+
+    /**
+     * 요청 전체 수집
+     * 성공한 요청은 결과가 비어 있어도 consumer 에 전달하여 호출자가 완료된 구간을 알 수 있도록 함
+     */
+    public FetchReport fetchAll(List<FetchRequest> requests,
+                                BiConsumer<FetchRequest, List<CustomsTradeItem>> consumer) {
+        if (requests.isEmpty()) {
+            return new FetchReport(0, 0, 0, 0, List.of());
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(
+            Math.min(concurrency, requests.size()), new FetcherThreadFactory());
+        try {
+            ExecutorCompletionService<FetchOutcome> completionService = new ExecutorCompletionService<>(executor);
+            for (FetchRequest request : requests) {
+                completionService.submit(() -> fetch(request));
+            }
+
+            int items = 0;
+            int cachedRequests = 0;
+            List<FetchFailure> failures = new ArrayList<>();
+            for (int i = 0; i < requests.size(); i++) {
+                FetchOutcome outcome = completionService.take().get();
+                if (outcome.failure() != null) {
+                    failures.add(outcome.failure());
+                    continue;
+                }
+                if (outcome.cached()) {
+                    cachedRequests++;
+                }
+                items += outcome.items().size();
+                consumer.accept(outcome.request(), outcome.items());
+            }
+            return new FetchReport(requests.size(), requests.size() - failures.size(), cachedRequests, items, failures);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("관세청 데이터 수집이 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("관세청 데이터 수집 중 오류가 발생했습니다.", e.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * HS 코드별로 기간을 최대 1년 구간으로 분할
+     */
+    static List<FetchRequest> plan(Collection<String> hsCodes, YearMonth from, YearMonth to) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("시작 년월은 종료 년월보다 늦을 수 없습니다.");
+        }
+
+        Map<String, YearMonth> fromByHsCode = new LinkedHashMap<>();
+        for (String hsCode : hsCodes) {
+            fromByHsCode.put(hsCode, from);
+        }
+        return plan(fromByHsCode, to);
+    }
+
+    /**
+     * HS 코드별 시작 년월부터 to 까지의 연속 구간을 최소 개수의 요청(최대 1년)으로 분할
+     * 시작 년월이 to 이후인 HS 코드(이미 최신)는 요청하지 않음
+     */
+    static List<FetchRequest> plan(Map<String, YearMonth> fromByHsCode, YearMonth to) {
+        List<FetchRequest> requests = new ArrayList<>();
+        for (Map.Entry<String, YearMonth> entry : fromByHsCode.entrySet()) {
+            String hsCode = entry.getKey();
+            YearMonth windowStart = entry.getValue();
+            while (!windowStart.isAfter(to)) {
+                YearMonth windowEnd = windowStart.plusMonths(MAX_MONTHS_PER_REQUEST - 1);
+                if (windowEnd.isAfter(to)) {
+                    windowEnd = to;
+                }
+                requests.add(new FetchRequest(hsCode, windowStart, windowEnd));
+                windowStart = windowEnd.plusMonths(1);
+            }
+        }
+        return requests;
+    }
+
+    private FetchOutcome fetch(FetchRequest request) {
+        Optional<List<CustomsTradeItem>> cached = customsApiClient.fetchCached(request.hsCode(), request.from(), request.to());
+        if (cached.isPresent()) {
+            return new FetchOutcome(request, cached.get(), true, null);
+        }
+
+        try {
+            return new FetchOutcome(request, fetchWithRetry(request), false, null);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new FetchOutcome(request, List.of(), false, new FetchFailure(request, "수집 중단"));
+        } catch (CustomsApiException | CircuitBreakerOpenException e) {
+            logger.warn("Customs fetch failed for {}: {}", request, e.getMessage());
+            return new FetchOutcome(request, List.of(), false, new FetchFailure(request, e.getMessage()));
+        }
+    }
+
+    private List<CustomsTradeItem> fetchWithRetry(FetchRequest request) throws InterruptedException {
+        for (int attempt = 1; ; attempt++) {
+            circuitBreaker.acquirePermission();
+            boolean recorded = false;
+            try {
+                rateLimiter.acquire();
+                List<CustomsTradeItem> items = customsApiClient.fetch(request.hsCode(), request.from(), request.to());
+                circuitBreaker.onSuccess();
+                recorded = true;
+                return items;
+            } catch (CustomsApiException e) {
+                if (!e.isRetryable()) {
+                    // 요청 자체의 오류는 API 장애가 아니므로 서킷 실패율에 포함하지 않음
+                    circuitBreaker.onSuccess();
+                    recorded = true;
+                    throw e;
+                }
+                circuitBreaker.onFailure();
+                recorded = true;
+                if (attempt >= backoff.maxAttempts()) {
+                    throw e;
+                }
+                Thread.sleep(backoff.delayBeforeRetry(attempt).toMillis());
+            } finally {
+                // 호출 제한 대기 중 중단되었거나 예상하지 못한 예외로 끝나면 허가를 반납
+                // (HALF_OPEN 시험 호출이 진행 중으로 남아 서킷이 영구히 막히지 않도록 함)
+                if (!recorded) {
+                    circuitBreaker.releasePermission();
+                }
+            }
+        }
+    }
+
+    /**
+     * 단일 API 요청 단위
+     */
+    public record FetchRequest(String hsCode, YearMonth from, YearMonth to) {
+    }
+
+    /**
+     * 재시도 후에도 실패한 요청
+     */
+    public record FetchFailure(FetchRequest request, String reason) {
+    }
+
+    /**
+     * 수집 결과 요약
+     * cachedRequests: 성공한 요청 중 디스크 캐시에서 재생한 요청 수
+     */
+    public record FetchReport(int requests, int succeededRequests, int cachedRequests, int items,
+                              List<FetchFailure> failures) {
+    }
+
+    private record FetchOutcome(FetchRequest request, List<CustomsTradeItem> items, boolean cached, FetchFailure failure) {
+    }
+
+    private static final class FetcherThreadFactory implements ThreadFactory {
+
+        private final AtomicInteger sequence = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable runnable) {
+            Thread thread = new Thread(runnable, "customs-fetcher-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+}
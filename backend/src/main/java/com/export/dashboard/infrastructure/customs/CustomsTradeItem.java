@@ -0,0 +1,16 @@
+package com.export.dashboard.infrastructure.customs;
+
+import com.export.dashboard.domain.model.ExportPeriod;
+
+import java.math.BigDecimal;
+
+/**
+ * 관세청 품목별 수출입실적 응답 항목 (수출 필드만 사용)
+ */
+public record CustomsTradeItem(
+    String hsCode,
+    ExportPeriod period,
+    BigDecimal exportValueUsd,
+    BigDecimal exportWeightKg
+) {
+}
@@ -0,0 +1,27 @@
+package com.export.dashboard.infrastructure.customs;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 지터를 적용한 지수 백오프
+ * n 번째 재시도 전 대기 시간은 min(maxDelay, initialDelay * 2^(n-1)) 의 절반에 같은 크기의 무작위 값을 더해
+ * 동시에 실패한 요청들이 같은 시점에 재시도하지 않도록 분산
+ */
+public record ExponentialBackoff(Duration initialDelay, Duration maxDelay, int maxAttempts) {
+
+    public ExponentialBackoff {
+        if (initialDelay.isNegative() || maxDelay.compareTo(initialDelay) < 0 || maxAttempts < 1) {
+            throw new IllegalArgumentException("백오프 설정이 올바르지 않습니다.");
+        }
+    }
+
+    /**
+     * retry 번째 재시도 전 대기 시간 (retry >= 1)
+     */
+    public Duration delayBeforeRetry(int retry) {
+        long ceiling = Math.min(maxDelay.toMillis(), initialDelay.toMillis() << Math.min(retry - 1, 30));
+        long half = ceiling / 2;
+        return Duration.ofMillis(half + ThreadLocalRandom.current().nextLong(ceiling - half + 1));
+    }
+}
@@ -0,0 +1,207 @@
+package com.export.dashboard.infrastructure.ingestion;
+
+import com.export.dashboard.domain.event.ExportStatisticsReloaded;
+import com.export.dashboard.domain.repository.ExportRollupRepository;
+import com.export.dashboard.domain.service.ExportStatisticDomainService;
+import com.export.dashboard.infrastructure.analytics.ExportCubeProvider;
+import com.export.dashboard.infrastructure.outbox.DomainEventOutbox;
+import org.postgresql.PGConnection;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+
+/**
+ * PostgreSQL COPY 기반 수출 통계 CSV 적재기
+ * Hibernate 를 거치지 않고 CSV 를 UNLOGGED 스테이징 테이블로 스트리밍한 뒤,
+ * 코드 해석/검증/중복 제거/UPSERT 를 한 번의 SQL 로 수행하고 파생 컬럼과 집계 테이블을 재구성
+ *
+ * CSV 헤더: country_code,hs_code,year,month,export_value_usd,export_weight_kg,export_quantity,quantity_unit
+ */
+@Component
+public class CsvExportStatisticLoader {
+
+    private static final Logger logger = LoggerFactory.getLogger(CsvExportStatisticLoader.class);
+
+    private static final String CREATE_STAGING_SQL =
+        "CREATE UNLOGGED TABLE IF NOT EXISTS export_statistics_staging ( " +
+        "    line_no BIGSERIAL, " +
+        "    country_code TEXT, " +
+        "    hs_code TEXT, " +
+        "    year TEXT, " +
+        "    month TEXT, " +
+        "    export_value_usd TEXT, " +
+        "    export_weight_kg TEXT, " +
+        "    export_quantity TEXT, " +
+        "    quantity_unit TEXT " +
+        ")";
+
+    // 직전 적재의 스테이징 데이터는 다음 적재 전까지 남겨 거부된 행을 확인할 수 있도록 함
+    private static final String TRUNCATE_STAGING_SQL =
+        "TRUNCATE export_statistics_staging RESTART IDENTITY";
+
+    private static final String COPY_SQL =
+        "COPY export_statistics_staging " +
+        "(country_code, hs_code, year, month, export_value_usd, export_weight_kg, export_quantity, quantity_unit) " +
+        "FROM STDIN WITH (FORMAT csv, HEADER true)";
+
+    // 1) 코드 해석 및 타입 변환 (형식이 맞지 않으면 NULL)
+    // 2) 유효 행 중 같은 키는 파일의 마지막 행만 사용
+    // 3) uk_export_stats 기준 UPSERT, 파생 컬럼(성장률/점유율)은 이후 일괄 재계산
+    private static final String MERGE_SQL =
+        "WITH parsed AS ( " +
+        "    SELECT s.line_no, c.id AS country_id, p.id AS product_category_id, " +
+        "           CASE WHEN TRIM(s.year) ~ '^\\d{4}$' THEN TRIM(s.year)::INTEGER END AS year, " +
+        "           CASE WHEN TRIM(s.month) ~ '^\\d{1,2}$' THEN TRIM(s.month)::INTEGER END AS month, " +
+        "           CASE WHEN TRIM(s.export_value_usd) ~ '^\\d{1,13}(\\.\\d{1,2})?$' " +
+        "                THEN TRIM(s.export_value_usd)::NUMERIC(15,2) END AS export_value_usd, " +
+        "           CASE WHEN TRIM(s.export_weight_kg) ~ '^\\d{1,12}(\\.\\d{1,3})?$' " +
+        "                THEN TRIM(s.export_weight_kg)::NUMERIC(15,3) END AS export_weight_kg, " +
+        "           CASE WHEN TRIM(s.export_quantity) ~ '^\\d{1,12}(\\.\\d{1,3})?$' " +
+        "                THEN TRIM(s.export_quantity)::NUMERIC(15,3) END AS export_quantity, " +
+        "           NULLIF(TRIM(s.quantity_unit), '') AS quantity_unit, " +
+        "           NULLIF(TRIM(s.export_weight_kg), '') IS NULL AS weight_missing, " +
+        "           NULLIF(TRIM(s.export_quantity), '') IS NULL AS quantity_missing " +
+        "    FROM export_statistics_staging s " +
+        "    LEFT JOIN countries c ON c.country_code = UPPER(TRIM(s.country_code)) " +
+        "    LEFT JOIN product_categories p ON p.hs_code = TRIM(s.hs_code) " +
+        "), checked AS ( " +
+        "    SELECT parsed.*, " +
+        "           (country_id IS NOT NULL AND product_category_id IS NOT NULL " +
+        "            AND year BETWEEN 1900 AND 2100 AND month BETWEEN 1 AND 12 " +
+        "            AND export_value_usd IS NOT NULL " +
+        "            AND (weight_missing OR export_weight_kg IS NOT NULL) " +
+        "            AND (quantity_missing OR export_quantity IS NOT NULL) " +
+        "            AND COALESCE(LENGTH(quantity_unit), 0) <= 20) AS is_valid " +
+        "    FROM parsed " +
+        "), latest AS ( " +
+        "    SELECT DISTINCT ON (country_id, product_category_id, year, month) * " +
+        "    FROM checked " +
+        "    WHERE is_valid " +
+        "    ORDER BY country_id, product_category_id, year, month, line_no DESC " +
+        "), upserted AS ( " +
+        "    INSERT INTO export_statistics (id, country_id, product_category_id, year, month, " +
+        "        export_value_usd, currency, export_weight_kg, export_quantity, quantity_unit, " +
+        "        growth_rate_yoy, market_share, version) " +
+        "    SELECT nextval('export_statistics_seq'), country_id, product_category_id, year, month, " +
+        "           export_value_usd, 'USD', export_weight_kg, export_quantity, quantity_unit, 0, 0, 0 " +
+        "    FROM latest " +
+        "    ON CONFLICT ON CONSTRAINT uk_export_stats DO UPDATE SET " +
+        "        export_value_usd = EXCLUDED.export_value_usd, " +
+        "        export_weight_kg = EXCLUDED.export_weight_kg, " +
+        "        export_quantity = EXCLUDED.export_quantity, " +
+        "        quantity_unit = EXCLUDED.quantity_unit, " +
+        "        version = COALESCE(export_statistics.version, 0) + 1 " +
+        "    RETURNING year " +
+        ") " +
+        "SELECT (SELECT COUNT(*) FROM checked WHERE NOT is_valid) AS rejected_rows, " +
+        "       COUNT(*) AS upserted_rows, MIN(year) AS min_year, MAX(year) AS max_year " +
+        "FROM upserted";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ExportStatisticDomainService exportStatisticDomainService;
+    private final ExportRollupRepository exportRollupRepository;
+    private final ExportCubeProvider exportCubeProvider;
+    private final DomainEventOutbox domainEventOutbox;
+
+    public CsvExportStatisticLoader(JdbcTemplate jdbcTemplate,
+                                    TransactionTemplate transactionTemplate,
+                                    ExportStatisticDomainService exportStatisticDomainService,
+                                    ExportRollupRepository exportRollupRepository,
+                                    ExportCubeProvider exportCubeProvider,
+                                    DomainEventOutbox domainEventOutbox) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.exportStatisticDomainService = exportStatisticDomainService;
+        this.exportRollupRepository = exportRollupRepository;
+        this.exportCubeProvider = exportCubeProvider;
+        this.domainEventOutbox = domainEventOutbox;
+    }
+
+    /**
+     * CSV 파일 적재 (단일 트랜잭션)
+     */
+    public LoadResult load(Path csvFile) {
+        if (!Files.isReadable(csvFile)) {
+            throw new IllegalArgumentException("CSV 파일을 읽을 수 없습니다: " + csvFile);
+        }
+
+        long startedAt = System.nanoTime();
+        LoadResult result = transactionTemplate.execute(status -> {
+            jdbcTemplate.execute(CREATE_STAGING_SQL);
+            jdbcTemplate.execute(TRUNCATE_STAGING_SQL);
+
+            long copiedRows = copyIntoStaging(csvFile);
+
+            MergeResult merged = jdbcTemplate.queryForObject(MERGE_SQL, (rs, rowNum) -> new MergeResult(
+                rs.getLong("rejected_rows"),
+                rs.getLong("upserted_rows"),
+                rs.getInt("min_year"),
+                rs.getInt("max_year")
+            ));
+
+            if (merged.upsertedRows() > 0) {
+                // 적재 년도와 그 다음 년도(전년 대비 성장률 영향)의 성장률/점유율 재계산
+                exportStatisticDomainService.recalculateGrowthRatesAndMarketShares(merged.minYear(), merged.maxYear() + 1);
+                // 집계는 값이 바뀐 년도만 재구성 (다음 년도는 성장률만 바뀌고 집계 금액은 그대로)
+                exportRollupRepository.rebuildYears(merged.minYear(), merged.maxYear());
+                // 같은 트랜잭션에서 아웃박스에 저장하여 커밋 이후 통계/분석 캐시 무효화
+                domainEventOutbox.append(ExportStatisticsReloaded.of(merged.minYear(), merged.maxYear() + 1));
+            }
+            return new LoadResult(copiedRows, merged.rejectedRows(), merged.upsertedRows(), Duration.ZERO);
+        });
+
+        exportCubeProvider.invalidate();
+
+        LoadResult completed = result.withElapsed(Duration.ofNanos(System.nanoTime() - startedAt));
+        logger.info("CSV load finished: {} copied, {} upserted, {} rejected in {} ms ({} rows/s)",
+            completed.copiedRows(), completed.upsertedRows(), completed.rejectedRows(),
+            completed.elapsed().toMillis(), completed.rowsPerSecond());
+        return completed;
+    }
+
+    private long copyIntoStaging(Path csvFile) {
+        return jdbcTemplate.execute((Connection connection) -> {
+            try (Reader reader = Files.newBufferedReader(csvFile, StandardCharsets.UTF_8)) {
+                return connection.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY_SQL, reader);
+            } catch (IOException e) {
+                throw new SQLException("CSV 파일 전송 중 오류가 발생했습니다: " + csvFile, e);
+            }
+        });
+    }
+
+    private record MergeResult(long rejectedRows, long upsertedRows, int minYear, int maxYear) {
+    }
+
+    /**
+     * 적재 결과
+     * copiedRows: 스테이징에 복사된 행, upsertedRows: 반영된 행(파일 내 중복 키는 마지막 행만),
+     * rejectedRows: 코드 미해석/형식 오류로 제외된 행
+     */
+    public record LoadResult(
+        long copiedRows,
+        long rejectedRows,
+        long upsertedRows,
+        Duration elapsed
+    ) {
+        public long rowsPerSecond() {
+            long millis = Math.max(1, elapsed.toMillis());
+            return copiedRows * 1000 / millis;
+        }
+
+        LoadResult withElapsed(Duration elapsed) {
+            return new LoadResult(copiedRows, rejectedRows, upsertedRows, elapsed);
+        }
+    }
+}
@@ -0,0 +1,186 @@
+package com.export.dashboard.infrastructure.outbox;
+
+import com.export.dashboard.infrastructure.outbox.DomainEventOutbox.Backlog;
+import com.export.dashboard.infrastructure.outbox.DomainEventOutbox.OutboxEntry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 도메인 이벤트 아웃박스 디스패처
+ * 커밋된 이벤트를 배치 단위로 읽어 프로세스 내 리스너(@EventListener)에 전달하고 전달 완료를 기록
+ *
+ * - 여러 인스턴스 중 advisory lock 을 얻은 하나만 전달하므로 이벤트는 저장(id) 순서대로 전달됨
+ * - 리스너가 실패하면 같은 aggregateId 의 이후 이벤트는 다음 실행까지 보류하여 집계별 순서를 유지
+ * - 최대 시도 횟수를 넘긴 이벤트는 failed 로 표시하고 건너뜀 (최소 한 번 전달, 리스너는 멱등이어야 함)
+ *
+ * 지표: export.outbox.pending(미전달 수), export.outbox.lag(가장 오래된 미전달 이벤트 대기 시간),
+ * export.outbox.dispatched / export.outbox.failed(전달/실패 수), export.outbox.delivery.delay(저장→전달 지연)
+ */
+@Component
+public class DomainEventDispatcher {
+
+    private static final Logger logger = LoggerFactory.getLogger(DomainEventDispatcher.class);
+
+    // CustomsPartitionLock 과 겹치지 않는 잠금 네임스페이스
+    private static final int LOCK_NAMESPACE = 1220001;
+    private static final int DISPATCH_KEY = 0;
+
+    private static final String TRY_LOCK_SQL = "SELECT pg_try_advisory_xact_lock(?, ?)";
+
+    private final DomainEventOutbox domainEventOutbox;
+    private final ApplicationEventPublisher eventPublisher;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxBatchesPerRun;
+    private final int maxAttempts;
+    private final Duration retention;
+
+    private final Counter dispatchedCounter;
+    private final Counter failedCounter;
+    private final Timer deliveryDelay;
+
+    private volatile Backlog backlog = new Backlog(0, null);
+
+    public DomainEventDispatcher(DomainEventOutbox domainEventOutbox,
+                                 ApplicationEventPublisher eventPublisher,
+                                 JdbcTemplate jdbcTemplate,
+                                 TransactionTemplate transactionTemplate,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${export.outbox.batch-size:500}") int batchSize,
+                                 @Value("${export.outbox.max-batches-per-run:20}") int maxBatchesPerRun,
+                                 @Value("${export.outbox.max-attempts:10}") int maxAttempts,
+                                 @Value("${export.outbox.retention:P7D}") Duration retention) {
+        if (batchSize < 1 || maxBatchesPerRun < 1 || maxAttempts < 1) {
+            throw new IllegalArgumentException("아웃박스 배치 크기, 배치 수, 최대 시도 횟수는 1 이상이어야 합니다.");
+        }
+        this.domainEventOutbox = domainEventOutbox;
+        this.eventPublisher = eventPublisher;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.maxAttempts = maxAttempts;
+        this.retention = retention;
+
+        this.dispatchedCounter = meterRegistry.counter("export.outbox.dispatched");
+        this.failedCounter = meterRegistry.counter("export.outbox.failed");
+        this.deliveryDelay = meterRegistry.timer("export.outbox.delivery.delay");
+        Gauge.builder("export.outbox.pending", this, dispatcher -> dispatcher.backlog.pending())
+            .register(meterRegistry);
+        Gauge.builder("export.outbox.lag", this, dispatcher -> dispatcher.lag().toMillis() / 1000.0)
+            .baseUnit("seconds")
+            .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${export.outbox.dispatch-interval:PT1S}")
+    public void dispatchPending() {
+        try {
+            dispatch();
+        } catch (RuntimeException e) {
+            logger.warn("Domain event dispatch failed: {}", e.getMessage(), e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${export.outbox.purge-interval:PT1H}")
+    public void purgeDispatched() {
+        try {
+            int purged = domainEventOutbox.purgeDispatchedBefore(Instant.now().minus(retention));
+            if (purged > 0) {
+                logger.info("Purged {} dispatched domain events", purged);
+            }
+        } catch (RuntimeException e) {
+            logger.warn("Domain event outbox purge failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 미전달 이벤트를 배치 단위로 전달 (다른 인스턴스가 전달 중이면 건너뜀)
+     * @return 이번 실행에서 전달한 이벤트 수
+     */
+    public int dispatch() {
+        int dispatched = 0;
+        for (int batch = 0; batch < maxBatchesPerRun; batch++) {
+            BatchResult result = transactionTemplate.execute(status -> dispatchBatch());
+            dispatched += result.dispatched();
+            // 실패가 있으면 같은 이벤트를 곧바로 다시 시도하지 않도록 다음 실행으로 넘김
+            if (!result.locked() || result.failed() > 0 || result.read() < batchSize) {
+                break;
+            }
+        }
+
+        backlog = domainEventOutbox.backlog();
+        return dispatched;
+    }
+
+    /**
+     * 가장 오래된 미전달 이벤트의 대기 시간
+     */
+    public Duration lag() {
+        Instant oldest = backlog.oldestCreatedAt();
+        return oldest == null ? Duration.ZERO : Duration.between(oldest, Instant.now());
+    }
+
+    private BatchResult dispatchBatch() {
+        if (!Boolean.TRUE.equals(jdbcTemplate.queryForObject(TRY_LOCK_SQL, Boolean.class, LOCK_NAMESPACE, DISPATCH_KEY))) {
+            return BatchResult.NOT_LOCKED;
+        }
+
+        List<OutboxEntry> entries = domainEventOutbox.findPending(batchSize);
+        List<Long> dispatchedIds = new ArrayList<>(entries.size());
+        Set<String> blockedAggregates = new HashSet<>();
+        int failed = 0;
+
+        for (OutboxEntry entry : entries) {
+            if (blockedAggregates.contains(entry.aggregateId())) {
+                continue;
+            }
+
+            try {
+                eventPublisher.publishEvent(domainEventOutbox.deserialize(entry));
+                dispatchedIds.add(entry.id());
+                deliveryDelay.record(Duration.between(entry.createdAt(), Instant.now()));
+            } catch (RuntimeException e) {
+                failed++;
+                failedCounter.increment();
+                boolean giveUp = entry.attempts() + 1 >= maxAttempts;
+                domainEventOutbox.recordFailure(entry.id(), e.toString(), giveUp);
+                if (giveUp) {
+                    logger.error("Giving up domain event {} ({}) after {} attempts: {}",
+                        entry.eventId(), entry.eventType(), entry.attempts() + 1, e.getMessage(), e);
+                } else {
+                    // 집계별 순서를 지키기 위해 같은 집계의 이후 이벤트는 보류
+                    blockedAggregates.add(entry.aggregateId());
+                    logger.warn("Domain event {} ({}) failed, attempt {}: {}",
+                        entry.eventId(), entry.eventType(), entry.attempts() + 1, e.getMessage());
+                }
+            }
+        }
+
+        domainEventOutbox.markDispatched(dispatchedIds);
+        dispatchedCounter.increment(dispatchedIds.size());
+        return new BatchResult(true, entries.size(), dispatchedIds.size(), failed);
+    }
+
+    private record BatchResult(boolean locked, int read, int dispatched, int failed) {
+
+        static final BatchResult NOT_LOCKED = new BatchResult(false, 0, 0, 0);
+    }
+}
@@ -0,0 +1,214 @@
+package com.export.dashboard.infrastructure.outbox;
+
+import com.export.dashboard.domain.event.CountryActivated;
+import com.export.dashboard.domain.event.CountryDeactivated;
+import com.export.dashboard.domain.event.DomainEvent;
+import com.export.dashboard.domain.event.ExportStatisticCreated;
+import com.export.dashboard.domain.event.ExportStatisticDeleted;
+import com.export.dashboard.domain.event.ExportStatisticUpdated;
+import com.export.dashboard.domain.event.ExportStatisticsReloaded;
+import com.export.dashboard.domain.event.ExportThresholdExceeded;
+import com.export.dashboard.domain.event.ProductCategoryCreated;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 도메인 이벤트 아웃박스 저장소
+ * 이벤트는 호출한 쪽의 트랜잭션(JPA 트랜잭션과 같은 커넥션)에서 저장되어 집계 변경과 함께 커밋/롤백되고,
+ * DomainEventDispatcher 가 커밋된 이벤트를 id 순서대로 읽어 전달
+ */
+@Component
+public class DomainEventOutbox {
+
+    // 이벤트 타입 이름 → 역직렬화 대상 클래스 (eventType() 은 클래스 이름과 같음)
+    private static final Map<String, Class<? extends DomainEvent>> EVENT_TYPES = Stream.of(
+            ExportStatisticCreated.class,
+            ExportStatisticUpdated.class,
+            ExportStatisticDeleted.class,
+            ExportStatisticsReloaded.class,
+            ExportThresholdExceeded.class,
+            CountryActivated.class,
+            CountryDeactivated.class,
+            ProductCategoryCreated.class)
+        .collect(Collectors.toUnmodifiableMap(Class::getSimpleName, Function.identity()));
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private static final String INSERT_SQL =
+        "INSERT INTO domain_event_outbox (event_id, event_type, aggregate_id, payload, occurred_on) " +
+        "VALUES (?, ?, ?, ?, ?)";
+
+    private static final String SELECT_PENDING_SQL =
+        "SELECT id, event_id, event_type, aggregate_id, payload, occurred_on, created_at, attempts " +
+        "FROM domain_event_outbox " +
+        "WHERE dispatched_at IS NULL " +
+        "ORDER BY id " +
+        "LIMIT ?";
+
+    private static final String MARK_DISPATCHED_SQL =
+        "UPDATE domain_event_outbox SET dispatched_at = CURRENT_TIMESTAMP WHERE id = ?";
+
+    private static final String RECORD_FAILURE_SQL =
+        "UPDATE domain_event_outbox SET attempts = attempts + 1, last_error = ? WHERE id = ?";
+
+    private static final String MARK_FAILED_SQL =
+        "UPDATE domain_event_outbox SET attempts = attempts + 1, last_error = ?, failed = TRUE, " +
+        "dispatched_at = CURRENT_TIMESTAMP WHERE id = ?";
+
+    private static final String SELECT_BACKLOG_SQL =
+        "SELECT COUNT(*) AS pending, MIN(created_at) AS oldest_created_at " +
+        "FROM domain_event_outbox WHERE dispatched_at IS NULL";
+
+    private static final String PURGE_SQL =
+        "DELETE FROM domain_event_outbox WHERE dispatched_at < ? AND failed = FALSE";
+
+    private static final RowMapper<OutboxEntry> ENTRY_MAPPER = (rs, rowNum) -> new OutboxEntry(
+        rs.getLong("id"),
+        rs.getObject("event_id", UUID.class),
+        rs.getString("event_type"),
+        rs.getString("aggregate_id"),
+        rs.getString("payload"),
+        rs.getTimestamp("occurred_on").toInstant(),
+        rs.getTimestamp("created_at").toInstant(),
+        rs.getInt("attempts")
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    public DomainEventOutbox(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper) {
+        this.jdbcTemplate = jdbcTemplate;
+        // 값 객체의 파생 속성(isZero 등)이 함께 직렬화되므로 모르는 속성은 무시
+        this.objectMapper = objectMapper.copy()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+    }
+
+    /**
+     * 이벤트 저장 (호출한 쪽 트랜잭션에 참여)
+     */
+    public void append(DomainEvent event) {
+        appendAll(List.of(event));
+    }
+
+    /**
+     * 이벤트 일괄 저장 (전달 순서는 저장 순서와 같음)
+     */
+    public void appendAll(Collection<? extends DomainEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> args = new ArrayList<>(events.size());
+        for (DomainEvent event : events) {
+            if (!EVENT_TYPES.containsKey(event.eventType())) {
+                throw new IllegalArgumentException("아웃박스에 등록되지 않은 이벤트 타입입니다: " + event.eventType());
+            }
+            args.add(new Object[]{
+                event.eventId(),
+                event.eventType(),
+                event.aggregateId(),
+                serialize(event),
+                Timestamp.from(event.occurredOn())
+            });
+        }
+        jdbcTemplate.batchUpdate(INSERT_SQL, args);
+    }
+
+    /**
+     * 아직 전달되지 않은 이벤트를 저장 순서대로 조회
+     */
+    public List<OutboxEntry> findPending(int limit) {
+        return jdbcTemplate.query(SELECT_PENDING_SQL, ENTRY_MAPPER, limit);
+    }
+
+    public void markDispatched(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(MARK_DISPATCHED_SQL, ids.stream().map(id -> new Object[]{id}).toList());
+    }
+
+    /**
+     * 전달 실패 기록 (giveUp 이면 failed 로 표시하고 더 이상 전달하지 않음)
+     */
+    public void recordFailure(long id, String error, boolean giveUp) {
+        String truncated = error != null && error.length() > MAX_ERROR_LENGTH
+            ? error.substring(0, MAX_ERROR_LENGTH)
+            : error;
+        jdbcTemplate.update(giveUp ? MARK_FAILED_SQL : RECORD_FAILURE_SQL, truncated, id);
+    }
+
+    /**
+     * 미전달 이벤트 수와 가장 오래된 미전달 이벤트의 저장 시각
+     */
+    public Backlog backlog() {
+        return jdbcTemplate.queryForObject(SELECT_BACKLOG_SQL, (rs, rowNum) -> {
+            Timestamp oldest = rs.getTimestamp("oldest_created_at");
+            return new Backlog(rs.getLong("pending"), oldest != null ? oldest.toInstant() : null);
+        });
+    }
+
+    /**
+     * 보관 기간이 지난 전달 완료 이벤트 삭제 (실패 이벤트는 확인을 위해 유지)
+     */
+    public int purgeDispatchedBefore(Instant threshold) {
+        return jdbcTemplate.update(PURGE_SQL, Timestamp.from(threshold));
+    }
+
+    /**
+     * 저장된 이벤트 복원
+     */
+    public DomainEvent deserialize(OutboxEntry entry) {
+        Class<? extends DomainEvent> type = EVENT_TYPES.get(entry.eventType());
+        if (type == null) {
+            throw new IllegalStateException("알 수 없는 이벤트 타입입니다: " + entry.eventType());
+        }
+        try {
+            return objectMapper.readValue(entry.payload(), type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("이벤트를 복원할 수 없습니다: " + entry.eventId(), e);
+        }
+    }
+
+    private String serialize(DomainEvent event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("이벤트를 직렬화할 수 없습니다: " + event.eventId(), e);
+        }
+    }
+
+    /**
+     * 아웃박스에 저장된 이벤트 행
+     */
+    public record OutboxEntry(
+        long id,
+        UUID eventId,
+        String eventType,
+        String aggregateId,
+        String payload,
+        Instant occurredOn,
+        Instant createdAt,
+        int attempts
+    ) {}
+
+    /**
+     * 미전달 이벤트 현황
+     */
+    public record Backlog(long pending, Instant oldestCreatedAt) {}
+}
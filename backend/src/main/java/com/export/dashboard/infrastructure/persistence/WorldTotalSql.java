@@ -0,0 +1,18 @@
+package com.export.dashboard.infrastructure.persistence;
+
+import com.export.dashboard.domain.model.CountryCode;
+
+/**
+ * 관세청 전 세계 합계(WLD) 행을 국가별 집계에서 제외하는 SQL 조각
+ * 집계 테이블 재구성, 큐브 적재, 점유율 재계산, 국가 목록이 같은 조건을 사용
+ * (전 세계 합계 행은 원본 목록/내보내기에서만 조회됨)
+ */
+public final class WorldTotalSql {
+
+    // 전 세계 합계 국가 id (예: "e.country_id NOT IN " + WORLD_COUNTRY_IDS)
+    public static final String WORLD_COUNTRY_IDS =
+        "(SELECT wc.id FROM countries wc WHERE wc.country_code = '" + CountryCode.WORLD + "') ";
+
+    private WorldTotalSql() {
+    }
+}
@@ -3,6 +3,7 @@ package com.export.dashboard.infrastructure.repository;
 import com.export.dashboard.domain.model.Country;
 import com.export.dashboard.domain.model.CountryCode;
 import com.export.dashboard.domain.repository.CountryRepository;
+import com.export.dashboard.infrastructure.outbox.DomainEventOutbox;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -16,14 +17,20 @@ import java.util.Optional;
 public class CountryRepositoryImpl implements CountryRepository {
 
     private final JpaCountryRepository jpaCountryRepository;
+    private final DomainEventOutbox domainEventOutbox;
 
-    public CountryRepositoryImpl(JpaCountryRepository jpaCountryRepository) {
+    public CountryRepositoryImpl(JpaCountryRepository jpaCountryRepository, DomainEventOutbox domainEventOutbox) {
         this.jpaCountryRepository = jpaCountryRepository;
+        this.domainEventOutbox = domainEventOutbox;
     }
 
     @Override
     public Country save(Country country) {
-        return jpaCountryRepository.save(country);
+        Country saved = jpaCountryRepository.save(country);
+        // 활성화/비활성화 이벤트를 같은 트랜잭션에서 아웃박스에 저장
+        domainEventOutbox.appendAll(country.getDomainEvents());
+        country.clearDomainEvents();
+        return saved;
     }
 
     @Override
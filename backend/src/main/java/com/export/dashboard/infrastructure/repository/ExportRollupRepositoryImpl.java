@@ -0,0 +1,287 @@
+package com.export.dashboard.infrastructure.repository;
+
+import com.export.dashboard.domain.model.ExportStatistic;
+import com.export.dashboard.domain.model.Money;
+import com.export.dashboard.domain.repository.ExportRollupRepository;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.export.dashboard.infrastructure.persistence.WorldTotalSql.WORLD_COUNTRY_IDS;
+
+/**
+ * ExportRollup Repository 구현체
+ * 다섯 개의 집계 테이블을 데이터 변경 CTE 기반 단일 UPSERT 문으로 갱신
+ * 관세청 전 세계 합계(WLD) 행은 국가별 행과 중복되므로 집계에 반영하지 않음
+ */
+@Repository
+public class ExportRollupRepositoryImpl implements ExportRollupRepository {
+
+    // 상품 카테고리 HS 코드의 레벨별 접두사 (챕터 ~ 자신)
+    private static final String HS_PREFIX_COLUMNS =
+        "(hs_prefix, parent_prefix, hs_level, year, month, total_value_usd, row_count, updated_at) ";
+
+    private static final String HS_PREFIX_SELECT =
+        "LEFT(p.hs_code, l * 2), CASE WHEN l > 1 THEN LEFT(p.hs_code, (l - 1) * 2) END, l, " +
+        "?, ?, ?::numeric, ?::bigint, CURRENT_TIMESTAMP ";
+
+    private static final String HS_PREFIX_UPDATE =
+        "total_value_usd = export_totals_by_hs_prefix.total_value_usd + EXCLUDED.total_value_usd, " +
+        "row_count = export_totals_by_hs_prefix.row_count + EXCLUDED.row_count, " +
+        "updated_at = CURRENT_TIMESTAMP ";
+
+    private static final String APPLY_DELTA_SQL =
+        "WITH by_month AS ( " +
+        "    INSERT INTO export_totals_by_month (year, month, total_value_usd, row_count, updated_at) " +
+        "    VALUES (?, ?, ?, ?, CURRENT_TIMESTAMP) " +
+        "    ON CONFLICT (year, month) DO UPDATE SET " +
+        "        total_value_usd = export_totals_by_month.total_value_usd + EXCLUDED.total_value_usd, " +
+        "        row_count = export_totals_by_month.row_count + EXCLUDED.row_count, " +
+        "        updated_at = CURRENT_TIMESTAMP " +
+        "), by_country AS ( " +
+        "    INSERT INTO export_totals_by_year_country (year, country_id, total_value_usd, row_count, updated_at) " +
+        "    VALUES (?, ?, ?, ?, CURRENT_TIMESTAMP) " +
+        "    ON CONFLICT (year, country_id) DO UPDATE SET " +
+        "        total_value_usd = export_totals_by_year_country.total_value_usd + EXCLUDED.total_value_usd, " +
+        "        row_count = export_totals_by_year_country.row_count + EXCLUDED.row_count, " +
+        "        updated_at = CURRENT_TIMESTAMP " +
+        "), by_month_country AS ( " +
+        "    INSERT INTO export_totals_by_month_country (year, month, country_id, total_value_usd, row_count, updated_at) " +
+        "    VALUES (?, ?, ?, ?, ?, CURRENT_TIMESTAMP) " +
+        "    ON CONFLICT (year, month, country_id) DO UPDATE SET " +
+        "        total_value_usd = export_totals_by_month_country.total_value_usd + EXCLUDED.total_value_usd, " +
+        "        row_count = export_totals_by_month_country.row_count + EXCLUDED.row_count, " +
+        "        updated_at = CURRENT_TIMESTAMP " +
+        "), by_hs_prefix AS ( " +
+        "    INSERT INTO export_totals_by_hs_prefix " + HS_PREFIX_COLUMNS +
+        "    SELECT " + HS_PREFIX_SELECT +
+        "    FROM product_categories p CROSS JOIN LATERAL generate_series(1, p.hs_level) AS l " +
+        "    WHERE p.id = ? " +
+        "    ON CONFLICT (hs_prefix, year, month) DO UPDATE SET " + HS_PREFIX_UPDATE +
+        ") " +
+        "INSERT INTO export_totals_by_year_product (year, product_category_id, total_value_usd, row_count, updated_at) " +
+        "VALUES (?, ?, ?, ?, CURRENT_TIMESTAMP) " +
+        "ON CONFLICT (year, product_category_id) DO UPDATE SET " +
+        "    total_value_usd = export_totals_by_year_product.total_value_usd + EXCLUDED.total_value_usd, " +
+        "    row_count = export_totals_by_year_product.row_count + EXCLUDED.row_count, " +
+        "    updated_at = CURRENT_TIMESTAMP";
+
+    private static final String UPSERT_MONTH_SQL =
+        "INSERT INTO export_totals_by_month (year, month, total_value_usd, row_count, updated_at) " +
+        "VALUES (?, ?, ?, ?, CURRENT_TIMESTAMP) " +
+        "ON CONFLICT (year, month) DO UPDATE SET " +
+        "    total_value_usd = export_totals_by_month.total_value_usd + EXCLUDED.total_value_usd, " +
+        "    row_count = export_totals_by_month.row_count + EXCLUDED.row_count, " +
+        "    updated_at = CURRENT_TIMESTAMP";
+
+    private static final String UPSERT_COUNTRY_SQL =
+        "INSERT INTO export_totals_by_year_country (year, country_id, total_value_usd, row_count, updated_at) " +
+        "VALUES (?, ?, ?, ?, CURRENT_TIMESTAMP) " +
+        "ON CONFLICT (year, country_id) DO UPDATE SET " +
+        "    total_value_usd = export_totals_by_year_country.total_value_usd + EXCLUDED.total_value_usd, " +
+        "    row_count = export_totals_by_year_country.row_count + EXCLUDED.row_count, " +
+        "    updated_at = CURRENT_TIMESTAMP";
+
+    private static final String UPSERT_MONTH_COUNTRY_SQL =
+        "INSERT INTO export_totals_by_month_country (year, month, country_id, total_value_usd, row_count, updated_at) " +
+        "VALUES (?, ?, ?, ?, ?, CURRENT_TIMESTAMP) " +
+        "ON CONFLICT (year, month, country_id) DO UPDATE SET " +
+        "    total_value_usd = export_totals_by_month_country.total_value_usd + EXCLUDED.total_value_usd, " +
+        "    row_count = export_totals_by_month_country.row_count + EXCLUDED.row_count, " +
+        "    updated_at = CURRENT_TIMESTAMP";
+
+    private static final String UPSERT_PRODUCT_SQL =
+        "INSERT INTO export_totals_by_year_product (year, product_category_id, total_value_usd, row_count, updated_at) " +
+        "VALUES (?, ?, ?, ?, CURRENT_TIMESTAMP) " +
+        "ON CONFLICT (year, product_category_id) DO UPDATE SET " +
+        "    total_value_usd = export_totals_by_year_product.total_value_usd + EXCLUDED.total_value_usd, " +
+        "    row_count = export_totals_by_year_product.row_count + EXCLUDED.row_count, " +
+        "    updated_at = CURRENT_TIMESTAMP";
+
+    private static final String UPSERT_HS_PREFIX_SQL =
+        "INSERT INTO export_totals_by_hs_prefix " + HS_PREFIX_COLUMNS +
+        "SELECT " + HS_PREFIX_SELECT +
+        "FROM product_categories p CROSS JOIN LATERAL generate_series(1, p.hs_level) AS l " +
+        "WHERE p.id = ? " +
+        "ON CONFLICT (hs_prefix, year, month) DO UPDATE SET " + HS_PREFIX_UPDATE;
+
+    private static final String[] REBUILD_SQL = {
+        "DELETE FROM export_totals_by_month",
+        "DELETE FROM export_totals_by_year_country",
+        "DELETE FROM export_totals_by_year_product",
+        "DELETE FROM export_totals_by_month_country",
+        "DELETE FROM export_totals_by_hs_prefix",
+        "INSERT INTO export_totals_by_month (year, month, total_value_usd, row_count) " +
+        "SELECT year, month, SUM(export_value_usd), COUNT(*) FROM export_statistics " +
+        "WHERE country_id NOT IN " + WORLD_COUNTRY_IDS + "GROUP BY year, month",
+        "INSERT INTO export_totals_by_year_country (year, country_id, total_value_usd, row_count) " +
+        "SELECT year, country_id, SUM(export_value_usd), COUNT(*) FROM export_statistics " +
+        "WHERE country_id NOT IN " + WORLD_COUNTRY_IDS + "GROUP BY year, country_id",
+        "INSERT INTO export_totals_by_year_product (year, product_category_id, total_value_usd, row_count) " +
+        "SELECT year, product_category_id, SUM(export_value_usd), COUNT(*) FROM export_statistics " +
+        "WHERE country_id NOT IN " + WORLD_COUNTRY_IDS + "GROUP BY year, product_category_id",
+        "INSERT INTO export_totals_by_month_country (year, month, country_id, total_value_usd, row_count) " +
+        "SELECT year, month, country_id, SUM(export_value_usd), COUNT(*) FROM export_statistics " +
+        "WHERE country_id NOT IN " + WORLD_COUNTRY_IDS + "GROUP BY year, month, country_id",
+        "INSERT INTO export_totals_by_hs_prefix (hs_prefix, parent_prefix, hs_level, year, month, total_value_usd, row_count) " +
+        "SELECT LEFT(p.hs_code, l * 2), CASE WHEN l > 1 THEN LEFT(p.hs_code, (l - 1) * 2) END, l, " +
+        "e.year, e.month, SUM(e.export_value_usd), COUNT(*) " +
+        "FROM export_statistics e JOIN product_categories p ON p.id = e.product_category_id " +
+        "CROSS JOIN LATERAL generate_series(1, p.hs_level) AS l " +
+        "WHERE e.country_id NOT IN " + WORLD_COUNTRY_IDS +
+        "GROUP BY 1, 2, 3, 4, 5"
+    };
+
+    // 년도 구간 재구성 (각 문장은 시작/종료 년도 두 개의 파라미터를 받음)
+    private static final String IN_YEARS = "year BETWEEN ? AND ? ";
+
+    private static final String[] REBUILD_YEARS_SQL = {
+        "DELETE FROM export_totals_by_month WHERE " + IN_YEARS,
+        "DELETE FROM export_totals_by_year_country WHERE " + IN_YEARS,
+        "DELETE FROM export_totals_by_year_product WHERE " + IN_YEARS,
+        "DELETE FROM export_totals_by_month_country WHERE " + IN_YEARS,
+        "DELETE FROM export_totals_by_hs_prefix WHERE " + IN_YEARS,
+        "INSERT INTO export_totals_by_month (year, month, total_value_usd, row_count) " +
+        "SELECT year, month, SUM(export_value_usd), COUNT(*) FROM export_statistics " +
+        "WHERE " + IN_YEARS + "AND country_id NOT IN " + WORLD_COUNTRY_IDS + "GROUP BY year, month",
+        "INSERT INTO export_totals_by_year_country (year, country_id, total_value_usd, row_count) " +
+        "SELECT year, country_id, SUM(export_value_usd), COUNT(*) FROM export_statistics " +
+        "WHERE " + IN_YEARS + "AND country_id NOT IN " + WORLD_COUNTRY_IDS + "GROUP BY year, country_id",
+        "INSERT INTO export_totals_by_year_product (year, product_category_id, total_value_usd, row_count) " +
+        "SELECT year, product_category_id, SUM(export_value_usd), COUNT(*) FROM export_statistics " +
+        "WHERE " + IN_YEARS + "AND country_id NOT IN " + WORLD_COUNTRY_IDS + "GROUP BY year, product_category_id",
+        "INSERT INTO export_totals_by_month_country (year, month, country_id, total_value_usd, row_count) " +
+        "SELECT year, month, country_id, SUM(export_value_usd), COUNT(*) FROM export_statistics " +
+        "WHERE " + IN_YEARS + "AND country_id NOT IN " + WORLD_COUNTRY_IDS + "GROUP BY year, month, country_id",
+        "INSERT INTO export_totals_by_hs_prefix (hs_prefix, parent_prefix, hs_level, year, month, total_value_usd, row_count) " +
+        "SELECT LEFT(p.hs_code, l * 2), CASE WHEN l > 1 THEN LEFT(p.hs_code, (l - 1) * 2) END, l, " +
+        "e.year, e.month, SUM(e.export_value_usd), COUNT(*) " +
+        "FROM export_statistics e JOIN product_categories p ON p.id = e.product_category_id " +
+        "CROSS JOIN LATERAL generate_series(1, p.hs_level) AS l " +
+        "WHERE e." + IN_YEARS + "AND e.country_id NOT IN " + WORLD_COUNTRY_IDS +
+        "GROUP BY 1, 2, 3, 4, 5"
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ExportRollupRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void add(ExportStatistic exportStatistic) {
+        if (exportStatistic.getCountry().isWorldTotal()) {
+            return;
+        }
+        applyDelta(exportStatistic, exportStatistic.getExportValue().amount(), 1);
+    }
+
+    @Override
+    public void addAll(Collection<ExportStatistic> exportStatistics) {
+        Map<List<Object>, Delta> byMonth = new LinkedHashMap<>();
+        Map<List<Object>, Delta> byCountry = new LinkedHashMap<>();
+        Map<List<Object>, Delta> byProduct = new LinkedHashMap<>();
+        Map<List<Object>, Delta> byMonthCountry = new LinkedHashMap<>();
+        Map<List<Object>, Delta> byHsPrefix = new LinkedHashMap<>();
+
+        for (ExportStatistic statistic : exportStatistics) {
+            if (statistic.getCountry().isWorldTotal()) {
+                continue;
+            }
+            Integer year = statistic.getPeriod().year();
+            BigDecimal amount = statistic.getExportValue().amount();
+            byMonth.computeIfAbsent(List.of(year, statistic.getPeriod().month()), key -> new Delta()).add(amount);
+            byCountry.computeIfAbsent(List.of(year, statistic.getCountry().getId()), key -> new Delta()).add(amount);
+            byProduct.computeIfAbsent(List.of(year, statistic.getProductCategory().getId()), key -> new Delta()).add(amount);
+            byMonthCountry.computeIfAbsent(
+                List.of(year, statistic.getPeriod().month(), statistic.getCountry().getId()),
+                key -> new Delta()).add(amount);
+            byHsPrefix.computeIfAbsent(
+                List.of(year, statistic.getPeriod().month(), statistic.getProductCategory().getId()),
+                key -> new Delta()).add(amount);
+        }
+
+        jdbcTemplate.batchUpdate(UPSERT_MONTH_SQL, toBatchArgs(byMonth));
+        jdbcTemplate.batchUpdate(UPSERT_COUNTRY_SQL, toBatchArgs(byCountry));
+        jdbcTemplate.batchUpdate(UPSERT_PRODUCT_SQL, toBatchArgs(byProduct));
+        jdbcTemplate.batchUpdate(UPSERT_MONTH_COUNTRY_SQL, toBatchArgs(byMonthCountry));
+
+        List<Object[]> hsPrefixArgs = new ArrayList<>(byHsPrefix.size());
+        byHsPrefix.forEach((key, delta) ->
+            hsPrefixArgs.add(new Object[]{key.get(0), key.get(1), delta.amount, delta.rows, key.get(2)}));
+        jdbcTemplate.batchUpdate(UPSERT_HS_PREFIX_SQL, hsPrefixArgs);
+    }
+
+    @Override
+    public void replace(ExportStatistic exportStatistic, Money previousValue) {
+        BigDecimal delta = exportStatistic.getExportValue().amount().subtract(previousValue.amount());
+        if (delta.signum() != 0 && !exportStatistic.getCountry().isWorldTotal()) {
+            applyDelta(exportStatistic, delta, 0);
+        }
+    }
+
+    @Override
+    public void remove(ExportStatistic exportStatistic) {
+        if (exportStatistic.getCountry().isWorldTotal()) {
+            return;
+        }
+        applyDelta(exportStatistic, exportStatistic.getExportValue().amount().negate(), -1);
+    }
+
+    @Override
+    public void rebuildAll() {
+        jdbcTemplate.batchUpdate(REBUILD_SQL);
+    }
+
+    @Override
+    public void rebuildYears(int fromYear, int toYear) {
+        if (fromYear > toYear) {
+            throw new IllegalArgumentException("시작 년도는 종료 년도보다 늦을 수 없습니다.");
+        }
+        for (String sql : REBUILD_YEARS_SQL) {
+            jdbcTemplate.update(sql, fromYear, toYear);
+        }
+    }
+
+    private void applyDelta(ExportStatistic statistic, BigDecimal amountDelta, int rowDelta) {
+        Integer year = statistic.getPeriod().year();
+
+        jdbcTemplate.update(APPLY_DELTA_SQL,
+            year, statistic.getPeriod().month(), amountDelta, rowDelta,
+            year, statistic.getCountry().getId(), amountDelta, rowDelta,
+            year, statistic.getPeriod().month(), statistic.getCountry().getId(), amountDelta, rowDelta,
+            year, statistic.getPeriod().month(), amountDelta, rowDelta, statistic.getProductCategory().getId(),
+            year, statistic.getProductCategory().getId(), amountDelta, rowDelta);
+    }
+
+    private List<Object[]> toBatchArgs(Map<List<Object>, Delta> deltas) {
+        List<Object[]> batchArgs = new ArrayList<>(deltas.size());
+        deltas.forEach((key, delta) -> {
+            // 집계 키 컬럼 뒤에 금액/행 수 증분
+            Object[] args = key.toArray(new Object[key.size() + 2]);
+            args[key.size()] = delta.amount;
+            args[key.size() + 1] = delta.rows;
+            batchArgs.add(args);
+        });
+        return batchArgs;
+    }
+
+    /**
+     * 집계 키별 금액/행 수 누적값
+     */
+    private static final class Delta {
+        private BigDecimal amount = BigDecimal.ZERO;
+        private long rows;
+
+        void add(BigDecimal value) {
+            amount = amount.add(value);
+            rows++;
+        }
+    }
+}
@@ -2,14 +2,20 @@ package com.export.dashboard.infrastructure.repository;
 
 import com.export.dashboard.domain.model.*;
 import com.export.dashboard.domain.repository.ExportStatisticRepository;
+import com.export.dashboard.infrastructure.analytics.ExportCube;
+import com.export.dashboard.infrastructure.analytics.ExportCubeProvider;
+import com.export.dashboard.infrastructure.outbox.DomainEventOutbox;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
-import java.util.Currency;
-import java.util.List;
-import java.util.Optional;
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 /**
  * ExportStatistic Repository 구현체
@@ -18,15 +24,47 @@ import java.util.Optional;
 @Repository
 public class ExportStatisticRepositoryImpl implements ExportStatisticRepository {
 
-    private final JpaExportStatisticRepository jpaExportStatisticRepository;
+    // getDashboardAggregates 의 kind 값
+    private static final String KIND_TOTAL = "TOTAL";
+    private static final String KIND_COUNTRY = "COUNTRY";
+    private static final String KIND_PRODUCT = "PRODUCT";
+    private static final String KIND_MONTH = "MONTH";
 
-    public ExportStatisticRepositoryImpl(JpaExportStatisticRepository jpaExportStatisticRepository) {
+    private final JpaExportStatisticRepository jpaExportStatisticRepository;
+    private final ExportCubeProvider exportCubeProvider;
+    private final DomainEventOutbox domainEventOutbox;
+    private final boolean cubeEnabled;
+
+    public ExportStatisticRepositoryImpl(
+            JpaExportStatisticRepository jpaExportStatisticRepository,
+            ExportCubeProvider exportCubeProvider,
+            DomainEventOutbox domainEventOutbox,
+            @Value("${export.analytics.cube.enabled:true}") boolean cubeEnabled) {
         this.jpaExportStatisticRepository = jpaExportStatisticRepository;
+        this.exportCubeProvider = exportCubeProvider;
+        this.domainEventOutbox = domainEventOutbox;
+        this.cubeEnabled = cubeEnabled;
     }
 
     @Override
     public ExportStatistic save(ExportStatistic exportStatistic) {
-        return jpaExportStatisticRepository.save(exportStatistic);
+        ExportStatistic saved = jpaExportStatisticRepository.save(exportStatistic);
+        exportCubeProvider.invalidate();
+        publishDomainEvents(exportStatistic);
+        return saved;
+    }
+
+    @Override
+    public List<ExportStatistic> saveAll(List<ExportStatistic> exportStatistics) {
+        // hibernate.jdbc.batch_size 단위로 insert 가 묶여 전송됨
+        List<ExportStatistic> saved = jpaExportStatisticRepository.saveAll(exportStatistics);
+        jpaExportStatisticRepository.flush();
+        exportCubeProvider.invalidate();
+        domainEventOutbox.appendAll(exportStatistics.stream()
+            .flatMap(statistic -> statistic.getDomainEvents().stream())
+            .toList());
+        exportStatistics.forEach(ExportStatistic::clearDomainEvents);
+        return saved;
     }
 
     @Override
@@ -63,12 +101,70 @@ public class ExportStatisticRepositoryImpl implements ExportStatisticRepository
     @Override
     public List<ExportStatistic> findByCountryAndProductInPeriods(
             Country country, ProductCategory productCategory, List<ExportPeriod> periods) {
-        // For simplicity, we'll query each period separately and combine results
-        return periods.stream()
-                .flatMap(period -> jpaExportStatisticRepository
-                    .findAllByCountryAndProductAndPeriod(country, productCategory, period.year(), period.month())
-                    .stream())
-                .toList();
+        if (periods.isEmpty()) {
+            return List.of();
+        }
+
+        // 최소~최대 기간을 한 번에 조회한 뒤 요청한 기간만 남김
+        Set<Integer> periodKeys = toPeriodKeys(periods);
+        int fromKey = Collections.min(periodKeys);
+        int toKey = Collections.max(periodKeys);
+
+        return jpaExportStatisticRepository.findByCountryAndProductInPeriodRange(
+                country, productCategory, fromKey / 100, toKey / 100, fromKey, toKey).stream()
+            .filter(statistic -> periodKeys.contains(statistic.getPeriod().toKey()))
+            .toList();
+    }
+
+    @Override
+    public Map<SeriesKey, List<ExportStatistic>> findSeriesInPeriods(
+            Collection<SeriesKey> seriesKeys, List<ExportPeriod> periods) {
+        Map<SeriesKey, List<ExportStatistic>> series = new LinkedHashMap<>();
+        seriesKeys.forEach(key -> series.put(key, new ArrayList<>()));
+        if (series.isEmpty() || periods.isEmpty()) {
+            return series;
+        }
+
+        Set<Integer> periodKeys = toPeriodKeys(periods);
+        int fromKey = Collections.min(periodKeys);
+        int toKey = Collections.max(periodKeys);
+        Long[] countryIds = new Long[series.size()];
+        Long[] productCategoryIds = new Long[series.size()];
+        int index = 0;
+        for (SeriesKey key : series.keySet()) {
+            countryIds[index] = key.countryId();
+            productCategoryIds[index] = key.productCategoryId();
+            index++;
+        }
+
+        // 요청한 (국가, 상품) 조합만 기간 범위로 한 번에 조회하고 요청하지 않은 중간 기간은 제외
+        jpaExportStatisticRepository.findBySeriesInPeriodRange(
+                countryIds, productCategoryIds, fromKey / 100, toKey / 100, fromKey, toKey)
+            .forEach(statistic -> {
+                List<ExportStatistic> target = series.get(new SeriesKey(
+                    statistic.getCountry().getId(), statistic.getProductCategory().getId()));
+                if (target != null && periodKeys.contains(statistic.getPeriod().toKey())) {
+                    target.add(statistic);
+                }
+            });
+        return series;
+    }
+
+    @Override
+    public Set<StatisticKey> findExistingKeys(Collection<Long> countryIds, Collection<Long> productCategoryIds,
+                                              Integer fromYear, Integer toYear) {
+        if (countryIds.isEmpty() || productCategoryIds.isEmpty()) {
+            return Set.of();
+        }
+
+        return jpaExportStatisticRepository
+            .findKeysByCountriesAndProductsInYears(countryIds, productCategoryIds, fromYear, toYear).stream()
+            .map(row -> new StatisticKey(
+                (Long) row[0],
+                (Long) row[1],
+                ExportPeriod.of((Integer) row[2], (Integer) row[3])
+            ))
+            .collect(Collectors.toSet());
     }
 
     @Override
@@ -76,6 +172,24 @@ public class ExportStatisticRepositoryImpl implements ExportStatisticRepository
         return jpaExportStatisticRepository.findByRegionAndPeriod(region, period.year(), period.month());
     }
 
+    @Override
+    public List<CountryPeriodAggregate> aggregateByRegionAndPeriod(String region, ExportPeriod period) {
+        return jpaExportStatisticRepository.aggregateByRegionAndPeriod(region, period.year(), period.month()).stream()
+            .map(row -> new CountryPeriodAggregate(
+                (Country) row[0],
+                Money.usd((BigDecimal) row[1]),
+                ((Number) row[2]).longValue(),
+                row[3] instanceof BigDecimal growthRateSum ? growthRateSum : new BigDecimal(row[3].toString()),
+                ((Number) row[4]).longValue()
+            ))
+            .toList();
+    }
+
+    @Override
+    public long countDistinctProductsByRegionAndPeriod(String region, ExportPeriod period) {
+        return jpaExportStatisticRepository.countDistinctProductsByRegionAndPeriod(region, period.year(), period.month());
+    }
+
     @Override
     public List<ExportStatistic> findByYear(Integer year) {
         return jpaExportStatisticRepository.findByYear(year);
@@ -105,34 +219,45 @@ public class ExportStatisticRepositoryImpl implements ExportStatisticRepository
 
     @Override
     public Money getTotalExportValueByYear(Integer year) {
+        if (cubeEnabled) {
+            return exportCubeProvider.current().totalExportValue(year);
+        }
         BigDecimal totalValue = jpaExportStatisticRepository.getTotalExportValueByYear(year);
         return Money.usd(totalValue != null ? totalValue : BigDecimal.ZERO);
     }
 
     @Override
     public Long countDistinctCountriesByYear(Integer year) {
+        if (cubeEnabled) {
+            return exportCubeProvider.current().countDistinctCountries(year);
+        }
         return jpaExportStatisticRepository.countDistinctCountriesByYear(year);
     }
 
     @Override
     public Long countDistinctProductsByYear(Integer year) {
+        if (cubeEnabled) {
+            return exportCubeProvider.current().countDistinctProducts(year);
+        }
         return jpaExportStatisticRepository.countDistinctProductsByYear(year);
     }
 
     @Override
     public List<CountryExportSummary> getTopExportCountriesByYear(Integer year, int limit) {
-        List<Object[]> results = jpaExportStatisticRepository.getTopExportCountriesByYear(year);
-        Money totalValue = getTotalExportValueByYear(year);
+        if (cubeEnabled) {
+            return exportCubeProvider.current().topCountries(year, limit);
+        }
+        List<Object[]> results = jpaExportStatisticRepository.getTopExportCountriesByYear(year, limit);
 
         return results.stream()
-            .limit(limit)
             .map(row -> {
                 String countryCode = (String) row[0];
                 String countryName = (String) row[1];
                 BigDecimal value = (BigDecimal) row[2];
+                BigDecimal yearTotal = (BigDecimal) row[3];
 
                 Money exportValue = Money.usd(value);
-                Percentage marketShare = Percentage.calculate(value, totalValue.amount());
+                Percentage marketShare = Percentage.calculate(value, yearTotal);
 
                 return new CountryExportSummary(
                     CountryCode.from(countryCode),
@@ -146,24 +271,24 @@ public class ExportStatisticRepositoryImpl implements ExportStatisticRepository
 
     @Override
     public List<ProductExportSummary> getTopExportProductsByYear(Integer year, int limit) {
-        List<Object[]> results = jpaExportStatisticRepository.getTopExportProductsByYear(year);
-        Money totalValue = getTotalExportValueByYear(year);
+        if (cubeEnabled) {
+            return exportCubeProvider.current().topProducts(year, limit);
+        }
+        List<Object[]> results = jpaExportStatisticRepository.getTopExportProductsByYear(year, limit);
 
         return results.stream()
-            .limit(limit)
             .map(row -> {
                 String hsCode = (String) row[0];
-                String productName = (String) row[1];
-                BigDecimal value = (BigDecimal) row[2];
+                Integer hsLevel = (Integer) row[1];
+                String productName = (String) row[2];
+                BigDecimal value = (BigDecimal) row[3];
+                BigDecimal yearTotal = (BigDecimal) row[4];
 
                 Money exportValue = Money.usd(value);
-                Percentage marketShare = Percentage.calculate(value, totalValue.amount());
-
-                // HS 코드 레벨을 추정 (실제로는 ProductCategory에서 가져와야 함)
-                int level = estimateHsCodeLevel(hsCode);
+                Percentage marketShare = Percentage.calculate(value, yearTotal);
 
                 return new ProductExportSummary(
-                    HsCode.from(hsCode, level),
+                    HsCode.from(hsCode, hsLevel),
                     productName,
                     exportValue,
                     marketShare
@@ -172,8 +297,33 @@ public class ExportStatisticRepositoryImpl implements ExportStatisticRepository
             .toList();
     }
 
+    @Override
+    public void forEachCountryExportValueByYear(Integer year, Consumer<Money> action) {
+        if (cubeEnabled) {
+            exportCubeProvider.current().forEachCountryTotal(year, action);
+            return;
+        }
+        try (Stream<BigDecimal> values = jpaExportStatisticRepository.streamCountryExportValuesByYear(year)) {
+            values.map(Money::usd).forEach(action);
+        }
+    }
+
+    @Override
+    public void forEachProductExportValueByYear(Integer year, Consumer<Money> action) {
+        if (cubeEnabled) {
+            exportCubeProvider.current().forEachProductTotal(year, action);
+            return;
+        }
+        try (Stream<BigDecimal> values = jpaExportStatisticRepository.streamProductExportValuesByYear(year)) {
+            values.map(Money::usd).forEach(action);
+        }
+    }
+
     @Override
     public List<MonthlyExportTrend> getMonthlyExportTrend(Integer year) {
+        if (cubeEnabled) {
+            return exportCubeProvider.current().monthlyTrend(year);
+        }
         List<Object[]> results = jpaExportStatisticRepository.getMonthlyExportTrend(year);
 
         return results.stream()
@@ -198,18 +348,12 @@ public class ExportStatisticRepositoryImpl implements ExportStatisticRepository
             .map(row -> {
                 Integer year = (Integer) row[0];
                 BigDecimal value = (BigDecimal) row[1];
+                BigDecimal previousValue = (BigDecimal) row[2];
 
-                // 성장률 계산 (이전 년도 대비)
+                // 성장률 계산 (이전 년도 대비, 이전 년도 데이터가 없으면 0)
                 Percentage growthRate = Percentage.zero();
-                if (year > startYear) {
-                    Money previousYearValue = getTotalExportValueByYear(year - 1);
-                    Money currentValue = Money.usd(value);
-                    if (previousYearValue.isPositive()) {
-                        growthRate = Percentage.calculate(
-                            currentValue.subtract(previousYearValue).amount(),
-                            previousYearValue.amount()
-                        );
-                    }
+                if (previousValue != null && previousValue.signum() > 0) {
+                    growthRate = Percentage.calculate(value.subtract(previousValue), previousValue);
                 }
 
                 return new YearlyExportTrend(
@@ -221,6 +365,155 @@ public class ExportStatisticRepositoryImpl implements ExportStatisticRepository
             .toList();
     }
 
+    @Override
+    public List<MonthlyExportTrend> getMonthlyExportTrend(Integer startYear, Integer endYear) {
+        if (cubeEnabled) {
+            ExportCube cube = exportCubeProvider.current();
+            return IntStream.rangeClosed(startYear, endYear)
+                .mapToObj(cube::monthlyTrend)
+                .flatMap(List::stream)
+                .toList();
+        }
+        List<Object[]> results = jpaExportStatisticRepository.getMonthlyExportTrendBetween(startYear, endYear);
+
+        return results.stream()
+            .map(row -> new MonthlyExportTrend(
+                ExportPeriod.of((Integer) row[0], (Integer) row[1]),
+                Money.usd((BigDecimal) row[2])
+            ))
+            .toList();
+    }
+
+    @Override
+    public DashboardAggregate getDashboardAggregate(Integer year, int topLimit) {
+        if (cubeEnabled) {
+            ExportCube cube = exportCubeProvider.current();
+            return new DashboardAggregate(
+                cube.totalExportValue(year),
+                cube.totalExportValue(year - 1),
+                cube.countDistinctCountries(year),
+                cube.countDistinctProducts(year),
+                cube.topCountries(year, topLimit),
+                cube.topProducts(year, topLimit),
+                cube.monthlyTrend(year)
+            );
+        }
+
+        List<Object[]> rows = jpaExportStatisticRepository.getDashboardAggregates(year, year - 1, topLimit);
+
+        BigDecimal totalValue = BigDecimal.ZERO;
+        BigDecimal previousTotalValue = BigDecimal.ZERO;
+        long countryCount = 0L;
+        long productCount = 0L;
+        List<Object[]> countryRows = new ArrayList<>();
+        List<Object[]> productRows = new ArrayList<>();
+        List<MonthlyExportTrend> monthlyTrends = new ArrayList<>();
+
+        for (Object[] row : rows) {
+            previousTotalValue = (BigDecimal) row[9];
+            if (row[0] == null) {
+                continue; // 해당 년도 데이터 없음
+            }
+
+            switch ((String) row[0]) {
+                case KIND_TOTAL -> totalValue = (BigDecimal) row[7];
+                case KIND_COUNTRY -> {
+                    countryCount = ((Number) row[8]).longValue();
+                    countryRows.add(row);
+                }
+                case KIND_PRODUCT -> {
+                    productCount = ((Number) row[8]).longValue();
+                    productRows.add(row);
+                }
+                case KIND_MONTH -> monthlyTrends.add(new MonthlyExportTrend(
+                    ExportPeriod.of(year, (Integer) row[1]),
+                    Money.usd((BigDecimal) row[7])
+                ));
+                default -> throw new IllegalStateException("알 수 없는 대시보드 집계 종류: " + row[0]);
+            }
+        }
+
+        BigDecimal yearTotal = totalValue;
+        List<CountryExportSummary> topCountries = countryRows.stream()
+            .map(row -> new CountryExportSummary(
+                CountryCode.from((String) row[2]),
+                (String) row[3],
+                Money.usd((BigDecimal) row[7]),
+                Percentage.calculate((BigDecimal) row[7], yearTotal)
+            ))
+            .toList();
+        List<ProductExportSummary> topProducts = productRows.stream()
+            .map(row -> new ProductExportSummary(
+                HsCode.from((String) row[4], (Integer) row[5]),
+                (String) row[6],
+                Money.usd((BigDecimal) row[7]),
+                Percentage.calculate((BigDecimal) row[7], yearTotal)
+            ))
+            .toList();
+
+        return new DashboardAggregate(
+            Money.usd(totalValue),
+            Money.usd(previousTotalValue),
+            countryCount,
+            productCount,
+            topCountries,
+            topProducts,
+            monthlyTrends
+        );
+    }
+
+    @Override
+    public List<CountryExportTotal> getCountryExportTotals(ExportPeriod startPeriod, ExportPeriod endPeriod) {
+        return jpaExportStatisticRepository.getCountryTotalsBetween(
+                startPeriod.year(), startPeriod.month(), endPeriod.year(), endPeriod.month()).stream()
+            .map(row -> new CountryExportTotal(
+                CountryCode.from((String) row[0]),
+                (String) row[1],
+                (String) row[2],
+                (String) row[3],
+                (String) row[4],
+                Money.usd((BigDecimal) row[5]),
+                ((Number) row[6]).longValue()
+            ))
+            .toList();
+    }
+
+    @Override
+    public Optional<HsNodeExportTotal> getHsNodeExportTotal(String hsCode, ExportPeriod startPeriod, ExportPeriod endPeriod) {
+        return jpaExportStatisticRepository.getHsNodeTotal(hsCode,
+                startPeriod.year(), startPeriod.month(), endPeriod.year(), endPeriod.month()).stream()
+            .map(this::toHsNodeExportTotal)
+            .findFirst();
+    }
+
+    @Override
+    public List<HsNodeExportTotal> getHsChildExportTotals(String hsCode, ExportPeriod startPeriod, ExportPeriod endPeriod) {
+        List<Object[]> results = hsCode == null
+            ? jpaExportStatisticRepository.getHsChapterTotals(
+                startPeriod.year(), startPeriod.month(), endPeriod.year(), endPeriod.month())
+            : jpaExportStatisticRepository.getHsChildTotals(hsCode,
+                startPeriod.year(), startPeriod.month(), endPeriod.year(), endPeriod.month());
+
+        return results.stream()
+            .map(this::toHsNodeExportTotal)
+            .toList();
+    }
+
+    private HsNodeExportTotal toHsNodeExportTotal(Object[] row) {
+        return new HsNodeExportTotal(
+            HsCode.of((String) row[0], (Integer) row[1]),
+            (String) row[2],
+            (String) row[3],
+            Money.usd((BigDecimal) row[4]),
+            ((Number) row[5]).longValue()
+        );
+    }
+
+    @Override
+    public int recalculateGrowthRatesAndMarketShares(Integer fromYear, Integer toYear) {
+        return jpaExportStatisticRepository.recalculateGrowthRatesAndMarketShares(fromYear, toYear);
+    }
+
     @Override
     public List<Integer> findAllYears() {
         return jpaExportStatisticRepository.findAllYears();
@@ -229,15 +522,22 @@ public class ExportStatisticRepositoryImpl implements ExportStatisticRepository
     @Override
     public void delete(ExportStatistic exportStatistic) {
         jpaExportStatisticRepository.delete(exportStatistic);
+        exportCubeProvider.invalidate();
+        publishDomainEvents(exportStatistic);
     }
 
     /**
-     * HS 코드 길이로 레벨 추정
-     * 실제로는 ProductCategory 엔티티에서 정확한 레벨을 가져와야 함
+     * 집계에 등록된 도메인 이벤트를 같은 트랜잭션에서 아웃박스에 저장한 뒤 비움
+     * (리스너에는 커밋 이후 DomainEventDispatcher 가 전달)
      */
-    private int estimateHsCodeLevel(String hsCode) {
-        if (hsCode == null) return 1;
-        int length = hsCode.length();
-        return Math.min((length + 1) / 2, 6);
+    private void publishDomainEvents(ExportStatistic exportStatistic) {
+        domainEventOutbox.appendAll(exportStatistic.getDomainEvents());
+        exportStatistic.clearDomainEvents();
+    }
+
+    private Set<Integer> toPeriodKeys(List<ExportPeriod> periods) {
+        return periods.stream()
+            .map(ExportPeriod::toKey)
+            .collect(Collectors.toSet());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,253 @@
+package com.export.dashboard.infrastructure.repository;
+
+import com.export.dashboard.domain.model.ExportStatisticCursor;
+import com.export.dashboard.domain.repository.ExportStatisticViewRepository;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.function.Consumer;
+
+/**
+ * ExportStatisticView Repository 구현체
+ * 수출 통계와 국가/상품을 한 번에 조인하여 JdbcTemplate 으로 직접 매핑
+ * (목록 행마다 지연 로딩 프록시를 초기화하는 추가 조회가 발생하지 않음)
+ */
+@Repository
+public class ExportStatisticViewRepositoryImpl implements ExportStatisticViewRepository {
+
+    private static final String SELECT_SQL =
+        "SELECT e.id, e.year, e.month, e.export_value_usd, e.currency, e.export_weight_kg, e.export_quantity, " +
+        "       e.quantity_unit, e.growth_rate_yoy, e.market_share, " +
+        "       c.id AS country_id, c.country_code, c.country_name_ko, c.country_name_en, " +
+        "       c.region, c.continent, c.is_active AS country_active, " +
+        "       p.id AS product_category_id, p.hs_code, p.hs_level, p.category_name_ko, p.category_name_en, " +
+        "       p.parent_hs_code, p.is_active AS product_category_active " +
+        "FROM export_statistics e " +
+        "JOIN countries c ON c.id = e.country_id " +
+        "JOIN product_categories p ON p.id = e.product_category_id ";
+
+    private static final String YEAR_ORDER = "ORDER BY e.month, e.export_value_usd DESC, e.id";
+
+    private static final String COUNT_SQL = "SELECT COUNT(*) FROM export_statistics";
+
+    // 내보내기 스트리밍 시 한 번에 가져오는 행 수 (PostgreSQL 은 트랜잭션 안에서만 커서로 나누어 읽음)
+    private static final int STREAM_FETCH_SIZE = 1000;
+
+    // idx_export_stats_keyset 순서와 같아야 커서 이후 구간을 인덱스 범위 스캔으로 읽음
+    private static final String KEYSET_ORDER = "ORDER BY e.year, e.month, e.export_value_usd, e.id LIMIT ?";
+
+    private static final String KEYSET_AFTER =
+        "WHERE (e.year, e.month, e.export_value_usd, e.id) > (?, ?, ?, ?) ";
+
+    // ANALYZE/autovacuum 이 갱신한 행 수 추정치 (한 번도 분석되지 않은 테이블은 -1 또는 0)
+    private static final String ESTIMATE_COUNT_SQL =
+        "SELECT reltuples::bigint FROM pg_class WHERE oid = 'export_statistics'::regclass";
+
+    // 페이징 정렬 허용 속성 (엔티티 경로와 응답 필드명) → 컬럼
+    private static final Map<String, String> SORT_COLUMNS = Map.ofEntries(
+        Map.entry("id", "e.id"),
+        Map.entry("year", "e.year"),
+        Map.entry("period.year", "e.year"),
+        Map.entry("month", "e.month"),
+        Map.entry("period.month", "e.month"),
+        Map.entry("exportValueUsd", "e.export_value_usd"),
+        Map.entry("exportValue.amount", "e.export_value_usd"),
+        Map.entry("exportWeightKg", "e.export_weight_kg"),
+        Map.entry("growthRateYoy", "e.growth_rate_yoy"),
+        Map.entry("growthRateYoy.value", "e.growth_rate_yoy"),
+        Map.entry("marketShare", "e.market_share"),
+        Map.entry("marketShare.value", "e.market_share"),
+        Map.entry("country.countryCode", "c.country_code"),
+        Map.entry("productCategory.hsCode", "p.hs_code")
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JdbcTemplate streamingJdbcTemplate;
+
+    public ExportStatisticViewRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.streamingJdbcTemplate = new JdbcTemplate(jdbcTemplate.getDataSource());
+        this.streamingJdbcTemplate.setFetchSize(STREAM_FETCH_SIZE);
+    }
+
+    @Override
+    public List<ExportStatisticView> findByYear(Integer year) {
+        return jdbcTemplate.query(SELECT_SQL + "WHERE e.year = ? " + YEAR_ORDER,
+            new ViewRowMapper(), year);
+    }
+
+    @Override
+    public List<ExportStatisticView> findByCountryAndYear(Long countryId, Integer year) {
+        return jdbcTemplate.query(SELECT_SQL + "WHERE e.country_id = ? AND e.year = ? " + YEAR_ORDER,
+            new ViewRowMapper(), countryId, year);
+    }
+
+    @Override
+    public List<ExportStatisticView> findByProductCategoryAndYear(Long productCategoryId, Integer year) {
+        return jdbcTemplate.query(SELECT_SQL + "WHERE e.product_category_id = ? AND e.year = ? " + YEAR_ORDER,
+            new ViewRowMapper(), productCategoryId, year);
+    }
+
+    @Override
+    public Page<ExportStatisticView> findAll(Pageable pageable) {
+        if (pageable.isUnpaged()) {
+            List<ExportStatisticView> content =
+                jdbcTemplate.query(SELECT_SQL + orderBy(pageable.getSort()), new ViewRowMapper());
+            return PageableExecutionUtils.getPage(content, pageable, content::size);
+        }
+
+        List<ExportStatisticView> content = jdbcTemplate.query(
+            SELECT_SQL + orderBy(pageable.getSort()) + " LIMIT ? OFFSET ?",
+            new ViewRowMapper(), pageable.getPageSize(), pageable.getOffset());
+
+        // 마지막 페이지처럼 전체 건수를 알 수 있으면 COUNT 조회를 생략
+        return PageableExecutionUtils.getPage(content, pageable,
+            () -> jdbcTemplate.queryForObject(COUNT_SQL, Long.class));
+    }
+
+    @Override
+    public Slice<ExportStatisticView> findAfter(ExportStatisticCursor cursor, int limit) {
+        // 한 행을 더 읽어 다음 페이지 존재 여부 판단
+        List<ExportStatisticView> content = cursor == null
+            ? jdbcTemplate.query(SELECT_SQL + KEYSET_ORDER, new ViewRowMapper(), limit + 1)
+            : jdbcTemplate.query(SELECT_SQL + KEYSET_AFTER + KEYSET_ORDER, new ViewRowMapper(),
+                cursor.year(), cursor.month(), cursor.exportValueUsd(), cursor.id(), limit + 1);
+
+        boolean hasNext = content.size() > limit;
+        if (hasNext) {
+            content = content.subList(0, limit);
+        }
+        return new SliceImpl<>(content, PageRequest.ofSize(limit), hasNext);
+    }
+
+    @Override
+    public long estimateCount() {
+        Long estimate = jdbcTemplate.queryForObject(ESTIMATE_COUNT_SQL, Long.class);
+        return estimate == null ? 0 : Math.max(0, estimate);
+    }
+
+    @Override
+    public void forEach(ExportStatisticFilter filter, Consumer<ExportStatisticView> action) {
+        StringBuilder sql = new StringBuilder(SELECT_SQL).append("WHERE 1 = 1 ");
+        List<Object> args = new ArrayList<>();
+
+        if (filter.countryId() != null) {
+            sql.append("AND e.country_id = ? ");
+            args.add(filter.countryId());
+        }
+        if (filter.productCategoryId() != null) {
+            sql.append("AND e.product_category_id = ? ");
+            args.add(filter.productCategoryId());
+        }
+        if (filter.startPeriod() != null) {
+            sql.append("AND (e.year, e.month) >= (?, ?) ");
+            args.add(filter.startPeriod().year());
+            args.add(filter.startPeriod().month());
+        }
+        if (filter.endPeriod() != null) {
+            sql.append("AND (e.year, e.month) <= (?, ?) ");
+            args.add(filter.endPeriod().year());
+            args.add(filter.endPeriod().month());
+        }
+        // 키셋 인덱스 순서로 읽어 정렬 없이 첫 행부터 바로 전달
+        sql.append("ORDER BY e.year, e.month, e.export_value_usd, e.id");
+
+        ViewRowMapper rowMapper = new ViewRowMapper();
+        streamingJdbcTemplate.query(sql.toString(),
+            rs -> { action.accept(rowMapper.mapRow(rs, 0)); },
+            args.toArray());
+    }
+
+    private static String orderBy(Sort sort) {
+        StringJoiner orderBy = new StringJoiner(", ", "ORDER BY ", "");
+        for (Sort.Order order : sort) {
+            String column = SORT_COLUMNS.get(order.getProperty());
+            if (column == null) {
+                throw new IllegalArgumentException("정렬할 수 없는 속성입니다: " + order.getProperty());
+            }
+            orderBy.add(column + (order.isAscending() ? " ASC" : " DESC"));
+        }
+        // 동일 값 사이의 페이지 경계가 흔들리지 않도록 ID 를 마지막 정렬 키로 사용
+        orderBy.add("e.id");
+        return orderBy.toString();
+    }
+
+    /**
+     * 조회 단위 행 매퍼
+     * 같은 국가/상품은 한 번만 만들어 행 사이에서 공유
+     */
+    private static final class ViewRowMapper implements RowMapper<ExportStatisticView> {
+
+        private final Map<Long, CountryView> countries = new HashMap<>();
+        private final Map<Long, ProductCategoryView> productCategories = new HashMap<>();
+
+        @Override
+        public ExportStatisticView mapRow(ResultSet rs, int rowNum) throws SQLException {
+            return new ExportStatisticView(
+                rs.getLong("id"),
+                country(rs),
+                productCategory(rs),
+                rs.getInt("year"),
+                rs.getInt("month"),
+                rs.getBigDecimal("export_value_usd"),
+                rs.getString("currency"),
+                rs.getBigDecimal("export_weight_kg"),
+                rs.getBigDecimal("export_quantity"),
+                rs.getString("quantity_unit"),
+                rs.getBigDecimal("growth_rate_yoy"),
+                rs.getBigDecimal("market_share")
+            );
+        }
+
+        private CountryView country(ResultSet rs) throws SQLException {
+            long id = rs.getLong("country_id");
+            CountryView country = countries.get(id);
+            if (country == null) {
+                country = new CountryView(
+                    id,
+                    rs.getString("country_code"),
+                    rs.getString("country_name_ko"),
+                    rs.getString("country_name_en"),
+                    rs.getString("region"),
+                    rs.getString("continent"),
+                    rs.getBoolean("country_active")
+                );
+                countries.put(id, country);
+            }
+            return country;
+        }
+
+        private ProductCategoryView productCategory(ResultSet rs) throws SQLException {
+            long id = rs.getLong("product_category_id");
+            ProductCategoryView productCategory = productCategories.get(id);
+            if (productCategory == null) {
+                productCategory = new ProductCategoryView(
+                    id,
+                    rs.getString("hs_code"),
+                    rs.getInt("hs_level"),
+                    rs.getString("category_name_ko"),
+                    rs.getString("category_name_en"),
+                    rs.getString("parent_hs_code"),
+                    rs.getBoolean("product_category_active")
+                );
+                productCategories.put(id, productCategory);
+            }
+            return productCategory;
+        }
+    }
+}
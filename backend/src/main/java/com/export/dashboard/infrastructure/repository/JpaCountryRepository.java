@@ -17,13 +17,17 @@ public interface JpaCountryRepository extends JpaRepository<Country, Long> {
     @Query("SELECT c FROM Country c WHERE c.countryCode.value = :countryCode")
     Optional<Country> findByCountryCode(@Param("countryCode") String countryCode);
 
-    @Query("SELECT c FROM Country c WHERE c.active = true ORDER BY c.nameEn")
+    // 국가 목록은 관세청 전 세계 합계(WLD) 국가를 제외 (관리자용 findAll 은 포함)
+    @Query("SELECT c FROM Country c WHERE c.active = true " +
+           "AND c.countryCode.value <> '" + CountryCode.WORLD + "' ORDER BY c.nameEn")
     List<Country> findAllActive();
 
-    @Query("SELECT c FROM Country c WHERE c.region = :region AND c.active = true ORDER BY c.nameEn")
+    @Query("SELECT c FROM Country c WHERE c.region = :region AND c.active = true " +
+           "AND c.countryCode.value <> '" + CountryCode.WORLD + "' ORDER BY c.nameEn")
     List<Country> findByRegion(@Param("region") String region);
 
-    @Query("SELECT c FROM Country c WHERE c.continent = :continent AND c.active = true ORDER BY c.nameEn")
+    @Query("SELECT c FROM Country c WHERE c.continent = :continent AND c.active = true " +
+           "AND c.countryCode.value <> '" + CountryCode.WORLD + "' ORDER BY c.nameEn")
     List<Country> findByContinent(@Param("continent") String continent);
 
     @Query("SELECT COUNT(c) > 0 FROM Country c WHERE c.countryCode.value = :countryCode")
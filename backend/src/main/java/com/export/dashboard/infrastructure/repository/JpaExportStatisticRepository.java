@@ -3,13 +3,21 @@ package com.export.dashboard.infrastructure.repository;
 import com.export.dashboard.domain.model.Country;
 import com.export.dashboard.domain.model.ExportStatistic;
 import com.export.dashboard.domain.model.ProductCategory;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.math.BigDecimal;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static com.export.dashboard.infrastructure.persistence.WorldTotalSql.WORLD_COUNTRY_IDS;
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
 
 /**
  * ExportStatistic JPA Repository 인터페이스
@@ -44,43 +52,243 @@ public interface JpaExportStatisticRepository extends JpaRepository<ExportStatis
         @Param("endYear") Integer endYear,
         @Param("endMonth") Integer endMonth);
 
-    @Query("SELECT COALESCE(SUM(e.exportValue.amount), 0) FROM ExportStatistic e WHERE e.period.year = :year")
+    // 집계 조회는 export_totals_* rollup 테이블에서 수행 (V3__Create_export_rollup_tables.sql)
+    @Query(value = "SELECT COALESCE(SUM(t.total_value_usd), 0) FROM export_totals_by_month t WHERE t.year = :year",
+           nativeQuery = true)
     BigDecimal getTotalExportValueByYear(@Param("year") Integer year);
 
-    @Query("SELECT COUNT(DISTINCT e.country) FROM ExportStatistic e WHERE e.period.year = :year")
+    @Query(value = "SELECT COUNT(*) FROM export_totals_by_year_country t WHERE t.year = :year AND t.row_count > 0",
+           nativeQuery = true)
     Long countDistinctCountriesByYear(@Param("year") Integer year);
 
-    @Query("SELECT COUNT(DISTINCT e.productCategory) FROM ExportStatistic e WHERE e.period.year = :year")
+    @Query(value = "SELECT COUNT(*) FROM export_totals_by_year_product t WHERE t.year = :year AND t.row_count > 0",
+           nativeQuery = true)
     Long countDistinctProductsByYear(@Param("year") Integer year);
 
-    @Query("SELECT e.country.countryCode.value, e.country.nameEn, SUM(e.exportValue.amount) " +
-           "FROM ExportStatistic e " +
-           "WHERE e.period.year = :year " +
-           "GROUP BY e.country.countryCode.value, e.country.nameEn " +
-           "ORDER BY SUM(e.exportValue.amount) DESC")
-    List<Object[]> getTopExportCountriesByYear(@Param("year") Integer year);
-
-    @Query("SELECT e.productCategory.hsCode.value, e.productCategory.nameEn, SUM(e.exportValue.amount) " +
-           "FROM ExportStatistic e " +
-           "WHERE e.period.year = :year " +
-           "GROUP BY e.productCategory.hsCode.value, e.productCategory.nameEn " +
-           "ORDER BY SUM(e.exportValue.amount) DESC")
-    List<Object[]> getTopExportProductsByYear(@Param("year") Integer year);
-
-    @Query("SELECT e.period.year, e.period.month, SUM(e.exportValue.amount) " +
-           "FROM ExportStatistic e " +
-           "WHERE e.period.year = :year " +
-           "GROUP BY e.period.year, e.period.month " +
-           "ORDER BY e.period.month")
+    // 상위 N 조회: LIMIT 적용 전 윈도 함수로 년도 총액을 함께 계산 (점유율 계산용)
+    @Query(value = "SELECT c.country_code, c.country_name_en, t.total_value_usd, " +
+           "       SUM(t.total_value_usd) OVER () AS year_total " +
+           "FROM export_totals_by_year_country t " +
+           "JOIN countries c ON c.id = t.country_id " +
+           "WHERE t.year = :year AND t.row_count > 0 " +
+           "ORDER BY t.total_value_usd DESC " +
+           "LIMIT :limit",
+           nativeQuery = true)
+    List<Object[]> getTopExportCountriesByYear(@Param("year") Integer year, @Param("limit") int limit);
+
+    @Query(value = "SELECT p.hs_code, p.hs_level, p.category_name_en, t.total_value_usd, " +
+           "       SUM(t.total_value_usd) OVER () AS year_total " +
+           "FROM export_totals_by_year_product t " +
+           "JOIN product_categories p ON p.id = t.product_category_id " +
+           "WHERE t.year = :year AND t.row_count > 0 " +
+           "ORDER BY t.total_value_usd DESC " +
+           "LIMIT :limit",
+           nativeQuery = true)
+    List<Object[]> getTopExportProductsByYear(@Param("year") Integer year, @Param("limit") int limit);
+
+    // 전체 분포 조회: 읽기 전용 트랜잭션 내에서 fetch size 단위로 커서를 이동하며 스트리밍
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query(value = "SELECT t.total_value_usd " +
+           "FROM export_totals_by_year_country t " +
+           "WHERE t.year = :year AND t.row_count > 0 " +
+           "ORDER BY t.total_value_usd DESC",
+           nativeQuery = true)
+    Stream<BigDecimal> streamCountryExportValuesByYear(@Param("year") Integer year);
+
+    @QueryHints(@QueryHint(name = HINT_FETCH_SIZE, value = "500"))
+    @Query(value = "SELECT t.total_value_usd " +
+           "FROM export_totals_by_year_product t " +
+           "WHERE t.year = :year AND t.row_count > 0 " +
+           "ORDER BY t.total_value_usd DESC",
+           nativeQuery = true)
+    Stream<BigDecimal> streamProductExportValuesByYear(@Param("year") Integer year);
+
+    @Query(value = "SELECT t.year, t.month, t.total_value_usd " +
+           "FROM export_totals_by_month t " +
+           "WHERE t.year = :year AND t.row_count > 0 " +
+           "ORDER BY t.month",
+           nativeQuery = true)
     List<Object[]> getMonthlyExportTrend(@Param("year") Integer year);
 
-    @Query("SELECT e.period.year, SUM(e.exportValue.amount) " +
-           "FROM ExportStatistic e " +
-           "WHERE e.period.year BETWEEN :startYear AND :endYear " +
-           "GROUP BY e.period.year " +
-           "ORDER BY e.period.year")
+    // 시작 년도의 전년도까지 함께 집계하고 LAG 로 전년 합계를 구함 (직전 행이 year - 1 인 경우만)
+    @Query(value = "SELECT y.year, y.total_value, y.previous_total FROM ( " +
+           "    SELECT t.year, SUM(t.total_value_usd) AS total_value, " +
+           "           CASE WHEN LAG(t.year) OVER w = t.year - 1 " +
+           "                THEN LAG(SUM(t.total_value_usd)) OVER w END AS previous_total " +
+           "    FROM export_totals_by_month t " +
+           "    WHERE t.year BETWEEN :startYear - 1 AND :endYear AND t.row_count > 0 " +
+           "    GROUP BY t.year " +
+           "    WINDOW w AS (ORDER BY t.year) " +
+           ") y " +
+           "WHERE y.year >= :startYear " +
+           "ORDER BY y.year",
+           nativeQuery = true)
     List<Object[]> getYearlyExportTrend(@Param("startYear") Integer startYear, @Param("endYear") Integer endYear);
 
+    @Query(value = "SELECT t.year, t.month, t.total_value_usd " +
+           "FROM export_totals_by_month t " +
+           "WHERE t.year BETWEEN :startYear AND :endYear AND t.row_count > 0 " +
+           "ORDER BY t.year, t.month",
+           nativeQuery = true)
+    List<Object[]> getMonthlyExportTrendBetween(@Param("startYear") Integer startYear, @Param("endYear") Integer endYear);
+
+    /**
+     * 대시보드 집계 단일 조회
+     * rollup 테이블의 년 총액/국가별/상품별/월별 합계를 한 번에 읽고
+     * 윈도 함수로 그룹 내 순위와 고유 개수를 구함
+     * kind: TOTAL=년 총액, COUNTRY=국가별, PRODUCT=상품별, MONTH=월별
+     */
+    @Query(value = "WITH ranked AS ( " +
+           "    SELECT 'TOTAL' AS kind, CAST(NULL AS INTEGER) AS month, " +
+           "           CAST(NULL AS BIGINT) AS country_id, CAST(NULL AS BIGINT) AS product_category_id, " +
+           "           SUM(m.total_value_usd) AS total_value, 1 AS rank_no, 1 AS group_count " +
+           "    FROM export_totals_by_month m " +
+           "    WHERE m.year = :year AND m.row_count > 0 " +
+           "    HAVING COUNT(*) > 0 " +
+           "    UNION ALL " +
+           "    SELECT 'MONTH', m.month, NULL, NULL, m.total_value_usd, " +
+           "           ROW_NUMBER() OVER (ORDER BY m.month), COUNT(*) OVER () " +
+           "    FROM export_totals_by_month m " +
+           "    WHERE m.year = :year AND m.row_count > 0 " +
+           "    UNION ALL " +
+           "    SELECT 'COUNTRY', NULL, yc.country_id, NULL, yc.total_value_usd, " +
+           "           ROW_NUMBER() OVER (ORDER BY yc.total_value_usd DESC), COUNT(*) OVER () " +
+           "    FROM export_totals_by_year_country yc " +
+           "    WHERE yc.year = :year AND yc.row_count > 0 " +
+           "    UNION ALL " +
+           "    SELECT 'PRODUCT', NULL, NULL, yp.product_category_id, yp.total_value_usd, " +
+           "           ROW_NUMBER() OVER (ORDER BY yp.total_value_usd DESC), COUNT(*) OVER () " +
+           "    FROM export_totals_by_year_product yp " +
+           "    WHERE yp.year = :year AND yp.row_count > 0 " +
+           ") " +
+           "SELECT r.kind, r.month, c.country_code, c.country_name_en, " +
+           "       p.hs_code, p.hs_level, p.category_name_en, r.total_value, r.group_count, prev.previous_total " +
+           "FROM (SELECT COALESCE(SUM(pm.total_value_usd), 0) AS previous_total " +
+           "      FROM export_totals_by_month pm WHERE pm.year = :previousYear) prev " +
+           "LEFT JOIN ranked r ON (r.kind IN ('TOTAL', 'MONTH') OR r.rank_no <= :topLimit) " +
+           "LEFT JOIN countries c ON c.id = r.country_id " +
+           "LEFT JOIN product_categories p ON p.id = r.product_category_id " +
+           "ORDER BY r.kind, r.month, r.rank_no",
+           nativeQuery = true)
+    List<Object[]> getDashboardAggregates(
+        @Param("year") Integer year,
+        @Param("previousYear") Integer previousYear,
+        @Param("topLimit") int topLimit);
+
+    /**
+     * 국가/월 집계 테이블에서 활성 국가별 기간 합계 조회
+     * 관세청 전체 합계(WLD)는 지역/대륙에 속하지 않으므로 제외
+     */
+    @Query(value = "SELECT c.country_code, c.country_name_ko, c.country_name_en, c.region, c.continent, " +
+           "       COALESCE(SUM(t.total_value_usd), 0) AS total_value, COALESCE(SUM(t.row_count), 0) AS row_count " +
+           "FROM countries c " +
+           "LEFT JOIN export_totals_by_month_country t ON t.country_id = c.id " +
+           "     AND (t.year, t.month) >= (:startYear, :startMonth) AND (t.year, t.month) <= (:endYear, :endMonth) " +
+           "WHERE c.is_active = true AND c.id NOT IN " + WORLD_COUNTRY_IDS +
+           "GROUP BY c.id, c.country_code, c.country_name_ko, c.country_name_en, c.region, c.continent " +
+           "ORDER BY total_value DESC, c.country_code",
+           nativeQuery = true)
+    List<Object[]> getCountryTotalsBetween(
+        @Param("startYear") Integer startYear,
+        @Param("startMonth") Integer startMonth,
+        @Param("endYear") Integer endYear,
+        @Param("endMonth") Integer endMonth);
+
+    /**
+     * HS 계층 집계 테이블에서 노드 하위 전체(자신 포함)의 기간 합계 조회
+     */
+    @Query(value = "SELECT t.hs_prefix, t.hs_level, p.category_name_ko, p.category_name_en, t.total_value, t.row_count " +
+           "FROM (SELECT h.hs_prefix, h.hs_level, SUM(h.total_value_usd) AS total_value, SUM(h.row_count) AS row_count " +
+           "      FROM export_totals_by_hs_prefix h " +
+           "      WHERE h.hs_prefix = :hsCode " +
+           "        AND (h.year, h.month) >= (:startYear, :startMonth) AND (h.year, h.month) <= (:endYear, :endMonth) " +
+           "      GROUP BY h.hs_prefix, h.hs_level " +
+           "      HAVING SUM(h.row_count) > 0) t " +
+           "LEFT JOIN product_categories p ON p.hs_code = t.hs_prefix",
+           nativeQuery = true)
+    List<Object[]> getHsNodeTotal(
+        @Param("hsCode") String hsCode,
+        @Param("startYear") Integer startYear,
+        @Param("startMonth") Integer startMonth,
+        @Param("endYear") Integer endYear,
+        @Param("endMonth") Integer endMonth);
+
+    /**
+     * HS 계층 집계 테이블에서 노드 바로 아래 레벨 노드별 기간 합계 조회
+     */
+    @Query(value = "SELECT t.hs_prefix, t.hs_level, p.category_name_ko, p.category_name_en, t.total_value, t.row_count " +
+           "FROM (SELECT h.hs_prefix, h.hs_level, SUM(h.total_value_usd) AS total_value, SUM(h.row_count) AS row_count " +
+           "      FROM export_totals_by_hs_prefix h " +
+           "      WHERE h.parent_prefix = :hsCode " +
+           "        AND (h.year, h.month) >= (:startYear, :startMonth) AND (h.year, h.month) <= (:endYear, :endMonth) " +
+           "      GROUP BY h.hs_prefix, h.hs_level " +
+           "      HAVING SUM(h.row_count) > 0) t " +
+           "LEFT JOIN product_categories p ON p.hs_code = t.hs_prefix " +
+           "ORDER BY t.total_value DESC, t.hs_prefix",
+           nativeQuery = true)
+    List<Object[]> getHsChildTotals(
+        @Param("hsCode") String hsCode,
+        @Param("startYear") Integer startYear,
+        @Param("startMonth") Integer startMonth,
+        @Param("endYear") Integer endYear,
+        @Param("endMonth") Integer endMonth);
+
+    /**
+     * HS 계층 집계 테이블에서 챕터별 기간 합계 조회
+     */
+    @Query(value = "SELECT t.hs_prefix, t.hs_level, p.category_name_ko, p.category_name_en, t.total_value, t.row_count " +
+           "FROM (SELECT h.hs_prefix, h.hs_level, SUM(h.total_value_usd) AS total_value, SUM(h.row_count) AS row_count " +
+           "      FROM export_totals_by_hs_prefix h " +
+           "      WHERE h.hs_level = 1 " +
+           "        AND (h.year, h.month) >= (:startYear, :startMonth) AND (h.year, h.month) <= (:endYear, :endMonth) " +
+           "      GROUP BY h.hs_prefix, h.hs_level " +
+           "      HAVING SUM(h.row_count) > 0) t " +
+           "LEFT JOIN product_categories p ON p.hs_code = t.hs_prefix " +
+           "ORDER BY t.total_value DESC, t.hs_prefix",
+           nativeQuery = true)
+    List<Object[]> getHsChapterTotals(
+        @Param("startYear") Integer startYear,
+        @Param("startMonth") Integer startMonth,
+        @Param("endYear") Integer endYear,
+        @Param("endMonth") Integer endMonth);
+
+    /**
+     * 성장률/시장점유율 일괄 재계산
+     * 시작 년도의 전년도까지 읽어 LAG 로 전년 동월 금액을, SUM OVER 로 년도 총액을 구한 뒤
+     * 값이 바뀐 행만 갱신 (반올림은 Percentage.calculate 와 동일, 성장률은 컬럼 범위로 제한)
+     * 전 세계 합계(WLD) 행은 국가별 행과 별도로 년도 총액을 구함 (서로의 점유율 분모에 포함하지 않음)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE export_statistics e " +
+           "SET growth_rate_yoy = m.growth_rate_yoy, market_share = m.market_share, " +
+           "    version = COALESCE(e.version, 0) + 1 " +
+           "FROM ( " +
+           "    SELECT w.id, " +
+           "           CASE WHEN w.previous_value IS NULL OR w.previous_value = 0 THEN 0 " +
+           "                ELSE LEAST(999.99, GREATEST(-999.99, " +
+           "                     ROUND(ROUND((w.export_value_usd - w.previous_value) / w.previous_value, 4) * 100, 2))) " +
+           "           END AS growth_rate_yoy, " +
+           "           CASE WHEN w.year_total = 0 THEN 0 " +
+           "                ELSE ROUND(ROUND(w.export_value_usd / w.year_total, 4) * 100, 2) " +
+           "           END AS market_share " +
+           "    FROM ( " +
+           "        SELECT s.id, s.year, s.export_value_usd, " +
+           "               CASE WHEN LAG(s.year) OVER series = s.year - 1 " +
+           "                    THEN LAG(s.export_value_usd) OVER series END AS previous_value, " +
+           "               SUM(s.export_value_usd) OVER (PARTITION BY s.year, s.world_total) AS year_total " +
+           "        FROM (SELECT x.id, x.country_id, x.product_category_id, x.year, x.month, x.export_value_usd, " +
+           "                     x.country_id IN " + WORLD_COUNTRY_IDS + "AS world_total " +
+           "              FROM export_statistics x " +
+           "              WHERE x.year BETWEEN :fromYear - 1 AND :toYear) s " +
+           "        WINDOW series AS (PARTITION BY s.country_id, s.product_category_id, s.month ORDER BY s.year) " +
+           "    ) w " +
+           "    WHERE w.year >= :fromYear " +
+           ") m " +
+           "WHERE e.id = m.id " +
+           "AND (e.growth_rate_yoy IS DISTINCT FROM m.growth_rate_yoy OR e.market_share IS DISTINCT FROM m.market_share)",
+           nativeQuery = true)
+    int recalculateGrowthRatesAndMarketShares(@Param("fromYear") Integer fromYear, @Param("toYear") Integer toYear);
+
     @Query("SELECT DISTINCT e.period.year FROM ExportStatistic e ORDER BY e.period.year DESC")
     List<Integer> findAllYears();
 
@@ -93,6 +301,51 @@ public interface JpaExportStatisticRepository extends JpaRepository<ExportStatis
         @Param("year") Integer year,
         @Param("month") Integer month);
 
+    // 기간 범위 조회: year 범위로 uk_export_stats(country_id, product_category_id, year, month) 인덱스를 타고
+    // year * 100 + month 키로 시작/종료 월을 거름
+    @Query("SELECT e FROM ExportStatistic e " +
+           "WHERE e.country = :country AND e.productCategory = :productCategory " +
+           "AND e.period.year BETWEEN :fromYear AND :toYear " +
+           "AND (e.period.year * 100 + e.period.month) BETWEEN :fromKey AND :toKey " +
+           "ORDER BY e.period.year, e.period.month")
+    List<ExportStatistic> findByCountryAndProductInPeriodRange(
+        @Param("country") Country country,
+        @Param("productCategory") ProductCategory productCategory,
+        @Param("fromYear") Integer fromYear,
+        @Param("toYear") Integer toYear,
+        @Param("fromKey") Integer fromKey,
+        @Param("toKey") Integer toKey);
+
+    /**
+     * 여러 (국가, 상품) 시계열의 기간 범위 조회
+     * 같은 위치의 두 배열 원소를 한 쌍으로 unnest 하여 요청한 조합만 uk_export_stats 인덱스로 조회
+     * (국가 목록 x 상품 목록으로 거르면 요청하지 않은 조합까지 읽게 됨)
+     */
+    @Query(value = "SELECT e.* FROM export_statistics e " +
+           "JOIN unnest(CAST(:countryIds AS BIGINT[]), CAST(:productCategoryIds AS BIGINT[])) " +
+           "     AS s(country_id, product_category_id) " +
+           "  ON e.country_id = s.country_id AND e.product_category_id = s.product_category_id " +
+           "WHERE e.year BETWEEN :fromYear AND :toYear " +
+           "AND (e.year * 100 + e.month) BETWEEN :fromKey AND :toKey " +
+           "ORDER BY e.year, e.month",
+           nativeQuery = true)
+    List<ExportStatistic> findBySeriesInPeriodRange(
+        @Param("countryIds") Long[] countryIds,
+        @Param("productCategoryIds") Long[] productCategoryIds,
+        @Param("fromYear") Integer fromYear,
+        @Param("toYear") Integer toYear,
+        @Param("fromKey") Integer fromKey,
+        @Param("toKey") Integer toKey);
+
+    @Query("SELECT e.country.id, e.productCategory.id, e.period.year, e.period.month FROM ExportStatistic e " +
+           "WHERE e.country.id IN :countryIds AND e.productCategory.id IN :productCategoryIds " +
+           "AND e.period.year BETWEEN :fromYear AND :toYear")
+    List<Object[]> findKeysByCountriesAndProductsInYears(
+        @Param("countryIds") Collection<Long> countryIds,
+        @Param("productCategoryIds") Collection<Long> productCategoryIds,
+        @Param("fromYear") Integer fromYear,
+        @Param("toYear") Integer toYear);
+
     @Query("SELECT e FROM ExportStatistic e " +
            "WHERE e.productCategory = :productCategory " +
            "AND e.period.year = :year AND e.period.month = :month")
@@ -117,4 +370,24 @@ public interface JpaExportStatisticRepository extends JpaRepository<ExportStatis
         @Param("region") String region,
         @Param("year") Integer year,
         @Param("month") Integer month);
+
+    /**
+     * 지역 내 국가별 집계 (국가, 합계, 상품 수, 0 이 아닌 성장률 합계, 행 수)
+     */
+    @Query("SELECT c, SUM(e.exportValue.amount), COUNT(DISTINCT e.productCategory.id), " +
+           "SUM(CASE WHEN e.growthRateYoy.value <> 0 THEN e.growthRateYoy.value ELSE 0 END), COUNT(e) " +
+           "FROM ExportStatistic e JOIN e.country c " +
+           "WHERE c.region = :region AND e.period.year = :year AND e.period.month = :month " +
+           "GROUP BY c")
+    List<Object[]> aggregateByRegionAndPeriod(
+        @Param("region") String region,
+        @Param("year") Integer year,
+        @Param("month") Integer month);
+
+    @Query("SELECT COUNT(DISTINCT e.productCategory.id) FROM ExportStatistic e " +
+           "WHERE e.country.region = :region AND e.period.year = :year AND e.period.month = :month")
+    long countDistinctProductsByRegionAndPeriod(
+        @Param("region") String region,
+        @Param("year") Integer year,
+        @Param("month") Integer month);
 }
\ No newline at end of file
@@ -3,6 +3,7 @@ package com.export.dashboard.infrastructure.repository;
 import com.export.dashboard.domain.model.HsCode;
 import com.export.dashboard.domain.model.ProductCategory;
 import com.export.dashboard.domain.repository.ProductCategoryRepository;
+import com.export.dashboard.infrastructure.analytics.HsCodeTrieProvider;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -16,14 +17,19 @@ import java.util.Optional;
 public class ProductCategoryRepositoryImpl implements ProductCategoryRepository {
 
     private final JpaProductCategoryRepository jpaProductCategoryRepository;
+    private final HsCodeTrieProvider hsCodeTrieProvider;
 
-    public ProductCategoryRepositoryImpl(JpaProductCategoryRepository jpaProductCategoryRepository) {
+    public ProductCategoryRepositoryImpl(JpaProductCategoryRepository jpaProductCategoryRepository,
+                                         HsCodeTrieProvider hsCodeTrieProvider) {
         this.jpaProductCategoryRepository = jpaProductCategoryRepository;
+        this.hsCodeTrieProvider = hsCodeTrieProvider;
     }
 
     @Override
     public ProductCategory save(ProductCategory productCategory) {
-        return jpaProductCategoryRepository.save(productCategory);
+        ProductCategory saved = jpaProductCategoryRepository.save(productCategory);
+        hsCodeTrieProvider.invalidate();
+        return saved;
     }
 
     @Override
@@ -64,6 +70,7 @@ public class ProductCategoryRepositoryImpl implements ProductCategoryRepository
     @Override
     public void delete(ProductCategory productCategory) {
         jpaProductCategoryRepository.delete(productCategory);
+        hsCodeTrieProvider.invalidate();
     }
 
     @Override
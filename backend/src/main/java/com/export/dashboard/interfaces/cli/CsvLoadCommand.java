@@ -0,0 +1,41 @@
+package com.export.dashboard.interfaces.cli;
+
+import com.export.dashboard.infrastructure.ingestion.CsvExportStatisticLoader;
+import com.export.dashboard.infrastructure.ingestion.CsvExportStatisticLoader.LoadResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Path;
+
+/**
+ * 과거 데이터 백필용 CSV 적재 명령
+ * --export.ingestion.csv.file=<경로> 로 실행하면 웹 서버 없이 적재 후 종료
+ */
+@Component
+@ConditionalOnProperty(name = "export.ingestion.csv.file")
+public class CsvLoadCommand implements ApplicationRunner {
+
+    private static final Logger logger = LoggerFactory.getLogger(CsvLoadCommand.class);
+
+    private final CsvExportStatisticLoader csvExportStatisticLoader;
+    private final Path csvFile;
+
+    public CsvLoadCommand(CsvExportStatisticLoader csvExportStatisticLoader,
+                          @Value("${export.ingestion.csv.file}") Path csvFile) {
+        this.csvExportStatisticLoader = csvExportStatisticLoader;
+        this.csvFile = csvFile;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        logger.info("Loading export statistics from {}", csvFile);
+        LoadResult result = csvExportStatisticLoader.load(csvFile);
+        logger.info("Loaded {} rows ({} upserted, {} rejected) at {} rows/s",
+            result.copiedRows(), result.upsertedRows(), result.rejectedRows(), result.rowsPerSecond());
+    }
+}
@@ -2,6 +2,7 @@ package com.export.dashboard.interfaces.web;
 
 import com.export.dashboard.application.dto.CountryResponse;
 import com.export.dashboard.application.dto.CreateCountryRequest;
+import com.export.dashboard.application.dto.GeographicExportResponse;
 import com.export.dashboard.application.service.CountryApplicationService;
 import jakarta.validation.Valid;
 import org.springframework.http.HttpStatus;
@@ -79,6 +80,34 @@ public class CountryController {
         return ResponseEntity.ok(responses);
     }
 
+    /**
+     * 지역별 수출 집계 조회
+     * 년도를 생략하면 가장 최근 년도, 월을 생략하면 년도 전체 기간
+     */
+    @GetMapping("/regions")
+    public ResponseEntity<List<GeographicExportResponse>> getRegionExports(
+            @RequestParam(required = false) Integer year,
+            @RequestParam(defaultValue = "1") Integer startMonth,
+            @RequestParam(defaultValue = "12") Integer endMonth) {
+        List<GeographicExportResponse> responses =
+            countryApplicationService.getRegionExports(year, startMonth, endMonth);
+        return ResponseEntity.ok(responses);
+    }
+
+    /**
+     * 대륙별 수출 집계 조회
+     * 년도를 생략하면 가장 최근 년도, 월을 생략하면 년도 전체 기간
+     */
+    @GetMapping("/continents")
+    public ResponseEntity<List<GeographicExportResponse>> getContinentExports(
+            @RequestParam(required = false) Integer year,
+            @RequestParam(defaultValue = "1") Integer startMonth,
+            @RequestParam(defaultValue = "12") Integer endMonth) {
+        List<GeographicExportResponse> responses =
+            countryApplicationService.getContinentExports(year, startMonth, endMonth);
+        return ResponseEntity.ok(responses);
+    }
+
     /**
      * 국가 활성화
      */
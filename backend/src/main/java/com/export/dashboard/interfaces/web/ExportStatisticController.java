@@ -2,14 +2,23 @@ package com.export.dashboard.interfaces.web;
 
 import com.export.dashboard.application.dto.*;
 import com.export.dashboard.application.service.ExportStatisticApplicationService;
+import com.export.dashboard.application.service.ExportStatisticBulkService;
+import com.export.dashboard.application.service.ExportStatisticExportService;
+import com.export.dashboard.domain.model.ExportPeriod;
+import com.export.dashboard.domain.repository.ExportStatisticViewRepository.ExportStatisticFilter;
 import jakarta.validation.Valid;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,9 +31,15 @@ import java.util.Optional;
 public class ExportStatisticController {
 
     private final ExportStatisticApplicationService exportStatisticApplicationService;
+    private final ExportStatisticBulkService exportStatisticBulkService;
+    private final ExportStatisticExportService exportStatisticExportService;
 
-    public ExportStatisticController(ExportStatisticApplicationService exportStatisticApplicationService) {
+    public ExportStatisticController(ExportStatisticApplicationService exportStatisticApplicationService,
+                                     ExportStatisticBulkService exportStatisticBulkService,
+                                     ExportStatisticExportService exportStatisticExportService) {
         this.exportStatisticApplicationService = exportStatisticApplicationService;
+        this.exportStatisticBulkService = exportStatisticBulkService;
+        this.exportStatisticExportService = exportStatisticExportService;
     }
 
     /**
@@ -37,6 +52,16 @@ public class ExportStatisticController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    /**
+     * 수출 통계 대량 생성 (행별 처리 결과 반환)
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<BulkCreateExportStatisticResponse> createExportStatistics(
+            @RequestBody List<CreateExportStatisticRequest> requests) {
+        BulkCreateExportStatisticResponse response = exportStatisticBulkService.createExportStatistics(requests);
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * 수출 통계 ID로 조회
      */
@@ -55,6 +80,15 @@ public class ExportStatisticController {
         return ResponseEntity.ok(responses);
     }
 
+    /**
+     * 년도별 수출 통계 조회 (shape=normalized: 국가/상품 사전 + ID 참조 행)
+     */
+    @GetMapping(value = "/year/{year}", params = "shape=normalized")
+    public ResponseEntity<ExportStatisticTableResponse> getExportStatisticTableByYear(@PathVariable Integer year) {
+        ExportStatisticTableResponse response = exportStatisticApplicationService.getExportStatisticTableByYear(year);
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * 국가와 년도별 수출 통계 조회
      */
@@ -76,6 +110,80 @@ public class ExportStatisticController {
         return ResponseEntity.ok(responses);
     }
 
+    /**
+     * 키셋 페이징 수출 통계 조회 (COUNT/OFFSET 없이 커서 이후 행만 조회)
+     * 응답의 nextCursor 를 cursor 로 넘겨 다음 페이지 요청
+     */
+    @GetMapping("/cursor")
+    public ResponseEntity<ExportStatisticCursorResponse> getExportStatisticsAfter(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "100") Integer size,
+            @RequestParam(defaultValue = "false") Boolean includeTotal) {
+        ExportStatisticCursorResponse response =
+            exportStatisticApplicationService.getExportStatisticsAfter(cursor, size, includeTotal);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 페이징된 수출 통계 조회 (shape=normalized: 국가/상품 사전 + ID 참조 행)
+     */
+    @GetMapping(params = "shape=normalized")
+    public ResponseEntity<ExportStatisticTableResponse.Paged> getExportStatisticTable(
+            @PageableDefault(size = 20) Pageable pageable) {
+        ExportStatisticTableResponse.Paged response = exportStatisticApplicationService.getExportStatisticTable(pageable);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 수출 통계 파일 내보내기 (format=csv|json)
+     * year 는 해당 년도 1-12월, startYear/endYear 는 월 단위 구간이며 생략한 조건은 적용하지 않음
+     * 조회 결과를 모으지 않고 읽는 즉시 응답으로 스트리밍
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportStatistics(
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(required = false) Integer year,
+            @RequestParam(required = false) Long countryId,
+            @RequestParam(required = false) Long productCategoryId,
+            @RequestParam(required = false) Integer startYear,
+            @RequestParam(defaultValue = "1") Integer startMonth,
+            @RequestParam(required = false) Integer endYear,
+            @RequestParam(defaultValue = "12") Integer endMonth) {
+        if (year != null && (startYear != null || endYear != null)) {
+            throw new IllegalArgumentException("year 와 startYear/endYear 는 함께 지정할 수 없습니다.");
+        }
+
+        ExportStatisticFilter filter = new ExportStatisticFilter(
+            countryId,
+            productCategoryId,
+            year != null ? ExportPeriod.of(year, 1) : startYear != null ? ExportPeriod.of(startYear, startMonth) : null,
+            year != null ? ExportPeriod.of(year, 12) : endYear != null ? ExportPeriod.of(endYear, endMonth) : null
+        );
+
+        return switch (format.toLowerCase()) {
+            case "csv" -> ResponseEntity.ok()
+                .contentType(new MediaType("text", "csv", StandardCharsets.UTF_8))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                    ContentDisposition.attachment().filename("export-statistics.csv").build().toString())
+                .body(outputStream -> exportStatisticExportService.writeCsv(filter, outputStream));
+            case "json" -> ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(outputStream -> exportStatisticExportService.writeJson(filter, outputStream));
+            default -> throw new IllegalArgumentException("지원하지 않는 형식입니다: " + format);
+        };
+    }
+
+    /**
+     * 성장률/시장점유율 일괄 재계산
+     */
+    @PostMapping("/metrics/recalculate")
+    public ResponseEntity<ExportStatisticApplicationService.MetricsRecalculationResponse> recalculateMetrics(
+            @RequestParam(required = false) Integer year) {
+        ExportStatisticApplicationService.MetricsRecalculationResponse response =
+            exportStatisticApplicationService.recalculateGrowthRatesAndMarketShares(year);
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * 대시보드 요약 정보 조회
      */
@@ -85,6 +193,34 @@ public class ExportStatisticController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 기간별 월별 수출 트렌드 조회
+     */
+    @GetMapping("/trend")
+    public ResponseEntity<List<DashboardSummaryResponse.MonthlyTrendResponse>> getMonthlyExportTrend(
+            @RequestParam Integer startYear,
+            @RequestParam Integer endYear) {
+        List<DashboardSummaryResponse.MonthlyTrendResponse> trends =
+            exportStatisticApplicationService.getMonthlyExportTrend(startYear, endYear);
+        return ResponseEntity.ok(trends);
+    }
+
+    /**
+     * HS 계층 드릴다운 조회 (챕터 → 호 → 소호)
+     * hsCode 를 생략하면 챕터별 합계, 월을 생략하면 년도 전체 기간
+     */
+    @GetMapping("/hs-drilldown")
+    public ResponseEntity<HsDrillDownResponse> getHsDrillDown(
+            @RequestParam(required = false) String hsCode,
+            @RequestParam Integer startYear,
+            @RequestParam(defaultValue = "1") Integer startMonth,
+            @RequestParam Integer endYear,
+            @RequestParam(defaultValue = "12") Integer endMonth) {
+        HsDrillDownResponse response = exportStatisticApplicationService.getHsDrillDown(
+            hsCode, ExportPeriod.of(startYear, startMonth), ExportPeriod.of(endYear, endMonth));
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * 사용 가능한 년도 목록 조회
      */
@@ -100,6 +100,10 @@ INSERT INTO product_categories (hs_code, hs_level, category_name_ko, category_na
 -- Data covers multiple countries, products, and time periods (2023-2025)
 -- All monetary values are in USD
 
+-- export_statistics.id 는 풀링 시퀀스(export_statistics_seq, increment 50)로 발급되므로
+-- id 없이 insert 하는 SQL 을 위해 기본값을 지정 (nextval 값은 해당 블록의 상한이라 애플리케이션 발급 id 와 겹치지 않음)
+ALTER TABLE export_statistics ALTER COLUMN id SET DEFAULT nextval('export_statistics_seq');
+
 -- USA - Electronics exports (2024-2025)
 INSERT INTO export_statistics (country_id, product_category_id, year, month, export_value_usd, currency, export_weight_kg, export_quantity, quantity_unit, growth_rate_yoy, market_share, version)
 SELECT
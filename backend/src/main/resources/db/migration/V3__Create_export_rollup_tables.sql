@@ -0,0 +1,64 @@
+-- 수출 통계 집계(rollup) 테이블
+-- export_statistics 의 년/월, 년/국가, 년/상품 합계를 유지하여
+-- 대시보드 집계 조회를 년도 단위 전체 스캔 대신 인덱스 조회로 처리
+-- ExportStatisticApplicationService 의 생성/수정/삭제 트랜잭션 내에서 증분 갱신됨
+
+-- 년/월별 수출 합계
+CREATE TABLE IF NOT EXISTS export_totals_by_month (
+    year INTEGER NOT NULL,
+    month INTEGER NOT NULL,                       -- 1-12
+    total_value_usd DECIMAL(18,2) NOT NULL DEFAULT 0,
+    row_count BIGINT NOT NULL DEFAULT 0,          -- 집계에 포함된 export_statistics 행 수
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+
+    CONSTRAINT pk_export_totals_by_month PRIMARY KEY (year, month)
+);
+
+-- 년/국가별 수출 합계
+CREATE TABLE IF NOT EXISTS export_totals_by_year_country (
+    year INTEGER NOT NULL,
+    country_id BIGINT NOT NULL,
+    total_value_usd DECIMAL(18,2) NOT NULL DEFAULT 0,
+    row_count BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+
+    CONSTRAINT pk_export_totals_by_year_country PRIMARY KEY (year, country_id)
+);
+
+-- 년/상품별 수출 합계
+CREATE TABLE IF NOT EXISTS export_totals_by_year_product (
+    year INTEGER NOT NULL,
+    product_category_id BIGINT NOT NULL,
+    total_value_usd DECIMAL(18,2) NOT NULL DEFAULT 0,
+    row_count BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+
+    CONSTRAINT pk_export_totals_by_year_product PRIMARY KEY (year, product_category_id)
+);
+
+-- 상위 N 조회용 인덱스 (년도 내 금액 내림차순)
+CREATE INDEX IF NOT EXISTS idx_totals_year_country_value ON export_totals_by_year_country(year, total_value_usd DESC);
+CREATE INDEX IF NOT EXISTS idx_totals_year_product_value ON export_totals_by_year_product(year, total_value_usd DESC);
+
+-- 기존 데이터로부터 집계 재구성 (관세청 전 세계 합계 WLD 행 제외)
+DELETE FROM export_totals_by_month;
+DELETE FROM export_totals_by_year_country;
+DELETE FROM export_totals_by_year_product;
+
+INSERT INTO export_totals_by_month (year, month, total_value_usd, row_count)
+SELECT year, month, SUM(export_value_usd), COUNT(*)
+FROM export_statistics
+WHERE country_id NOT IN (SELECT id FROM countries WHERE country_code = 'WLD')
+GROUP BY year, month;
+
+INSERT INTO export_totals_by_year_country (year, country_id, total_value_usd, row_count)
+SELECT year, country_id, SUM(export_value_usd), COUNT(*)
+FROM export_statistics
+WHERE country_id NOT IN (SELECT id FROM countries WHERE country_code = 'WLD')
+GROUP BY year, country_id;
+
+INSERT INTO export_totals_by_year_product (year, product_category_id, total_value_usd, row_count)
+SELECT year, product_category_id, SUM(export_value_usd), COUNT(*)
+FROM export_statistics
+WHERE country_id NOT IN (SELECT id FROM countries WHERE country_code = 'WLD')
+GROUP BY year, product_category_id;
@@ -0,0 +1,6 @@
+-- 관세청 API 동기화용 WORLD 국가
+-- 관세청 품목별 수출입실적은 국가 구분 없이 전 세계 합계만 제공하므로 WLD(전체) 국가로 저장
+-- 재실행해도 중복 생성되지 않도록 존재 여부를 확인
+INSERT INTO countries (country_code, country_name_ko, country_name_en, region, continent, is_active, version)
+SELECT 'WLD', '전체', 'World', '전체', '전체', true, 0
+WHERE NOT EXISTS (SELECT 1 FROM countries WHERE country_code = 'WLD');
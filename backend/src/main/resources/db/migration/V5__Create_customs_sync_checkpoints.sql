@@ -0,0 +1,13 @@
+-- 관세청 동기화 체크포인트
+-- HS 코드별로 export_statistics 에 빠짐없이 저장된 마지막 년월을 기록하여
+-- 정기 동기화가 그 다음 달부터 누락된 구간만 요청하고, 중단된 실행을 이어서 진행하도록 함
+-- 체크포인트는 데이터 청크 UPSERT 와 같은 트랜잭션에서 갱신됨
+
+CREATE TABLE IF NOT EXISTS customs_sync_checkpoints (
+    hs_code VARCHAR(10) NOT NULL,
+    last_synced_year INTEGER NOT NULL,
+    last_synced_month INTEGER NOT NULL,           -- 1-12
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+
+    CONSTRAINT pk_customs_sync_checkpoints PRIMARY KEY (hs_code)
+);
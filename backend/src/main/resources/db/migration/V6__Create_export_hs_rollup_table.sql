@@ -0,0 +1,36 @@
+-- HS 계층별 수출 집계(rollup) 테이블
+-- 상품 카테고리의 HS 코드를 챕터(2자리) → 호(4자리) → 소호(6자리) … 접두사로 펼쳐
+-- 각 접두사 노드의 하위 전체(자신 포함) 년/월 합계를 유지하여
+-- 드릴다운 조회를 export_statistics 스캔 대신 인덱스 조회로 처리
+-- ExportRollupRepository 를 통해 다른 집계 테이블과 같은 트랜잭션에서 증분 갱신됨
+
+CREATE TABLE IF NOT EXISTS export_totals_by_hs_prefix (
+    hs_prefix VARCHAR(10) NOT NULL,               -- HS 코드 접두사 (레벨 * 2 자리)
+    parent_prefix VARCHAR(10),                    -- 상위 접두사 (챕터는 NULL)
+    hs_level INTEGER NOT NULL,
+    year INTEGER NOT NULL,
+    month INTEGER NOT NULL,                       -- 1-12
+    total_value_usd DECIMAL(18,2) NOT NULL DEFAULT 0,
+    row_count BIGINT NOT NULL DEFAULT 0,          -- 집계에 포함된 export_statistics 행 수
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+
+    CONSTRAINT pk_export_totals_by_hs_prefix PRIMARY KEY (hs_prefix, year, month)
+);
+
+-- 하위 노드 조회용 인덱스 (상위 접두사 + 기간)
+CREATE INDEX IF NOT EXISTS idx_totals_hs_parent_period ON export_totals_by_hs_prefix(parent_prefix, year, month);
+-- 챕터 목록 조회용 인덱스
+CREATE INDEX IF NOT EXISTS idx_totals_hs_level_period ON export_totals_by_hs_prefix(hs_level, year, month);
+
+-- 기존 데이터로부터 집계 재구성 (관세청 전 세계 합계 WLD 행 제외)
+DELETE FROM export_totals_by_hs_prefix;
+
+INSERT INTO export_totals_by_hs_prefix (hs_prefix, parent_prefix, hs_level, year, month, total_value_usd, row_count)
+SELECT LEFT(p.hs_code, l * 2),
+       CASE WHEN l > 1 THEN LEFT(p.hs_code, (l - 1) * 2) END,
+       l, e.year, e.month, SUM(e.export_value_usd), COUNT(*)
+FROM export_statistics e
+JOIN product_categories p ON p.id = e.product_category_id
+CROSS JOIN LATERAL generate_series(1, p.hs_level) AS l
+WHERE e.country_id NOT IN (SELECT id FROM countries WHERE country_code = 'WLD')
+GROUP BY 1, 2, 3, 4, 5;
@@ -0,0 +1,24 @@
+-- 국가/월별 수출 집계(rollup) 테이블
+-- 임의의 월 구간에 대한 국가별 합계를 유지하여
+-- 지역/대륙 집계를 export_statistics 엔티티 로딩 없이 국가 수만큼의 행으로 계산
+-- ExportRollupRepository 를 통해 다른 집계 테이블과 같은 트랜잭션에서 증분 갱신됨
+
+CREATE TABLE IF NOT EXISTS export_totals_by_month_country (
+    year INTEGER NOT NULL,
+    month INTEGER NOT NULL,                       -- 1-12
+    country_id BIGINT NOT NULL,
+    total_value_usd DECIMAL(18,2) NOT NULL DEFAULT 0,
+    row_count BIGINT NOT NULL DEFAULT 0,          -- 집계에 포함된 export_statistics 행 수
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+
+    CONSTRAINT pk_export_totals_by_month_country PRIMARY KEY (year, month, country_id)
+);
+
+-- 기존 데이터로부터 집계 재구성 (관세청 전 세계 합계 WLD 행 제외)
+DELETE FROM export_totals_by_month_country;
+
+INSERT INTO export_totals_by_month_country (year, month, country_id, total_value_usd, row_count)
+SELECT year, month, country_id, SUM(export_value_usd), COUNT(*)
+FROM export_statistics
+WHERE country_id NOT IN (SELECT id FROM countries WHERE country_code = 'WLD')
+GROUP BY year, month, country_id;
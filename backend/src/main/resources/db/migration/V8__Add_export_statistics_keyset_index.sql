@@ -0,0 +1,6 @@
+-- 수출 통계 키셋 페이징 인덱스
+-- GET /export-statistics/cursor 가 (년, 월, 수출액, ID) 순서로 커서 이후 구간을 읽을 때
+-- OFFSET 없이 인덱스 범위 스캔으로 시작하여 페이지 깊이와 무관하게 일정한 비용이 들도록 함
+
+CREATE INDEX IF NOT EXISTS idx_export_stats_keyset
+    ON export_statistics (year, month, export_value_usd, id);
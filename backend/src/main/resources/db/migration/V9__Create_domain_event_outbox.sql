@@ -0,0 +1,25 @@
+-- 도메인 이벤트 아웃박스
+-- 집계 변경과 같은 트랜잭션에서 이벤트를 저장하고, 디스패처가 커밋된 이벤트를 id 순서대로 읽어
+-- 프로세스 내 리스너(캐시 무효화, 임계값 알림 등)에 전달한 뒤 dispatched_at 을 기록
+-- 전달에 계속 실패한 이벤트는 failed = TRUE 로 표시하고 더 이상 재시도하지 않음
+
+CREATE TABLE IF NOT EXISTS domain_event_outbox (
+    id BIGSERIAL NOT NULL,
+    event_id UUID NOT NULL,
+    event_type VARCHAR(100) NOT NULL,
+    aggregate_id VARCHAR(200) NOT NULL,
+    payload TEXT NOT NULL,                        -- 이벤트 JSON
+    occurred_on TIMESTAMP NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    attempts INTEGER NOT NULL DEFAULT 0,
+    last_error VARCHAR(1000),
+    failed BOOLEAN NOT NULL DEFAULT FALSE,
+    dispatched_at TIMESTAMP,
+
+    CONSTRAINT pk_domain_event_outbox PRIMARY KEY (id),
+    CONSTRAINT uk_domain_event_outbox_event_id UNIQUE (event_id)
+);
+
+-- 미전달 이벤트 조회용 (전달된 행은 인덱스에서 제외)
+CREATE INDEX IF NOT EXISTS idx_domain_event_outbox_pending
+    ON domain_event_outbox (id) WHERE dispatched_at IS NULL;
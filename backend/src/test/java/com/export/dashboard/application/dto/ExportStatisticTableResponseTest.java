@@ -0,0 +1,62 @@
+package com.export.dashboard.application.dto;
+
+import com.export.dashboard.domain.repository.ExportStatisticViewRepository.CountryView;
+import com.export.dashboard.domain.repository.ExportStatisticViewRepository.ExportStatisticView;
+import com.export.dashboard.domain.repository.ExportStatisticViewRepository.ProductCategoryView;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("정규화된 수출 통계 목록 응답 테스트")
+class ExportStatisticTableResponseTest {
+
+    private static final CountryView KOREA = new CountryView(1L, "KOR", "대한민국", "Korea", "East Asia", "Asia", true);
+    private static final CountryView CHINA = new CountryView(2L, "CHN", "중국", "China", "East Asia", "Asia", true);
+    private static final ProductCategoryView SEMICONDUCTOR =
+        new ProductCategoryView(10L, "8542", 2, "전자집적회로", "Electronic integrated circuits", "85", true);
+
+    @Test
+    @DisplayName("국가/상품은 등장 순서대로 한 번씩만 사전에 담고 행은 ID 로 참조한다")
+    void buildsDictionariesOnce() {
+        List<ExportStatisticView> views = List.of(
+            view(1L, CHINA, 1, "300"),
+            view(2L, KOREA, 1, "200"),
+            view(3L, CHINA, 2, "100")
+        );
+
+        ExportStatisticTableResponse response = ExportStatisticTableResponse.from(views);
+
+        assertThat(response.countries()).extracting(CountryResponse::countryCode).containsExactly("CHN", "KOR");
+        assertThat(response.productCategories()).extracting(ProductCategoryResponse::hsCode).containsExactly("8542");
+        assertThat(response.rows()).extracting(ExportStatisticTableResponse.Row::countryId).containsExactly(2L, 1L, 2L);
+        assertThat(response.rows().get(2).month()).isEqualTo(2);
+        assertThat(response.rows().get(0).exportValueUsd()).isEqualByComparingTo("300");
+    }
+
+    @Test
+    @DisplayName("페이징 응답은 기존 페이징 응답과 같은 페이지 정보를 담는다")
+    void pagedKeepsPageMetadata() {
+        var page = new PageImpl<>(List.of(view(1L, KOREA, 1, "100")), PageRequest.of(2, 1), 5);
+
+        ExportStatisticTableResponse.Paged response = ExportStatisticTableResponse.Paged.from(page);
+
+        assertThat(response.content()).hasSize(1);
+        assertThat(response.countries()).hasSize(1);
+        assertThat(response.totalElements()).isEqualTo(5);
+        assertThat(response.totalPages()).isEqualTo(5);
+        assertThat(response.number()).isEqualTo(2);
+        assertThat(response.first()).isFalse();
+        assertThat(response.last()).isFalse();
+    }
+
+    private static ExportStatisticView view(Long id, CountryView country, int month, String value) {
+        return new ExportStatisticView(id, country, SEMICONDUCTOR, 2024, month,
+            new BigDecimal(value), "USD", null, null, null, null, null);
+    }
+}
@@ -0,0 +1,87 @@
+package com.export.dashboard.application.service;
+
+import com.export.dashboard.domain.exception.InvalidValueObjectException;
+import com.export.dashboard.domain.repository.CountryRepository;
+import com.export.dashboard.domain.repository.ExportRollupRepository;
+import com.export.dashboard.domain.repository.ExportStatisticRepository;
+import com.export.dashboard.domain.repository.ExportStatisticViewRepository;
+import com.export.dashboard.domain.repository.ProductCategoryRepository;
+import com.export.dashboard.domain.service.ExportAnalyticsDomainService;
+import com.export.dashboard.domain.service.ExportStatisticDomainService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("수출 통계 애플리케이션 서비스 테스트")
+class ExportStatisticApplicationServiceTest {
+
+    @Mock
+    private ExportStatisticRepository exportStatisticRepository;
+
+    @Mock
+    private ExportStatisticViewRepository exportStatisticViewRepository;
+
+    @Mock
+    private ExportRollupRepository exportRollupRepository;
+
+    @Mock
+    private CountryRepository countryRepository;
+
+    @Mock
+    private ProductCategoryRepository productCategoryRepository;
+
+    @Mock
+    private ExportStatisticDomainService exportStatisticDomainService;
+
+    @Mock
+    private ExportAnalyticsDomainService exportAnalyticsDomainService;
+
+    private ExportStatisticApplicationService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new ExportStatisticApplicationService(exportStatisticRepository, exportStatisticViewRepository,
+            exportRollupRepository, countryRepository, productCategoryRepository,
+            exportStatisticDomainService, exportAnalyticsDomainService);
+    }
+
+    @Test
+    @DisplayName("기간별 월별 트렌드는 1900-2100 범위 밖의 년도를 조회하지 않는다")
+    void rejectsTrendYearsOutOfRange() {
+        assertThatThrownBy(() -> service.getMonthlyExportTrend(-2_000_000_000, 2024))
+            .isInstanceOf(InvalidValueObjectException.class);
+        assertThatThrownBy(() -> service.getMonthlyExportTrend(2024, Integer.MAX_VALUE))
+            .isInstanceOf(InvalidValueObjectException.class);
+        assertThatThrownBy(() -> service.getMonthlyExportTrend(null, 2024))
+            .isInstanceOf(InvalidValueObjectException.class);
+
+        verify(exportStatisticRepository, never()).getMonthlyExportTrend(any(), any());
+    }
+
+    @Test
+    @DisplayName("시작 년도가 종료 년도보다 크면 조회하지 않는다")
+    void rejectsReversedTrendYears() {
+        assertThatThrownBy(() -> service.getMonthlyExportTrend(2024, 2023))
+            .isInstanceOf(IllegalArgumentException.class);
+
+        verify(exportStatisticRepository, never()).getMonthlyExportTrend(any(), any());
+    }
+
+    @Test
+    @DisplayName("범위 내 년도는 그대로 조회한다")
+    void returnsTrendWithinRange() {
+        when(exportStatisticRepository.getMonthlyExportTrend(1900, 2100)).thenReturn(List.of());
+
+        assertThat(service.getMonthlyExportTrend(1900, 2100)).isEmpty();
+    }
+}
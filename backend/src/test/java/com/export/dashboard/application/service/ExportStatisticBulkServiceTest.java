@@ -0,0 +1,146 @@
+package com.export.dashboard.application.service;
+
+import com.export.dashboard.application.dto.BulkCreateExportStatisticResponse.RowStatus;
+import com.export.dashboard.application.dto.CreateExportStatisticRequest;
+import com.export.dashboard.domain.model.*;
+import com.export.dashboard.domain.repository.CountryRepository;
+import com.export.dashboard.domain.repository.ExportRollupRepository;
+import com.export.dashboard.domain.repository.ExportStatisticRepository;
+import com.export.dashboard.domain.repository.ExportStatisticRepository.StatisticKey;
+import com.export.dashboard.domain.repository.ProductCategoryRepository;
+import com.export.dashboard.domain.service.ExportStatisticDomainService;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("수출 통계 대량 적재 서비스 테스트")
+class ExportStatisticBulkServiceTest {
+
+    @Mock
+    private ExportStatisticRepository exportStatisticRepository;
+
+    @Mock
+    private ExportRollupRepository exportRollupRepository;
+
+    @Mock
+    private CountryRepository countryRepository;
+
+    @Mock
+    private ProductCategoryRepository productCategoryRepository;
+
+    @Mock
+    private ExportStatisticDomainService exportStatisticDomainService;
+
+    private ExportStatisticBulkService exportStatisticBulkService;
+
+    @BeforeEach
+    void setUp() {
+        exportStatisticBulkService = new ExportStatisticBulkService(
+            exportStatisticRepository,
+            exportRollupRepository,
+            countryRepository,
+            productCategoryRepository,
+            exportStatisticDomainService,
+            Validation.buildDefaultValidatorFactory().getValidator(),
+            3
+        );
+    }
+
+    @Test
+    @DisplayName("유효한 행만 일괄 저장하고 중복 행은 DUPLICATE 로 반환한다")
+    void createValidRowsAndReportRejectedRows() {
+        Country korea = Country.create("KOR", "대한민국", "Republic of Korea", "East Asia", "Asia");
+        ProductCategory semiconductors = ProductCategory.create("8542", 2, "반도체", "Semiconductors");
+        ReflectionTestUtils.setField(korea, "id", 1L);
+        ReflectionTestUtils.setField(semiconductors, "id", 10L);
+
+        when(countryRepository.findAll()).thenReturn(List.of(korea));
+        when(productCategoryRepository.findAll()).thenReturn(List.of(semiconductors));
+        when(exportStatisticRepository.findExistingKeys(any(), any(), any(), any()))
+            .thenReturn(Set.of(new StatisticKey(1L, 10L, ExportPeriod.of(2023, 2))));
+        when(exportStatisticRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<ExportStatistic> statistics = new ArrayList<>(invocation.getArgument(0));
+            for (int i = 0; i < statistics.size(); i++) {
+                ReflectionTestUtils.setField(statistics.get(i), "id", 100L + i);
+            }
+            return statistics;
+        });
+
+        var response = exportStatisticBulkService.createExportStatistics(List.of(
+            request(1L, 10L, 2023, 1, "1000"),
+            request(1L, 10L, 2023, 2, "2000"),     // 기존 데이터와 중복
+            request(1L, 10L, 2023, 1, "3000")      // 요청 내 중복
+        ));
+
+        assertThat(response.totalRows()).isEqualTo(3);
+        assertThat(response.createdRows()).isEqualTo(1);
+        assertThat(response.rejectedRows()).isEqualTo(2);
+        assertThat(response.results())
+            .extracting(result -> result.status())
+            .containsExactly(RowStatus.CREATED, RowStatus.DUPLICATE, RowStatus.DUPLICATE);
+        assertThat(response.results().get(0).id()).isEqualTo(100L);
+
+        verify(exportStatisticRepository, times(1)).saveAll(anyList());
+        verify(exportRollupRepository).addAll(anyList());
+        verify(exportStatisticDomainService).recalculateGrowthRatesAndMarketShares(2023, 2024);
+    }
+
+    @Test
+    @DisplayName("참조 데이터가 없거나 검증에 실패한 행은 INVALID 로 반환하고 저장하지 않는다")
+    void rejectInvalidRows() {
+        when(countryRepository.findAll()).thenReturn(List.of());
+        when(productCategoryRepository.findAll()).thenReturn(List.of());
+        when(exportStatisticRepository.findExistingKeys(any(), any(), any(), any())).thenReturn(Set.of());
+
+        var response = exportStatisticBulkService.createExportStatistics(List.of(
+            request(99L, 10L, 2023, 3, "4000"),    // 존재하지 않는 국가
+            request(1L, 10L, 2023, 13, "5000")     // 잘못된 월
+        ));
+
+        assertThat(response.createdRows()).isZero();
+        assertThat(response.results())
+            .extracting(result -> result.status())
+            .containsExactly(RowStatus.INVALID, RowStatus.INVALID);
+        assertThat(response.results().get(0).message()).contains("국가를 찾을 수 없습니다");
+        assertThat(response.results().get(1).message()).contains("월은 12 이하여야 합니다");
+        verify(exportStatisticRepository, never()).saveAll(anyList());
+        verifyNoInteractions(exportRollupRepository);
+    }
+
+    @Test
+    @DisplayName("최대 행 수를 초과하면 예외가 발생한다")
+    void rejectTooManyRows() {
+        var requests = List.of(
+            request(1L, 10L, 2023, 1, "1"),
+            request(1L, 10L, 2023, 2, "1"),
+            request(1L, 10L, 2023, 3, "1"),
+            request(1L, 10L, 2023, 4, "1")
+        );
+
+        assertThatThrownBy(() -> exportStatisticBulkService.createExportStatistics(requests))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("최대 행 수(3)");
+    }
+
+    private CreateExportStatisticRequest request(Long countryId, Long productCategoryId,
+                                                 Integer year, Integer month, String value) {
+        return new CreateExportStatisticRequest(
+            countryId, productCategoryId, year, month, new BigDecimal(value), null, null, null);
+    }
+}
@@ -0,0 +1,149 @@
+package com.export.dashboard.application.service;
+
+import com.export.dashboard.domain.event.ExportStatisticCreated;
+import com.export.dashboard.domain.event.ExportStatisticData;
+import com.export.dashboard.domain.event.ExportStatisticUpdated;
+import com.export.dashboard.domain.event.ExportStatisticsReloaded;
+import com.export.dashboard.domain.model.ExportPeriod;
+import com.export.dashboard.domain.model.Money;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("수출 통계 캐시 무효화 테스트")
+class ExportStatisticCacheInvalidatorTest {
+
+    private ConcurrentMapCacheManager cacheManager;
+    private ExportStatisticCacheInvalidator invalidator;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager = new ConcurrentMapCacheManager(
+            "export-statistics", "dashboard-summary", "export-analytics", "export-trends", "available-years");
+        invalidator = new ExportStatisticCacheInvalidator(cacheManager);
+
+        for (int year : List.of(2023, 2024, 2025)) {
+            cache("export-statistics").put(year, "list");
+            cache("export-statistics").put("table_" + year, "table");
+            cache("export-statistics").put("country_1_" + year, "country");
+            cache("export-statistics").put("product_7_" + year, "product");
+            cache("export-statistics").put("country_2_" + year, "other country");
+            cache("export-statistics").put("product_1_" + year, "product with the country's id");
+            cache("dashboard-summary").put(year, "summary");
+            cache("export-analytics").put("diversity_" + year, "diversity");
+            cache("export-analytics").put("country_performance_1_" + year, "performance");
+        }
+        cache("export-trends").put("growth_2020_2025", "growth");
+        cache("available-years").put(SimpleKey.EMPTY, List.of(2023, 2024, 2025));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("변경된 통계의 년도/국가/상품 키만 삭제하고 다른 년도 캐시는 유지한다")
+    void evictsOnlyAffectedKeys() {
+        invalidator.on(created(2024));
+
+        assertThat(cache("export-statistics").get(2024)).isNull();
+        assertThat(cache("export-statistics").get("table_2024")).isNull();
+        assertThat(cache("export-statistics").get("country_1_2024")).isNull();
+        assertThat(cache("export-statistics").get("product_7_2024")).isNull();
+        assertThat(cache("export-analytics").get("diversity_2024")).isNull();
+        assertThat(cache("available-years").get(SimpleKey.EMPTY)).isNull();
+        assertThat(cache("export-trends").get("growth_2020_2025")).isNull();
+
+        // 전년 대비 값을 포함하는 다음 년도 요약/성과도 삭제
+        assertThat(cache("dashboard-summary").get(2025)).isNull();
+        assertThat(cache("export-analytics").get("country_performance_1_2025")).isNull();
+
+        assertThat(cache("export-statistics").get("country_2_2024")).isNotNull();
+        // 국가 ID 와 같은 ID 의 상품 키는 유지
+        assertThat(cache("export-statistics").get("product_1_2024")).isNotNull();
+        assertThat(cache("export-statistics").get(2023)).isNotNull();
+        assertThat(cache("export-statistics").get(2025)).isNotNull();
+        assertThat(cache("dashboard-summary").get(2023)).isNotNull();
+        assertThat(cache("export-analytics").get("diversity_2023")).isNotNull();
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서는 커밋 이후에 삭제하고 롤백되면 캐시를 유지한다")
+    void evictsAfterCommitOnly() {
+        TransactionSynchronizationManager.initSynchronization();
+        invalidator.on(created(2024));
+        invalidator.on(updated(2023));
+
+        assertThat(cache("export-statistics").get(2024)).isNotNull();
+        assertThat(cache("export-statistics").get(2023)).isNotNull();
+
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        // 여러 이벤트가 있어도 동기화는 한 번만 등록
+        assertThat(synchronizations).hasSize(1);
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+        synchronizations.forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        assertThat(cache("export-statistics").get(2024)).isNull();
+        assertThat(cache("export-statistics").get(2023)).isNull();
+        assertThat(cache("export-statistics").get(2025)).isNotNull();
+        assertThat(TransactionSynchronizationManager.getResource(invalidator)).isNull();
+    }
+
+    @Test
+    @DisplayName("롤백된 트랜잭션의 변경은 캐시를 삭제하지 않는다")
+    void keepsCachesOnRollback() {
+        TransactionSynchronizationManager.initSynchronization();
+        invalidator.on(created(2024));
+
+        TransactionSynchronizationManager.getSynchronizations()
+            .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        assertThat(cache("export-statistics").get(2024)).isNotNull();
+        assertThat(TransactionSynchronizationManager.getResource(invalidator)).isNull();
+    }
+
+    @Test
+    @DisplayName("대량 적재 이벤트는 통계/분석 캐시를 모두 비운다")
+    void reloadClearsAllCaches() {
+        invalidator.on(ExportStatisticsReloaded.of(2023, 2024));
+
+        assertThat(cache("export-statistics").get(2025)).isNull();
+        assertThat(cache("dashboard-summary").get(2023)).isNull();
+        assertThat(cache("export-analytics").get("diversity_2025")).isNull();
+        assertThat(cache("export-trends").get("growth_2020_2025")).isNull();
+        assertThat(cache("available-years").get(SimpleKey.EMPTY)).isNull();
+    }
+
+    private Cache cache(String name) {
+        return cacheManager.getCache(name);
+    }
+
+    private static ExportStatisticCreated created(int year) {
+        return new ExportStatisticCreated(UUID.randomUUID(), Instant.now(), "KR-8517-" + year, data(year));
+    }
+
+    private static ExportStatisticUpdated updated(int year) {
+        return new ExportStatisticUpdated(UUID.randomUUID(), Instant.now(), "KR-8517-" + year, data(year));
+    }
+
+    private static ExportStatisticData data(int year) {
+        return new ExportStatisticData(1L, "USA", "미국", 7L, "8517", "전화기",
+            ExportPeriod.of(year, 3), Money.usd(BigDecimal.valueOf(1000)), null, null);
+    }
+}
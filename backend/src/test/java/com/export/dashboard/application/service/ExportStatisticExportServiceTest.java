@@ -0,0 +1,128 @@
+package com.export.dashboard.application.service;
+
+import com.export.dashboard.domain.model.ExportPeriod;
+import com.export.dashboard.domain.repository.ExportStatisticViewRepository;
+import com.export.dashboard.domain.repository.ExportStatisticViewRepository.CountryView;
+import com.export.dashboard.domain.repository.ExportStatisticViewRepository.ExportStatisticFilter;
+import com.export.dashboard.domain.repository.ExportStatisticViewRepository.ExportStatisticView;
+import com.export.dashboard.domain.repository.ExportStatisticViewRepository.ProductCategoryView;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("수출 통계 파일 내보내기 서비스 테스트")
+class ExportStatisticExportServiceTest {
+
+    private static final ExportStatisticFilter FILTER =
+        new ExportStatisticFilter(null, null, ExportPeriod.of(2024, 1), ExportPeriod.of(2024, 12));
+
+    private static final CountryView KOREA =
+        new CountryView(1L, "KOR", "대한민국", "Republic of Korea", "East Asia", "Asia", true);
+    private static final ProductCategoryView MACHINERY =
+        new ProductCategoryView(10L, "8471", 2, "자동자료처리기계", "Machines, \"automatic\" data processing", "84", true);
+
+    @Mock
+    private ExportStatisticViewRepository exportStatisticViewRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ExportStatisticExportService exportStatisticExportService;
+
+    @BeforeEach
+    void setUp() {
+        exportStatisticExportService =
+            new ExportStatisticExportService(exportStatisticViewRepository, new ObjectMapper(), transactionManager);
+    }
+
+    @Test
+    @DisplayName("CSV 는 BOM 과 헤더 뒤에 행마다 한 줄씩 기록하고 특수 문자가 있는 필드만 인용한다")
+    void writeCsv() throws IOException {
+        givenRows(
+            view(1L, 1, "1500.50", "KG"),
+            view(2L, 2, "200", null)
+        );
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        long rows = exportStatisticExportService.writeCsv(FILTER, output);
+
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(rows).isEqualTo(2);
+        assertThat(lines).hasSize(3);
+        assertThat(lines[0]).startsWith("\uFEFFcountry_code,hs_code,year,month,export_value_usd");
+        assertThat(lines[1]).isEqualTo("KOR,8471,2024,1,1500.50,,,KG,USD,대한민국,Republic of Korea," +
+            "자동자료처리기계,\"Machines, \"\"automatic\"\" data processing\",,");
+        assertThat(lines[2]).startsWith("KOR,8471,2024,2,200,,,,USD,");
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    @DisplayName("JSON 은 목록 조회 응답과 같은 형식의 배열로 기록한다")
+    void writeJson() throws IOException {
+        givenRows(view(1L, 1, "1500.50", "KG"));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        long rows = exportStatisticExportService.writeJson(FILTER, output);
+
+        JsonNode json = new ObjectMapper().readTree(output.toByteArray());
+        assertThat(rows).isEqualTo(1);
+        assertThat(json.isArray()).isTrue();
+        assertThat(json.get(0).get("country").get("countryCode").asText()).isEqualTo("KOR");
+        assertThat(json.get(0).get("exportValueUsd").decimalValue()).isEqualByComparingTo("1500.50");
+    }
+
+    @Test
+    @DisplayName("출력 스트림에 쓰지 못하면 원래의 IOException 으로 조회를 중단한다")
+    void stopsWhenClientDisconnects() {
+        // 출력 버퍼를 넘길 만큼의 행
+        givenRows(LongStream.rangeClosed(1, 1000)
+            .mapToObj(id -> view(id, 1, "1500.50", "KG"))
+            .toArray(ExportStatisticView[]::new));
+        OutputStream closed = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        };
+
+        assertThatThrownBy(() -> exportStatisticExportService.writeJson(FILTER, closed))
+            .isInstanceOf(IOException.class)
+            .hasMessage("Broken pipe");
+        verify(transactionManager).rollback(any());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenRows(ExportStatisticView... views) {
+        doAnswer(invocation -> {
+            Consumer<ExportStatisticView> action = invocation.getArgument(1);
+            List.of(views).forEach(action);
+            return null;
+        }).when(exportStatisticViewRepository).forEach(eq(FILTER), any(Consumer.class));
+    }
+
+    private static ExportStatisticView view(Long id, int month, String value, String quantityUnit) {
+        return new ExportStatisticView(id, KOREA, MACHINERY, 2024, month,
+            new BigDecimal(value), "USD", null, null, quantityUnit, null, null);
+    }
+}
@@ -54,6 +54,18 @@ class CountryTest {
         assertThat(country.getContinent()).isEqualTo("아시아");
     }
 
+    @Test
+    @DisplayName("관세청 전 세계 합계(WLD) 국가 구분")
+    void identifyWorldTotalCountry() {
+        // when
+        Country world = Country.create("wld", "전체", "World", "전체", "전체");
+        Country korea = Country.create("KOR", "한국", "Korea");
+
+        // then
+        assertThat(world.isWorldTotal()).isTrue();
+        assertThat(korea.isWorldTotal()).isFalse();
+    }
+
     @Test
     @DisplayName("null CountryCode로 Country 생성 시 예외 발생")
     void throwExceptionForNullCountryCode() {
@@ -0,0 +1,40 @@
+package com.export.dashboard.domain.model;
+
+import com.export.dashboard.domain.exception.InvalidValueObjectException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("ExportStatisticCursor Value Object 테스트")
+class ExportStatisticCursorTest {
+
+    @Test
+    @DisplayName("인코딩한 토큰을 디코딩하면 같은 커서가 된다")
+    void encodeAndDecode() {
+        // given
+        ExportStatisticCursor cursor = ExportStatisticCursor.of(2024, 7, new BigDecimal("1234567.89"), 98765L);
+
+        // when
+        String token = cursor.encode();
+
+        // then
+        assertThat(token).doesNotContain("=", "+", "/");
+        assertThat(ExportStatisticCursor.decode(token)).isEqualTo(cursor);
+    }
+
+    @ParameterizedTest
+    @NullAndEmptySource
+    @ValueSource(strings = {"not-base64!", "MjAyNDo3", "MjAyNDoxMzoxMDox"})
+    @DisplayName("올바르지 않은 토큰은 예외 발생")
+    void throwExceptionForInvalidToken(String token) {
+        // when & then
+        assertThatThrownBy(() -> ExportStatisticCursor.decode(token))
+            .isInstanceOf(InvalidValueObjectException.class);
+    }
+}
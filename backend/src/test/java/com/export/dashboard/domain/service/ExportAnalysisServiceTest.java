@@ -2,6 +2,7 @@ package com.export.dashboard.domain.service;
 
 import com.export.dashboard.domain.model.*;
 import com.export.dashboard.domain.repository.ExportStatisticRepository;
+import com.export.dashboard.domain.repository.ExportStatisticRepository.SeriesKey;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -11,9 +12,12 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 import java.util.Currency;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.IntStream;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -233,6 +237,90 @@ class ExportAnalysisServiceTest {
             assertThat(trend.isStable()).isTrue();
             assertThat(trend.monthlyData()).hasSize(3);
         }
+
+        @Test
+        @DisplayName("여러 국가/상품 조합의 트렌드를 한 번의 조회로 분석해야 한다")
+        void shouldAnalyzeExportTrendsForManySeriesInOneLookup() {
+            // Given - 두 개 조합, 하나는 데이터 없음
+            LocalDate currentDate = LocalDate.now();
+            List<ExportPeriod> periods = IntStream.range(0, 3)
+                .mapToObj(i -> currentDate.minusMonths(i))
+                .map(date -> ExportPeriod.of(date.getYear(), date.getMonthValue()))
+                .toList();
+            SeriesKey koreaSemiconductors = new SeriesKey(1L, 10L);
+            SeriesKey chinaElectronics = new SeriesKey(2L, 20L);
+            List<SeriesKey> seriesKeys = List.of(koreaSemiconductors, chinaElectronics);
+
+            List<ExportStatistic> exports = periods.stream()
+                .map(period -> ExportStatistic.create(korea, semiconductors, period,
+                    Money.usd(new BigDecimal("1000000"))))
+                .toList();
+
+            when(exportStatisticRepository.findSeriesInPeriods(seriesKeys, periods))
+                .thenReturn(Map.of(koreaSemiconductors, exports, chinaElectronics, List.of()));
+
+            // When
+            Map<SeriesKey, ExportTrend> trends = exportAnalysisService.analyzeExportTrends(seriesKeys, 3);
+
+            // Then - 조합별 트렌드, 조회는 1회
+            assertThat(trends).containsOnlyKeys(koreaSemiconductors, chinaElectronics);
+            assertThat(trends.get(koreaSemiconductors).isStable()).isTrue();
+            assertThat(trends.get(chinaElectronics).monthlyData()).hasSize(3);
+            verify(exportStatisticRepository, times(1)).findSeriesInPeriods(any(), any());
+            verify(exportStatisticRepository, never()).findByCountryAndProductInPeriods(any(), any(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("지역별 성과 비교 기능")
+    class RegionalComparisonTest {
+
+        @Test
+        @DisplayName("국가별 집계로 지역 성과를 계산하고 수출 통계 엔티티를 조회하지 않아야 한다")
+        void shouldCompareRegionalPerformanceFromAggregates() {
+            // Given - 지역 내 두 국가의 집계 결과
+            var period = ExportPeriod.of(2024, 3);
+            when(exportStatisticRepository.aggregateByRegionAndPeriod("East Asia", period)).thenReturn(List.of(
+                new ExportStatisticRepository.CountryPeriodAggregate(
+                    korea, Money.usd(new BigDecimal("300")), 2, new BigDecimal("30.00"), 3),
+                new ExportStatisticRepository.CountryPeriodAggregate(
+                    china, Money.usd(new BigDecimal("700")), 1, new BigDecimal("-10.00"), 1)
+            ));
+            when(exportStatisticRepository.countDistinctProductsByRegionAndPeriod("East Asia", period)).thenReturn(2L);
+
+            // When
+            var comparison = exportAnalysisService.compareRegionalPerformance("East Asia", period);
+
+            // Then - 수출액 내림차순, 평균 성장률은 성장률 합계 / 행 수
+            assertThat(comparison.countryPerformances())
+                .extracting(performance -> performance.country().getCountryCode().value())
+                .containsExactly("CHN", "KOR");
+            assertThat(comparison.getPerformanceByCountry(korea.getCountryCode()).averageGrowthRate().value())
+                .isEqualByComparingTo("10.00");
+            assertThat(comparison.summary().totalExportValue().amount()).isEqualByComparingTo("1000");
+            assertThat(comparison.summary().countryCount()).isEqualTo(2);
+            assertThat(comparison.summary().totalProductCount()).isEqualTo(2);
+            assertThat(comparison.getMarketShareByCountry().get(china.getCountryCode()).value())
+                .isEqualByComparingTo("70.00");
+
+            verify(exportStatisticRepository, never()).findByRegionAndPeriod(any(), any());
+        }
+
+        @Test
+        @DisplayName("지역에 수출 실적이 없으면 빈 비교 결과를 반환해야 한다")
+        void shouldReturnEmptyComparisonWhenNoExports() {
+            // Given
+            var period = ExportPeriod.of(2024, 3);
+            when(exportStatisticRepository.aggregateByRegionAndPeriod("Oceania", period)).thenReturn(List.of());
+
+            // When
+            var comparison = exportAnalysisService.compareRegionalPerformance("Oceania", period);
+
+            // Then
+            assertThat(comparison.countryPerformances()).isEmpty();
+            assertThat(comparison.summary().isEmpty()).isTrue();
+            verify(exportStatisticRepository, never()).countDistinctProductsByRegionAndPeriod(any(), any());
+        }
     }
 
     @Nested
@@ -0,0 +1,111 @@
+package com.export.dashboard.domain.service;
+
+import com.export.dashboard.domain.model.Money;
+import com.export.dashboard.domain.repository.ExportStatisticRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("수출 분석 지표 도메인 서비스 테스트")
+class ExportAnalyticsDomainServiceTest {
+
+    @Mock
+    private ExportStatisticRepository exportStatisticRepository;
+
+    private ExportAnalyticsDomainService exportAnalyticsDomainService;
+
+    @BeforeEach
+    void setUp() {
+        exportAnalyticsDomainService = new ExportAnalyticsDomainService(exportStatisticRepository);
+    }
+
+    @Test
+    @DisplayName("single-statement 모드의 대시보드 요약은 대시보드 집계 일괄 조회 한 번으로 만들고 역성장은 음수 성장률로 계산한다")
+    void generateDashboardSummaryFromSingleAggregate() {
+        exportAnalyticsDomainService = new ExportAnalyticsDomainService(exportStatisticRepository, true);
+        when(exportStatisticRepository.getDashboardAggregate(2024, 10)).thenReturn(new ExportStatisticRepository.DashboardAggregate(
+            Money.usd(new BigDecimal("80")), Money.usd(new BigDecimal("100")), 3L, 4L, List.of(), List.of(), List.of()));
+
+        var summary = exportAnalyticsDomainService.generateDashboardSummary(2024);
+
+        assertThat(summary.totalExportValue().amount()).isEqualByComparingTo("80");
+        assertThat(summary.yearOverYearGrowth().value()).isEqualByComparingTo("-20.00");
+        assertThat(summary.totalCountries()).isEqualTo(3);
+        assertThat(summary.totalProducts()).isEqualTo(4);
+        verify(exportStatisticRepository, never()).getTotalExportValueByYear(any());
+    }
+
+    @Test
+    @DisplayName("기본 설정의 대시보드 요약은 집계 항목별 개별 조회로 만든다")
+    void generateDashboardSummaryPerQueryByDefault() {
+        when(exportStatisticRepository.getTotalExportValueByYear(2024)).thenReturn(Money.usd(new BigDecimal("80")));
+        when(exportStatisticRepository.getTotalExportValueByYear(2023)).thenReturn(Money.usd(new BigDecimal("100")));
+        when(exportStatisticRepository.countDistinctCountriesByYear(2024)).thenReturn(3L);
+        when(exportStatisticRepository.countDistinctProductsByYear(2024)).thenReturn(4L);
+
+        var summary = exportAnalyticsDomainService.generateDashboardSummary(2024);
+
+        assertThat(summary.totalExportValue().amount()).isEqualByComparingTo("80");
+        assertThat(summary.yearOverYearGrowth().value()).isEqualByComparingTo("-20.00");
+        assertThat(summary.totalCountries()).isEqualTo(3);
+        assertThat(summary.totalProducts()).isEqualTo(4);
+        verify(exportStatisticRepository).getTopExportCountriesByYear(2024, 10);
+        verify(exportStatisticRepository).getTopExportProductsByYear(2024, 10);
+        verify(exportStatisticRepository).getMonthlyExportTrend(2024);
+        verify(exportStatisticRepository, never()).getDashboardAggregate(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("다양성 지수는 상품별 수출액 스트림으로 계산하고 상위 N 조회를 사용하지 않는다")
+    void calculateDiversityIndexFromStream() {
+        when(exportStatisticRepository.getTotalExportValueByYear(2024)).thenReturn(Money.usd(new BigDecimal("100")));
+        doAnswer(invocation -> {
+            Consumer<Money> action = invocation.getArgument(1);
+            action.accept(Money.usd(new BigDecimal("50")));
+            action.accept(Money.usd(new BigDecimal("30")));
+            action.accept(Money.usd(new BigDecimal("20")));
+            return null;
+        }).when(exportStatisticRepository).forEachProductExportValueByYear(eq(2024), any());
+
+        BigDecimal diversityIndex = exportAnalyticsDomainService.calculateExportDiversityIndex(2024);
+
+        // 1 - (0.25 + 0.09 + 0.04)
+        assertThat(diversityIndex).isEqualByComparingTo("0.62");
+        verify(exportStatisticRepository, never()).getTopExportProductsByYear(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("지역 집중도는 국가별 수출액 스트림에서 상위 5/10개국 합계와 국가 수를 계산한다")
+    void analyzeRegionalConcentrationFromStream() {
+        when(exportStatisticRepository.getTotalExportValueByYear(2024)).thenReturn(Money.usd(new BigDecimal("120")));
+        doAnswer(invocation -> {
+            Consumer<Money> action = invocation.getArgument(1);
+            // 15개국, 수출액 15..1 내림차순 (합계 120)
+            IntStream.iterate(15, value -> value > 0, value -> value - 1)
+                .forEach(value -> action.accept(Money.usd(BigDecimal.valueOf(value))));
+            return null;
+        }).when(exportStatisticRepository).forEachCountryExportValueByYear(eq(2024), any());
+
+        var concentration = exportAnalyticsDomainService.analyzeRegionalConcentration(2024);
+
+        assertThat(concentration.totalCountries()).isEqualTo(15);
+        // 상위 5개국 65/120, 상위 10개국 105/120
+        assertThat(concentration.top5Concentration().value()).isEqualByComparingTo("54.17");
+        assertThat(concentration.top10Concentration().value()).isEqualByComparingTo("87.50");
+        verify(exportStatisticRepository, never()).getTopExportCountriesByYear(any(), anyInt());
+    }
+}
@@ -0,0 +1,109 @@
+package com.export.dashboard.infrastructure.analytics;
+
+import com.export.dashboard.domain.model.ExportPeriod;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("ExportCube 컬럼형 집계 테스트")
+class ExportCubeTest {
+
+    private ExportCube cube;
+
+    @BeforeEach
+    void setUp() {
+        cube = ExportCube.builder()
+            .add("CHN", "China", "8542", 2, "Semiconductors", 2024, 1, new BigDecimal("100.50"))
+            .add("CHN", "China", "8703", 2, "Motor cars", 2024, 2, new BigDecimal("50.00"))
+            .add("USA", "United States", "8703", 2, "Motor cars", 2024, 1, new BigDecimal("300.00"))
+            .add("JPN", "Japan", "8542", 2, "Semiconductors", 2023, 12, new BigDecimal("70.25"))
+            .add("USA", "United States", "8542", 2, "Semiconductors", 2023, 5, new BigDecimal("10.00"))
+            .build();
+    }
+
+    @Test
+    @DisplayName("년도별 총 수출액을 계산한다")
+    void calculateTotalExportValueByYear() {
+        assertThat(cube.totalExportValue(2024).amount()).isEqualByComparingTo("450.50");
+        assertThat(cube.totalExportValue(2023).amount()).isEqualByComparingTo("80.25");
+        assertThat(cube.totalExportValue(2020).isZero()).isTrue();
+    }
+
+    @Test
+    @DisplayName("년도별 고유 국가/상품 수를 계산한다")
+    void countDistinctDimensionsByYear() {
+        assertThat(cube.countDistinctCountries(2024)).isEqualTo(2);
+        assertThat(cube.countDistinctProducts(2024)).isEqualTo(2);
+        assertThat(cube.countDistinctCountries(2023)).isEqualTo(2);
+        assertThat(cube.countDistinctProducts(2023)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("상위 국가를 수출액 내림차순으로 반환하고 점유율을 계산한다")
+    void rankTopCountries() {
+        var topCountries = cube.topCountries(2024, 10);
+
+        assertThat(topCountries).hasSize(2);
+        assertThat(topCountries.get(0).countryCode().value()).isEqualTo("USA");
+        assertThat(topCountries.get(0).totalValue().amount()).isEqualByComparingTo("300.00");
+        assertThat(topCountries.get(0).marketShare().value()).isEqualByComparingTo("66.59");
+        assertThat(topCountries.get(1).countryCode().value()).isEqualTo("CHN");
+    }
+
+    @Test
+    @DisplayName("상위 상품 조회 시 limit 을 적용한다")
+    void rankTopProductsWithLimit() {
+        var topProducts = cube.topProducts(2024, 1);
+
+        assertThat(topProducts).hasSize(1);
+        assertThat(topProducts.get(0).hsCode().value()).isEqualTo("8703");
+        assertThat(topProducts.get(0).totalValue().amount()).isEqualByComparingTo("350.00");
+    }
+
+    @Test
+    @DisplayName("상위 N 선별 결과는 전체 정렬 결과의 앞부분과 같고 동액은 등록 순서를 유지한다")
+    void rankTopCountriesWithBoundedSelection() {
+        ExportCube tiedCube = ExportCube.builder()
+            .add("CHN", "China", "8542", 2, "Semiconductors", 2024, 1, new BigDecimal("100.00"))
+            .add("USA", "United States", "8542", 2, "Semiconductors", 2024, 1, new BigDecimal("300.00"))
+            .add("JPN", "Japan", "8542", 2, "Semiconductors", 2024, 1, new BigDecimal("100.00"))
+            .add("VNM", "Viet Nam", "8542", 2, "Semiconductors", 2024, 1, new BigDecimal("200.00"))
+            .build();
+
+        var topTwo = tiedCube.topCountries(2024, 2);
+        var topThree = tiedCube.topCountries(2024, 3);
+        var all = tiedCube.topCountries(2024, 10);
+
+        assertThat(topTwo).containsExactlyElementsOf(all.subList(0, 2));
+        assertThat(topThree).containsExactlyElementsOf(all.subList(0, 3));
+        assertThat(topThree.get(2).countryCode().value()).isEqualTo("CHN");
+    }
+
+    @Test
+    @DisplayName("전체 분포 순회는 수출액 내림차순으로 모든 국가를 전달한다")
+    void iterateCountryTotalsInDescendingOrder() {
+        var values = new ArrayList<BigDecimal>();
+
+        cube.forEachCountryTotal(2024, value -> values.add(value.amount()));
+
+        assertThat(values).usingElementComparator(BigDecimal::compareTo)
+            .containsExactly(new BigDecimal("300.00"), new BigDecimal("150.50"));
+    }
+
+    @Test
+    @DisplayName("월별 트렌드는 데이터가 있는 월만 월 오름차순으로 반환한다")
+    void buildMonthlyTrend() {
+        var trends = cube.monthlyTrend(2024);
+
+        assertThat(trends).hasSize(2);
+        assertThat(trends.get(0).period()).isEqualTo(ExportPeriod.of(2024, 1));
+        assertThat(trends.get(0).totalValue().amount()).isEqualByComparingTo("400.50");
+        assertThat(trends.get(1).period()).isEqualTo(ExportPeriod.of(2024, 2));
+        assertThat(cube.monthlyTrend(2020)).isEmpty();
+    }
+}
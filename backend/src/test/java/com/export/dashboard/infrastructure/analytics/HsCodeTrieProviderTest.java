@@ -0,0 +1,73 @@
+package com.export.dashboard.infrastructure.analytics;
+
+import com.export.dashboard.infrastructure.cache.CacheInvalidationBus;
+import com.export.dashboard.infrastructure.cache.LocalCacheStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("HS 코드 트라이 제공자 무효화 테스트")
+class HsCodeTrieProviderTest {
+
+    private static final String CHANNEL = "cache-invalidation";
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    private CacheInvalidationBus invalidationBus;
+    private HsCodeTrieProvider provider;
+
+    @BeforeEach
+    void setUp() {
+        invalidationBus = new CacheInvalidationBus(redisTemplate, CHANNEL, new LocalCacheStore(1_000, Duration.ofMinutes(1)));
+        provider = new HsCodeTrieProvider(jdbcTemplate, invalidationBus, Duration.ofHours(1));
+    }
+
+    @Test
+    @DisplayName("카테고리 변경 무효화는 다른 노드에 전파하고 다음 조회에서 다시 적재한다")
+    void broadcastsInvalidation() {
+        HsCodeTrie first = provider.current();
+        assertThat(provider.current()).isSameAs(first);
+
+        provider.invalidate();
+
+        assertThat(provider.current()).isNotSameAs(first);
+        verify(redisTemplate).convertAndSend(eq(CHANNEL), endsWith("\nhs-code-trie"));
+        verify(jdbcTemplate, times(2)).query(anyString(), any(RowCallbackHandler.class));
+    }
+
+    @Test
+    @DisplayName("다른 노드의 카테고리 변경 메시지를 받으면 다음 조회에서 다시 적재한다")
+    void reloadsAfterRemoteInvalidation() {
+        HsCodeTrie first = provider.current();
+
+        invalidationBus.onMessage(message("other-node\nexport-cube"), null);
+        assertThat(provider.current()).isSameAs(first);
+
+        invalidationBus.onMessage(message("other-node\nhs-code-trie"), null);
+        assertThat(provider.current()).isNotSameAs(first);
+    }
+
+    private static DefaultMessage message(String body) {
+        return new DefaultMessage(CHANNEL.getBytes(StandardCharsets.UTF_8), body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,80 @@
+package com.export.dashboard.infrastructure.analytics;
+
+import com.export.dashboard.domain.model.HsCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("HsCodeTrie 접두사 트라이 테스트")
+class HsCodeTrieTest {
+
+    private HsCodeTrie trie;
+
+    @BeforeEach
+    void setUp() {
+        trie = HsCodeTrie.builder()
+            .add(1L, HsCode.of("85", 1), "전기기기", "Electrical machinery")
+            .add(2L, HsCode.of("8542", 2), "전자집적회로", "Electronic integrated circuits")
+            .add(3L, HsCode.of("854231", 3), "프로세서와 컨트롤러", "Processors and controllers")
+            .add(4L, HsCode.of("854232", 3), "메모리", "Memories")
+            .add(5L, HsCode.of("852852", 3), "모니터", "Monitors")
+            .add(6L, HsCode.of("84", 1), "기계류", "Machinery")
+            .add(7L, HsCode.of("847130", 3), "휴대용 컴퓨터", "Portable computers")
+            .build();
+    }
+
+    @Test
+    @DisplayName("등록된 HS 코드만 포함으로 판단한다")
+    void contains() {
+        assertThat(trie.size()).isEqualTo(7);
+        assertThat(trie.contains("854231")).isTrue();
+        assertThat(trie.contains("8542319000")).isFalse();
+        assertThat(trie.contains("8528")).isFalse();
+        assertThat(trie.get("8542")).map(HsCodeTrie.Entry::productCategoryId).hasValue(2L);
+    }
+
+    @Test
+    @DisplayName("등록된 상위 코드 아래의 세부 코드는 포함으로 판단하고 가장 가까운 상위 코드를 찾는다")
+    void isCoveredAndFindClosest() {
+        assertThat(trie.isCovered("8542319000")).isTrue();
+        assertThat(trie.findClosest("8542319000")).map(entry -> entry.hsCode().value()).hasValue("854231");
+        assertThat(trie.findClosest("854290")).map(entry -> entry.hsCode().value()).hasValue("8542");
+        assertThat(trie.findClosest("852852")).map(entry -> entry.hsCode().value()).hasValue("852852");
+        assertThat(trie.isCovered("870323")).isFalse();
+        assertThat(trie.isCovered("abc")).isFalse();
+    }
+
+    @Test
+    @DisplayName("상위 코드를 챕터부터 순서대로 반환한다")
+    void ancestors() {
+        assertThat(codes(trie.ancestors("854231"))).containsExactly("85", "8542");
+        assertThat(codes(trie.ancestors("852852"))).containsExactly("85");
+        assertThat(trie.ancestors("85")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("중간 레벨이 없으면 가장 가까운 등록된 코드를 하위로 반환한다")
+    void children() {
+        assertThat(codes(trie.children("85"))).containsExactly("852852", "8542");
+        assertThat(codes(trie.children("8542"))).containsExactly("854231", "854232");
+        assertThat(trie.children("854231")).isEmpty();
+        assertThat(trie.children("87")).isEmpty();
+    }
+
+    @Test
+    @DisplayName("접두사로 시작하는 모든 코드를 HS 코드 순으로 반환한다")
+    void withPrefix() {
+        assertThat(codes(trie.withPrefix("85"))).containsExactly("85", "852852", "8542", "854231", "854232");
+        assertThat(codes(trie.withPrefix("")))
+            .containsExactly("84", "847130", "85", "852852", "8542", "854231", "854232");
+        assertThat(trie.withPrefix("9")).isEmpty();
+    }
+
+    private static List<String> codes(List<HsCodeTrie.Entry> entries) {
+        return entries.stream().map(entry -> entry.hsCode().value()).toList();
+    }
+}
@@ -0,0 +1,182 @@
+package com.export.dashboard.infrastructure.analytics;
+
+import com.export.dashboard.infrastructure.cache.CacheInvalidationBus;
+import com.export.dashboard.infrastructure.cache.LocalCacheStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("노드 로컬 스냅샷 무효화 테스트")
+class NodeLocalSnapshotTest {
+
+    private static final String CHANNEL = "cache-invalidation";
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    private final AtomicInteger loads = new AtomicInteger();
+    private CacheInvalidationBus invalidationBus;
+
+    @BeforeEach
+    void setUp() {
+        invalidationBus = new CacheInvalidationBus(redisTemplate, CHANNEL, new LocalCacheStore(1_000, Duration.ofMinutes(1)));
+    }
+
+    @Test
+    @DisplayName("무효화 전까지는 적재한 스냅샷을 재사용하고, 무효화는 다른 노드에 전파한다")
+    void reusesUntilInvalidated() {
+        NodeLocalSnapshot<String> snapshot = snapshot(() -> "cube-" + loads.incrementAndGet());
+
+        assertThat(snapshot.current()).isEqualTo("cube-1");
+        assertThat(snapshot.current()).isEqualTo("cube-1");
+
+        snapshot.invalidate();
+        assertThat(snapshot.current()).isEqualTo("cube-2");
+        verify(redisTemplate).convertAndSend(eq(CHANNEL), endsWith("\nexport-cube"));
+    }
+
+    @Test
+    @DisplayName("다른 노드의 무효화 메시지를 받으면 다음 조회에서 다시 적재한다")
+    void reloadsAfterRemoteInvalidation() {
+        NodeLocalSnapshot<String> snapshot = snapshot(() -> "cube-" + loads.incrementAndGet());
+        assertThat(snapshot.current()).isEqualTo("cube-1");
+
+        invalidationBus.onMessage(message("other-node\nhs-code-trie"), null);
+        assertThat(snapshot.current()).isEqualTo("cube-1");
+
+        invalidationBus.onMessage(message("other-node\nexport-cube"), null);
+        assertThat(snapshot.current()).isEqualTo("cube-2");
+    }
+
+    @Test
+    @DisplayName("다시 적재가 실패하면 이전 스냅샷을 반환하고, 대기 시간이 지난 뒤 다음 조회에서 다시 적재한다")
+    void servesPreviousSnapshotWhenReloadFails() throws InterruptedException {
+        NodeLocalSnapshot<String> snapshot = new NodeLocalSnapshot<>("export-cube", () -> {
+            int load = loads.incrementAndGet();
+            if (load == 2) {
+                throw new IllegalStateException("db down");
+            }
+            return "cube-" + load;
+        }, Duration.ofHours(1), Duration.ofMillis(50), invalidationBus);
+        assertThat(snapshot.current()).isEqualTo("cube-1");
+
+        snapshot.invalidate();
+        assertThat(snapshot.current()).isEqualTo("cube-1");
+        // 대기 시간 동안은 다시 적재하지 않음
+        assertThat(snapshot.current()).isEqualTo("cube-1");
+        assertThat(loads).hasValue(2);
+
+        Thread.sleep(100);
+        assertThat(snapshot.current()).isEqualTo("cube-3");
+    }
+
+    @Test
+    @DisplayName("스냅샷이 없을 때 적재가 실패하면 대기 시간 동안 다시 적재하지 않고 바로 실패한다")
+    void failsFastWithoutSnapshotWhileBackingOff() {
+        NodeLocalSnapshot<String> snapshot = new NodeLocalSnapshot<>("export-cube", () -> {
+            loads.incrementAndGet();
+            throw new IllegalStateException("db down");
+        }, Duration.ofHours(1), Duration.ofHours(1), invalidationBus);
+
+        assertThatThrownBy(snapshot::current).hasMessage("db down");
+        assertThatThrownBy(snapshot::current)
+            .isInstanceOf(IllegalStateException.class)
+            .hasRootCauseMessage("db down");
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("한 스레드가 다시 적재하는 동안 다른 조회는 기다리지 않고 이전 스냅샷을 반환한다")
+    void servesPreviousSnapshotWhileReloading() throws Exception {
+        CountDownLatch reloading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        NodeLocalSnapshot<String> snapshot = snapshot(() -> {
+            int load = loads.incrementAndGet();
+            if (load == 2) {
+                reloading.countDown();
+                await(release);
+            }
+            return "cube-" + load;
+        });
+        assertThat(snapshot.current()).isEqualTo("cube-1");
+        snapshot.invalidate();
+
+        ExecutorService reloader = Executors.newSingleThreadExecutor();
+        try {
+            Future<String> reloaded = reloader.submit(snapshot::current);
+            assertThat(reloading.await(5, TimeUnit.SECONDS)).isTrue();
+
+            assertThat(snapshot.current()).isEqualTo("cube-1");
+            assertThat(loads).hasValue(2);
+
+            release.countDown();
+            assertThat(reloaded.get(5, TimeUnit.SECONDS)).isEqualTo("cube-2");
+            assertThat(snapshot.current()).isEqualTo("cube-2");
+        } finally {
+            reloader.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("적재 중 도착한 무효화는 다음 조회에서 다시 적재한다")
+    void reloadsWhenInvalidatedDuringLoad() {
+        NodeLocalSnapshot<String> snapshot = snapshot(() -> {
+            int load = loads.incrementAndGet();
+            if (load == 1) {
+                // 적재 쿼리가 끝나기 전에 다른 노드의 변경이 커밋됨
+                invalidationBus.onMessage(message("other-node\nexport-cube"), null);
+            }
+            return "cube-" + load;
+        });
+
+        assertThat(snapshot.current()).isEqualTo("cube-1");
+        assertThat(snapshot.current()).isEqualTo("cube-2");
+        assertThat(snapshot.current()).isEqualTo("cube-2");
+    }
+
+    @Test
+    @DisplayName("최대 보관 시간이 지나면 무효화 없이도 다시 적재한다")
+    void reloadsAfterMaxAge() throws InterruptedException {
+        NodeLocalSnapshot<String> snapshot = new NodeLocalSnapshot<>(
+            "export-cube", () -> "cube-" + loads.incrementAndGet(), Duration.ofMillis(1), invalidationBus);
+
+        assertThat(snapshot.current()).isEqualTo("cube-1");
+        Thread.sleep(10);
+        assertThat(snapshot.current()).isEqualTo("cube-2");
+    }
+
+    private NodeLocalSnapshot<String> snapshot(Supplier<String> loader) {
+        return new NodeLocalSnapshot<>("export-cube", loader, Duration.ofHours(1), invalidationBus);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static DefaultMessage message(String body) {
+        return new DefaultMessage(CHANNEL.getBytes(StandardCharsets.UTF_8), body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,98 @@
+package com.export.dashboard.infrastructure.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("캐시 stale-while-revalidate / refresh-ahead 정책 테스트")
+class CacheRefreshAheadTest {
+
+    private static final byte[] KEY = "2024".getBytes();
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    private CacheRefreshAhead refreshAhead;
+
+    @BeforeEach
+    void setUp() {
+        refreshAhead = new CacheRefreshAhead(redisTemplate, Duration.ofHours(1), Duration.ofMinutes(2), Runnable::run);
+    }
+
+    @Test
+    @DisplayName("Redis 보관 TTL 은 soft TTL 에 stale-grace 를 더한 값이다")
+    void addsStaleGraceToSoftTtl() {
+        RedisCacheWriter.TtlFunction ttl = refreshAhead.withStaleGrace(
+            "dashboard-summary", RedisCacheWriter.TtlFunction.just(Duration.ofMinutes(30)));
+
+        assertThat(ttl.getTimeToLive(KEY, "summary")).isEqualTo(Duration.ofMinutes(90));
+    }
+
+    @Test
+    @DisplayName("남은 TTL 이 stale-grace + refresh-ahead 이하이면 갱신 대상이다")
+    void refreshesNearOrPastSoftTtl() {
+        refreshAhead.withStaleGrace("dashboard-summary", RedisCacheWriter.TtlFunction.just(Duration.ofMinutes(30)));
+
+        // soft TTL 까지 10분 남음
+        when(redisTemplate.getExpire("dashboard-summary::2024", TimeUnit.MILLISECONDS))
+            .thenReturn(Duration.ofMinutes(70).toMillis());
+        assertThat(refreshAhead.needsRefresh("dashboard-summary", "2024")).isFalse();
+
+        // soft TTL 까지 1분 남음 (refresh-ahead)
+        when(redisTemplate.getExpire("dashboard-summary::2024", TimeUnit.MILLISECONDS))
+            .thenReturn(Duration.ofMinutes(61).toMillis());
+        assertThat(refreshAhead.needsRefresh("dashboard-summary", "2024")).isTrue();
+
+        // soft TTL 이 지나 stale-grace 구간
+        when(redisTemplate.getExpire("dashboard-summary::2024", TimeUnit.MILLISECONDS))
+            .thenReturn(Duration.ofMinutes(30).toMillis());
+        assertThat(refreshAhead.needsRefresh("dashboard-summary", "2024")).isTrue();
+
+        // 만료 시간이 없는 키
+        when(redisTemplate.getExpire("dashboard-summary::2024", TimeUnit.MILLISECONDS)).thenReturn(-1L);
+        assertThat(refreshAhead.needsRefresh("dashboard-summary", "2024")).isFalse();
+    }
+
+    @Test
+    @DisplayName("stale-grace 로 등록하지 않은 캐시는 Redis 를 조회하지 않고 갱신하지 않는다")
+    void ignoresUnregisteredCaches() {
+        assertThat(refreshAhead.needsRefresh("countries", "all")).isFalse();
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 갱신 작업을 제출하지 않는다")
+    void rejectsWhenQueueIsFull() {
+        CacheRefreshAhead bounded = new CacheRefreshAhead(redisTemplate, Duration.ofHours(1), Duration.ofMinutes(2), 1, 1);
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            Runnable blocking = () -> {
+                try {
+                    release.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            };
+
+            assertThat(bounded.submit(blocking)).isTrue();
+            assertThat(bounded.submit(blocking)).isTrue();
+            assertThat(bounded.submit(blocking)).isFalse();
+        } finally {
+            release.countDown();
+            bounded.shutdown();
+        }
+    }
+}
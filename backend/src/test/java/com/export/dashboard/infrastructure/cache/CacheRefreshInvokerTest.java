@@ -0,0 +1,244 @@
+package com.export.dashboard.infrastructure.cache;
+
+import com.export.dashboard.config.RedisConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.Advisor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringJUnitConfig(CacheRefreshInvokerTest.Config.class)
+@DisplayName("백그라운드 캐시 갱신 서비스 프록시 재호출 테스트")
+class CacheRefreshInvokerTest {
+
+    private static final String REFRESH_THREAD = "cache-refresh-test";
+
+    @Autowired
+    private ReportService reportService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private ManualRefreshAhead refreshAhead;
+
+    @Autowired
+    private RecordingTransactionManager transactionManager;
+
+    private final ExecutorService refreshExecutor =
+        Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, REFRESH_THREAD));
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCache("reports").clear();
+        reportService.calls().clear();
+        transactionManager.definitions.clear();
+        refreshAhead.pending.clear();
+        refreshAhead.due = false;
+    }
+
+    @AfterEach
+    void tearDown() {
+        refreshExecutor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("soft TTL 이 지난 값은 바로 반환하고, 갱신은 다른 스레드에서 서비스 프록시를 읽기 전용 트랜잭션으로 다시 호출한다")
+    void refreshesThroughServiceProxyInReadOnlyTransaction() throws Exception {
+        String requestThread = Thread.currentThread().getName();
+        assertThat(reportService.report(2024)).isEqualTo("report-2024-1");
+
+        refreshAhead.due = true;
+        assertThat(reportService.report(2024)).isEqualTo("report-2024-1");
+        assertThat(reportService.report(2023)).isEqualTo("report-2023-2");
+        assertThat(reportService.report(2023)).isEqualTo("report-2023-2");
+        assertThat(refreshAhead.pending).hasSize(2);
+
+        refreshAhead.due = false;
+        runPendingOnRefreshThread();
+
+        // 각 키는 자신의 메서드/인자로 다시 계산
+        assertThat(reportService.report(2024)).isEqualTo("report-2024-3");
+        assertThat(reportService.report(2023)).isEqualTo("report-2023-4");
+        assertThat(reportService.calls()).containsExactly(
+            requestThread, requestThread, REFRESH_THREAD + ":read-only", REFRESH_THREAD + ":read-only");
+        assertThat(transactionManager.definitions).hasSize(2).allMatch(TransactionDefinition::isReadOnly);
+    }
+
+    @Test
+    @DisplayName("서비스 프록시를 거치지 않은 get(key, loader) 조회는 갱신을 예약하지 않는다")
+    void skipsRefreshWithoutServiceProxyCall() {
+        assertThat(reportService.report(2024)).isEqualTo("report-2024-1");
+        refreshAhead.due = true;
+
+        assertThat(cacheManager.getCache("reports").get(2024, () -> "direct")).isEqualTo("report-2024-1");
+        assertThat(refreshAhead.pending).isEmpty();
+    }
+
+    private void runPendingOnRefreshThread() throws Exception {
+        Runnable refresh;
+        while ((refresh = refreshAhead.pending.poll()) != null) {
+            refreshExecutor.submit(refresh).get(5, TimeUnit.SECONDS);
+        }
+    }
+
+    @Configuration
+    @EnableCaching
+    static class Config {
+
+        @Bean
+        @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+        static Advisor cacheRefreshInvocationAdvisor() {
+            return RedisConfig.cacheRefreshInvocationAdvisor();
+        }
+
+        @Bean
+        RecordingTransactionManager transactionManager() {
+            return new RecordingTransactionManager();
+        }
+
+        @Bean
+        ManualRefreshAhead refreshAhead() {
+            return new ManualRefreshAhead();
+        }
+
+        @Bean
+        CacheManager cacheManager(ManualRefreshAhead refreshAhead, PlatformTransactionManager transactionManager) {
+            return new SingleFlightCacheManager(new ConcurrentMapCacheManager("reports"), new InMemoryLoadLock(),
+                Duration.ofSeconds(1), Duration.ofMillis(1), refreshAhead, new CacheRefreshInvoker(transactionManager));
+        }
+
+        @Bean
+        ReportService reportService() {
+            return new ReportService();
+        }
+    }
+
+    /**
+     * 호출한 스레드와 읽기 전용 트랜잭션 여부를 기록하는 서비스
+     */
+    static class ReportService {
+
+        private final List<String> calls = new CopyOnWriteArrayList<>();
+
+        @Cacheable(value = "reports", key = "#year", sync = true)
+        public String report(int year) {
+            boolean readOnly = TransactionSynchronizationManager.isActualTransactionActive()
+                && TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+            calls.add(Thread.currentThread().getName() + (readOnly ? ":read-only" : ""));
+            return "report-" + year + "-" + calls.size();
+        }
+
+        // 프록시의 필드가 아니라 대상 객체의 기록을 읽도록 메서드로 노출
+        public List<String> calls() {
+            return calls;
+        }
+    }
+
+    /**
+     * due 인 동안 모든 키를 갱신 대상으로 보고, 제출된 갱신은 테스트가 직접 실행
+     */
+    static final class ManualRefreshAhead extends CacheRefreshAhead {
+
+        private final Queue<Runnable> pending = new ConcurrentLinkedQueue<>();
+        private volatile boolean due;
+
+        private ManualRefreshAhead() {
+            super(null, Duration.ofHours(1), Duration.ofMinutes(2), Runnable::run);
+        }
+
+        @Override
+        public boolean needsRefresh(String cacheName, String key) {
+            return due;
+        }
+
+        @Override
+        public boolean submit(Runnable refresh) {
+            return pending.add(refresh);
+        }
+    }
+
+    /**
+     * 시작한 트랜잭션 정의만 기록하는 트랜잭션 매니저
+     */
+    static final class RecordingTransactionManager extends AbstractPlatformTransactionManager {
+
+        private final List<TransactionDefinition> definitions = new CopyOnWriteArrayList<>();
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+            definitions.add(definition);
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+
+    /**
+     * 단일 노드 메모리 잠금
+     */
+    private static final class InMemoryLoadLock extends RedisLoadLock {
+
+        private final Queue<String> locks = new ConcurrentLinkedQueue<>();
+
+        private InMemoryLoadLock() {
+            super(null, "", Duration.ofSeconds(30));
+        }
+
+        @Override
+        public boolean tryAcquire(String cacheName, String key, String token) {
+            synchronized (locks) {
+                if (locks.contains(cacheName + "::" + key)) {
+                    return false;
+                }
+                return locks.add(cacheName + "::" + key);
+            }
+        }
+
+        @Override
+        public boolean isLocked(String cacheName, String key) {
+            return locks.contains(cacheName + "::" + key);
+        }
+
+        @Override
+        public void release(String cacheName, String key, String token) {
+            locks.remove(cacheName + "::" + key);
+        }
+    }
+}
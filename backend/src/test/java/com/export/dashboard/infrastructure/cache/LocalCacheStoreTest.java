@@ -0,0 +1,124 @@
+package com.export.dashboard.infrastructure.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("L1 캐시 저장소 테스트")
+class LocalCacheStoreTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final LocalCacheStore store = new LocalCacheStore(100, Duration.ofSeconds(60), clock::get);
+
+    @Test
+    @DisplayName("용량을 넘으면 가장 오래 사용되지 않은 항목부터 제거한다")
+    void evictsLeastRecentlyUsedByWeight() {
+        store.put("dashboard-summary", "2023", new SimpleValueWrapper("a"), 40);
+        clock.incrementAndGet();
+        store.put("dashboard-summary", "2024", new SimpleValueWrapper("b"), 40);
+        clock.incrementAndGet();
+        // 2023 을 최근 사용으로 갱신
+        assertThat(store.get("dashboard-summary", "2023")).isNotNull();
+        clock.incrementAndGet();
+
+        store.put("export-statistics", "2024", new SimpleValueWrapper("c"), 40);
+
+        assertThat(store.get("dashboard-summary", "2024")).isNull();
+        assertThat(store.get("dashboard-summary", "2023").get()).isEqualTo("a");
+        assertThat(store.get("export-statistics", "2024").get()).isEqualTo("c");
+        assertThat(store.weight()).isEqualTo(80);
+    }
+
+    @Test
+    @DisplayName("용량의 절반을 넘는 항목은 저장하지 않는다")
+    void skipsOversizedEntries() {
+        store.put("export-statistics", "2024", new SimpleValueWrapper("small"), 10);
+        store.put("export-statistics", "2023", new SimpleValueWrapper("huge"), 51);
+
+        assertThat(store.get("export-statistics", "2023")).isNull();
+        assertThat(store.get("export-statistics", "2024")).isNotNull();
+    }
+
+    @Test
+    @DisplayName("용량을 넘으면 용량의 90% 이하가 될 때까지 오래 사용되지 않은 순서로 제거한다")
+    void evictsDownToTargetWeight() {
+        for (int i = 0; i < 5; i++) {
+            store.put("export-statistics", String.valueOf(i), new SimpleValueWrapper(i), 20);
+            clock.incrementAndGet();
+        }
+
+        store.put("export-statistics", "5", new SimpleValueWrapper(5), 20);
+
+        assertThat(store.weight()).isEqualTo(80);
+        assertThat(store.get("export-statistics", "0")).isNull();
+        assertThat(store.get("export-statistics", "1")).isNull();
+        assertThat(store.get("export-statistics", "5")).isNotNull();
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 조회/저장해도 무게 합계는 남은 항목의 합과 같다")
+    void keepsWeightConsistentUnderConcurrency() throws Exception {
+        LocalCacheStore concurrentStore = new LocalCacheStore(1_000, Duration.ofMinutes(1));
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < 8; thread++) {
+                int offset = thread;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 2_000; i++) {
+                        String key = String.valueOf((i * 7 + offset) % 200);
+                        concurrentStore.put("export-statistics", key, new SimpleValueWrapper(key), 10);
+                        concurrentStore.get("export-statistics", key);
+                        if (i % 50 == 0) {
+                            concurrentStore.evict("export-statistics", key);
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertThat(concurrentStore.weight()).isEqualTo(concurrentStore.size() * 10L).isLessThanOrEqualTo(1_000);
+    }
+
+    @Test
+    @DisplayName("TTL 이 지난 항목은 조회 시 버린다")
+    void expiresAfterTtl() {
+        store.put("dashboard-summary", "2024", new SimpleValueWrapper("a"), 10);
+
+        clock.addAndGet(Duration.ofSeconds(59).toNanos());
+        assertThat(store.get("dashboard-summary", "2024")).isNotNull();
+
+        clock.addAndGet(Duration.ofSeconds(1).toNanos());
+        assertThat(store.get("dashboard-summary", "2024")).isNull();
+        assertThat(store.weight()).isZero();
+    }
+
+    @Test
+    @DisplayName("캐시 이름 단위로 전체 삭제한다")
+    void clearsSingleCache() {
+        store.put("dashboard-summary", "2024", new SimpleValueWrapper("a"), 10);
+        store.put("export-statistics", "2024", new SimpleValueWrapper("b"), 20);
+
+        store.clear("dashboard-summary");
+
+        assertThat(store.size()).isEqualTo(1);
+        assertThat(store.weight()).isEqualTo(20);
+        assertThat(store.get("export-statistics", "2024")).isNotNull();
+    }
+}
@@ -0,0 +1,39 @@
+package com.export.dashboard.infrastructure.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("지난 년도 캐시 TTL 테스트")
+class PastYearTtlFunctionTest {
+
+    private static final Duration CURRENT = Duration.ofMinutes(15);
+    private static final Duration PAST = Duration.ofHours(12);
+
+    private final PastYearTtlFunction ttlFunction = new PastYearTtlFunction(CURRENT, PAST,
+        Clock.fixed(Instant.parse("2025-06-01T00:00:00Z"), ZoneOffset.UTC));
+
+    @Test
+    @DisplayName("키의 마지막 년도가 올해 이전이면 긴 TTL 을 사용한다")
+    void pastYearKeysUseLongTtl() {
+        assertThat(ttlFunction.getTimeToLive(2024, "value")).isEqualTo(PAST);
+        assertThat(ttlFunction.getTimeToLive("table_2024", "value")).isEqualTo(PAST);
+        assertThat(ttlFunction.getTimeToLive("country_performance_3_2023", "value")).isEqualTo(PAST);
+        assertThat(ttlFunction.getTimeToLive("growth_2020_2024", "value")).isEqualTo(PAST);
+    }
+
+    @Test
+    @DisplayName("올해 이후이거나 년도가 없는 키는 기본 TTL 을 사용한다")
+    void otherKeysUseCurrentTtl() {
+        assertThat(ttlFunction.getTimeToLive(2025, "value")).isEqualTo(CURRENT);
+        assertThat(ttlFunction.getTimeToLive("growth_2020_2025", "value")).isEqualTo(CURRENT);
+        assertThat(ttlFunction.getTimeToLive("SimpleKey []", "value")).isEqualTo(CURRENT);
+        assertThat(ttlFunction.getTimeToLive("1_12", "value")).isEqualTo(CURRENT);
+    }
+}
@@ -0,0 +1,64 @@
+package com.export.dashboard.infrastructure.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("L1 항목 크기 추정기 테스트")
+class SerializedSizeWeigherTest {
+
+    private final AtomicInteger serializations = new AtomicInteger();
+    private final GenericJackson2JsonRedisSerializer json = new GenericJackson2JsonRedisSerializer();
+    private final SerializedSizeWeigher weigher = new SerializedSizeWeigher(new RedisSerializer<>() {
+        @Override
+        public byte[] serialize(Object value) {
+            serializations.incrementAndGet();
+            return json.serialize(value);
+        }
+
+        @Override
+        public Object deserialize(byte[] bytes) {
+            return json.deserialize(bytes);
+        }
+    });
+
+    @Test
+    @DisplayName("L2 에서 역직렬화한 값은 다시 직렬화하지 않고 읽은 바이트 길이를 크기로 사용한다")
+    void reusesLengthOfDeserializedValue() {
+        byte[] bytes = json.serialize(new ArrayList<>(List.of("USA", "CHN")));
+
+        Object value = weigher.deserialize(bytes);
+
+        assertThat(weigher.applyAsLong(value)).isEqualTo(bytes.length);
+        assertThat(serializations).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("L2 에 직렬화한 값은 쓴 바이트 길이를 크기로 사용한다")
+    void reusesLengthOfSerializedValue() {
+        List<String> value = List.of("USA");
+        byte[] bytes = weigher.serialize(value);
+
+        assertThat(weigher.applyAsLong(value)).isEqualTo(bytes.length);
+        assertThat(serializations).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("기록된 값과 다른 값은 직렬화하여 크기를 계산하고, 기록은 한 번만 사용한다")
+    void serializesWhenNotRecorded() {
+        List<String> recorded = List.of("USA");
+        weigher.serialize(recorded);
+
+        assertThat(weigher.applyAsLong(List.of("CHN", "JPN"))).isEqualTo(json.serialize(List.of("CHN", "JPN")).length);
+        assertThat(weigher.applyAsLong(recorded)).isEqualTo(json.serialize(recorded).length);
+        assertThat(serializations).hasValue(3);
+        assertThat(weigher.applyAsLong(null)).isEqualTo(1);
+    }
+}
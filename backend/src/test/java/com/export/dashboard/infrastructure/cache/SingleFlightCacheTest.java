@@ -0,0 +1,296 @@
+package com.export.dashboard.infrastructure.cache;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("단일 적재(single-flight) 캐시 테스트")
+class SingleFlightCacheTest {
+
+    private static final String KEY = "dashboard-summary::2024";
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(8);
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private ConcurrentMapCache redisCache;
+    private FakeLoadLock loadLock;
+    private SingleFlightCache cache;
+    private final FakeRefreshInvoker refreshInvoker = new FakeRefreshInvoker();
+
+    @BeforeEach
+    void setUp() {
+        redisCache = new ConcurrentMapCache("dashboard-summary");
+        loadLock = new FakeLoadLock();
+        cache = new SingleFlightCache(redisCache, loadLock, Duration.ofMillis(200), Duration.ofMillis(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("같은 키의 동시 미스는 한 번만 계산하고 모두 같은 값을 받는다")
+    void coalescesConcurrentMisses() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            results.add(executor.submit(() -> cache.get(2024, () -> {
+                release.await(5, TimeUnit.SECONDS);
+                return "summary-" + loads.incrementAndGet();
+            })));
+        }
+
+        Thread.sleep(50);
+        release.countDown();
+
+        for (Future<String> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("summary-1");
+        }
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(redisCache.get(2024).get()).isEqualTo("summary-1");
+        assertThat(loadLock.locks).isEmpty();
+    }
+
+    @Test
+    @DisplayName("다른 노드가 계산 중이면 계산하지 않고 캐시에 채워진 값을 기다린다")
+    void waitsForOtherNode() throws Exception {
+        loadLock.locks.put(KEY, "other-node");
+        executor.submit(() -> {
+            Thread.sleep(20);
+            redisCache.put(2024, "from-other-node");
+            loadLock.locks.remove(KEY);
+            return null;
+        });
+
+        assertThat(cache.get(2024, this::load)).isEqualTo("from-other-node");
+        assertThat(loads.get()).isZero();
+    }
+
+    @Test
+    @DisplayName("다른 노드가 값을 채우지 못하고 잠금을 풀면 직접 계산한다")
+    void loadsAfterOtherNodeFails() throws Exception {
+        loadLock.locks.put(KEY, "other-node");
+        executor.submit(() -> {
+            Thread.sleep(20);
+            loadLock.locks.remove(KEY);
+            return null;
+        });
+
+        assertThat(cache.get(2024, this::load)).isEqualTo("loaded-1");
+        assertThat(loadLock.acquired.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("대기 시간을 넘기거나 Redis 잠금을 쓸 수 없으면 직접 계산한다")
+    void fallsBackToLocalLoad() {
+        loadLock.locks.put(KEY, "other-node");
+        assertThat(cache.get(2024, this::load)).isEqualTo("loaded-1");
+
+        redisCache.clear();
+        loadLock.unavailable = true;
+        assertThat(cache.get(2024, this::load)).isEqualTo("loaded-2");
+    }
+
+    @Test
+    @DisplayName("계산 실패는 ValueRetrievalException 으로 전달하고 다음 요청은 다시 계산한다")
+    void propagatesLoaderFailure() {
+        assertThatThrownBy(() -> cache.get(2024, () -> {
+            throw new IllegalStateException("db down");
+        }))
+            .isInstanceOf(Cache.ValueRetrievalException.class)
+            .hasRootCauseMessage("db down");
+        assertThat(loadLock.locks).isEmpty();
+
+        assertThat(cache.get(2024, this::load)).isEqualTo("loaded-1");
+    }
+
+    @Test
+    @DisplayName("soft TTL 이 지난 값은 바로 반환하고 백그라운드에서 한 번만 갱신한다")
+    void servesStaleValueWhileRefreshing() {
+        FakeRefreshAhead refreshAhead = new FakeRefreshAhead();
+        cache = new SingleFlightCache(redisCache, loadLock, Duration.ofMillis(200), Duration.ofMillis(1),
+            refreshAhead, refreshInvoker);
+        redisCache.put(2024, "stale");
+        refreshAhead.due = true;
+
+        assertThat(cache.get(2024, this::load)).isEqualTo("stale");
+        assertThat(cache.get(2024, this::load)).isEqualTo("stale");
+        assertThat(refreshAhead.pending).hasSize(1);
+
+        refreshAhead.runPending();
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(cache.get(2024, this::load)).isEqualTo("loaded-1");
+        assertThat(loadLock.locks).isEmpty();
+    }
+
+    @Test
+    @DisplayName("갱신 시점이 아니거나 다른 노드가 갱신 중이면 다시 계산하지 않는다")
+    void skipsRefreshWhenNotDueOrLocked() {
+        FakeRefreshAhead refreshAhead = new FakeRefreshAhead();
+        cache = new SingleFlightCache(redisCache, loadLock, Duration.ofMillis(200), Duration.ofMillis(1),
+            refreshAhead, refreshInvoker);
+        redisCache.put(2024, "fresh");
+
+        assertThat(cache.get(2024, this::load)).isEqualTo("fresh");
+        assertThat(refreshAhead.pending).isEmpty();
+
+        refreshAhead.due = true;
+        loadLock.locks.put(KEY, "other-node");
+        assertThat(cache.get(2024, this::load)).isEqualTo("fresh");
+        refreshAhead.runPending();
+        assertThat(loads.get()).isZero();
+        assertThat(redisCache.get(2024).get()).isEqualTo("fresh");
+    }
+
+    @Test
+    @DisplayName("백그라운드 갱신이 실패하면 이전 값을 계속 반환한다")
+    void keepsStaleValueWhenRefreshFails() {
+        FakeRefreshAhead refreshAhead = new FakeRefreshAhead();
+        cache = new SingleFlightCache(redisCache, loadLock, Duration.ofMillis(200), Duration.ofMillis(1),
+            refreshAhead, refreshInvoker);
+        redisCache.put(2024, "stale");
+        refreshAhead.due = true;
+
+        refreshInvoker.loader = () -> {
+            throw new IllegalStateException("db down");
+        };
+
+        assertThat(cache.get(2024, this::load)).isEqualTo("stale");
+        refreshAhead.runPending();
+
+        assertThat(cache.get(2024, this::load)).isEqualTo("stale");
+        assertThat(loadLock.locks).isEmpty();
+    }
+
+    @Test
+    @DisplayName("서비스 프록시 호출이 기록되지 않은 조회는 백그라운드에서 갱신하지 않는다")
+    void skipsRefreshWithoutRecordedInvocation() {
+        FakeRefreshAhead refreshAhead = new FakeRefreshAhead();
+        cache = new SingleFlightCache(redisCache, loadLock, Duration.ofMillis(200), Duration.ofMillis(1),
+            refreshAhead, refreshInvoker);
+        redisCache.put(2024, "stale");
+        refreshAhead.due = true;
+        refreshInvoker.recorded = false;
+
+        assertThat(cache.get(2024, this::load)).isEqualTo("stale");
+        assertThat(refreshAhead.pending).isEmpty();
+        assertThat(loads.get()).isZero();
+    }
+
+    private String load() {
+        return "loaded-" + loads.incrementAndGet();
+    }
+
+    /**
+     * 서비스 프록시 재호출 대신 같은 캐시의 get(key, loader) 를 갱신 중 상태로 호출
+     * (@Cacheable(sync = true) 프록시 재호출과 같은 경로)
+     */
+    private final class FakeRefreshInvoker extends CacheRefreshInvoker {
+
+        private volatile Callable<String> loader = SingleFlightCacheTest.this::load;
+        private volatile boolean recorded = true;
+
+        private FakeRefreshInvoker() {
+            super(mock(PlatformTransactionManager.class));
+        }
+
+        @Override
+        public Runnable recomputation(String cacheName, Object key) {
+            if (!recorded) {
+                return null;
+            }
+            Callable<String> refreshLoader = loader;
+            return () -> CacheRefreshInvoker.refreshing(cacheName, key, () -> cache.get(key, refreshLoader));
+        }
+    }
+
+    /**
+     * 갱신 필요 여부를 테스트에서 지정하고, 제출된 갱신은 runPending 으로 실행
+     */
+    private static final class FakeRefreshAhead extends CacheRefreshAhead {
+
+        private final Queue<Runnable> pending = new ConcurrentLinkedQueue<>();
+        private volatile boolean due;
+
+        private FakeRefreshAhead() {
+            super(null, Duration.ofHours(1), Duration.ofMinutes(2), Runnable::run);
+        }
+
+        @Override
+        public boolean needsRefresh(String cacheName, String key) {
+            return due;
+        }
+
+        @Override
+        public boolean submit(Runnable refresh) {
+            return pending.add(refresh);
+        }
+
+        private void runPending() {
+            Runnable refresh;
+            while ((refresh = pending.poll()) != null) {
+                refresh.run();
+            }
+        }
+    }
+
+    /**
+     * 메모리 기반 잠금 (다른 노드의 잠금은 테스트에서 직접 넣고 뺌)
+     */
+    private static final class FakeLoadLock extends RedisLoadLock {
+
+        private final Map<String, String> locks = new ConcurrentHashMap<>();
+        private final AtomicInteger acquired = new AtomicInteger();
+        private volatile boolean unavailable;
+
+        private FakeLoadLock() {
+            super(null, "", Duration.ofSeconds(30));
+        }
+
+        @Override
+        public boolean tryAcquire(String cacheName, String key, String token) {
+            if (unavailable) {
+                throw new RedisConnectionFailureException("redis down");
+            }
+            boolean result = locks.putIfAbsent(cacheName + "::" + key, token) == null;
+            if (result) {
+                acquired.incrementAndGet();
+            }
+            return result;
+        }
+
+        @Override
+        public boolean isLocked(String cacheName, String key) {
+            return locks.containsKey(cacheName + "::" + key);
+        }
+
+        @Override
+        public void release(String cacheName, String key, String token) {
+            locks.remove(cacheName + "::" + key, token);
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.export.dashboard.infrastructure.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("2단계(L1 + Redis) 캐시 테스트")
+class TwoLevelCacheTest {
+
+    private static final String CHANNEL = "cache-invalidation";
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    private ConcurrentMapCache redisCache;
+    private LocalCacheStore localCacheStore;
+    private CacheInvalidationBus invalidationBus;
+    private TwoLevelCache cache;
+
+    @BeforeEach
+    void setUp() {
+        redisCache = spy(new ConcurrentMapCache("dashboard-summary"));
+        localCacheStore = new LocalCacheStore(1_000, Duration.ofMinutes(1));
+        invalidationBus = new CacheInvalidationBus(redisTemplate, CHANNEL, localCacheStore);
+        cache = new TwoLevelCache(redisCache, localCacheStore, invalidationBus, value -> 10);
+    }
+
+    @Test
+    @DisplayName("L2 에서 읽은 값은 L1 에 채워 다음 조회부터 Redis 를 거치지 않는다")
+    void fillsLocalCacheFromRedis() {
+        redisCache.put(2024, "summary");
+
+        assertThat(cache.get(2024).get()).isEqualTo("summary");
+        assertThat(cache.get(2024).get()).isEqualTo("summary");
+        assertThat(cache.get(2024, String.class)).isEqualTo("summary");
+
+        verify(redisCache, times(1)).get(2024);
+    }
+
+    @Test
+    @DisplayName("값 로더는 L1/L2 모두 없을 때만 실행한다")
+    void loadsOnlyOnMiss() {
+        AtomicInteger loads = new AtomicInteger();
+
+        assertThat(cache.get(2024, () -> "summary-" + loads.incrementAndGet())).isEqualTo("summary-1");
+        assertThat(cache.get(2024, () -> "summary-" + loads.incrementAndGet())).isEqualTo("summary-1");
+
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(redisCache.get(2024).get()).isEqualTo("summary-1");
+    }
+
+    @Test
+    @DisplayName("갱신/삭제는 L2 와 로컬 L1 에 반영하고 다른 노드에 무효화를 전파한다")
+    void putAndEvictPublishInvalidation() {
+        cache.put(2024, "summary");
+        assertThat(localCacheStore.get("dashboard-summary", "2024").get()).isEqualTo("summary");
+
+        cache.evict(2024);
+        assertThat(localCacheStore.get("dashboard-summary", "2024")).isNull();
+        assertThat(redisCache.get(2024)).isNull();
+
+        cache.clear();
+
+        verify(redisTemplate, times(2)).convertAndSend(eq(CHANNEL), endsWith("\ndashboard-summary\n2024"));
+        verify(redisTemplate).convertAndSend(eq(CHANNEL), endsWith("\ndashboard-summary"));
+    }
+
+    @Test
+    @DisplayName("다른 노드의 무효화 메시지는 로컬 L1 만 지우고 자신이 보낸 메시지는 무시한다")
+    void appliesRemoteInvalidation() {
+        cache.put(2024, "summary");
+        cache.put(2023, "previous");
+
+        invalidationBus.onMessage(message("other-node\ndashboard-summary\n2024"), null);
+        assertThat(localCacheStore.get("dashboard-summary", "2024")).isNull();
+        assertThat(localCacheStore.get("dashboard-summary", "2023")).isNotNull();
+        // Redis 값은 유지되어 다음 조회에서 다시 L1 에 채워짐
+        assertThat(cache.get(2024).get()).isEqualTo("summary");
+
+        invalidationBus.onMessage(message("other-node\ndashboard-summary"), null);
+        assertThat(localCacheStore.size()).isZero();
+    }
+
+    private static DefaultMessage message(String body) {
+        return new DefaultMessage(CHANNEL.getBytes(StandardCharsets.UTF_8), body.getBytes(StandardCharsets.UTF_8));
+    }
+}
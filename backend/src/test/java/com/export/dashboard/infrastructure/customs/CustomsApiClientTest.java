@@ -0,0 +1,170 @@
+package com.export.dashboard.infrastructure.customs;
+
+import com.export.dashboard.domain.model.ExportPeriod;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("관세청 API 클라이언트 테스트 (스트리밍 파싱, 응답 캐시)")
+class CustomsApiClientTest {
+
+    private static final String OK_RESPONSE = "<?xml version=\"1.0\" encoding=\"UTF-8\"?><response>"
+        + "<header><resultCode>00</resultCode><resultMsg>NORMAL SERVICE.</resultMsg></header>"
+        + "<body><items>"
+        + "<item><balPayments>500</balPayments><expDlr>1,200</expDlr><expWgt>30.5</expWgt><hsCode>854231</hsCode>"
+        + "<impDlr>700</impDlr><impWgt>10</impWgt><statKor>프로세서와 컨트롤러</statKor><year>2022.01</year></item>"
+        + "<item><balPayments>0</balPayments><expDlr>1300</expDlr><expWgt></expWgt><hsCode>854231</hsCode>"
+        + "<impDlr>0</impDlr><impWgt>0</impWgt><statKor>프로세서와 컨트롤러</statKor><year>202202</year></item>"
+        + "<item><expDlr>2500</expDlr><hsCode>-</hsCode><year>총계</year></item>"
+        + "</items></body></response>";
+
+    private static final String LIMIT_EXCEEDED_RESPONSE = "<OpenAPI_ServiceResponse><cmmMsgHeader>"
+        + "<returnReasonCode>22</returnReasonCode><returnAuthMsg>LIMITED_NUMBER_OF_SERVICE_REQUESTS_EXCEEDS_ERROR</returnAuthMsg>"
+        + "</cmmMsgHeader></OpenAPI_ServiceResponse>";
+
+    @TempDir
+    Path cacheDirectory;
+
+    private HttpServer server;
+    private final AtomicInteger calls = new AtomicInteger();
+    private volatile String responseBody = OK_RESPONSE;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/getItemtradeList", this::handle);
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("수출 필드만 추출하고 합계 행은 제외")
+    void fetch_ParsesExportFields() {
+        List<CustomsTradeItem> items = client(new CustomsResponseCache("", 3), false)
+            .fetch("854231", YearMonth.of(2022, 1), YearMonth.of(2022, 2));
+
+        assertThat(items).containsExactly(
+            new CustomsTradeItem("854231", ExportPeriod.of(2022, 1), new BigDecimal("1200"), new BigDecimal("30.5")),
+            new CustomsTradeItem("854231", ExportPeriod.of(2022, 2), new BigDecimal("1300"), BigDecimal.ZERO)
+        );
+    }
+
+    @Test
+    @DisplayName("호출 한도 초과 응답은 재시도 대상 예외")
+    void fetch_LimitExceeded_ThrowsRetryableException() {
+        responseBody = LIMIT_EXCEEDED_RESPONSE;
+
+        assertThatThrownBy(() -> client(new CustomsResponseCache("", 3), false)
+            .fetch("854231", YearMonth.of(2022, 1), YearMonth.of(2022, 2)))
+            .isInstanceOfSatisfying(CustomsApiException.class, e -> assertThat(e.isRetryable()).isTrue());
+    }
+
+    @Test
+    @DisplayName("확정된 과거 구간 응답은 캐시에서 API 호출 없이 재생")
+    void fetchCached_ReplaysStoredResponse() {
+        CustomsApiClient client = client(cache(), false);
+        List<CustomsTradeItem> fetched = client.fetch("854231", YearMonth.of(2022, 1), YearMonth.of(2022, 2));
+
+        assertThat(client.fetchCached("854231", YearMonth.of(2022, 1), YearMonth.of(2022, 2))).hasValue(fetched);
+        assertThat(client.fetchCached("854231", YearMonth.of(2022, 1), YearMonth.of(2022, 3))).isEmpty();
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("같은 내용의 응답은 하나의 압축 객체로 저장")
+    void fetch_DeduplicatesIdenticalResponses() throws IOException {
+        CustomsApiClient client = client(cache(), false);
+        client.fetch("854231", YearMonth.of(2022, 1), YearMonth.of(2022, 2));
+        client.fetch("854232", YearMonth.of(2022, 1), YearMonth.of(2022, 2));
+
+        try (Stream<Path> objects = Files.walk(cacheDirectory.resolve("objects"))) {
+            assertThat(objects.filter(Files::isRegularFile))
+                .singleElement()
+                .satisfies(object -> assertThat(object.getFileName().toString()).endsWith(".xml.gz"));
+        }
+        assertThat(client.fetchCached("854232", YearMonth.of(2022, 1), YearMonth.of(2022, 2))).isPresent();
+    }
+
+    @Test
+    @DisplayName("최근 구간과 오류 응답은 캐시하지 않음")
+    void fetch_DoesNotCacheRecentOrErrorResponses() {
+        CustomsApiClient client = client(cache(), false);
+        YearMonth current = YearMonth.now();
+        client.fetch("854231", current.minusMonths(1), current);
+
+        responseBody = LIMIT_EXCEEDED_RESPONSE;
+        assertThatThrownBy(() -> client.fetch("854231", YearMonth.of(2021, 1), YearMonth.of(2021, 12)))
+            .isInstanceOf(CustomsApiException.class);
+
+        assertThat(client.fetchCached("854231", current.minusMonths(1), current)).isEmpty();
+        assertThat(client.fetchCached("854231", YearMonth.of(2021, 1), YearMonth.of(2021, 12))).isEmpty();
+        assertThat(cacheDirectory.resolve("tmp")).isEmptyDirectory();
+    }
+
+    @Test
+    @DisplayName("손상된 캐시 항목은 제거 후 empty")
+    void fetchCached_CorruptedEntry_Evicts() throws IOException {
+        CustomsApiClient client = client(cache(), false);
+        client.fetch("854231", YearMonth.of(2022, 1), YearMonth.of(2022, 2));
+        try (Stream<Path> objects = Files.walk(cacheDirectory.resolve("objects"))) {
+            for (Path object : objects.filter(Files::isRegularFile).toList()) {
+                Files.writeString(object, "not gzip");
+            }
+        }
+
+        assertThat(client.fetchCached("854231", YearMonth.of(2022, 1), YearMonth.of(2022, 2))).isEmpty();
+        assertThat(cacheDirectory.resolve("refs").resolve("854231").resolve("202201-202202")).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("재생 전용 모드에서 캐시에 없는 요청은 API 를 호출하지 않고 실패")
+    void fetch_ReplayOnly_DoesNotCallApi() {
+        CustomsApiClient client = client(cache(), true);
+
+        assertThatThrownBy(() -> client.fetch("854231", YearMonth.of(2022, 1), YearMonth.of(2022, 2)))
+            .isInstanceOfSatisfying(CustomsApiException.class, e -> assertThat(e.isRetryable()).isFalse());
+        assertThat(calls).hasValue(0);
+    }
+
+    private CustomsResponseCache cache() {
+        return new CustomsResponseCache(cacheDirectory.toString(), 3);
+    }
+
+    private CustomsApiClient client(CustomsResponseCache cache, boolean replayOnly) {
+        return new CustomsApiClient(cache, "http://127.0.0.1:" + server.getAddress().getPort() + "/getItemtradeList",
+            "test-key", Duration.ofSeconds(2), Duration.ofSeconds(5), replayOnly);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        calls.incrementAndGet();
+        byte[] bytes = responseBody.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/xml; charset=UTF-8");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream output = exchange.getResponseBody()) {
+            output.write(bytes);
+        }
+    }
+}
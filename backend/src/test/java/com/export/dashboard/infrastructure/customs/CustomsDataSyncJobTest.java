@@ -0,0 +1,167 @@
+package com.export.dashboard.infrastructure.customs;
+
+import com.export.dashboard.domain.event.ExportStatisticsReloaded;
+import com.export.dashboard.domain.model.CountryCode;
+import com.export.dashboard.domain.model.ExportPeriod;
+import com.export.dashboard.domain.model.HsCode;
+import com.export.dashboard.domain.repository.CountryRepository;
+import com.export.dashboard.domain.service.ExportStatisticDomainService;
+import com.export.dashboard.infrastructure.analytics.HsCodeTrie;
+import com.export.dashboard.infrastructure.analytics.HsCodeTrieProvider;
+import com.export.dashboard.infrastructure.customs.CustomsDataSyncJob.SyncResult;
+import com.export.dashboard.infrastructure.customs.CustomsTradeFetcher.FetchFailure;
+import com.export.dashboard.infrastructure.customs.CustomsTradeFetcher.FetchReport;
+import com.export.dashboard.infrastructure.customs.CustomsTradeFetcher.FetchRequest;
+import com.export.dashboard.infrastructure.outbox.DomainEventOutbox;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("관세청 동기화 작업 체크포인트 테스트")
+class CustomsDataSyncJobTest {
+
+    private static final String HS_CODE = "870323";
+    private static final FetchRequest WINDOW_2023 =
+        new FetchRequest(HS_CODE, YearMonth.of(2023, 1), YearMonth.of(2023, 12));
+    private static final FetchRequest WINDOW_2024 =
+        new FetchRequest(HS_CODE, YearMonth.of(2024, 1), YearMonth.of(2024, 12));
+
+    @Mock
+    private CustomsTradeFetcher customsTradeFetcher;
+
+    @Mock
+    private CustomsExportStatisticWriter customsExportStatisticWriter;
+
+    @Mock
+    private CustomsSyncCheckpointStore customsSyncCheckpointStore;
+
+    @Mock
+    private CustomsPartitionLock customsPartitionLock;
+
+    @Mock
+    private HsCodeTrieProvider hsCodeTrieProvider;
+
+    @Mock
+    private CountryRepository countryRepository;
+
+    @Mock
+    private ExportStatisticDomainService exportStatisticDomainService;
+
+    @Mock
+    private DomainEventOutbox domainEventOutbox;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private CustomsDataSyncJob job;
+
+    @BeforeEach
+    void setUp() {
+        when(hsCodeTrieProvider.current()).thenReturn(
+            HsCodeTrie.builder().add(1L, HsCode.of(HS_CODE, 3), "승용차", "Passenger cars").build());
+        when(countryRepository.existsByCountryCode(any(CountryCode.class))).thenReturn(true);
+        CustomsPartitionLock.Claim claim = mock(CustomsPartitionLock.Claim.class);
+        when(customsPartitionLock.tryClaim("87")).thenReturn(Optional.of(claim));
+        when(customsExportStatisticWriter.write(any())).thenAnswer(invocation -> invocation.<List<?>>getArgument(0).size());
+
+        // 청크 크기 1: 수집 결과마다 저장하고 체크포인트를 전진
+        job = new CustomsDataSyncJob(customsTradeFetcher, customsExportStatisticWriter, customsSyncCheckpointStore,
+            customsPartitionLock, hsCodeTrieProvider, countryRepository, exportStatisticDomainService,
+            new TransactionTemplate(transactionManager), domainEventOutbox, Set.of(), 12, 1);
+    }
+
+    @Test
+    @DisplayName("뒤 구간이 먼저 저장되면 앞 구간이 저장될 때 두 구간을 합쳐 체크포인트를 전진한다")
+    void advancesCheckpointOnlyOverContiguousWindows() {
+        when(customsSyncCheckpointStore.findAll()).thenReturn(Map.of());
+        whenFetched(WINDOW_2024, WINDOW_2023);
+
+        SyncResult result = job.sync(YearMonth.of(2023, 1), YearMonth.of(2024, 12));
+
+        InOrder inOrder = inOrder(customsSyncCheckpointStore);
+        inOrder.verify(customsSyncCheckpointStore).advance(Map.of());
+        inOrder.verify(customsSyncCheckpointStore).advance(Map.of(HS_CODE, YearMonth.of(2024, 12)));
+        assertThat(result.writtenRows()).isEqualTo(2);
+        assertThat(result.advancedCheckpoints()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("중간 구간이 실패하면 이어진 구간까지만 전진하고, 다음 실행은 체크포인트 다음 달부터 다시 요청한다")
+    void resumesFromCheckpointAfterFailedWindow() {
+        when(customsSyncCheckpointStore.findAll()).thenReturn(Map.of(HS_CODE, YearMonth.of(2022, 12)));
+        whenFetched(WINDOW_2023);
+
+        SyncResult first = job.sync(YearMonth.of(2023, 1), YearMonth.of(2024, 12));
+
+        verify(customsSyncCheckpointStore).advance(Map.of(HS_CODE, YearMonth.of(2023, 12)));
+        assertThat(first.failures()).extracting(FetchFailure::request).containsExactly(WINDOW_2024);
+
+        // 저장된 체크포인트 이후 누락 구간만 요청
+        when(customsSyncCheckpointStore.findAll()).thenReturn(Map.of(HS_CODE, YearMonth.of(2023, 12)));
+        whenFetched(WINDOW_2024);
+
+        job.syncMissing(YearMonth.of(2024, 12));
+
+        verify(customsTradeFetcher).fetchAll(eq(List.of(WINDOW_2024)), any());
+        verify(customsSyncCheckpointStore).advance(Map.of(HS_CODE, YearMonth.of(2024, 12)));
+    }
+
+    @Test
+    @DisplayName("저장한 년도와 다음 년도의 파생 컬럼만 재계산한다 (WLD 행은 집계 테이블과 큐브에 포함되지 않음)")
+    void recalculatesOnlyAffectedYears() {
+        when(customsSyncCheckpointStore.findAll()).thenReturn(Map.of());
+        whenFetched(WINDOW_2023, WINDOW_2024);
+
+        job.sync(YearMonth.of(2023, 1), YearMonth.of(2024, 12));
+
+        verify(customsPartitionLock).lockRecalculation();
+        verify(exportStatisticDomainService).recalculateGrowthRatesAndMarketShares(2023, 2025);
+        verify(domainEventOutbox).append(any(ExportStatisticsReloaded.class));
+    }
+
+    /**
+     * 주어진 구간만 순서대로 성공시키고 나머지 요청은 실패로 보고
+     */
+    private void whenFetched(FetchRequest... succeeded) {
+        doAnswer(invocation -> {
+            List<FetchRequest> requests = invocation.getArgument(0);
+            BiConsumer<FetchRequest, List<CustomsTradeItem>> consumer = invocation.getArgument(1);
+            List<FetchRequest> delivered = List.of(succeeded);
+            for (FetchRequest request : delivered) {
+                if (requests.contains(request)) {
+                    consumer.accept(request, List.of(item(request.from())));
+                }
+            }
+            List<FetchFailure> failures = requests.stream()
+                .filter(request -> !delivered.contains(request))
+                .map(request -> new FetchFailure(request, "HTTP 500"))
+                .toList();
+            return new FetchReport(requests.size(), requests.size() - failures.size(), 0,
+                requests.size() - failures.size(), failures);
+        }).when(customsTradeFetcher).fetchAll(any(), any());
+    }
+
+    private static CustomsTradeItem item(YearMonth period) {
+        return new CustomsTradeItem(HS_CODE, ExportPeriod.of(period.getYear(), period.getMonthValue()),
+            new BigDecimal("1000"), new BigDecimal("10"));
+    }
+}
@@ -0,0 +1,353 @@
+package com.export.dashboard.infrastructure.customs;
+
+import com.export.dashboard.domain.model.ExportPeriod;
+import com.export.dashboard.infrastructure.customs.CustomsTradeFetcher.FetchReport;
+import com.export.dashboard.infrastructure.customs.CustomsTradeFetcher.FetchRequest;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@DisplayName("관세청 API 병렬 수집기 테스트 (로컬 스텁 서버)")
+class CustomsTradeFetcherTest {
+
+    private static final DateTimeFormatter YEAR_MONTH = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private HttpServer server;
+    private final Map<String, AtomicInteger> callsByHsCode = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<String> queries = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+
+    // HS 코드별 응답: 첫 failuresBeforeSuccess 번은 status 로 실패
+    private final Map<String, Integer> failuresBeforeSuccess = new HashMap<>();
+    private final Map<String, Integer> failureStatus = new HashMap<>();
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/getItemtradeList", this::handle);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Test
+    @DisplayName("기간을 HS 코드별 최대 12개월 구간으로 분할")
+    void plan_SplitsIntoYearWindows() {
+        List<FetchRequest> requests = CustomsTradeFetcher.plan(
+            List.of("854231", "847130"), YearMonth.of(2022, 3), YearMonth.of(2023, 6));
+
+        assertThat(requests).containsExactly(
+            new FetchRequest("854231", YearMonth.of(2022, 3), YearMonth.of(2023, 2)),
+            new FetchRequest("854231", YearMonth.of(2023, 3), YearMonth.of(2023, 6)),
+            new FetchRequest("847130", YearMonth.of(2022, 3), YearMonth.of(2023, 2)),
+            new FetchRequest("847130", YearMonth.of(2023, 3), YearMonth.of(2023, 6))
+        );
+    }
+
+    @Test
+    @DisplayName("HS 코드별 누락 구간만 최소 요청으로 병합하고 최신 HS 코드는 제외")
+    void plan_CoalescesMissingMonthsPerHsCode() {
+        Map<String, YearMonth> fromByHsCode = new LinkedHashMap<>();
+        fromByHsCode.put("854231", YearMonth.of(2024, 5));
+        fromByHsCode.put("847130", YearMonth.of(2022, 11));
+        fromByHsCode.put("852852", YearMonth.of(2024, 7));
+
+        List<FetchRequest> requests = CustomsTradeFetcher.plan(fromByHsCode, YearMonth.of(2024, 6));
+
+        assertThat(requests).containsExactly(
+            new FetchRequest("854231", YearMonth.of(2024, 5), YearMonth.of(2024, 6)),
+            new FetchRequest("847130", YearMonth.of(2022, 11), YearMonth.of(2023, 10)),
+            new FetchRequest("847130", YearMonth.of(2023, 11), YearMonth.of(2024, 6))
+        );
+    }
+
+    @Test
+    @DisplayName("시작 년월이 종료 년월보다 늦으면 예외")
+    void plan_InvalidRange_ThrowsException() {
+        assertThatThrownBy(() -> CustomsTradeFetcher.plan(List.of("854231"), YearMonth.of(2024, 2), YearMonth.of(2024, 1)))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("여러 HS 코드를 동시에 수집하고 합계 행은 제외")
+    void fetchAll_FetchesConcurrently() {
+        List<String> hsCodes = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            hsCodes.add(String.format("8542%02d", i));
+        }
+        List<CustomsTradeItem> received = Collections.synchronizedList(new ArrayList<>());
+
+        FetchReport report = fetcher(4).fetchAll(
+            CustomsTradeFetcher.plan(hsCodes, YearMonth.of(2024, 1), YearMonth.of(2024, 3)),
+            (request, items) -> received.addAll(items));
+
+        assertThat(report.requests()).isEqualTo(20);
+        assertThat(report.succeededRequests()).isEqualTo(20);
+        assertThat(report.failures()).isEmpty();
+        assertThat(report.items()).isEqualTo(60);
+        assertThat(received).hasSize(60);
+        assertThat(received).contains(new CustomsTradeItem(
+            "854200", ExportPeriod.of(2024, 2), new BigDecimal("1002000"), new BigDecimal("2500.5")));
+        assertThat(maxInFlight.get()).isGreaterThan(1).isLessThanOrEqualTo(4);
+        assertThat(queries).allSatisfy(query -> assertThat(query)
+            .contains("serviceKey=test-key", "strtYymm=202401", "endYymm=202403"));
+    }
+
+    @Test
+    @DisplayName("일시 오류(503)는 백오프 후 재시도")
+    void fetchAll_RetriesTransientErrors() {
+        failuresBeforeSuccess.put("854231", 2);
+        failureStatus.put("854231", 503);
+
+        FetchReport report = fetcher(2).fetchAll(
+            CustomsTradeFetcher.plan(List.of("854231"), YearMonth.of(2024, 1), YearMonth.of(2024, 1)),
+            (request, items) -> { });
+
+        assertThat(report.failures()).isEmpty();
+        assertThat(report.items()).isEqualTo(1);
+        assertThat(callsByHsCode.get("854231")).hasValue(3);
+    }
+
+    @Test
+    @DisplayName("요청 오류(400)는 재시도하지 않고 실패로 보고")
+    void fetchAll_DoesNotRetryClientErrors() {
+        failuresBeforeSuccess.put("999999", Integer.MAX_VALUE);
+        failureStatus.put("999999", 400);
+
+        FetchReport report = fetcher(2).fetchAll(CustomsTradeFetcher.plan(List.of("999999", "854231"),
+            YearMonth.of(2024, 1), YearMonth.of(2024, 1)), (request, items) -> { });
+
+        assertThat(report.succeededRequests()).isEqualTo(1);
+        assertThat(report.failures()).singleElement()
+            .satisfies(failure -> assertThat(failure.request().hsCode()).isEqualTo("999999"));
+        assertThat(callsByHsCode.get("999999")).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("재시도 한도를 넘으면 실패로 보고")
+    void fetchAll_GivesUpAfterMaxAttempts() {
+        failuresBeforeSuccess.put("854231", Integer.MAX_VALUE);
+        failureStatus.put("854231", 500);
+
+        FetchReport report = fetcher(1).fetchAll(
+            CustomsTradeFetcher.plan(List.of("854231"), YearMonth.of(2024, 1), YearMonth.of(2024, 1)),
+            (request, items) -> { });
+
+        assertThat(report.failures()).hasSize(1);
+        assertThat(callsByHsCode.get("854231")).hasValue(3);
+    }
+
+    @Test
+    @DisplayName("서킷이 열리면 이후 요청은 API 를 호출하지 않음")
+    void fetchAll_OpenCircuitShortCircuitsRequests() {
+        failuresBeforeSuccess.put("854231", Integer.MAX_VALUE);
+        failureStatus.put("854231", 503);
+        CircuitBreaker circuitBreaker = new CircuitBreaker(50, 4, 2, Duration.ofMinutes(1));
+        CustomsTradeFetcher fetcher = new CustomsTradeFetcher(client(), new TokenBucketRateLimiter(1000, 100),
+            circuitBreaker, new ExponentialBackoff(Duration.ofMillis(1), Duration.ofMillis(2), 3), 1);
+
+        FetchReport report = fetcher.fetchAll(
+            CustomsTradeFetcher.plan(List.of("854231", "847130"), YearMonth.of(2024, 1), YearMonth.of(2024, 1)),
+            (request, items) -> { });
+
+        assertThat(report.failures()).hasSize(2);
+        assertThat(circuitBreaker.state()).isEqualTo(CircuitBreaker.State.OPEN);
+        assertThat(callsByHsCode.get("854231")).hasValue(2);
+        assertThat(callsByHsCode).doesNotContainKey("847130");
+    }
+
+    @Test
+    @DisplayName("서킷 시험 호출이 예상하지 못한 예외로 끝나도 다음 요청이 다시 시험 호출한다")
+    void fetchAll_ReleasesProbeOnUnexpectedException() throws InterruptedException {
+        CircuitBreaker circuitBreaker = halfOpenCircuitBreaker();
+        CustomsApiClient client = mock(CustomsApiClient.class);
+        when(client.fetchCached(any(), any(), any())).thenReturn(Optional.empty());
+        when(client.fetch(any(), any(), any()))
+            .thenThrow(new IllegalStateException("응답 해석 오류"))
+            .thenReturn(List.of());
+        CustomsTradeFetcher fetcher = new CustomsTradeFetcher(client, new TokenBucketRateLimiter(1000, 100),
+            circuitBreaker, new ExponentialBackoff(Duration.ofMillis(1), Duration.ofMillis(2), 3), 1);
+        List<FetchRequest> requests =
+            CustomsTradeFetcher.plan(List.of("854231"), YearMonth.of(2024, 1), YearMonth.of(2024, 1));
+
+        assertThatThrownBy(() -> fetcher.fetchAll(requests, (request, items) -> { }))
+            .isInstanceOf(IllegalStateException.class);
+        assertThat(circuitBreaker.state()).isEqualTo(CircuitBreaker.State.HALF_OPEN);
+
+        FetchReport report = fetcher.fetchAll(requests, (request, items) -> { });
+
+        assertThat(report.failures()).isEmpty();
+        assertThat(circuitBreaker.state()).isEqualTo(CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    @DisplayName("서킷 시험 호출이 호출 제한 대기 중 중단되면 허가를 반납한다")
+    void fetchAll_ReleasesProbeWhenInterruptedWhileThrottled() throws InterruptedException {
+        CircuitBreaker circuitBreaker = halfOpenCircuitBreaker();
+        TokenBucketRateLimiter rateLimiter = new TokenBucketRateLimiter(0.01, 1);
+        rateLimiter.acquire();
+        CustomsApiClient client = mock(CustomsApiClient.class);
+        when(client.fetchCached(any(), any(), any())).thenReturn(Optional.empty());
+        CustomsTradeFetcher fetcher = new CustomsTradeFetcher(client, rateLimiter, circuitBreaker,
+            new ExponentialBackoff(Duration.ofMillis(1), Duration.ofMillis(2), 3), 1);
+
+        Thread caller = new Thread(() -> {
+            try {
+                fetcher.fetchAll(CustomsTradeFetcher.plan(List.of("854231"), YearMonth.of(2024, 1), YearMonth.of(2024, 1)),
+                    (request, items) -> { });
+            } catch (IllegalStateException e) {
+                // 호출 스레드 중단으로 수집 종료
+            }
+        });
+        caller.start();
+        Thread.sleep(100);
+        caller.interrupt();
+        caller.join(2_000);
+
+        // 작업 스레드는 shutdownNow 로 중단된 뒤 비동기로 허가를 반납
+        long deadline = System.nanoTime() + Duration.ofSeconds(2).toNanos();
+        while (true) {
+            try {
+                circuitBreaker.acquirePermission();
+                break;
+            } catch (CircuitBreakerOpenException e) {
+                if (System.nanoTime() > deadline) {
+                    fail("HALF_OPEN 시험 호출 허가가 반납되지 않았습니다.");
+                }
+                Thread.sleep(10);
+            }
+        }
+        verify(client, never()).fetch(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("호출 제한기는 초당 호출 수를 넘지 않도록 대기")
+    void rateLimiter_ThrottlesBeyondBurst() throws InterruptedException {
+        TokenBucketRateLimiter rateLimiter = new TokenBucketRateLimiter(50, 5);
+
+        long startedAt = System.nanoTime();
+        for (int i = 0; i < 15; i++) {
+            rateLimiter.acquire();
+        }
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+
+        // 버스트 5개 이후 10개는 초당 50개 속도로 약 200ms
+        assertThat(elapsed).isGreaterThanOrEqualTo(Duration.ofMillis(150));
+    }
+
+    // 실패 1회로 열린 뒤 열림 시간이 지나 다음 호출이 시험 호출이 되는 서킷
+    private static CircuitBreaker halfOpenCircuitBreaker() throws InterruptedException {
+        CircuitBreaker circuitBreaker = new CircuitBreaker(50, 2, 1, Duration.ofMillis(1));
+        circuitBreaker.acquirePermission();
+        circuitBreaker.onFailure();
+        Thread.sleep(5);
+        return circuitBreaker;
+    }
+
+    private CustomsTradeFetcher fetcher(int concurrency) {
+        return new CustomsTradeFetcher(client(), new TokenBucketRateLimiter(1000, 100),
+            new CircuitBreaker(50, 100, 100, Duration.ofSeconds(30)),
+            new ExponentialBackoff(Duration.ofMillis(1), Duration.ofMillis(5), 3), concurrency);
+    }
+
+    private CustomsApiClient client() {
+        return new CustomsApiClient(new CustomsResponseCache("", 3),
+            "http://127.0.0.1:" + server.getAddress().getPort() + "/getItemtradeList",
+            "test-key", Duration.ofSeconds(2), Duration.ofSeconds(5), false);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        int current = inFlight.incrementAndGet();
+        maxInFlight.accumulateAndGet(current, Math::max);
+        try {
+            Map<String, String> params = parseQuery(exchange.getRequestURI());
+            queries.add(exchange.getRequestURI().getRawQuery());
+            String hsCode = params.get("hsSgn");
+            int call = callsByHsCode.computeIfAbsent(hsCode, key -> new AtomicInteger()).incrementAndGet();
+
+            // 동시 실행이 관측되도록 응답 지연
+            Thread.sleep(20);
+
+            if (call <= failuresBeforeSuccess.getOrDefault(hsCode, 0)) {
+                respond(exchange, failureStatus.get(hsCode), "error");
+                return;
+            }
+            respond(exchange, 200, responseXml(hsCode,
+                YearMonth.parse(params.get("strtYymm"), YEAR_MONTH), YearMonth.parse(params.get("endYymm"), YEAR_MONTH)));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            inFlight.decrementAndGet();
+            exchange.close();
+        }
+    }
+
+    private static String responseXml(String hsCode, YearMonth from, YearMonth to) {
+        StringBuilder xml = new StringBuilder()
+            .append("<?xml version=\"1.0\" encoding=\"UTF-8\"?><response>")
+            .append("<header><resultCode>00</resultCode><resultMsg>NORMAL SERVICE.</resultMsg></header>")
+            .append("<body><items>");
+        for (YearMonth month = from; !month.isAfter(to); month = month.plusMonths(1)) {
+            xml.append("<item><balPayments>0</balPayments>")
+                .append("<expDlr>").append(1_000_000 + month.getMonthValue() * 1000).append("</expDlr>")
+                .append("<expWgt>2500.5</expWgt><hsCode>").append(hsCode).append("</hsCode>")
+                .append("<impDlr>0</impDlr><impWgt>0</impWgt><statKor>전자집적회로</statKor>")
+                .append("<year>").append(month.getYear()).append('.')
+                .append(String.format("%02d", month.getMonthValue())).append("</year></item>");
+        }
+        // 기간 합계 행
+        xml.append("<item><expDlr>9999</expDlr><hsCode>-</hsCode><year>총계</year></item>");
+        return xml.append("</items></body></response>").toString();
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/xml; charset=UTF-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream output = exchange.getResponseBody()) {
+            output.write(bytes);
+        }
+    }
+
+    private static Map<String, String> parseQuery(URI uri) {
+        Map<String, String> params = new HashMap<>();
+        for (String pair : uri.getQuery().split("&")) {
+            int separator = pair.indexOf('=');
+            params.put(pair.substring(0, separator), pair.substring(separator + 1));
+        }
+        return params;
+    }
+}
@@ -0,0 +1,144 @@
+package com.export.dashboard.infrastructure.outbox;
+
+import com.export.dashboard.domain.event.DomainEvent;
+import com.export.dashboard.domain.event.ExportStatisticCreated;
+import com.export.dashboard.domain.event.ExportStatisticData;
+import com.export.dashboard.domain.event.ExportStatisticUpdated;
+import com.export.dashboard.domain.event.ExportStatisticsReloaded;
+import com.export.dashboard.domain.model.ExportPeriod;
+import com.export.dashboard.domain.model.Money;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("도메인 이벤트 아웃박스 디스패처 테스트")
+class DomainEventDispatcherTest {
+
+    private static final int BATCH_SIZE = 2;
+    private static final int MAX_ATTEMPTS = 2;
+
+    private final List<DomainEvent> published = new ArrayList<>();
+    private final Set<UUID> failingEvents = new HashSet<>();
+
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private SimpleMeterRegistry meterRegistry;
+    private DomainEventOutbox outbox;
+    private DomainEventDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+            "jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=PostgreSQL;DB_CLOSE_DELAY=-1");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE domain_event_outbox (id BIGINT AUTO_INCREMENT PRIMARY KEY, " +
+            "event_id UUID NOT NULL UNIQUE, event_type VARCHAR(100) NOT NULL, aggregate_id VARCHAR(200) NOT NULL, " +
+            "payload TEXT NOT NULL, occurred_on TIMESTAMP NOT NULL, created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP NOT NULL, " +
+            "attempts INTEGER DEFAULT 0 NOT NULL, last_error VARCHAR(1000), failed BOOLEAN DEFAULT FALSE NOT NULL, " +
+            "dispatched_at TIMESTAMP)");
+        // PostgreSQL advisory lock 대신 항상 잠금을 얻는 함수
+        jdbcTemplate.execute("CREATE ALIAS pg_try_advisory_xact_lock AS " +
+            "'boolean tryLock(int namespace, int key) { return true; }'");
+
+        transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        meterRegistry = new SimpleMeterRegistry();
+        outbox = new DomainEventOutbox(jdbcTemplate, new ObjectMapper().findAndRegisterModules());
+        dispatcher = new DomainEventDispatcher(outbox, event -> {
+            DomainEvent domainEvent = (DomainEvent) event;
+            if (failingEvents.contains(domainEvent.eventId())) {
+                throw new IllegalStateException("listener failed");
+            }
+            published.add(domainEvent);
+        }, jdbcTemplate, transactionTemplate, meterRegistry, BATCH_SIZE, 20, MAX_ATTEMPTS, Duration.ofDays(7));
+    }
+
+    @Test
+    @DisplayName("커밋된 이벤트를 배치 단위로 저장 순서대로 전달하고 전달 완료로 표시한다")
+    void dispatchesCommittedEventsInOrder() {
+        List<DomainEvent> events = List.of(
+            created("A", 2024), updated("B", 2024), updated("A", 2024), ExportStatisticsReloaded.of(2023, 2024), created("C", 2025));
+        transactionTemplate.executeWithoutResult(status -> outbox.appendAll(events));
+
+        int dispatched = dispatcher.dispatch();
+
+        assertThat(dispatched).isEqualTo(events.size());
+        // 값 객체를 포함한 이벤트가 그대로 복원됨
+        assertThat(published).containsExactlyElementsOf(events);
+        assertThat(outbox.backlog().pending()).isZero();
+        assertThat(dispatcher.lag()).isEqualTo(Duration.ZERO);
+        assertThat(meterRegistry.get("export.outbox.dispatched").counter().count()).isEqualTo(events.size());
+        assertThat(meterRegistry.get("export.outbox.pending").gauge().value()).isZero();
+
+        // 이미 전달한 이벤트는 다시 전달하지 않음
+        assertThat(dispatcher.dispatch()).isZero();
+        assertThat(published).hasSize(events.size());
+    }
+
+    @Test
+    @DisplayName("롤백된 트랜잭션의 이벤트는 전달하지 않는다")
+    void skipsRolledBackEvents() {
+        transactionTemplate.executeWithoutResult(status -> {
+            outbox.append(created("A", 2024));
+            status.setRollbackOnly();
+        });
+
+        assertThat(dispatcher.dispatch()).isZero();
+        assertThat(published).isEmpty();
+    }
+
+    @Test
+    @DisplayName("리스너가 실패하면 같은 집계의 이후 이벤트를 보류하고 최대 시도 후에는 건너뛴다")
+    void holdsAggregateAfterFailure() {
+        DomainEvent failing = created("A", 2024);
+        DomainEvent other = created("B", 2024);
+        DomainEvent heldBack = updated("A", 2024);
+        transactionTemplate.executeWithoutResult(status -> outbox.appendAll(List.of(failing, other, heldBack)));
+        failingEvents.add(failing.eventId());
+
+        dispatcher.dispatch();
+
+        // 다른 집계는 전달되고 실패한 집계의 이후 이벤트는 순서를 지키기 위해 대기
+        assertThat(published).containsExactly(other);
+        assertThat(outbox.backlog().pending()).isEqualTo(2);
+        assertThat(meterRegistry.get("export.outbox.pending").gauge().value()).isEqualTo(2);
+
+        // 최대 시도 횟수에 도달하면 실패로 표시하고 같은 집계의 다음 이벤트를 전달
+        dispatcher.dispatch();
+
+        assertThat(published).containsExactly(other, heldBack);
+        assertThat(outbox.backlog().pending()).isZero();
+        assertThat(meterRegistry.get("export.outbox.failed").counter().count()).isEqualTo(2);
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM domain_event_outbox WHERE failed = TRUE AND attempts = 2", Integer.class)).isEqualTo(1);
+    }
+
+    private static ExportStatisticCreated created(String aggregateId, int year) {
+        return new ExportStatisticCreated(UUID.randomUUID(), Instant.now(), aggregateId, data(year));
+    }
+
+    private static ExportStatisticUpdated updated(String aggregateId, int year) {
+        return new ExportStatisticUpdated(UUID.randomUUID(), Instant.now(), aggregateId, data(year));
+    }
+
+    private static ExportStatisticData data(int year) {
+        return new ExportStatisticData(1L, "USA", "미국", 7L, "8517", "전화기",
+            ExportPeriod.of(year, 3), Money.usd(BigDecimal.valueOf(1000)), null, BigDecimal.valueOf(900));
+    }
+}
@@ -0,0 +1,377 @@
+package com.export.dashboard.infrastructure.repository;
+
+import com.export.dashboard.domain.model.Country;
+import com.export.dashboard.domain.model.CountryCode;
+import com.export.dashboard.domain.model.ExportStatistic;
+import com.export.dashboard.domain.model.Money;
+import com.export.dashboard.domain.model.ProductCategory;
+import com.export.dashboard.domain.service.ExportStatisticDomainService;
+import com.export.dashboard.infrastructure.analytics.ExportCube;
+import com.export.dashboard.infrastructure.analytics.ExportCubeProvider;
+import com.export.dashboard.infrastructure.cache.CacheInvalidationBus;
+import com.export.dashboard.infrastructure.cache.LocalCacheStore;
+import com.export.dashboard.infrastructure.ingestion.CsvExportStatisticLoader;
+import com.export.dashboard.infrastructure.outbox.DomainEventOutbox;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * PostgreSQL 전용 SQL(UPDATE ... FROM, 데이터 변경 CTE, generate_series, COPY) 검증
+ * Docker 가 없는 환경에서는 건너뜀
+ */
+@DataJpaTest(properties = {
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.sql.init.mode=always",
+    "spring.sql.init.data-locations=" +
+        "classpath:db/migration/V3__Create_export_rollup_tables.sql," +
+        "classpath:db/migration/V4__Add_world_country.sql," +
+        "classpath:db/migration/V6__Create_export_hs_rollup_table.sql," +
+        "classpath:db/migration/V7__Create_export_country_month_rollup_table.sql"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ExportRollupRepositoryImpl.class, CsvExportStatisticLoader.class})
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("PostgreSQL 수출 통계 Repository 테스트")
+class ExportStatisticPostgresRepositoryTest {
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    // 집계 테이블별 비교 조회 (delta 로 0 이 된 행은 재구성 시 생기지 않으므로 제외)
+    private static final List<String> ROLLUP_QUERIES = List.of(
+        "SELECT year, month, total_value_usd, row_count FROM export_totals_by_month " +
+        "WHERE row_count > 0 ORDER BY year, month",
+        "SELECT year, country_id, total_value_usd, row_count FROM export_totals_by_year_country " +
+        "WHERE row_count > 0 ORDER BY year, country_id",
+        "SELECT year, product_category_id, total_value_usd, row_count FROM export_totals_by_year_product " +
+        "WHERE row_count > 0 ORDER BY year, product_category_id",
+        "SELECT year, month, country_id, total_value_usd, row_count FROM export_totals_by_month_country " +
+        "WHERE row_count > 0 ORDER BY year, month, country_id",
+        "SELECT hs_prefix, parent_prefix, hs_level, year, month, total_value_usd, row_count FROM export_totals_by_hs_prefix " +
+        "WHERE row_count > 0 ORDER BY hs_prefix, year, month"
+    );
+
+    @MockBean
+    private ExportStatisticDomainService exportStatisticDomainService;
+
+    @MockBean
+    private ExportCubeProvider exportCubeProvider;
+
+    @MockBean
+    private DomainEventOutbox domainEventOutbox;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JpaExportStatisticRepository jpaExportStatisticRepository;
+
+    @Autowired
+    private JpaCountryRepository jpaCountryRepository;
+
+    @Autowired
+    private ExportRollupRepositoryImpl exportRollupRepository;
+
+    @Autowired
+    private CsvExportStatisticLoader csvExportStatisticLoader;
+
+    private Country usa;
+    private Country china;
+    private ProductCategory semiconductors;
+    private ProductCategory cars;
+
+    @BeforeEach
+    void setUp() {
+        usa = entityManager.persist(Country.create("USA", "미국", "United States", "북미", "아메리카"));
+        china = entityManager.persist(Country.create("CHN", "중국", "China", "동아시아", "아시아"));
+        semiconductors = entityManager.persist(ProductCategory.create("854231", 3, "프로세서", "Processors"));
+        cars = entityManager.persist(ProductCategory.create("8703", 2, "승용차", "Passenger cars"));
+    }
+
+    @Test
+    @DisplayName("성장률/점유율 재계산은 전년 동월 대비 성장률과 년도 내 점유율을 값이 바뀐 행에만 반영한다")
+    void recalculatesGrowthRatesAndMarketShares() {
+        ExportStatistic usaJan2022 = persist(usa, cars, 2022, 1, "100");
+        persist(usa, cars, 2022, 3, "50");
+        ExportStatistic usaJan = persist(usa, cars, 2023, 1, "150");
+        ExportStatistic chinaJan = persist(china, cars, 2023, 1, "50");
+        ExportStatistic usaFeb = persist(usa, cars, 2023, 2, "200");
+        ExportStatistic usaMar = persist(usa, cars, 2023, 3, "600");
+        entityManager.flush();
+
+        int updated = jpaExportStatisticRepository.recalculateGrowthRatesAndMarketShares(2023, 2023);
+
+        // 2022 년 행은 전년도 값으로만 읽고 갱신하지 않음
+        assertThat(updated).isEqualTo(4);
+        assertThat(metrics(usaJan)).containsEntry("growth_rate_yoy", new BigDecimal("50.00"))
+            .containsEntry("market_share", new BigDecimal("15.00")).containsEntry("version", 1L);
+        // 전년 동월 데이터가 없으면 성장률 0
+        assertThat(metrics(chinaJan)).containsEntry("growth_rate_yoy", new BigDecimal("0.00"))
+            .containsEntry("market_share", new BigDecimal("5.00"));
+        assertThat(metrics(usaFeb)).containsEntry("growth_rate_yoy", new BigDecimal("0.00"))
+            .containsEntry("market_share", new BigDecimal("20.00"));
+        // 1100% 성장률은 컬럼 범위로 제한
+        assertThat(metrics(usaMar)).containsEntry("growth_rate_yoy", new BigDecimal("999.99"))
+            .containsEntry("market_share", new BigDecimal("60.00"));
+        assertThat(metrics(usaJan2022)).containsEntry("market_share", new BigDecimal("0.00")).containsEntry("version", 0L);
+
+        // 값이 그대로이면 갱신하지 않음
+        assertThat(jpaExportStatisticRepository.recalculateGrowthRatesAndMarketShares(2023, 2023)).isZero();
+    }
+
+    @Test
+    @DisplayName("년도별 트렌드의 첫 년도 성장률은 같은 조회에서 읽은 전년도 합계를 사용한다")
+    void yearlyTrendReadsPredecessorOfFirstYear() {
+        persist(usa, cars, 2022, 1, "100");
+        persist(usa, cars, 2023, 1, "150");
+        persist(china, cars, 2023, 2, "50");
+        entityManager.flush();
+        exportRollupRepository.rebuildAll();
+
+        List<Object[]> fromFirstYear = jpaExportStatisticRepository.getYearlyExportTrend(2022, 2023);
+        assertThat(fromFirstYear).hasSize(2);
+        assertThat(fromFirstYear.get(0)[2]).isNull();
+
+        List<Object[]> fromSecondYear = jpaExportStatisticRepository.getYearlyExportTrend(2023, 2023);
+        assertThat(fromSecondYear).hasSize(1);
+        assertThat((BigDecimal) fromSecondYear.get(0)[1]).isEqualByComparingTo("200");
+        assertThat((BigDecimal) fromSecondYear.get(0)[2]).isEqualByComparingTo("100");
+    }
+
+    @Test
+    @DisplayName("시계열 일괄 조회는 요청한 (국가, 상품) 조합만 기간 범위로 읽는다")
+    void readsOnlyRequestedSeries() {
+        ExportStatistic usaCars = persist(usa, cars, 2023, 3, "100");
+        ExportStatistic chinaSemiconductors = persist(china, semiconductors, 2023, 4, "200");
+        persist(usa, semiconductors, 2023, 3, "300");
+        persist(china, cars, 2023, 4, "400");
+        persist(usa, cars, 2024, 1, "500");
+        entityManager.flush();
+
+        List<ExportStatistic> rows = jpaExportStatisticRepository.findBySeriesInPeriodRange(
+            new Long[]{usa.getId(), china.getId()}, new Long[]{cars.getId(), semiconductors.getId()},
+            2023, 2023, 202301, 202312);
+
+        assertThat(rows).extracting(ExportStatistic::getId)
+            .containsExactly(usaCars.getId(), chinaSemiconductors.getId());
+    }
+
+    @Test
+    @DisplayName("증분 갱신(단건 CTE/일괄 UPSERT/변경/삭제)한 집계는 전체 재구성한 집계와 같다")
+    void rollupDeltasMatchRebuild() {
+        ExportStatistic single = persist(usa, semiconductors, 2023, 1, "100.10");
+        exportRollupRepository.add(single);
+
+        List<ExportStatistic> batch = List.of(
+            persist(usa, cars, 2023, 1, "40.00"),
+            persist(china, semiconductors, 2023, 1, "25.50"),
+            persist(china, semiconductors, 2023, 2, "30.00"),
+            persist(china, cars, 2024, 1, "70.00"));
+        exportRollupRepository.addAll(batch);
+
+        Money previousValue = single.getExportValue();
+        single.updateExportValue(Money.usd(new BigDecimal("120.10")));
+        exportRollupRepository.replace(single, previousValue);
+
+        ExportStatistic removed = batch.get(3);
+        entityManager.remove(removed);
+        exportRollupRepository.remove(removed);
+        entityManager.flush();
+
+        List<List<Map<String, Object>>> incremental = rollups();
+        exportRollupRepository.rebuildAll();
+
+        assertThat(incremental).isEqualTo(rollups());
+        // HS 계층 접두사: 챕터 85 → 호 8542 → 소호 854231
+        assertThat(jdbcTemplate.queryForList(
+            "SELECT hs_prefix, parent_prefix, SUM(total_value_usd) AS total_value FROM export_totals_by_hs_prefix " +
+            "WHERE hs_prefix LIKE '85%' AND row_count > 0 GROUP BY hs_prefix, parent_prefix ORDER BY hs_prefix"))
+            .extracting(row -> row.get("hs_prefix"), row -> row.get("parent_prefix"), row -> row.get("total_value"))
+            .containsExactly(
+                tuple("85", null, new BigDecimal("175.60")),
+                tuple("8542", "85", new BigDecimal("175.60")),
+                tuple("854231", "8542", new BigDecimal("175.60")));
+    }
+
+    @Test
+    @DisplayName("년도 구간 재구성은 지정 년도의 집계만 다시 만들고 다른 년도의 집계는 건드리지 않는다")
+    void rebuildsOnlyGivenYears() {
+        persist(usa, cars, 2022, 1, "100");
+        persist(usa, cars, 2023, 1, "150");
+        persist(china, semiconductors, 2023, 2, "50");
+        entityManager.flush();
+        exportRollupRepository.rebuildAll();
+
+        // 집계를 거치지 않은 변경 (2023 년 값 변경, 2022 년 집계 훼손)
+        jdbcTemplate.update("UPDATE export_statistics SET export_value_usd = export_value_usd * 2 WHERE year = 2023");
+        jdbcTemplate.update("UPDATE export_totals_by_month SET total_value_usd = 0 WHERE year = 2022");
+
+        exportRollupRepository.rebuildYears(2023, 2023);
+
+        assertThat(jpaExportStatisticRepository.getTotalExportValueByYear(2023)).isEqualByComparingTo("400");
+        assertThat(jpaExportStatisticRepository.getTotalExportValueByYear(2022)).isEqualByComparingTo("0");
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT SUM(total_value_usd) FROM export_totals_by_hs_prefix WHERE year = 2023 AND hs_level = 1",
+            BigDecimal.class)).isEqualByComparingTo("400");
+
+        exportRollupRepository.rebuildYears(2022, 2022);
+        List<List<Map<String, Object>>> byYears = rollups();
+        exportRollupRepository.rebuildAll();
+        assertThat(byYears).isEqualTo(rollups());
+    }
+
+    @Test
+    @DisplayName("관세청 전 세계 합계(WLD) 행은 집계 테이블, 국가별 조회, 점유율 분모, 큐브, 국가 목록에서 제외한다")
+    void excludesWorldTotalsFromPerCountryAggregates() {
+        Country world = jpaCountryRepository.findByCountryCode(CountryCode.WORLD).orElseThrow();
+        List<ExportStatistic> statistics = List.of(
+            persist(usa, cars, 2023, 1, "150"),
+            persist(china, cars, 2023, 1, "50"),
+            persist(world, cars, 2023, 1, "1000"),
+            persist(world, semiconductors, 2023, 2, "3000"));
+        entityManager.flush();
+
+        exportRollupRepository.addAll(statistics);
+        List<List<Map<String, Object>>> incremental = rollups();
+        exportRollupRepository.rebuildAll();
+        assertThat(incremental).isEqualTo(rollups());
+
+        assertThat(jpaExportStatisticRepository.getTotalExportValueByYear(2023)).isEqualByComparingTo("200");
+        assertThat(jpaExportStatisticRepository.countDistinctCountriesByYear(2023)).isEqualTo(2);
+        assertThat(jpaExportStatisticRepository.countDistinctProductsByYear(2023)).isEqualTo(1);
+        assertThat(jpaExportStatisticRepository.getTopExportCountriesByYear(2023, 10))
+            .extracting(row -> row[0], row -> ((BigDecimal) row[3]).stripTrailingZeros().toPlainString())
+            .containsExactly(tuple("USA", "200"), tuple("CHN", "200"));
+        assertThat(jpaExportStatisticRepository.getHsChapterTotals(2023, 1, 2023, 12))
+            .extracting(row -> row[0]).containsExactly("87");
+        assertThat(jpaExportStatisticRepository.getCountryTotalsBetween(2023, 1, 2023, 12))
+            .extracting(row -> row[0]).containsExactly("USA", "CHN");
+
+        // 국가별 행의 점유율 분모는 국가별 행만, WLD 행은 WLD 행끼리
+        jpaExportStatisticRepository.recalculateGrowthRatesAndMarketShares(2023, 2023);
+        assertThat(metrics(statistics.get(1))).containsEntry("market_share", new BigDecimal("25.00"));
+        assertThat(metrics(statistics.get(2))).containsEntry("market_share", new BigDecimal("25.00"));
+
+        ExportCube cube = new ExportCubeProvider(jdbcTemplate, transactionManager,
+            new CacheInvalidationBus(mock(StringRedisTemplate.class), "cache-invalidation",
+                new LocalCacheStore(100, Duration.ofMinutes(1))),
+            Duration.ofHours(1)).current();
+        assertThat(cube.totalExportValue(2023).amount()).isEqualByComparingTo("200");
+        assertThat(cube.countDistinctCountries(2023)).isEqualTo(2);
+
+        assertThat(jpaCountryRepository.findAllActive())
+            .extracting(country -> country.getCountryCode().value())
+            .contains("USA", "CHN").doesNotContain(CountryCode.WORLD);
+        assertThat(jpaCountryRepository.findAll())
+            .extracting(country -> country.getCountryCode().value())
+            .contains(CountryCode.WORLD);
+    }
+
+    @Test
+    @DisplayName("대시보드 단일 조회는 집계 테이블에서 총액/전년 총액/상위 N/월별 합계를 읽는다")
+    void readsDashboardAggregatesFromRollups() {
+        persist(usa, cars, 2022, 1, "100");
+        persist(usa, cars, 2023, 1, "150");
+        persist(china, semiconductors, 2023, 1, "50");
+        persist(usa, semiconductors, 2023, 2, "200");
+        entityManager.flush();
+        exportRollupRepository.rebuildAll();
+
+        List<Object[]> rows = jpaExportStatisticRepository.getDashboardAggregates(2023, 2022, 1);
+
+        assertThat(rows).allSatisfy(row -> assertThat((BigDecimal) row[9]).isEqualByComparingTo("100"));
+        assertThat(rows).extracting(row -> row[0], row -> row[1], row -> row[2], row -> row[4],
+                row -> ((BigDecimal) row[7]).stripTrailingZeros().toPlainString(), row -> ((Number) row[8]).longValue())
+            .containsExactly(
+                tuple("COUNTRY", null, "USA", null, "350", 2L),
+                tuple("MONTH", 1, null, null, "200", 2L),
+                tuple("MONTH", 2, null, null, "200", 2L),
+                tuple("PRODUCT", null, null, "854231", "250", 2L),
+                tuple("TOTAL", null, null, null, "400", 1L));
+
+        // 데이터가 없는 년도는 전년 총액 행만 반환
+        assertThat(jpaExportStatisticRepository.getDashboardAggregates(2030, 2029, 1))
+            .singleElement().satisfies(row -> assertThat(row[0]).isNull());
+    }
+
+    @Test
+    @DisplayName("CSV 적재는 COPY 후 유효 행만 파일의 마지막 값으로 UPSERT 하고 집계를 재구성한다")
+    void loadsCsvWithCopyAndMerge(@TempDir Path directory) throws Exception {
+        persist(usa, cars, 2024, 1, "10");
+        entityManager.flush();
+
+        Path csv = Files.writeString(directory.resolve("exports.csv"),
+            "country_code,hs_code,year,month,export_value_usd,export_weight_kg,export_quantity,quantity_unit\n" +
+            "usa,8703,2024,1,100.50,,,\n" +
+            "CHN,854231,2024,2,30,1.5,,\n" +
+            "USA,8703,2024,1,200,,,\n" +
+            "XXX,8703,2024,1,10,,,\n" +
+            "CHN,8703,2024,13,10,,,\n");
+
+        CsvExportStatisticLoader.LoadResult result = csvExportStatisticLoader.load(csv);
+
+        assertThat(result.copiedRows()).isEqualTo(5);
+        assertThat(result.rejectedRows()).isEqualTo(2);
+        assertThat(result.upsertedRows()).isEqualTo(2);
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT export_value_usd FROM export_statistics WHERE country_id = ? AND year = 2024 AND month = 1",
+            BigDecimal.class, usa.getId())).isEqualByComparingTo("200");
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT SUM(total_value_usd) FROM export_totals_by_month WHERE year = 2024", BigDecimal.class))
+            .isEqualByComparingTo("230");
+    }
+
+    private ExportStatistic persist(Country country, ProductCategory product, int year, int month, String value) {
+        return entityManager.persist(ExportStatistic.create(country, product, year, month, new BigDecimal(value)));
+    }
+
+    private Map<String, Object> metrics(ExportStatistic statistic) {
+        return jdbcTemplate.queryForMap(
+            "SELECT growth_rate_yoy, market_share, version FROM export_statistics WHERE id = ?", statistic.getId());
+    }
+
+    private List<List<Map<String, Object>>> rollups() {
+        return ROLLUP_QUERIES.stream()
+            .map(jdbcTemplate::queryForList)
+            .toList();
+    }
+}
@@ -0,0 +1,68 @@
+package com.export.dashboard.infrastructure.repository;
+
+import com.export.dashboard.domain.repository.ExportStatisticRepository.YearlyExportTrend;
+import com.export.dashboard.infrastructure.analytics.ExportCubeProvider;
+import com.export.dashboard.infrastructure.outbox.DomainEventOutbox;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("수출 통계 Repository 구현체 테스트")
+class ExportStatisticRepositoryImplTest {
+
+    @Mock
+    private JpaExportStatisticRepository jpaExportStatisticRepository;
+
+    @Mock
+    private ExportCubeProvider exportCubeProvider;
+
+    @Mock
+    private DomainEventOutbox domainEventOutbox;
+
+    private ExportStatisticRepositoryImpl repository;
+
+    @BeforeEach
+    void setUp() {
+        repository = new ExportStatisticRepositoryImpl(
+            jpaExportStatisticRepository, exportCubeProvider, domainEventOutbox, false);
+    }
+
+    @Test
+    @DisplayName("첫 년도의 성장률은 같은 조회에서 읽은 전년도 합계로 계산한다")
+    void firstYearGrowthUsesPreviousYearFromSameQuery() {
+        when(jpaExportStatisticRepository.getYearlyExportTrend(2023, 2024)).thenReturn(List.of(
+            new Object[]{2023, new BigDecimal("120"), new BigDecimal("100")},
+            new Object[]{2024, new BigDecimal("90"), new BigDecimal("120")}
+        ));
+
+        List<YearlyExportTrend> trends = repository.getYearlyExportTrend(2023, 2024);
+
+        assertThat(trends).extracting(YearlyExportTrend::year).containsExactly(2023, 2024);
+        assertThat(trends.get(0).growthRate().value()).isEqualByComparingTo("20.00");
+        assertThat(trends.get(1).growthRate().value()).isEqualByComparingTo("-25.00");
+        verify(jpaExportStatisticRepository, never()).getTotalExportValueByYear(any());
+    }
+
+    @Test
+    @DisplayName("전년도 데이터가 없거나 0 인 첫 년도의 성장률은 0 이다")
+    void firstYearGrowthIsZeroWithoutPreviousYear() {
+        when(jpaExportStatisticRepository.getYearlyExportTrend(2023, 2024)).thenReturn(List.of(
+            new Object[]{2023, new BigDecimal("120"), null},
+            new Object[]{2024, new BigDecimal("90"), BigDecimal.ZERO}
+        ));
+
+        List<YearlyExportTrend> trends = repository.getYearlyExportTrend(2023, 2024);
+
+        assertThat(trends).allSatisfy(trend -> assertThat(trend.growthRate().value()).isEqualByComparingTo("0"));
+    }
+}
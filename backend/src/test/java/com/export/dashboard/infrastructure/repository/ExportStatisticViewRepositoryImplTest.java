@@ -0,0 +1,198 @@
+package com.export.dashboard.infrastructure.repository;
+
+import com.export.dashboard.domain.model.ExportPeriod;
+import com.export.dashboard.domain.model.ExportStatisticCursor;
+import com.export.dashboard.domain.repository.ExportStatisticViewRepository.ExportStatisticFilter;
+import com.export.dashboard.domain.repository.ExportStatisticViewRepository.ExportStatisticView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("수출 통계 목록 읽기 모델 테스트")
+class ExportStatisticViewRepositoryImplTest {
+
+    private static final int COUNTRIES = 50;
+    private static final int PRODUCTS = 100;
+    private static final int ROWS = 5_000;
+
+    private final AtomicInteger statements = new AtomicInteger();
+
+    private ExportStatisticViewRepositoryImpl repository;
+
+    @BeforeEach
+    void setUp() {
+        DataSource dataSource = new DriverManagerDataSource(
+            "jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=PostgreSQL;NON_KEYWORDS=YEAR,MONTH;DB_CLOSE_DELAY=-1");
+        JdbcTemplate setup = new JdbcTemplate(dataSource);
+
+        setup.execute("CREATE TABLE countries (id BIGINT PRIMARY KEY, country_code VARCHAR(3), " +
+            "country_name_ko VARCHAR(100), country_name_en VARCHAR(100), region VARCHAR(50), " +
+            "continent VARCHAR(30), is_active BOOLEAN)");
+        setup.execute("CREATE TABLE product_categories (id BIGINT PRIMARY KEY, hs_code VARCHAR(10), hs_level INTEGER, " +
+            "category_name_ko VARCHAR(200), category_name_en VARCHAR(200), parent_hs_code VARCHAR(10), is_active BOOLEAN)");
+        setup.execute("CREATE TABLE export_statistics (id BIGINT PRIMARY KEY, country_id BIGINT, product_category_id BIGINT, " +
+            "year INTEGER, month INTEGER, export_value_usd DECIMAL(15,2), currency VARCHAR(3), " +
+            "export_weight_kg DECIMAL(15,3), export_quantity DECIMAL(15,3), quantity_unit VARCHAR(20), " +
+            "growth_rate_yoy DECIMAL(5,2), market_share DECIMAL(5,2))");
+
+        List<Object[]> countries = new ArrayList<>();
+        for (long id = 1; id <= COUNTRIES; id++) {
+            countries.add(new Object[]{id, String.format("C%02d", id), "국가" + id, "Country " + id, "Region", "Asia", true});
+        }
+        setup.batchUpdate("INSERT INTO countries VALUES (?, ?, ?, ?, ?, ?, ?)", countries);
+
+        List<Object[]> products = new ArrayList<>();
+        for (long id = 1; id <= PRODUCTS; id++) {
+            products.add(new Object[]{id, String.format("85%02d", id % 100), 2, "상품" + id, "Product " + id, "85", true});
+        }
+        setup.batchUpdate("INSERT INTO product_categories VALUES (?, ?, ?, ?, ?, ?, ?)", products);
+
+        List<Object[]> statistics = new ArrayList<>();
+        for (long id = 1; id <= ROWS; id++) {
+            statistics.add(new Object[]{
+                id, id % COUNTRIES + 1, id % PRODUCTS + 1, 2024, (int) (id % 12) + 1,
+                BigDecimal.valueOf(id * 100), "USD", null, null, null, null, null
+            });
+        }
+        // 다른 년도 데이터는 조회 대상에서 제외되어야 함
+        statistics.add(new Object[]{ROWS + 1L, 1L, 1L, 2023, 1, BigDecimal.TEN, "USD", null, null, null, null, null});
+        setup.batchUpdate("INSERT INTO export_statistics VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", statistics);
+
+        repository = new ExportStatisticViewRepositoryImpl(new JdbcTemplate(counting(dataSource)));
+    }
+
+    @Test
+    @DisplayName("년도 목록은 국가/상품 정보를 포함해 한 번의 쿼리로 조회한다")
+    void findByYearRunsSingleQuery() {
+        List<ExportStatisticView> views = repository.findByYear(2024);
+
+        assertThat(views).hasSize(ROWS);
+        assertThat(statements.get()).isEqualTo(1);
+
+        ExportStatisticView first = views.get(0);
+        assertThat(first.month()).isEqualTo(1);
+        assertThat(first.country().countryCode()).isNotBlank();
+        assertThat(first.productCategory().hsLevel()).isEqualTo(2);
+        // 월 오름차순, 같은 월 안에서는 수출액 내림차순
+        assertThat(views.get(0).exportValueUsd()).isGreaterThan(views.get(1).exportValueUsd());
+        // 조인된 국가 정보가 모두 매핑됨
+        assertThat(views.stream().map(ExportStatisticView::country).distinct()).hasSize(COUNTRIES);
+    }
+
+    @Test
+    @DisplayName("국가/상품별 목록도 한 번의 쿼리로 조회한다")
+    void findByCountryAndProductRunSingleQuery() {
+        assertThat(repository.findByCountryAndYear(1L, 2024)).hasSize(ROWS / COUNTRIES);
+        assertThat(statements.get()).isEqualTo(1);
+
+        assertThat(repository.findByProductCategoryAndYear(1L, 2024)).hasSize(ROWS / PRODUCTS);
+        assertThat(statements.get()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("페이지 조회는 내용 조회와 건수 조회 두 번으로 끝나고 허용된 속성으로 정렬한다")
+    void findAllPaged() {
+        Page<ExportStatisticView> page = repository.findAll(
+            PageRequest.of(1, 20, Sort.by(Sort.Direction.DESC, "exportValue.amount")));
+
+        assertThat(page.getContent()).hasSize(20);
+        assertThat(page.getTotalElements()).isEqualTo(ROWS + 1);
+        assertThat(page.getContent().get(0).exportValueUsd()).isEqualByComparingTo("498000");
+        assertThat(statements.get()).isEqualTo(2);
+
+        assertThatThrownBy(() -> repository.findAll(PageRequest.of(0, 20, Sort.by("country.password"))))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("키셋 페이징은 페이지마다 한 번의 쿼리로 전체 테이블을 빠짐없이 순회한다")
+    void findAfterWalksWholeTable() {
+        List<ExportStatisticView> all = new ArrayList<>();
+        ExportStatisticCursor cursor = null;
+        int pages = 0;
+
+        Slice<ExportStatisticView> slice;
+        do {
+            slice = repository.findAfter(cursor, 700);
+            all.addAll(slice.getContent());
+            pages++;
+            assertThat(statements.get()).isEqualTo(pages);
+
+            ExportStatisticView last = slice.getContent().get(slice.getContent().size() - 1);
+            cursor = ExportStatisticCursor.of(last.year(), last.month(), last.exportValueUsd(), last.id());
+        } while (slice.hasNext());
+
+        assertThat(pages).isEqualTo(8);
+        assertThat(all).hasSize(ROWS + 1);
+        assertThat(all).extracting(ExportStatisticView::id).doesNotHaveDuplicates();
+        // 첫 행은 가장 이른 년도, 이후 (년, 월, 수출액, ID) 오름차순
+        assertThat(all.get(0).year()).isEqualTo(2023);
+        assertThat(all.get(1).month()).isEqualTo(1);
+        assertThat(all.get(1).exportValueUsd()).isLessThan(all.get(2).exportValueUsd());
+    }
+
+    @Test
+    @DisplayName("내보내기 순회는 조건에 맞는 행을 한 번의 쿼리로 키셋 순서대로 전달한다")
+    void forEachStreamsFilteredRows() {
+        List<ExportStatisticView> rows = new ArrayList<>();
+
+        repository.forEach(
+            new ExportStatisticFilter(1L, null, ExportPeriod.of(2023, 1), ExportPeriod.of(2024, 6)), rows::add);
+
+        // 국가 1 은 ID 가 50 의 배수인 행, 2024년 1-6월은 (ID % 12) + 1 이 6 이하인 행
+        assertThat(rows).hasSize(51);
+        assertThat(rows).allMatch(row -> row.country().id() == 1L && row.month() <= 6);
+        assertThat(rows.get(0).year()).isEqualTo(2023);
+        assertThat(statements.get()).isEqualTo(1);
+    }
+
+    /**
+     * 실행된 SQL 문 수를 세는 DataSource 래퍼
+     */
+    private DataSource counting(DataSource target) {
+        return (DataSource) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{DataSource.class},
+            (proxy, method, args) -> {
+                Object result = invoke(target, method, args);
+                if (result instanceof Connection connection) {
+                    return countingConnection(connection);
+                }
+                return result;
+            });
+    }
+
+    private Connection countingConnection(Connection target) {
+        return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{Connection.class},
+            (proxy, method, args) -> {
+                if (method.getName().equals("prepareStatement") || method.getName().equals("createStatement")) {
+                    statements.incrementAndGet();
+                }
+                return invoke(target, method, args);
+            });
+    }
+
+    private static Object invoke(Object target, java.lang.reflect.Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
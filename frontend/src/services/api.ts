@@ -3,8 +3,13 @@ import type {
   Country,
   ProductCategory,
   ExportStatistic,
+  ExportStatisticCursorPage,
+  ExportStatisticTable,
+  PaginatedExportStatisticTable,
   DashboardSummary,
   MonthlyTrend,
+  HsDrillDown,
+  GeographicExport,
   PaginatedResponse
 } from '@/types'
 
@@ -45,8 +50,10 @@ export const countryApi = {
   getByRegion: (region: string) => api.get<Country[]>(`/countries/region/${region}`),
   getByContinent: (continent: string) => api.get<Country[]>(`/countries/continent/${continent}`),
   search: (keyword: string) => api.get<Country[]>(`/countries/search?keyword=${keyword}`),
-  getRegions: () => api.get<string[]>('/countries/regions'),
-  getContinents: () => api.get<string[]>('/countries/continents'),
+  getRegions: (params?: { year?: number; startMonth?: number; endMonth?: number }) =>
+    api.get<GeographicExport[]>('/countries/regions', { params }),
+  getContinents: (params?: { year?: number; startMonth?: number; endMonth?: number }) =>
+    api.get<GeographicExport[]>('/countries/continents', { params }),
 }
 
 export const productCategoryApi = {
@@ -75,7 +82,24 @@ export const exportStatisticApi = {
 
     return api.get<PaginatedResponse<ExportStatistic>>(`/export-statistics?${searchParams}`)
   },
+  getAfter: (params?: { cursor?: string; size?: number; includeTotal?: boolean }) => {
+    const searchParams = new URLSearchParams()
+    if (params?.cursor) searchParams.append('cursor', params.cursor)
+    if (params?.size !== undefined) searchParams.append('size', params.size.toString())
+    if (params?.includeTotal) searchParams.append('includeTotal', 'true')
+
+    return api.get<ExportStatisticCursorPage>(`/export-statistics/cursor?${searchParams}`)
+  },
+  getTable: (params?: { page?: number; size?: number }) => {
+    const searchParams = new URLSearchParams({ shape: 'normalized' })
+    if (params?.page !== undefined) searchParams.append('page', params.page.toString())
+    if (params?.size !== undefined) searchParams.append('size', params.size.toString())
+
+    return api.get<PaginatedExportStatisticTable>(`/export-statistics?${searchParams}`)
+  },
   getByYear: (year: number) => api.get<ExportStatistic[]>(`/export-statistics/year/${year}`),
+  getTableByYear: (year: number) =>
+    api.get<ExportStatisticTable>(`/export-statistics/year/${year}?shape=normalized`),
   getByCountryAndYear: (countryId: number, year: number) =>
     api.get<ExportStatistic[]>(`/export-statistics/country/${countryId}/year/${year}`),
   getByProductAndYear: (productCategoryId: number, year: number) =>
@@ -83,6 +107,22 @@ export const exportStatisticApi = {
   getDashboard: (year: number) => api.get<DashboardSummary>(`/export-statistics/dashboard/${year}`),
   getTrend: (startYear: number, endYear: number) =>
     api.get<MonthlyTrend[]>(`/export-statistics/trend?startYear=${startYear}&endYear=${endYear}`),
+  getHsDrillDown: (params: {
+    hsCode?: string
+    startYear: number
+    startMonth?: number
+    endYear: number
+    endMonth?: number
+  }) => {
+    const searchParams = new URLSearchParams()
+    if (params.hsCode) searchParams.append('hsCode', params.hsCode)
+    searchParams.append('startYear', params.startYear.toString())
+    if (params.startMonth !== undefined) searchParams.append('startMonth', params.startMonth.toString())
+    searchParams.append('endYear', params.endYear.toString())
+    if (params.endMonth !== undefined) searchParams.append('endMonth', params.endMonth.toString())
+
+    return api.get<HsDrillDown>(`/export-statistics/hs-drilldown?${searchParams}`)
+  },
   getYears: () => api.get<number[]>('/export-statistics/years'),
 }
 
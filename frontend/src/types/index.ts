@@ -33,6 +33,40 @@ export interface ExportStatistic {
   marketShare?: number
 }
 
+export interface ExportStatisticCursorPage {
+  content: ExportStatistic[]
+  size: number
+  hasNext: boolean
+  nextCursor?: string
+  approximateTotal?: number
+}
+
+export interface ExportStatisticRow {
+  id: number
+  countryId: number
+  productCategoryId: number
+  year: number
+  month: number
+  exportValueUsd: number
+  currency: string
+  exportWeightKg?: number
+  exportQuantity?: number
+  quantityUnit?: string
+  growthRateYoy?: number
+  marketShare?: number
+}
+
+export interface ExportStatisticTable {
+  countries: Country[]
+  productCategories: ProductCategory[]
+  rows: ExportStatisticRow[]
+}
+
+export interface PaginatedExportStatisticTable extends PaginatedResponse<ExportStatisticRow> {
+  countries: Country[]
+  productCategories: ProductCategory[]
+}
+
 export interface CountryExport {
   countryCode: string
   countryName: string
@@ -67,6 +101,51 @@ export interface DashboardSummary {
   monthlyTrends: MonthlyTrend[]
 }
 
+export interface CountryExportShare {
+  countryCode: string
+  nameKo: string
+  nameEn: string
+  region?: string
+  totalValue: number
+  share: number
+  recordCount: number
+}
+
+export interface GeographicExport {
+  name: string
+  continent?: string
+  totalExportValue: number
+  share: number
+  countryCount: number
+  exportingCountryCount: number
+  countries: CountryExportShare[]
+}
+
+export interface HsNodeTotal {
+  hsCode: string
+  hsLevel: number
+  nameKo?: string
+  nameEn?: string
+  totalValue: number
+  share: number
+  recordCount: number
+}
+
+export interface HsDrillDown {
+  hsCode?: string
+  hsLevel?: number
+  nameKo?: string
+  nameEn?: string
+  startYear: number
+  startMonth: number
+  endYear: number
+  endMonth: number
+  totalExportValue: number
+  currency: string
+  recordCount: number
+  children: HsNodeTotal[]
+}
+
 export interface ApiResponse<T> {
   data: T
   status: number